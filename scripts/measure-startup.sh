@@ -0,0 +1,77 @@
+#!/usr/bin/env bash
+# 컨테이너 시작부터 첫 요청 성공까지의 시간(time to first request) 비교
+#
+#   docker build -t loan-manager-api:jar .
+#   docker build -f Dockerfile.fast -t loan-manager-api:fast .
+#   scripts/measure-startup.sh loan-manager-api:jar loan-manager-api:fast
+#
+# prod 프로파일은 기동 시 Flyway가 DB에 연결하므로 PostgreSQL/Redis 컨테이너를 함께 띄운다.
+# 필요한 이미지가 로컬에 있으면 네트워크 없이 실행된다.
+#
+# 환경 변수
+#   ROUNDS         이미지별 측정 횟수 (기본 5, 0회차는 워밍업/마이그레이션 적용용으로 제외)
+#   PROBE_PATH     첫 요청 경로, DB 없이 응답하는 공개 경로 (기본 /.well-known/jwks.json)
+#   EXTRA_ENV      앱 컨테이너에 추가로 넘길 -e 옵션 (예: "-e LAZY_INIT=true")
+set -euo pipefail
+
+if [ "$#" -lt 1 ]; then
+    echo "usage: $0 <image> [<image> ...]" >&2
+    exit 1
+fi
+
+ROUNDS=${ROUNDS:-5}
+PROBE_PATH=${PROBE_PATH:-/.well-known/jwks.json}
+EXTRA_ENV=${EXTRA_ENV:-}
+NETWORK=loan-startup-bench
+PORT=18080
+
+cleanup() {
+    docker rm -f loan-startup-app loan-startup-db loan-startup-redis >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+cleanup
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --name loan-startup-db --network "$NETWORK" \
+    -e POSTGRES_USER=loan-user -e POSTGRES_PASSWORD=loan-1234 -e POSTGRES_DB=mydb \
+    postgres:16 >/dev/null
+docker run -d --name loan-startup-redis --network "$NETWORK" redis:7 >/dev/null
+
+until docker exec loan-startup-db pg_isready -U loan-user -d mydb >/dev/null 2>&1; do
+    sleep 0.5
+done
+
+now_ms() {
+    date +%s%3N
+}
+
+for image in "$@"; do
+    total=0
+    for round in $(seq 0 "$ROUNDS"); do
+        docker rm -f loan-startup-app >/dev/null 2>&1 || true
+
+        start=$(now_ms)
+        # shellcheck disable=SC2086
+        docker run -d --name loan-startup-app --network "$NETWORK" -p "$PORT:8080" \
+            -e DB_URL=loan-startup-db -e REDIS_HOST=loan-startup-redis $EXTRA_ENV \
+            "$image" >/dev/null
+
+        until curl -sf -o /dev/null "http://localhost:$PORT$PROBE_PATH"; do
+            if [ "$(docker inspect -f '{{.State.Running}}' loan-startup-app)" != "true" ]; then
+                docker logs loan-startup-app | tail -50 >&2
+                echo "$image: 컨테이너가 종료되었습니다." >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        elapsed=$(( $(now_ms) - start ))
+        if [ "$round" -gt 0 ]; then
+            total=$(( total + elapsed ))
+        fi
+
+        started=$(docker logs loan-startup-app 2>&1 | grep -o 'Started LoanManagerApiApplication in [0-9.]* seconds' || true)
+        echo "$image round $round: first request = ${elapsed}ms (${started:-no startup log})"
+    done
+    echo "$image: avg time to first request = $(( total / ROUNDS ))ms"
+done
@@ -0,0 +1,98 @@
+package com.gt.eligibility.application.rule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.eligibility.domain.entity.Applicant;
+import com.gt.eligibility.domain.entity.Attribute;
+import com.gt.eligibility.domain.entity.Condition;
+import com.gt.eligibility.domain.entity.EligibilityRule;
+import com.gt.eligibility.domain.entity.PricingRule;
+import com.gt.eligibility.domain.entity.ProductDefinition;
+
+/**
+ * 상품 심사 처리량 (evaluations/s): 결정 테이블 vs 규칙 해석
+ * product = bundled: 기본 상품 정의(personal-credit.json), 그 외 숫자는 가격 규칙 수를 그만큼 늘린 정의
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DecisionTableBenchmark {
+
+    private static final int APPLICANTS = 4096;
+    private static final LocalDate AS_OF = LocalDate.of(2026, 1, 1);
+
+    @Param({"bundled", "16", "64"})
+    private String product;
+
+    private ProductDefinition definition;
+    private DecisionTable table;
+    private Applicant[] applicants;
+
+    @Setup
+    public void setUp() throws IOException {
+        if ("bundled".equals(product)) {
+            try (InputStream in = getClass().getResourceAsStream("/eligibility/products/personal-credit.json")) {
+                definition = new ObjectMapper().readValue(in, ProductDefinition.class);
+            }
+        } else {
+            definition = banded(Integer.parseInt(product));
+        }
+        table = DecisionTable.compile(definition, 1_000_000);
+
+        Random random = new Random(42);
+        applicants = new Applicant[APPLICANTS];
+        for (int i = 0; i < APPLICANTS; i++) {
+            applicants[i] = new Applicant(i, 1, AS_OF.minusDays(random.nextInt(90 * 365)),
+                random.nextInt(4) == 0 ? 0 : random.nextInt(150_000_000), random.nextInt(5));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(APPLICANTS)
+    public void compiled(Blackhole blackhole) {
+        for (Applicant applicant : applicants) {
+            blackhole.consume(table.evaluate(applicant, AS_OF));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(APPLICANTS)
+    public void interpreted(Blackhole blackhole) {
+        for (Applicant applicant : applicants) {
+            blackhole.consume(RuleInterpreter.evaluate(definition, applicant, AS_OF));
+        }
+    }
+
+    /** 나이 10세 x 잔액 구간별 가격 규칙 bands개 */
+    private static ProductDefinition banded(int bands) {
+        List<PricingRule> pricing = new ArrayList<>();
+        long step = 150_000_000L / (bands / 4);
+        for (int i = 0; i < bands; i++) {
+            long age = 20 + (i % 4) * 10;
+            long exposure = (i / 4) * step;
+            pricing.add(new PricingRule(List.of(
+                new Condition(Attribute.AGE, age, age + 10),
+                new Condition(Attribute.EXPOSURE, exposure, exposure + step)), 500 + i * 10, 50_000_000L - i * 100_000L));
+        }
+        return new ProductDefinition("BANDED_" + bands, "benchmark", 1,
+            List.of(new EligibilityRule(Attribute.AGE, 19L, 71L, "AGE_OUT_OF_RANGE")), pricing);
+    }
+}
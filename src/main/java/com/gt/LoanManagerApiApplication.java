@@ -3,9 +3,11 @@ package com.gt;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableJpaAuditing	// JPA Auditing 활성화
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")	// JPA Auditing 활성화 (AuditingConfig)
+@EnableScheduling	// @Scheduled 작업 활성화
 public class LoanManagerApiApplication {
 
 	public static void main(String[] args) {
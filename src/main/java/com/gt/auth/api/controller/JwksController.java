@@ -0,0 +1,30 @@
+package com.gt.auth.api.controller;
+
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gt.auth.infra.security.SigningKeyRing;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 서비스가 토큰을 직접 검증할 수 있도록 서명 공개키를 JWK Set으로 공개한다.
+ * 새 키는 캐시 시간(publishAhead)이 지난 뒤에 서명에 사용되므로 캐시된 JWKS로도 항상 검증할 수 있다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final SigningKeyRing signingKeyRing;
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(signingKeyRing.getPublishAhead()).cachePublic())
+            .body(signingKeyRing.jwks());
+    }
+}
@@ -2,10 +2,16 @@ package com.gt.auth.application.service;
 
 import java.io.IOException;
 import java.security.GeneralSecurityException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 
 import javax.naming.AuthenticationException;
 
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
@@ -17,9 +23,13 @@ import com.gt.auth.api.dto.AuthRequest;
 import com.gt.auth.api.dto.AuthResponse;
 import com.gt.auth.domain.exception.JwtAuthenticationException;
 import com.gt.auth.infra.security.JwtTokenProvider;
+import com.gt.global.common.ratelimit.RateLimiter;
+import com.gt.global.common.tenant.TenantContext;
 import com.gt.user.application.service.UserService;
 import com.gt.user.domain.entity.User;
+import com.gt.user.domain.entity.UserRole;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -34,8 +44,17 @@ public class AuthService {
     private final TokenBlacklistService tokenBlacklistService;
     private final GoogleIdTokenVerifier googleIdTokenVerifier;
     private final UserService userService;
+    private final RateLimiter rateLimiter;
     
     public AuthResponse login(AuthRequest request) {
+        // 컨트롤러는 @Valid로 막지만 다른 호출 경로도 인증 실패로 처리
+        if (request.getEmail() == null) {
+            throw new BadCredentialsException("Email is required");
+        }
+
+        // 계정 기준 요청 한도 확인 (BCrypt 비교 전에 거절)
+        rateLimiter.checkAccount("login", request.getEmail().toLowerCase(Locale.ROOT));
+
         // 인증 시도
 
         log.info("비밀번호 = {}", request.getPassword());
@@ -44,7 +63,15 @@ public class AuthService {
         );
         
         // JWT 토큰 생성
-        String accessToken = jwtTokenProvider.createToken(request.getEmail(), authentication.getAuthorities().toString());
+        List<UserRole> roles = authentication.getAuthorities().stream()
+            .map(authority -> UserRole.fromKey(authority.getAuthority()))
+            .filter(Objects::nonNull)
+            .toList();
+        // 지점은 토큰에 담아 요청마다 사용자를 조회하지 않는다. (사용자는 natural id 캐시에서 읽는다)
+        int branchId = userService.findByEmail(request.getEmail())
+            .map(User::getBranchId)
+            .orElse(TenantContext.DEFAULT_BRANCH_ID);
+        String accessToken = jwtTokenProvider.createToken(request.getEmail(), roles, branchId);
         String refreshToken = jwtTokenProvider.createRefreshToken(request.getEmail());
         
         return AuthResponse.builder()
@@ -57,21 +84,27 @@ public class AuthService {
     }
 
     public AuthResponse refreshToken(String refreshToken) {
-        // 리프레시 토큰 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 서명 검증 후 사용자 정보 추출 (validateToken은 블랙리스트를 먼저 조회하므로 쓰지 않는다)
+        String username;
+        try {
+            username = jwtTokenProvider.getUsernameFromToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
             throw new JwtAuthenticationException("Invalid refresh token");
         }
 
+        // 계정 기준 요청 한도 확인 (블랙리스트 Redis 조회 전에 거절)
+        rateLimiter.checkAccount("refresh", username);
+
         // 블랙리스트 확인
         if (tokenBlacklistService.isTokenBlacklisted(refreshToken)) {
             throw new JwtAuthenticationException("Refresh token has been blacklisted");
         }
-
-        // 사용자 정보 추출
-        String username = jwtTokenProvider.getUsernameFromToken(refreshToken);
         
         // 새로운 액세스 토큰 생성
-        String newAccessToken = jwtTokenProvider.createToken(username, "ROLE_USER"); // 실제 구현시 사용자의 실제 권한을 가져와야 함
+        // 권한이 바뀌었을 수 있으므로 재발급 시점의 권한을 사용
+        User user = userService.findByEmail(username)
+            .orElseThrow(() -> new JwtAuthenticationException("User not found"));
+        String newAccessToken = jwtTokenProvider.createToken(username, List.of(user.getRole()), user.getBranchId());
         String newRefreshToken = jwtTokenProvider.createRefreshToken(username);
 
         // 이전 리프레시 토큰 블랙리스트에 추가
@@ -99,22 +132,25 @@ public class AuthService {
         }
 
 
-        // 2. Access Token 블랙리스트 추가
+        // 2. Access Token 블랙리스트 대상 추가 (getValidTimeExpirationFromToken은 이미 초 단위)
+        Map<String, Long> revokedTokens = new LinkedHashMap<>();
         long accessTokenRemainingTime = jwtTokenProvider.getValidTimeExpirationFromToken(accessToken); 
         if (accessTokenRemainingTime > 0) {
-            tokenBlacklistService.blacklistToken(accessToken, accessTokenRemainingTime / 1000);
+            revokedTokens.put(accessToken, accessTokenRemainingTime);
         }
 
-        // 3. Refresh Token이 제공된 경우에만 블랙리스트에 추가
+        // 3. Refresh Token이 제공된 경우에만 블랙리스트 대상에 추가
         if (jwtTokenProvider.validateToken(refreshToken)) {
             // Refresh Token의 남은 유효기간을 계산
             long refreshTokenRemainingTime = jwtTokenProvider.getValidTimeExpirationFromToken(refreshToken);
             
             if (refreshTokenRemainingTime > 0) {
-                // Refresh Token을 블랙리스트에 추가 (TTL 설정)
-                tokenBlacklistService.blacklistToken(refreshToken, refreshTokenRemainingTime / 1000);
+                revokedTokens.put(refreshToken, refreshTokenRemainingTime);
             }
         }
+
+        // 4. 두 토큰을 한 번의 Redis 파이프라인으로 블랙리스트에 추가 (TTL 설정)
+        tokenBlacklistService.blacklistTokens(revokedTokens);
     }
 
     @Transactional
@@ -157,7 +193,7 @@ public class AuthService {
         }
 
         // JWT 토큰 생성
-        String accessToken = jwtTokenProvider.createToken(email, user.getRole().toString());
+        String accessToken = jwtTokenProvider.createToken(email, List.of(user.getRole()), user.getBranchId());
         String refreshToken = jwtTokenProvider.createRefreshToken(email);
 
         return AuthResponse.builder()
@@ -1,6 +1,5 @@
 package com.gt.auth.application.service;
 
-import com.gt.user.domain.entity.User;
 import com.gt.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,7 +12,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -27,11 +25,8 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
 
         log.info("email = {}", email);
-        
-        Optional<User> user1 = userRepository.findByEmail(email);
-        log.info("user = {}", user1.get());
 
-        return userRepository.findByEmail(email)
+        return userRepository.findByNaturalEmail(email)
                 .map(user -> org.springframework.security.core.userdetails.User.builder()
                         .username(user.getEmail())
                         .password(user.getPassword())
@@ -1,29 +1,158 @@
 package com.gt.auth.application.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.gt.auth.domain.policy.BlacklistDegradedMode;
+import com.gt.auth.infra.blacklist.BlacklistWriteBatcher;
+import com.gt.auth.infra.blacklist.LocalRevocationSnapshot;
+import com.gt.global.common.resilience.CircuitBreaker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TokenBlacklistService {
 
-    private final StringRedisTemplate redisTemplate;
     private static final String BLACKLIST_PREFIX = "blacklist:";
 
+    private final StringRedisTemplate redisTemplate;
+    private final BlacklistWriteBatcher writeBatcher;
+    private final LocalRevocationSnapshot revocationSnapshot;
+    private final BlacklistDegradedMode degradedMode;
+    private final long observedTtlSeconds;
+    private final long writeTimeoutMillis;
+    private final CircuitBreaker circuitBreaker;
+
+    private final Counter readFallbackCounter;
+    private final Counter writeFallbackCounter;
+
+    public TokenBlacklistService(StringRedisTemplate redisTemplate,
+                                 BlacklistWriteBatcher writeBatcher,
+                                 LocalRevocationSnapshot revocationSnapshot,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auth.blacklist.degraded-mode:snapshot}") BlacklistDegradedMode degradedMode,
+                                 @Value("${auth.blacklist.snapshot-ttl:7d}") Duration observedTtl,
+                                 @Value("${auth.blacklist.write-batch.timeout:1s}") Duration writeTimeout,
+                                 @Value("${auth.blacklist.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                                 @Value("${auth.blacklist.circuit-breaker.open-duration:10s}") Duration openDuration) {
+        this.redisTemplate = redisTemplate;
+        this.writeBatcher = writeBatcher;
+        this.revocationSnapshot = revocationSnapshot;
+        this.degradedMode = degradedMode;
+        this.observedTtlSeconds = observedTtl.toSeconds();
+        this.writeTimeoutMillis = writeTimeout.toMillis();
+        this.circuitBreaker = new CircuitBreaker("token-blacklist", failureThreshold, openDuration);
+
+        // 브레이커 상태(0: CLOSED, 1: OPEN, 2: HALF_OPEN)와 fallback 횟수 노출
+        Gauge.builder("auth.blacklist.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+            .description("Token blacklist circuit breaker state (0=closed, 1=open, 2=half-open)")
+            .register(meterRegistry);
+        Gauge.builder("auth.blacklist.snapshot.size", revocationSnapshot, LocalRevocationSnapshot::size)
+            .description("Locally known revoked tokens")
+            .register(meterRegistry);
+        this.readFallbackCounter = Counter.builder("auth.blacklist.fallback")
+            .tag("operation", "read")
+            .tag("mode", degradedMode.name())
+            .register(meterRegistry);
+        this.writeFallbackCounter = Counter.builder("auth.blacklist.fallback")
+            .tag("operation", "write")
+            .tag("mode", degradedMode.name())
+            .register(meterRegistry);
+    }
+
     public void blacklistToken(String token, long expirationTime) {
-        String key = BLACKLIST_PREFIX + token;
-        redisTemplate.opsForValue().set(key, "blacklisted", expirationTime, TimeUnit.SECONDS);
-        log.info("Token이 블랙리스트에 추가되었습니다. 남은 시간: {}초", expirationTime);
+        blacklistTokens(Map.of(token, expirationTime));
+    }
+
+    /**
+     * 여러 토큰을 블랙리스트에 추가
+     * 동시에 들어온 다른 요청의 쓰기와 함께 하나의 Redis 파이프라인으로 전송된다.
+     * @param tokenTtls 토큰과 남은 유효시간(초)
+     */
+    public void blacklistTokens(Map<String, Long> tokenTtls) {
+        Map<String, Long> keyTtls = new LinkedHashMap<>();
+        tokenTtls.forEach((token, expirationTime) -> {
+            if (expirationTime > 0) {
+                String key = BLACKLIST_PREFIX + token;
+                // Redis 장애 중에도 이 노드에서는 즉시 폐기되도록 로컬 스냅샷에 먼저 기록
+                revocationSnapshot.record(key, expirationTime);
+                keyTtls.put(key, expirationTime);
+            }
+        });
+        if (keyTtls.isEmpty()) {
+            return;
+        }
+
+        circuitBreaker.execute(() -> {
+            awaitWrite(writeBatcher.submit(keyTtls));
+            log.info("Token {}건이 블랙리스트에 추가되었습니다. 남은 시간: {}초", keyTtls.size(), keyTtls.values());
+            return null;
+        }, cause -> {
+            writeFallbackCounter.increment();
+            log.error("Redis 블랙리스트 기록 실패, 로컬 스냅샷에만 기록되었습니다: {}", cause.getMessage());
+            return null;
+        });
     }
 
     public boolean isTokenBlacklisted(String token) {
         String key = BLACKLIST_PREFIX + token;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+
+        // 폐기된 토큰은 다시 유효해지지 않으므로 로컬에서 확인되면 Redis를 조회하지 않는다.
+        if (revocationSnapshot.contains(key)) {
+            return true;
+        }
+
+        return circuitBreaker.execute(() -> {
+            boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            if (blacklisted) {
+                revocationSnapshot.record(key, observedTtlSeconds);
+            }
+            return blacklisted;
+        }, cause -> degradedLookup(key, cause));
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private void awaitWrite(CompletableFuture<Void> write) {
+        try {
+            write.get(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Blacklist write timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean degradedLookup(String key, Throwable cause) {
+        readFallbackCounter.increment();
+        if (!(cause instanceof CircuitBreaker.OpenCircuitException)) {
+            log.warn("Redis 블랙리스트 조회 실패, {} 모드로 처리합니다: {}", degradedMode, cause.getMessage());
+        }
+
+        return switch (degradedMode) {
+            case FAIL_OPEN -> false;
+            case FAIL_CLOSED -> true;
+            case SNAPSHOT -> revocationSnapshot.contains(key);
+        };
     }
-} 
\ No newline at end of file
+}
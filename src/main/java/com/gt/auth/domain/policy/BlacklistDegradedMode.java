@@ -0,0 +1,16 @@
+package com.gt.auth.domain.policy;
+
+/**
+ * Redis 장애 시 토큰 블랙리스트 조회 정책
+ */
+public enum BlacklistDegradedMode {
+
+    /** 블랙리스트 확인을 건너뛰고 토큰을 허용한다. */
+    FAIL_OPEN,
+
+    /** 모든 토큰을 블랙리스트된 것으로 간주하고 거부한다. */
+    FAIL_CLOSED,
+
+    /** 이 노드가 최근에 기록/관찰한 폐기 토큰 스냅샷으로 판단한다. */
+    SNAPSHOT
+}
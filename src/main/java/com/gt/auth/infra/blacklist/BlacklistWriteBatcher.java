@@ -0,0 +1,151 @@
+package com.gt.auth.infra.blacklist;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블랙리스트 SET 명령을 짧은 시간 창 동안 모아 하나의 파이프라인으로 전송한다.
+ * 동시에 들어온 로그아웃/토큰 재발급 요청들의 쓰기가 Redis 왕복 한 번으로 합쳐진다.
+ */
+@Slf4j
+@Component
+public class BlacklistWriteBatcher {
+
+    private static final byte[] BLACKLISTED = "blacklisted".getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final BlockingQueue<PendingWrite> queue = new LinkedBlockingQueue<>();
+
+    private final Counter roundTrips;
+    private final DistributionSummary batchSize;
+
+    private Thread flusher;
+    private volatile boolean running;
+
+    public BlacklistWriteBatcher(StringRedisTemplate redisTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auth.blacklist.write-batch.window:2ms}") Duration window,
+                                 @Value("${auth.blacklist.write-batch.max-size:256}") int maxBatchSize) {
+        this.redisTemplate = redisTemplate;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.roundTrips = Counter.builder("auth.blacklist.redis.roundtrips")
+            .description("Pipelined blacklist write round trips to Redis")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("auth.blacklist.batch.size")
+            .description("Blacklist keys written per pipeline")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        flusher = new Thread(this::run, "blacklist-write-batcher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+        PendingWrite pending;
+        while ((pending = queue.poll()) != null) {
+            pending.future().completeExceptionally(new IllegalStateException("blacklist write batcher stopped"));
+        }
+    }
+
+    /**
+     * 블랙리스트 쓰기 요청 등록
+     * @param keyTtls 블랙리스트 키와 TTL(초)
+     * @return 해당 요청이 포함된 파이프라인이 끝나면 완료되는 future
+     */
+    public CompletableFuture<Void> submit(Map<String, Long> keyTtls) {
+        PendingWrite write = new PendingWrite(keyTtls, new CompletableFuture<>());
+        if (!running) {
+            write.future().completeExceptionally(new IllegalStateException("blacklist write batcher is not running"));
+            return write.future();
+        }
+        queue.add(write);
+        return write.future();
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>();
+        while (running) {
+            try {
+                PendingWrite first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                int keys = first.keyTtls().size();
+
+                // 첫 요청 이후 window 동안 들어오는 요청을 같은 파이프라인에 합친다.
+                long deadline = System.nanoTime() + windowNanos;
+                while (keys < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingWrite next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    keys += next.keyTtls().size();
+                }
+                flush(batch, keys);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(write -> write.future().completeExceptionally(e));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingWrite> batch, int keys) {
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (PendingWrite write : batch) {
+                    write.keyTtls().forEach((key, ttl) -> connection.stringCommands().set(
+                        key.getBytes(StandardCharsets.UTF_8), BLACKLISTED,
+                        Expiration.seconds(ttl), RedisStringCommands.SetOption.upsert()));
+                }
+                return null;
+            });
+            roundTrips.increment();
+            batchSize.record(keys);
+            batch.forEach(write -> write.future().complete(null));
+        } catch (RuntimeException e) {
+            log.debug("블랙리스트 파이프라인 실패: {}", e.getMessage());
+            batch.forEach(write -> write.future().completeExceptionally(e));
+        }
+    }
+
+    private record PendingWrite(Map<String, Long> keyTtls, CompletableFuture<Void> future) {
+    }
+}
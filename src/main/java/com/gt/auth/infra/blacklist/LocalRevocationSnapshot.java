@@ -0,0 +1,85 @@
+package com.gt.auth.infra.blacklist;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 폐기된 토큰의 로컬 스냅샷
+ * 이 노드에서 블랙리스트에 추가한 토큰과 Redis 조회로 확인된 폐기 토큰을 만료 시각과 함께 보관한다.
+ * Redis 장애 시 SNAPSHOT 모드의 판단 근거로 사용된다.
+ */
+@Slf4j
+@Component
+public class LocalRevocationSnapshot {
+
+    private final Map<String, Long> revokedUntil = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongSupplier clock;
+
+    @Autowired
+    public LocalRevocationSnapshot(@Value("${auth.blacklist.snapshot-max-size:100000}") int maxSize) {
+        this(maxSize, System::currentTimeMillis);
+    }
+
+    public LocalRevocationSnapshot(int maxSize, LongSupplier clock) {
+        this.maxSize = maxSize;
+        this.clock = clock;
+    }
+
+    /**
+     * 폐기 토큰 기록
+     * @param key 블랙리스트 키
+     * @param ttlSeconds 보관 시간(초)
+     */
+    public void record(String key, long ttlSeconds) {
+        if (ttlSeconds <= 0) {
+            return;
+        }
+        if (revokedUntil.size() >= maxSize) {
+            evict();
+        }
+        revokedUntil.merge(key, clock.getAsLong() + ttlSeconds * 1000, Math::max);
+    }
+
+    public boolean contains(String key) {
+        Long until = revokedUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until < clock.getAsLong()) {
+            revokedUntil.remove(key, until);
+            return false;
+        }
+        return true;
+    }
+
+    public int size() {
+        return revokedUntil.size();
+    }
+
+    /**
+     * 만료된 항목을 먼저 제거하고, 그래도 가득 차 있으면 만료가 가까운 절반을 제거한다.
+     */
+    private synchronized void evict() {
+        long now = clock.getAsLong();
+        revokedUntil.values().removeIf(until -> until < now);
+        if (revokedUntil.size() < maxSize) {
+            return;
+        }
+        log.warn("폐기 토큰 스냅샷이 가득 찼습니다. size = {}", revokedUntil.size());
+        revokedUntil.entrySet().stream()
+            .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+            .limit(maxSize / 2)
+            .map(Map.Entry::getKey)
+            .toList()
+            .forEach(revokedUntil::remove);
+    }
+}
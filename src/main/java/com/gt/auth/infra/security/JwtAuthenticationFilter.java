@@ -11,6 +11,9 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.gt.global.common.tenant.TenantContext;
+import com.gt.global.common.tenant.TenantDetails;
+
 import java.io.IOException;
 
 @Slf4j
@@ -30,7 +33,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (path.startsWith("/swagger-ui/") || path.startsWith("/v3/api-docs/") 
             || path.startsWith("/api/v1/auth/social/google") || path.startsWith("/api/v1/auth/login")
             || path.startsWith("/api/v1/auth/refresh") || path.startsWith("/api/v1/auth/logout")
-            || path.startsWith("/docs")) { 
+            || path.startsWith("/docs") || path.startsWith("/actuator/health")
+            || path.equals("/.well-known/jwks.json")) { 
             return true;
         }
 
@@ -49,11 +53,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         log.info("token = {}", token);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Authentication auth = jwtTokenProvider.getAuthentication(token);
+        // 블랙리스트 확인, 서명 검증, 권한 추출을 한 번의 파싱으로 처리
+        Authentication auth = jwtTokenProvider.authenticate(token);
+        if (auth != null) {
             SecurityContextHolder.getContext().setAuthentication(auth);
+            // 이후 조회는 토큰의 지점으로 제한된다. (TenantAwareJpaTransactionManager)
+            if (auth.getDetails() instanceof TenantDetails tenant) {
+                TenantContext.set(tenant.branchId());
+            }
         }
 
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
     }
 } 
\ No newline at end of file
@@ -1,9 +1,16 @@
 package com.gt.auth.infra.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -12,23 +19,45 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import com.gt.auth.application.service.CustomUserDetailsService;
 import com.gt.auth.application.service.TokenBlacklistService;
+import com.gt.global.common.tenant.TenantContext;
+import com.gt.global.common.tenant.TenantDetails;
+import com.gt.user.domain.entity.UserRole;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    /**
+     * 액세스 토큰 claim 형식
+     * v1(claim 없음): roles = "[ROLE_USER]" 형태의 문자열, 인증 시 DB에서 사용자 권한 조회
+     * v2: v = 2, r = UserRole bit mask, 인증 시 DB 조회 없음
+     * b: 소속 지점 ID (없으면 기본 지점)
+     */
+    static final String CLAIM_VERSION = "v";
+    static final String CLAIM_ROLES = "r";
+    static final String CLAIM_BRANCH = "b";
+    static final int TOKEN_VERSION = 2;
+
     @Value("${jwt.secret}")
     private String secretKey;
 
@@ -38,45 +67,141 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh-token-validity-in-milliseconds}")
     private long refreshTokenValidityInMilliseconds;
 
-    private SecretKey key;
+    // 전환 기간 동안 기존 HS256 토큰도 검증 (기존 토큰이 모두 만료되면 false로 변경)
+    @Value("${jwt.legacy-hs256.verify-enabled:true}")
+    private boolean legacyHs256VerifyEnabled;
+
+    private SecretKey legacyKey;
+    private JwtParser parser;
+
+    private DistributionSummary tokenSize;
+    private Timer parseTimeV1;
+    private Timer parseTimeV2;
 
     private final CustomUserDetailsService userDetailsService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final SigningKeyRing signingKeyRing;
+    private final MeterRegistry meterRegistry;
+
     @PostConstruct
     protected void init() {
         String encodedKey = Base64.getEncoder().encodeToString(secretKey.getBytes(StandardCharsets.UTF_8));
-        key = Keys.hmacShaKeyFor(encodedKey.getBytes(StandardCharsets.UTF_8));
+        legacyKey = Keys.hmacShaKeyFor(encodedKey.getBytes(StandardCharsets.UTF_8));
+
+        // 파서는 불변이므로 한 번만 생성하고, 검증 키는 헤더의 alg/kid로 찾는다.
+        parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return verificationKey(header);
+                    }
+                })
+                .build();
+
+        // 토큰 크기 / 파싱 시간 (claim 형식 버전별 비교)
+        tokenSize = DistributionSummary.builder("auth.token.size")
+                .description("Issued access token size")
+                .baseUnit("bytes")
+                .tag("version", String.valueOf(TOKEN_VERSION))
+                .register(meterRegistry);
+        parseTimeV1 = Timer.builder("auth.token.parse")
+                .description("Access token verification and claim parsing time")
+                .tag("version", "1")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        parseTimeV2 = Timer.builder("auth.token.parse")
+                .description("Access token verification and claim parsing time")
+                .tag("version", String.valueOf(TOKEN_VERSION))
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
     }
 
-    public String createToken(String username, String roles) {
+    public String createToken(String username, Collection<UserRole> roles, int branchId) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + (tokenValidityInSeconds * 1000));
+        SigningKeyRing.SigningKey signingKey = signingKeyRing.current();
 
-        return Jwts.builder()
+        String token = Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
                 .subject(username)
-                .claim("roles", roles)
+                .claim(CLAIM_VERSION, TOKEN_VERSION)
+                .claim(CLAIM_ROLES, UserRole.toMask(roles))
+                .claim(CLAIM_BRANCH, branchId)
                 .issuedAt(now)
                 .expiration(validity)
-                .signWith(key)
+                .signWith(signingKey.privateKey(), Jwts.SIG.ES256)
                 .compact();
+        tokenSize.record(token.length());
+        return token;
     }
 
     public String createRefreshToken(String username) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
+        SigningKeyRing.SigningKey signingKey = signingKeyRing.current();
 
         return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
                 .subject(username)
                 .issuedAt(now)
                 .expiration(validity)
-                .signWith(key)
+                .signWith(signingKey.privateKey(), Jwts.SIG.ES256)
                 .compact();
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = extractAllClaims(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return toAuthentication(extractAllClaims(token));
+    }
+
+    /**
+     * 토큰을 한 번만 파싱해 블랙리스트/서명/만료를 확인하고 인증 정보를 만든다.
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Authentication authenticate(String token) {
+        if (!StringUtils.hasText(token) || tokenBlacklistService.isTokenBlacklisted(token)) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        Authentication authentication = toAuthentication(claims);
+        (isCompact(claims) ? parseTimeV2 : parseTimeV1).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return authentication;
+    }
+
+    private Authentication toAuthentication(Claims claims) {
+        if (!isCompact(claims)) {
+            // v1 토큰: roles 문자열 형식이 발급 경로마다 달라 DB의 권한을 사용
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            return withBranch(new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities()), claims);
+        }
+
+        Integer mask = claims.get(CLAIM_ROLES, Integer.class);
+        List<GrantedAuthority> authorities = new ArrayList<>(1);
+        for (UserRole role : UserRole.fromMask(mask == null ? 0 : mask)) {
+            authorities.add(new SimpleGrantedAuthority(role.getKey()));
+        }
+        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        return withBranch(new UsernamePasswordAuthenticationToken(principal, "", authorities), claims);
+    }
+
+    /**
+     * 지점 claim을 인증 정보에 담는다. (지점 도입 전 발급된 토큰은 기본 지점)
+     */
+    private static Authentication withBranch(UsernamePasswordAuthenticationToken authentication, Claims claims) {
+        Integer branchId = claims.get(CLAIM_BRANCH, Integer.class);
+        authentication.setDetails(new TenantDetails(branchId == null ? TenantContext.DEFAULT_BRANCH_ID : branchId));
+        return authentication;
+    }
+
+    private static boolean isCompact(Claims claims) {
+        Integer version = claims.get(CLAIM_VERSION, Integer.class);
+        return version != null && version >= TOKEN_VERSION;
     }
 
     public String resolveToken(HttpServletRequest request) {
@@ -104,10 +229,7 @@ public class JwtTokenProvider {
 
         // 2. 토큰 서명 검증
         try {
-            Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
@@ -127,11 +249,22 @@ public class JwtTokenProvider {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private Key verificationKey(JwsHeader header) {
+        if (Jwts.SIG.ES256.getId().equals(header.getAlgorithm())) {
+            Key key = signingKeyRing.verificationKey(header.getKeyId());
+            if (key == null) {
+                throw new SecurityException("Unknown signing key id: " + header.getKeyId());
+            }
+            return key;
+        }
+        // 기존 HMAC 키는 길이에 따라 HS256/HS384로 서명되었으므로 HS 계열 전체를 허용
+        if (legacyHs256VerifyEnabled && header.getAlgorithm() != null && header.getAlgorithm().startsWith("HS")) {
+            return legacyKey;
+        }
+        throw new SecurityException("Unsupported signing algorithm: " + header.getAlgorithm());
     }
 
     /**
@@ -0,0 +1,272 @@
+package com.gt.auth.infra.security;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 서명용 ES256 키 묶음
+ *
+ * key-dir이 설정되면 디렉터리의 {kid}.pem 파일(PKCS#8 PRIVATE KEY + PUBLIC KEY 블록)을 읽는다.
+ * PUBLIC KEY만 있는 파일은 검증/JWKS 공개 전용이다. (폐기 예정 키)
+ * 새 키는 파일이 생성된 뒤 publishAhead(JWKS 캐시 시간)가 지나야 서명에 사용되므로,
+ * 다른 서비스가 JWKS를 갱신하기 전에 새 kid로 서명된 토큰이 나가지 않는다.
+ *
+ * key-dir이 없으면 프로세스 내에서 키를 생성하고 rotationPeriod마다 교체한다. (단일 노드 / 개발용)
+ * 노드마다 다른 키로 서명하게 되므로 allow-ephemeral이 켜진 경우(local / test 프로파일)에만 허용하고, 그 밖에는 기동에 실패한다.
+ * 교체된 키는 그 키로 서명된 토큰이 모두 만료될 때까지 검증용으로 남는다.
+ */
+@Slf4j
+@Component
+public class SigningKeyRing {
+
+    private static final Pattern PEM_BLOCK = Pattern.compile(
+        "-----BEGIN ([A-Z ]+)-----([^-]+)-----END \\1-----");
+
+    private final Path keyDir;
+    private final Duration rotationPeriod;
+    private final Duration publishAhead;
+    private final Duration retention;
+    private final Clock clock;
+
+    private volatile KeySet keySet = new KeySet(List.of(), null);
+
+    @Autowired
+    public SigningKeyRing(@Value("${jwt.signing.key-dir:}") String keyDir,
+                          @Value("${jwt.signing.allow-ephemeral:false}") boolean allowEphemeral,
+                          @Value("${jwt.signing.rotation-period:7d}") Duration rotationPeriod,
+                          @Value("${jwt.signing.publish-ahead:10m}") Duration publishAhead,
+                          @Value("${jwt.refresh-token-validity-in-milliseconds}") long refreshTokenValidityInMilliseconds) {
+        this(keyDir(keyDir, allowEphemeral), rotationPeriod, publishAhead,
+            Duration.ofMillis(refreshTokenValidityInMilliseconds), Clock.systemUTC());
+    }
+
+    SigningKeyRing(Path keyDir, Duration rotationPeriod, Duration publishAhead, Duration maxTokenLifetime, Clock clock) {
+        this.keyDir = keyDir;
+        this.rotationPeriod = rotationPeriod;
+        this.publishAhead = publishAhead;
+        // 마지막으로 서명한 토큰이 만료되고, 그 사이 JWKS를 받아 간 쪽 캐시가 비워질 때까지 유지
+        this.retention = maxTokenLifetime.plus(publishAhead);
+        this.clock = clock;
+
+        refresh();
+        if (keySet.signing() == null) {
+            throw new IllegalStateException("서명 가능한 JWT 키가 없습니다: " + keyDir);
+        }
+        if (keyDir == null) {
+            log.warn("jwt.signing.key-dir이 설정되지 않아 임시 서명 키를 사용합니다. 여러 노드에서 실행할 경우 키 디렉터리를 공유해야 합니다.");
+        }
+    }
+
+    private static Path keyDir(String keyDir, boolean allowEphemeral) {
+        if (StringUtils.hasText(keyDir)) {
+            return Path.of(keyDir);
+        }
+        if (!allowEphemeral) {
+            throw new IllegalStateException("jwt.signing.key-dir(JWT_SIGNING_KEY_DIR)가 설정되지 않았습니다. "
+                + "노드마다 임시 키로 서명하면 다른 노드가 발급한 토큰을 검증할 수 없습니다.");
+        }
+        return null;
+    }
+
+    /**
+     * 키 디렉터리를 다시 읽거나 임시 키를 교체하고, 서명 키를 다시 고른다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.refresh-interval-ms:60000}")
+    public void refresh() {
+        Instant now = clock.instant();
+        List<SigningKey> keys = keyDir != null ? loadFromDirectory() : rotateEphemeral(now);
+
+        List<SigningKey> sorted = new ArrayList<>(keys);
+        sorted.sort(Comparator.comparing(SigningKey::createdAt).reversed());
+
+        // 공개된 지 publishAhead가 지난 키 중 가장 최신 키로 서명, 없으면(최초 기동) 가장 최신 키
+        SigningKey signing = sorted.stream()
+            .filter(SigningKey::canSign)
+            .filter(key -> !key.createdAt().plus(publishAhead).isAfter(now))
+            .findFirst()
+            .orElseGet(() -> sorted.stream().filter(SigningKey::canSign).findFirst().orElse(null));
+
+        KeySet previous = keySet;
+        keySet = new KeySet(List.copyOf(sorted), signing);
+        if (signing != null && (previous.signing() == null || !previous.signing().kid().equals(signing.kid()))) {
+            log.info("JWT 서명 키 변경: kid = {}, 검증 가능 키 = {}", signing.kid(), sorted.stream().map(SigningKey::kid).toList());
+        }
+    }
+
+    public SigningKey current() {
+        return keySet.signing();
+    }
+
+    /**
+     * kid에 해당하는 검증 키, 없으면 null
+     */
+    public ECPublicKey verificationKey(String kid) {
+        for (SigningKey key : keySet.keys()) {
+            if (key.kid().equals(kid)) {
+                return key.publicKey();
+            }
+        }
+        return null;
+    }
+
+    public List<SigningKey> publishedKeys() {
+        return keySet.keys();
+    }
+
+    /**
+     * 현재 검증 가능한 공개키를 JWK Set(RFC 7517) 형태로 반환한다.
+     */
+    public Map<String, Object> jwks() {
+        return keySet.jwks();
+    }
+
+    public Duration getPublishAhead() {
+        return publishAhead;
+    }
+
+    private List<SigningKey> rotateEphemeral(Instant now) {
+        List<SigningKey> keys = new ArrayList<>();
+        SigningKey newest = null;
+        for (SigningKey key : keySet.keys()) {
+            // 교체된 뒤 retention이 지난 키는 제거
+            if (key.createdAt().plus(rotationPeriod).plus(retention).isAfter(now)) {
+                keys.add(key);
+            }
+            if (newest == null || key.createdAt().isAfter(newest.createdAt())) {
+                newest = key;
+            }
+        }
+        if (newest == null || !newest.createdAt().plus(rotationPeriod).isAfter(now.plus(publishAhead))) {
+            // 다음 키를 publishAhead만큼 미리 공개해 둔다.
+            keys.add(generate(now));
+        }
+        return keys;
+    }
+
+    private List<SigningKey> loadFromDirectory() {
+        List<SigningKey> keys = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(keyDir, "*.pem")) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                String kid = fileName.substring(0, fileName.length() - ".pem".length());
+                try {
+                    keys.add(parsePem(kid, Files.readString(file, StandardCharsets.US_ASCII),
+                        Files.getLastModifiedTime(file).toInstant()));
+                } catch (GeneralSecurityException | IllegalArgumentException e) {
+                    log.error("JWT 키 파일을 읽을 수 없습니다: {} ({})", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            if (keySet.keys().isEmpty()) {
+                throw new UncheckedIOException("JWT 키 디렉터리를 읽을 수 없습니다: " + keyDir, e);
+            }
+            log.error("JWT 키 디렉터리를 읽을 수 없어 기존 키를 유지합니다: {}", e.getMessage());
+            return keySet.keys();
+        }
+        return keys;
+    }
+
+    static SigningKey parsePem(String kid, String pem, Instant createdAt) throws GeneralSecurityException {
+        KeyFactory keyFactory = KeyFactory.getInstance("EC");
+        PrivateKey privateKey = null;
+        ECPublicKey publicKey = null;
+
+        Matcher matcher = PEM_BLOCK.matcher(pem);
+        while (matcher.find()) {
+            byte[] der = Base64.getMimeDecoder().decode(matcher.group(2));
+            switch (matcher.group(1)) {
+                case "PRIVATE KEY" -> privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(der));
+                case "PUBLIC KEY" -> publicKey = (ECPublicKey) keyFactory.generatePublic(new X509EncodedKeySpec(der));
+                default -> throw new IllegalArgumentException("지원하지 않는 PEM 블록: " + matcher.group(1));
+            }
+        }
+        if (publicKey == null) {
+            throw new IllegalArgumentException("PUBLIC KEY 블록이 필요합니다.");
+        }
+        return new SigningKey(kid, privateKey, publicKey, createdAt);
+    }
+
+    static SigningKey generate(Instant createdAt) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            KeyPair keyPair = generator.generateKeyPair();
+            String kid = createdAt.getEpochSecond() + "-" + UUID.randomUUID().toString().substring(0, 8);
+            return new SigningKey(kid, keyPair.getPrivate(), (ECPublicKey) keyPair.getPublic(), createdAt);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("ES256 키 생성 실패", e);
+        }
+    }
+
+    /**
+     * @param privateKey 검증 전용 키이면 null
+     */
+    public record SigningKey(String kid, PrivateKey privateKey, ECPublicKey publicKey, Instant createdAt) {
+
+        public boolean canSign() {
+            return privateKey != null;
+        }
+
+        Map<String, Object> toJwk() {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", "ES256");
+            jwk.put("x", coordinate(publicKey.getW().getAffineX()));
+            jwk.put("y", coordinate(publicKey.getW().getAffineY()));
+            return jwk;
+        }
+
+        /** P-256 좌표는 32바이트 big-endian, 부호 바이트 없이 인코딩 */
+        private static String coordinate(BigInteger value) {
+            byte[] bytes = value.toByteArray();
+            byte[] fixed = new byte[32];
+            int length = Math.min(bytes.length, 32);
+            System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+        }
+    }
+
+    private record KeySet(List<SigningKey> keys, SigningKey signing, Map<String, Object> jwks) {
+
+        private KeySet(List<SigningKey> keys, SigningKey signing) {
+            this(keys, signing, Map.of("keys", keys.stream().map(SigningKey::toJwk).toList()));
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.gt.eligibility.api.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.gt.eligibility.api.dto.EligibilityResponse;
+import com.gt.eligibility.application.service.EligibilityService;
+import com.gt.global.common.admission.StreamingPermits;
+import com.gt.global.common.entity.ApiResponse;
+import com.gt.global.common.exception.EligibilityProductNotFoundException;
+import com.gt.global.common.tenant.TenantScope;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+@RestController
+@RequestMapping("/api/eligibility/products")
+public class EligibilityController {
+
+    private final EligibilityService eligibilityService;
+    /** 일괄 평가는 DB 연결과 평가 스레드를 오래 점유하므로 동시 실행 수를 제한한다. */
+    private final StreamingPermits batchPermits;
+
+    public EligibilityController(EligibilityService eligibilityService,
+                                 @Value("${eligibility.batch.max-concurrent:1}") int maxConcurrentBatches) {
+        this.eligibilityService = eligibilityService;
+        this.batchPermits = new StreamingPermits(maxConcurrentBatches);
+    }
+
+    @GetMapping
+    public ResponseEntity<?> products() {
+        return ResponseEntity.ok(new ApiResponse<>(true, "Products", eligibilityService.getProducts()));
+    }
+
+    /**
+     * 상품 규칙 다시 읽기 (관리자), 정의가 잘못되어 있으면 기존 규칙을 유지한다.
+     */
+    @PostMapping("/reload")
+    public ResponseEntity<?> reload() {
+        try {
+            return ResponseEntity.ok(new ApiResponse<>(true, "Products reloaded", eligibilityService.reload()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 고객 한 명 심사
+     * @param asOf 나이 기준일 (기본: 오늘)
+     */
+    @GetMapping("/{code}/persons/{personId}")
+    public ResponseEntity<?> evaluate(@PathVariable String code,
+                                      @PathVariable long personId,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        try {
+            EligibilityResponse response = eligibilityService.evaluate(code, personId, asOf == null ? LocalDate.now() : asOf);
+            if (response == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Person not found", null));
+            }
+            return ResponseEntity.ok(new ApiResponse<>(true, "Eligibility", response));
+        } catch (EligibilityProductNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 고객 전체 일괄 심사 (관리자), 고객당 한 줄 NDJSON (chunked 전송)
+     * 본문은 다른 스레드에서 쓰므로 지점은 여기서 잡아 넘기고, 지점이 없으면 전체를 평가하지 않고 거부한다.
+     */
+    @PostMapping("/{code}/evaluate-all")
+    public ResponseEntity<?> evaluateAll(@PathVariable String code,
+                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf,
+                                         HttpServletRequest request) {
+        if (!eligibilityService.hasProduct(code)) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Product not found: " + code, null));
+        }
+        TenantScope scope = TenantScope.current();
+        if (scope.isAll()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ApiResponse<>(false, "Branch is not resolved for this request", null));
+        }
+        LocalDate date = asOf == null ? LocalDate.now() : asOf;
+        StreamingResponseBody body = batchPermits.tryAcquire(request, out -> eligibilityService.evaluateAll(code, date, scope, out));
+        if (body == null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(new ApiResponse<>(false, "Another batch evaluation is in progress, please retry later", null));
+        }
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8")
+            .body(body);
+    }
+}
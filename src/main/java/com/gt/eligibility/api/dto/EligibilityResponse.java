@@ -0,0 +1,27 @@
+package com.gt.eligibility.api.dto;
+
+import java.time.LocalDate;
+
+import com.gt.eligibility.domain.entity.Decision;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class EligibilityResponse {
+
+    private long personId;
+    private String productCode;
+    private int productVersion;
+    private LocalDate asOf;
+    private boolean eligible;
+    private String reason;      // 거절 사유
+    private Integer rateBps;    // 승인 시 금리 (bp)
+    private Long maxAmount;     // 승인 시 한도
+
+    public static EligibilityResponse of(long personId, String productCode, int productVersion, LocalDate asOf, Decision decision) {
+        return new EligibilityResponse(personId, productCode, productVersion, asOf, decision.eligible(), decision.reason(),
+            decision.eligible() ? decision.rateBps() : null, decision.eligible() ? decision.maxAmount() : null);
+    }
+}
@@ -0,0 +1,24 @@
+package com.gt.eligibility.api.dto;
+
+import com.gt.eligibility.application.rule.DecisionTable;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ProductResponse {
+
+    private String code;
+    private String name;
+    private int version;
+    private int rules;          // 자격 + 가격 규칙 수
+    private int cells;          // 결정 테이블 셀 수
+    private int decisions;      // 서로 다른 결과 수
+
+    public static ProductResponse from(DecisionTable table) {
+        return new ProductResponse(table.definition().code(), table.definition().name(), table.definition().version(),
+            table.definition().eligibility().size() + table.definition().pricing().size(), table.cellCount(),
+            table.distinctDecisions());
+    }
+}
@@ -0,0 +1,138 @@
+package com.gt.eligibility.application.rule;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.gt.eligibility.domain.entity.Applicant;
+import com.gt.eligibility.domain.entity.Attribute;
+import com.gt.eligibility.domain.entity.Condition;
+import com.gt.eligibility.domain.entity.Decision;
+import com.gt.eligibility.domain.entity.EligibilityRule;
+import com.gt.eligibility.domain.entity.PricingRule;
+import com.gt.eligibility.domain.entity.ProductDefinition;
+
+/**
+ * 상품 규칙을 컴파일한 결정 테이블
+ *
+ * 모든 조건의 경계값(min / max)을 속성별로 모으면, 경계 사이 구간 안의 값은 모든 조건에 대해 결과가 같다.
+ * 속성별 구간 번호의 조합(셀)마다 RuleInterpreter로 결과를 미리 계산해 두고,
+ * 판정은 속성마다 경계 배열 이진 탐색 한 번 + 배열 조회 한 번으로 끝난다. (규칙 수와 무관)
+ * 셀 수는 속성별 (경계 수 + 1)의 곱이므로 maxCells를 넘는 정의는 거절한다.
+ */
+public final class DecisionTable {
+
+    private final ProductDefinition definition;
+    private final Attribute[] attributes;
+    private final long[][] cuts;
+    private final int[] strides;
+    private final Decision[] cells;
+    private final int distinctDecisions;
+
+    private DecisionTable(ProductDefinition definition, Attribute[] attributes, long[][] cuts, int[] strides,
+                          Decision[] cells, int distinctDecisions) {
+        this.definition = definition;
+        this.attributes = attributes;
+        this.cuts = cuts;
+        this.strides = strides;
+        this.cells = cells;
+        this.distinctDecisions = distinctDecisions;
+    }
+
+    /**
+     * @throws IllegalArgumentException 셀 수가 maxCells를 넘는 경우
+     */
+    public static DecisionTable compile(ProductDefinition definition, int maxCells) {
+        Map<Attribute, Set<Long>> boundaries = new HashMap<>();
+        for (EligibilityRule rule : definition.eligibility()) {
+            addBoundaries(boundaries, rule.condition());
+        }
+        for (PricingRule rule : definition.pricing()) {
+            for (Condition condition : rule.when()) {
+                addBoundaries(boundaries, condition);
+            }
+        }
+
+        Set<Attribute> used = EnumSet.noneOf(Attribute.class);
+        used.addAll(boundaries.keySet());
+        Attribute[] attributes = used.toArray(new Attribute[0]);
+        long[][] cuts = new long[attributes.length][];
+        int[] strides = new int[attributes.length];
+        long size = 1;
+        for (int i = attributes.length - 1; i >= 0; i--) {
+            cuts[i] = boundaries.get(attributes[i]).stream().mapToLong(Long::longValue).toArray();
+            strides[i] = (int) size;
+            size *= cuts[i].length + 1;
+            if (size > maxCells) {
+                throw new IllegalArgumentException("decision table too large for " + definition.code()
+                    + ": more than " + maxCells + " cells");
+            }
+        }
+
+        // 셀마다 구간의 대표값(구간 하한, 첫 구간은 Long.MIN_VALUE)으로 판정
+        Decision[] cells = new Decision[(int) size];
+        Map<Decision, Decision> interned = new HashMap<>();
+        long[] values = new long[Attribute.values().length];
+        for (int cell = 0; cell < cells.length; cell++) {
+            for (int i = 0; i < attributes.length; i++) {
+                int interval = (cell / strides[i]) % (cuts[i].length + 1);
+                values[attributes[i].ordinal()] = interval == 0 ? Long.MIN_VALUE : cuts[i][interval - 1];
+            }
+            Decision decision = RuleInterpreter.evaluate(definition, values);
+            cells[cell] = interned.computeIfAbsent(decision, d -> d);
+        }
+        return new DecisionTable(definition, attributes, cuts, strides, cells, interned.size());
+    }
+
+    public Decision evaluate(Applicant applicant, LocalDate asOf) {
+        int cell = 0;
+        for (int i = 0; i < attributes.length; i++) {
+            cell += strides[i] * interval(cuts[i], attributes[i].valueOf(applicant, asOf));
+        }
+        return cells[cell];
+    }
+
+    public ProductDefinition definition() {
+        return definition;
+    }
+
+    public int cellCount() {
+        return cells.length;
+    }
+
+    public int distinctDecisions() {
+        return distinctDecisions;
+    }
+
+    /** 경계값 중 value 이하인 값의 수 = 구간 번호 */
+    private static int interval(long[] cuts, long value) {
+        int index = Arrays.binarySearch(cuts, value);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    private static void addBoundaries(Map<Attribute, Set<Long>> boundaries, Condition condition) {
+        Set<Long> values = boundaries.computeIfAbsent(condition.attribute(), attribute -> new TreeSet<>());
+        if (condition.min() != null) {
+            values.add(condition.min());
+        }
+        if (condition.max() != null) {
+            values.add(condition.max());
+        }
+    }
+
+    @Override
+    public String toString() {
+        List<String> axes = new ArrayList<>();
+        for (int i = 0; i < attributes.length; i++) {
+            axes.add(attributes[i] + "=" + (cuts[i].length + 1));
+        }
+        return definition.code() + " v" + definition.version() + " " + axes + ", cells = " + cells.length
+            + ", decisions = " + distinctDecisions;
+    }
+}
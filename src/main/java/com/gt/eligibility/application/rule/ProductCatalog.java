@@ -0,0 +1,190 @@
+package com.gt.eligibility.application.rule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.eligibility.domain.entity.ProductDefinition;
+import com.gt.eligibility.infra.config.EligibilityProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 컴파일된 상품 목록
+ *
+ * 기본 정의(location)와 productsDir의 정의를 읽어 모두 컴파일한 뒤 한 번에 교체한다.
+ * 정의 하나라도 읽기 / 컴파일에 실패하면 기존 목록을 그대로 쓴다. (평가 중인 요청은 교체 전 목록으로 끝난다)
+ * productsDir이 있으면 reloadInterval마다 파일 목록 / 크기 / 수정 시각을 비교해 바뀌었을 때 다시 읽는다.
+ */
+@Slf4j
+public class ProductCatalog {
+
+    private final ObjectMapper objectMapper;
+    private final EligibilityProperties properties;
+    private final Counter reloads;
+    private final Counter reloadFailures;
+
+    private volatile Map<String, DecisionTable> products = Map.of();
+    private volatile String fingerprint = "";
+
+    private Thread watcher;
+    private volatile boolean running;
+
+    public ProductCatalog(ObjectMapper objectMapper, EligibilityProperties properties, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.reloads = Counter.builder("eligibility.products.reload")
+            .description("Product rule reloads applied")
+            .register(meterRegistry);
+        this.reloadFailures = Counter.builder("eligibility.products.reload.failures")
+            .description("Product rule reloads rejected (previous rules kept)")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 기동 시 한 번 읽는다. 기본 정의가 잘못되어 있으면 기동에 실패한다.
+     */
+    @PostConstruct
+    public void start() {
+        reload();
+        if (productsDir() == null) {
+            return;
+        }
+        running = true;
+        watcher = new Thread(this::watch, "eligibility-reload");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (watcher != null) {
+            watcher.interrupt();
+            watcher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    public DecisionTable find(String code) {
+        return products.get(code);
+    }
+
+    public Collection<DecisionTable> products() {
+        return products.values();
+    }
+
+    /**
+     * 정의를 다시 읽어 교체
+     * @throws IllegalArgumentException 정의를 읽거나 컴파일할 수 없는 경우 (기존 목록 유지)
+     */
+    public synchronized Collection<DecisionTable> reload() {
+        String current = fingerprint();
+        Map<String, DecisionTable> compiled = new TreeMap<>();
+        try {
+            for (ProductDefinition definition : loadDefinitions()) {
+                compiled.put(definition.code(), DecisionTable.compile(definition, properties.getMaxCells()));
+            }
+        } catch (IOException | RuntimeException e) {
+            reloadFailures.increment();
+            fingerprint = current;  // 같은 파일로 다시 시도하지 않는다.
+            throw new IllegalArgumentException("상품 규칙을 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+        products = Map.copyOf(compiled);
+        fingerprint = current;
+        reloads.increment();
+        log.info("상품 규칙 적용: {}", compiled.values());
+        return compiled.values();
+    }
+
+    /**
+     * productsDir이 바뀌었으면 다시 읽는다.
+     * @return 다시 읽었으면 true
+     */
+    public boolean reloadIfChanged() {
+        if (productsDir() == null || fingerprint().equals(fingerprint)) {
+            return false;
+        }
+        reload();
+        return true;
+    }
+
+    /** 기본 정의 뒤에 productsDir 정의 (같은 코드면 나중 것이 남는다) */
+    private List<ProductDefinition> loadDefinitions() throws IOException {
+        List<ProductDefinition> definitions = new ArrayList<>();
+        for (Resource resource : new PathMatchingResourcePatternResolver().getResources(properties.getLocation())) {
+            try (InputStream in = resource.getInputStream()) {
+                definitions.add(objectMapper.readValue(in, ProductDefinition.class));
+            }
+        }
+        for (Path file : listFiles()) {
+            try (InputStream in = Files.newInputStream(file)) {
+                definitions.add(objectMapper.readValue(in, ProductDefinition.class));
+            }
+        }
+        return definitions;
+    }
+
+    private String fingerprint() {
+        StringBuilder builder = new StringBuilder();
+        try {
+            for (Path file : listFiles()) {
+                builder.append(file.getFileName()).append(':').append(Files.size(file)).append(':')
+                    .append(Files.getLastModifiedTime(file).toMillis()).append(';');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    private List<Path> listFiles() throws IOException {
+        Path dir = productsDir();
+        if (dir == null || !Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".json"))
+                .sorted(Comparator.comparing(Path::getFileName))
+                .toList();
+        }
+    }
+
+    private Path productsDir() {
+        String dir = properties.getProductsDir();
+        return dir == null || dir.isBlank() ? null : Path.of(dir);
+    }
+
+    private void watch() {
+        while (running) {
+            try {
+                Thread.sleep(properties.getReloadInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                reloadIfChanged();
+            } catch (RuntimeException e) {
+                log.warn("상품 규칙 재적용 실패, 기존 규칙 유지: {}", e.getMessage());
+            }
+        }
+    }
+}
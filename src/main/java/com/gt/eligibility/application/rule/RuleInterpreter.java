@@ -0,0 +1,65 @@
+package com.gt.eligibility.application.rule;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+import com.gt.eligibility.domain.entity.Applicant;
+import com.gt.eligibility.domain.entity.Attribute;
+import com.gt.eligibility.domain.entity.Condition;
+import com.gt.eligibility.domain.entity.Decision;
+import com.gt.eligibility.domain.entity.EligibilityRule;
+import com.gt.eligibility.domain.entity.PricingRule;
+import com.gt.eligibility.domain.entity.ProductDefinition;
+
+/**
+ * 규칙 정의를 그대로 따라가며 판정하는 기준 구현
+ * DecisionTable은 셀마다 이 구현의 결과를 미리 계산해 두므로, 두 결과가 같아야 한다. (DecisionTableTest)
+ */
+public final class RuleInterpreter {
+
+    private RuleInterpreter() {
+    }
+
+    public static Decision evaluate(ProductDefinition product, Applicant applicant, LocalDate asOf) {
+        long[] values = new long[Attribute.values().length];
+        for (Attribute attribute : Attribute.values()) {
+            values[attribute.ordinal()] = attribute == Attribute.AGE
+                ? referenceAge(applicant.birth(), asOf)
+                : attribute.valueOf(applicant, asOf);
+        }
+        return evaluate(product, values);
+    }
+
+    /**
+     * @param values 속성 값 (Attribute.ordinal() 순)
+     */
+    public static Decision evaluate(ProductDefinition product, long[] values) {
+        for (EligibilityRule rule : product.eligibility()) {
+            if (!rule.condition().test(values[rule.attribute().ordinal()])) {
+                return Decision.reject(rule.reason());
+            }
+        }
+        for (PricingRule rule : product.pricing()) {
+            if (matches(rule, values)) {
+                return Decision.approve(rule.rateBps(), rule.maxAmount());
+            }
+        }
+        return Decision.reject(Decision.NO_PRICING);
+    }
+
+    private static boolean matches(PricingRule rule, long[] values) {
+        for (Condition condition : rule.when()) {
+            if (!condition.test(values[condition.attribute().ordinal()])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long referenceAge(LocalDate birth, LocalDate asOf) {
+        if (birth == null || birth.isAfter(asOf)) {
+            return Attribute.UNKNOWN_AGE;
+        }
+        return Period.between(birth, asOf).getYears();
+    }
+}
@@ -0,0 +1,37 @@
+package com.gt.eligibility.application.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.gt.eligibility.api.dto.EligibilityResponse;
+import com.gt.eligibility.api.dto.ProductResponse;
+import com.gt.global.common.tenant.TenantScope;
+
+public interface EligibilityService {
+
+    List<ProductResponse> getProducts();
+
+    boolean hasProduct(String productCode);
+
+    /**
+     * 상품 규칙을 다시 읽어 교체한다.
+     * @throws IllegalArgumentException 정의가 잘못된 경우 (기존 규칙 유지)
+     */
+    List<ProductResponse> reload();
+
+    /**
+     * @return 고객이 없거나 다른 지점 고객이면 null
+     * @throws com.gt.global.common.exception.EligibilityProductNotFoundException 없는 상품
+     */
+    EligibilityResponse evaluate(String productCode, long personId, LocalDate asOf);
+
+    /**
+     * 범위 안의 고객 전체를 평가해 고객당 한 줄 NDJSON으로 쓴다.
+     * 상품 규칙은 시작 시점 것으로 고정된다. 범위는 요청 스레드에서 잡아 넘긴다. (StreamingResponseBody 스레드에는 TenantContext가 없다)
+     * @return 평가한 고객 수
+     * @throws com.gt.global.common.exception.EligibilityProductNotFoundException 없는 상품
+     */
+    long evaluateAll(String productCode, LocalDate asOf, TenantScope scope, OutputStream out) throws IOException;
+}
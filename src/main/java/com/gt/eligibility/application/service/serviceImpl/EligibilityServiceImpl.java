@@ -0,0 +1,211 @@
+package com.gt.eligibility.application.service.serviceImpl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.eligibility.api.dto.EligibilityResponse;
+import com.gt.eligibility.api.dto.ProductResponse;
+import com.gt.eligibility.application.rule.DecisionTable;
+import com.gt.eligibility.application.rule.ProductCatalog;
+import com.gt.eligibility.application.service.EligibilityService;
+import com.gt.eligibility.domain.entity.Applicant;
+import com.gt.eligibility.domain.entity.Decision;
+import com.gt.eligibility.domain.repository.ApplicantRepository;
+import com.gt.eligibility.infra.config.EligibilityProperties;
+import com.gt.global.common.exception.EligibilityProductNotFoundException;
+import com.gt.global.common.tenant.TenantScope;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 자격 심사
+ *
+ * 일괄 평가는 요청 스레드가 JDBC 커서로 고객을 chunkSize씩 모으고, 평가 스레드들이 chunk마다 평가 + NDJSON 직렬화를 맡는다.
+ * 결과는 chunk 순서대로 쓰므로 출력은 고객 ID 순이며, 처리 중인 chunk는 스레드 수의 두 배로 제한해 메모리를 묶어 둔다.
+ */
+@Slf4j
+@Service
+public class EligibilityServiceImpl implements EligibilityService {
+
+    private final ProductCatalog productCatalog;
+    private final ApplicantRepository applicantRepository;
+    private final EligibilityProperties.Batch batch;
+    private final JsonFactory jsonFactory;
+    private final int threads;
+    private final ExecutorService executor;
+
+    private final Counter evaluatedCounter;
+    private final Timer batchTime;
+
+    public EligibilityServiceImpl(ProductCatalog productCatalog,
+                                  ApplicantRepository applicantRepository,
+                                  EligibilityProperties properties,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.productCatalog = productCatalog;
+        this.applicantRepository = applicantRepository;
+        this.batch = properties.getBatch();
+        this.jsonFactory = objectMapper.getFactory();
+        this.threads = batch.getThreads() > 0 ? batch.getThreads() : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "eligibility-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.evaluatedCounter = Counter.builder("eligibility.batch.evaluated")
+            .description("Customers evaluated by batch eligibility runs")
+            .register(meterRegistry);
+        this.batchTime = Timer.builder("eligibility.batch.time")
+            .description("Batch eligibility run time (read + evaluate + write)")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public List<ProductResponse> getProducts() {
+        return productCatalog.products().stream().map(ProductResponse::from).toList();
+    }
+
+    @Override
+    public boolean hasProduct(String productCode) {
+        return productCatalog.find(productCode) != null;
+    }
+
+    @Override
+    public List<ProductResponse> reload() {
+        return productCatalog.reload().stream().map(ProductResponse::from).toList();
+    }
+
+    @Override
+    public EligibilityResponse evaluate(String productCode, long personId, LocalDate asOf) {
+        DecisionTable product = product(productCode);
+        Applicant applicant = applicantRepository.find(personId, TenantScope.current()).orElse(null);
+        if (applicant == null) {
+            return null;
+        }
+        return EligibilityResponse.of(personId, productCode, product.definition().version(), asOf,
+            product.evaluate(applicant, asOf));
+    }
+
+    /**
+     * PostgreSQL 드라이버는 autocommit이 꺼진 상태에서만 fetchSize 단위 커서를 사용하므로 트랜잭션 안에서 실행한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long evaluateAll(String productCode, LocalDate asOf, TenantScope scope, OutputStream out) throws IOException {
+        Objects.requireNonNull(scope, "scope");
+        DecisionTable product = product(productCode);
+        long start = System.nanoTime();
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        List<Applicant> chunk = new ArrayList<>(batch.getChunkSize());
+
+        long rows;
+        try {
+            rows = applicantRepository.forEach(scope, batch.getFetchSize(), applicant -> {
+                chunk.add(applicant);
+                if (chunk.size() >= batch.getChunkSize()) {
+                    pending.addLast(submit(product, asOf, List.copyOf(chunk)));
+                    chunk.clear();
+                    while (pending.size() >= threads * 2) {
+                        write(pending.removeFirst(), out);
+                    }
+                }
+            });
+            if (!chunk.isEmpty()) {
+                pending.addLast(submit(product, asOf, List.copyOf(chunk)));
+            }
+            while (!pending.isEmpty()) {
+                write(pending.removeFirst(), out);
+            }
+            out.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        batchTime.record(elapsed, TimeUnit.NANOSECONDS);
+        evaluatedCounter.increment(rows);
+        log.info("일괄 자격 심사 완료: product = {} v{}, customers = {}, threads = {}, elapsed = {}ms",
+            productCode, product.definition().version(), rows, threads, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return rows;
+    }
+
+    private DecisionTable product(String productCode) {
+        DecisionTable product = productCatalog.find(productCode);
+        if (product == null) {
+            throw new EligibilityProductNotFoundException("상품을 찾을 수 없습니다: " + productCode);
+        }
+        return product;
+    }
+
+    private Future<byte[]> submit(DecisionTable product, LocalDate asOf, List<Applicant> applicants) {
+        return executor.submit(() -> {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(applicants.size() * 96);
+            try (JsonGenerator generator = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+                generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+                for (Applicant applicant : applicants) {
+                    Decision decision = product.evaluate(applicant, asOf);
+                    generator.writeStartObject();
+                    generator.writeNumberField("personId", applicant.personId());
+                    generator.writeBooleanField("eligible", decision.eligible());
+                    if (decision.eligible()) {
+                        generator.writeNumberField("rateBps", decision.rateBps());
+                        generator.writeNumberField("maxAmount", decision.maxAmount());
+                    } else {
+                        generator.writeStringField("reason", decision.reason());
+                    }
+                    generator.writeEndObject();
+                }
+                // chunk 마지막 줄도 개행으로 끝나도록
+                generator.writeRaw('\n');
+            }
+            return buffer.toByteArray();
+        });
+    }
+
+    private static void write(Future<byte[]> future, OutputStream out) {
+        try {
+            out.write(future.get());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("일괄 자격 심사 중단", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("일괄 자격 심사 실패", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.gt.eligibility.domain.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 심사 대상 고객
+ * @param exposure 기존 대출 잔액 합계 (고객 요약 기준)
+ */
+public record Applicant(long personId, int branchId, LocalDate birth, long exposure, int activeLoans) {
+}
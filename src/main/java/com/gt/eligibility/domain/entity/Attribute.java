@@ -0,0 +1,37 @@
+package com.gt.eligibility.domain.entity;
+
+import java.time.LocalDate;
+
+/**
+ * 규칙에서 조건으로 쓰는 신청자 속성 (모두 정수 값)
+ */
+public enum Attribute {
+    AGE,            // 만 나이 (생년월일이 없거나 기준일 이후면 -1)
+    EXPOSURE,       // 기존 대출 잔액 합계
+    ACTIVE_LOANS;   // 잔액이 남은 대출 수
+
+    public static final long UNKNOWN_AGE = -1;
+
+    public long valueOf(Applicant applicant, LocalDate asOf) {
+        return switch (this) {
+            case AGE -> age(applicant.birth(), asOf);
+            case EXPOSURE -> applicant.exposure();
+            case ACTIVE_LOANS -> applicant.activeLoans();
+        };
+    }
+
+    /**
+     * 만 나이 (Period.between(birth, asOf).getYears()와 같은 값, 2월 29일생은 평년 3월 1일에 나이가 든다)
+     */
+    public static long age(LocalDate birth, LocalDate asOf) {
+        if (birth == null || birth.isAfter(asOf)) {
+            return UNKNOWN_AGE;
+        }
+        int age = asOf.getYear() - birth.getYear();
+        if (asOf.getMonthValue() < birth.getMonthValue()
+                || (asOf.getMonthValue() == birth.getMonthValue() && asOf.getDayOfMonth() < birth.getDayOfMonth())) {
+            age--;
+        }
+        return age;
+    }
+}
@@ -0,0 +1,20 @@
+package com.gt.eligibility.domain.entity;
+
+/**
+ * 속성 범위 조건 [min, max), null이면 그쪽 제한 없음
+ */
+public record Condition(Attribute attribute, Long min, Long max) {
+
+    public Condition {
+        if (attribute == null) {
+            throw new IllegalArgumentException("attribute is required");
+        }
+        if (min != null && max != null && min >= max) {
+            throw new IllegalArgumentException("empty range for " + attribute + ": [" + min + ", " + max + ")");
+        }
+    }
+
+    public boolean test(long value) {
+        return (min == null || value >= min) && (max == null || value < max);
+    }
+}
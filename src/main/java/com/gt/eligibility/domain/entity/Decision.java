@@ -0,0 +1,20 @@
+package com.gt.eligibility.domain.entity;
+
+/**
+ * 심사 결과
+ * @param reason 거절 사유 (승인이면 null)
+ * @param rateBps 승인 시 금리 (bp)
+ * @param maxAmount 승인 시 한도
+ */
+public record Decision(boolean eligible, String reason, int rateBps, long maxAmount) {
+
+    public static final String NO_PRICING = "NO_PRICING";
+
+    public static Decision approve(int rateBps, long maxAmount) {
+        return new Decision(true, null, rateBps, maxAmount);
+    }
+
+    public static Decision reject(String reason) {
+        return new Decision(false, reason, 0, 0);
+    }
+}
@@ -0,0 +1,17 @@
+package com.gt.eligibility.domain.entity;
+
+/**
+ * 자격 규칙: 조건을 만족하지 않으면 reason으로 거절
+ */
+public record EligibilityRule(Attribute attribute, Long min, Long max, String reason) {
+
+    public EligibilityRule {
+        if (reason == null || reason.isBlank()) {
+            throw new IllegalArgumentException("reason is required: " + attribute);
+        }
+    }
+
+    public Condition condition() {
+        return new Condition(attribute, min, max);
+    }
+}
@@ -0,0 +1,14 @@
+package com.gt.eligibility.domain.entity;
+
+import java.util.List;
+
+/**
+ * 가격 규칙: when 조건을 모두 만족하면 이 금리 / 한도 (선언 순서대로 처음 맞는 규칙)
+ * @param rateBps 연 금리 (bp, 650 = 6.50%)
+ */
+public record PricingRule(List<Condition> when, int rateBps, long maxAmount) {
+
+    public PricingRule {
+        when = when == null ? List.of() : List.copyOf(when);
+    }
+}
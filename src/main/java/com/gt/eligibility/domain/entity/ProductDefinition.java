@@ -0,0 +1,18 @@
+package com.gt.eligibility.domain.entity;
+
+import java.util.List;
+
+/**
+ * 상품 자격 / 가격 규칙 정의 (eligibility 상품 JSON 파일 하나)
+ * 자격 규칙을 모두 통과하면 가격 규칙 중 처음 맞는 규칙의 금리 / 한도를 적용한다. (맞는 규칙이 없으면 NO_PRICING 거절)
+ */
+public record ProductDefinition(String code, String name, int version, List<EligibilityRule> eligibility, List<PricingRule> pricing) {
+
+    public ProductDefinition {
+        if (code == null || code.isBlank()) {
+            throw new IllegalArgumentException("product code is required");
+        }
+        eligibility = eligibility == null ? List.of() : List.copyOf(eligibility);
+        pricing = pricing == null ? List.of() : List.copyOf(pricing);
+    }
+}
@@ -0,0 +1,21 @@
+package com.gt.eligibility.domain.repository;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.gt.eligibility.domain.entity.Applicant;
+import com.gt.global.common.tenant.TenantScope;
+
+public interface ApplicantRepository {
+
+    /**
+     * @return 범위 밖 지점의 고객이면 empty
+     */
+    Optional<Applicant> find(long personId, TenantScope scope);
+
+    /**
+     * 고객 전체를 고객 ID 순으로 읽는다. (forward-only 커서, 트랜잭션 안에서 호출)
+     * @return 읽은 고객 수
+     */
+    long forEach(TenantScope scope, int fetchSize, Consumer<Applicant> consumer);
+}
@@ -0,0 +1,20 @@
+package com.gt.eligibility.infra.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.eligibility.application.rule.ProductCatalog;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(EligibilityProperties.class)
+public class EligibilityConfig {
+
+    @Bean
+    public ProductCatalog productCatalog(ObjectMapper objectMapper, EligibilityProperties properties, MeterRegistry meterRegistry) {
+        return new ProductCatalog(objectMapper, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.gt.eligibility.infra.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 상품 자격 심사 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "eligibility")
+public class EligibilityProperties {
+
+    /** 기본 상품 정의 (jar에 포함) */
+    private String location = "classpath:eligibility/products/*.json";
+
+    /** 운영 중 바꾸는 상품 정의 디렉터리 (*.json, 같은 코드면 기본 정의를 대신한다), 비어 있으면 사용하지 않는다. */
+    private String productsDir = "";
+
+    /** productsDir 변경 확인 주기 */
+    private Duration reloadInterval = Duration.ofSeconds(30);
+
+    /** 상품 하나의 결정 테이블 최대 셀 수 */
+    private int maxCells = 1_000_000;
+
+    private Batch batch = new Batch();
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /** 평가 스레드 수 (0이면 CPU 수) */
+        private int threads = 0;
+
+        /** 스레드 하나가 한 번에 평가 / 직렬화하는 고객 수 */
+        private int chunkSize = 5000;
+
+        /** JDBC 커서 fetch 크기 */
+        private int fetchSize = 5000;
+
+        /** 동시 일괄 평가 수 */
+        private int maxConcurrent = 1;
+    }
+}
@@ -0,0 +1,65 @@
+package com.gt.eligibility.infra.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.gt.eligibility.domain.entity.Applicant;
+import com.gt.eligibility.domain.repository.ApplicantRepository;
+import com.gt.global.common.tenant.TenantScope;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 심사 대상 고객 JDBC 구현
+ * 기존 대출 잔액은 대출 / 원장을 합산하지 않고 고객 요약(customer_overview)에서 읽는다. (요약이 없으면 대출 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcApplicantRepository implements ApplicantRepository {
+
+    private static final String SELECT = """
+        SELECT p.person_id, p.branch_id, p.birth, COALESCE(o.outstanding_balance, 0), COALESCE(o.active_loans, 0)
+        FROM person p
+        LEFT JOIN customer_overview o ON o.person_id = p.person_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Applicant> find(long personId, TenantScope scope) {
+        return jdbcTemplate.query(SELECT + "WHERE p.person_id = ?" + scope.branchClause("p.branch_id"),
+                (rs, rowNum) -> toApplicant(rs), scope.bind(personId))
+            .stream().findFirst();
+    }
+
+    @Override
+    public long forEach(TenantScope scope, int fetchSize, Consumer<Applicant> consumer) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                SELECT + scope.where("p.branch_id") + " ORDER BY p.person_id",
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            Object[] args = scope.bind();
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            consumer.accept(toApplicant(resultSet));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private static Applicant toApplicant(ResultSet rs) throws SQLException {
+        return new Applicant(rs.getLong(1), rs.getInt(2), rs.getObject(3, LocalDate.class), rs.getLong(4), rs.getInt(5));
+    }
+}
@@ -2,22 +2,33 @@ package com.gt.global.common;
 
 import java.util.Arrays;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
+/**
+ * 기동 시 활성 프로파일과 프로퍼티 소스 목록 출력 (startup.log-property-sources=false 이면 생략)
+ * AOT 빌드에서는 빈 조건이 빌드 시점에 고정되므로 조건 대신 실행 시점에 확인한다.
+ */
 @Component
 public class PropertyFileLogger implements CommandLineRunner{
 
     private final Environment env;
+    private final boolean enabled;
 
-    public PropertyFileLogger(Environment env) {
+    public PropertyFileLogger(Environment env,
+                              @Value("${startup.log-property-sources:true}") boolean enabled) {
         this.env = env;
+        this.enabled = enabled;
     }
 
     @Override
     public void run(String... args) throws Exception {
+        if (!enabled) {
+            return;
+        }
         System.out.println("=== Active Profiles ===");    
         Arrays.stream(env.getActiveProfiles()).forEach(i -> System.out.println("Active Profile: " + i));
         
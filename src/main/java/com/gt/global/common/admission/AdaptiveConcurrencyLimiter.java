@@ -0,0 +1,149 @@
+package com.gt.global.common.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import lombok.Getter;
+
+/**
+ * AIMD 방식의 적응형 동시성 제한기
+ * - 요청이 목표 지연 안에 끝나고 커넥션 풀 대기가 없으면 limit을 1/limit 씩 증가 (additive increase)
+ * - 지연이 목표를 넘거나 커넥션 풀 대기가 관측되면 limit에 backoffRatio를 곱해 감소 (multiplicative decrease)
+ * 감소는 latencyTarget 주기당 한 번만 적용해, 동시에 끝난 느린 요청들로 limit이 한꺼번에 무너지지 않게 한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyTargetNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotReleased = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private long lastDecreaseAt;
+    private double averageLatencyNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                                      double backoffRatio, long latencyTargetMillis) {
+        this(name, initialLimit, minLimit, maxLimit, backoffRatio, latencyTargetMillis, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit,
+                               double backoffRatio, long latencyTargetMillis, LongSupplier nanoClock) {
+        this.name = name;
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+        this.backoffRatio = backoffRatio;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMillis);
+        this.averageLatencyNanos = latencyTargetNanos / 2d;
+        this.nanoClock = nanoClock;
+        this.lastDecreaseAt = nanoClock.getAsLong() - latencyTargetNanos;
+    }
+
+    /**
+     * 처리 슬롯 획득
+     * 현재 대기열로 보아 maxWait 안에 슬롯을 얻을 가망이 없으면 기다리지 않고 즉시 실패한다.
+     * @param maxWaitNanos 슬롯을 기다릴 수 있는 최대 시간
+     * @return 슬롯 획득 여부
+     */
+    public boolean tryAcquire(long maxWaitNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < currentLimit()) {
+                inFlight++;
+                return true;
+            }
+            if (estimatedWaitNanos() > maxWaitNanos) {
+                return false;
+            }
+
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= currentLimit()) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = slotReleased.awaitNanos(remaining);
+                }
+                inFlight++;
+                return true;
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 처리 슬롯 반환 및 limit 조정
+     * @param latencyNanos 요청 처리 시간
+     * @param poolCongested 커넥션 풀 대기가 목표치를 넘었는지 여부
+     */
+    public void release(long latencyNanos, boolean poolCongested) {
+        lock.lock();
+        try {
+            int usedInFlight = inFlight;
+            inFlight--;
+            averageLatencyNanos = averageLatencyNanos * 0.9 + latencyNanos * 0.1;
+
+            long now = nanoClock.getAsLong();
+            if (latencyNanos > latencyTargetNanos || poolCongested) {
+                if (now - lastDecreaseAt >= latencyTargetNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseAt = now;
+                }
+            } else if (usedInFlight * 2 >= currentLimit()) {
+                // limit의 절반 이상을 실제로 사용 중일 때만 늘린다.
+                limit = Math.min(maxLimit, limit + 1d / limit);
+            }
+            slotReleased.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재시도 권장 시간(초)
+     */
+    public long retryAfterSeconds() {
+        lock.lock();
+        try {
+            return Math.max(1, TimeUnit.NANOSECONDS.toSeconds((long) (estimatedWaitNanos() + averageLatencyNanos)));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        return currentLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight;
+    }
+
+    public int getWaiting() {
+        return waiting;
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    private double estimatedWaitNanos() {
+        // 앞선 대기자들이 모두 슬롯을 얻고 자신의 차례가 올 때까지의 예상 시간
+        return (waiting + 1) * averageLatencyNanos / currentLimit();
+    }
+}
@@ -0,0 +1,32 @@
+package com.gt.global.common.admission;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(AdmissionControlProperties.class)
+@ConditionalOnProperty(prefix = "admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    /**
+     * 요청 로깅 필터 바로 다음, Spring Security 필터 체인보다 먼저 실행되도록 등록한다.
+     */
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(AdmissionControlProperties properties,
+                                                                               ConnectionPoolWaitMonitor poolWaitMonitor,
+                                                                               ObjectMapper objectMapper,
+                                                                               MeterRegistry meterRegistry) {
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(
+            new AdmissionControlFilter(properties, poolWaitMonitor, objectMapper, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,122 @@
+package com.gt.global.common.admission;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.global.common.entity.ApiResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB를 사용하는 엔드포인트의 동시 처리 수를 제한한다.
+ * 슬롯을 maxQueueTime 안에 얻지 못하는 요청은 Tomcat 스레드를 붙잡지 않고 503 + Retry-After로 즉시 응답한다.
+ * DB를 사용하지 않는 경로는 이 필터의 영향을 받지 않는다.
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private final Map<String, Guard> guards;
+    private final ConnectionPoolWaitMonitor poolWaitMonitor;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlFilter(AdmissionControlProperties properties, ConnectionPoolWaitMonitor poolWaitMonitor,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.poolWaitMonitor = poolWaitMonitor;
+        this.objectMapper = objectMapper;
+        this.guards = new HashMap<>();
+        properties.getEndpoints().forEach((name, endpoint) ->
+            guards.put(endpoint.getMethod() + " " + endpoint.getPath(), new Guard(name, endpoint, meterRegistry)));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !guards.containsKey(request.getMethod() + " " + request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        Guard guard = guards.get(request.getMethod() + " " + request.getRequestURI());
+        AdaptiveConcurrencyLimiter limiter = guard.limiter;
+
+        long queuedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = limiter.tryAcquire(guard.maxQueueTimeNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        long startedAt = System.nanoTime();
+        guard.queueWait.record(startedAt - queuedAt, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            guard.rejected.increment();
+            reject(response, limiter);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - startedAt, poolWaitMonitor.isCongested());
+        }
+    }
+
+    private void reject(HttpServletResponse response, AdaptiveConcurrencyLimiter limiter) throws IOException {
+        log.warn("[{}] 처리 한도 초과로 요청을 거절합니다. limit = {}, inFlight = {}",
+            limiter.getName(), limiter.getLimit(), limiter.getInFlight());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(limiter.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(),
+            new ApiResponse<>(false, "Server is busy, please retry later", null));
+    }
+
+    private static final class Guard {
+
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long maxQueueTimeNanos;
+        private final Counter rejected;
+        private final Timer queueWait;
+
+        private Guard(String name, AdmissionControlProperties.Endpoint endpoint, MeterRegistry meterRegistry) {
+            this.limiter = new AdaptiveConcurrencyLimiter(name, endpoint.getInitialLimit(), endpoint.getMinLimit(),
+                endpoint.getMaxLimit(), endpoint.getBackoffRatio(), endpoint.getLatencyTargetMs());
+            this.maxQueueTimeNanos = TimeUnit.MILLISECONDS.toNanos(endpoint.getMaxQueueTimeMs());
+
+            Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("endpoint", name)
+                .register(meterRegistry);
+            Gauge.builder("admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("endpoint", name)
+                .register(meterRegistry);
+            this.rejected = Counter.builder("admission.rejected")
+                .tag("endpoint", name)
+                .register(meterRegistry);
+            this.queueWait = Timer.builder("admission.queue.wait")
+                .tag("endpoint", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        }
+    }
+}
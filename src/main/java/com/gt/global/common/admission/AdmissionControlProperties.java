@@ -0,0 +1,41 @@
+package com.gt.global.common.admission;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 엔드포인트별 동시성 제한(admission control) 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionControlProperties {
+
+    private boolean enabled = true;
+
+    /** 커넥션 풀 평균 대기 시간이 이 값을 넘으면 혼잡으로 판단(ms) */
+    private long poolWaitTargetMs = 20;
+
+    /** key: 엔드포인트 이름 */
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Endpoint {
+        private String method = "POST";
+        private String path;
+        private int initialLimit = 20;
+        private int minLimit = 2;
+        private int maxLimit = 100;
+        private double backoffRatio = 0.9;
+        /** 목표 처리 시간(ms), 초과하면 limit 감소 */
+        private long latencyTargetMs = 200;
+        /** 슬롯을 기다릴 수 있는 최대 시간(ms), 이 안에 처리 시작이 불가능하면 503 */
+        private long maxQueueTimeMs = 100;
+    }
+}
@@ -0,0 +1,66 @@
+package com.gt.global.common.admission;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
+
+/**
+ * HikariCP가 Micrometer에 기록하는 커넥션 획득 대기 시간(hikaricp.connections.acquire)을
+ * 주기적으로 샘플링해 최근 구간의 평균 대기 시간과 대기 스레드 수를 계산한다.
+ * 적응형 동시성 제한기의 혼잡 신호로 사용된다.
+ */
+@Component
+public class ConnectionPoolWaitMonitor {
+
+    private final MeterRegistry meterRegistry;
+    private final long poolWaitTargetNanos;
+
+    private long lastCount;
+    private double lastTotalNanos;
+    private volatile double recentWaitNanos;
+    private volatile double pendingThreads;
+
+    public ConnectionPoolWaitMonitor(MeterRegistry meterRegistry,
+                                     @Value("${admission.pool-wait-target-ms:20}") long poolWaitTargetMs) {
+        this.meterRegistry = meterRegistry;
+        this.poolWaitTargetNanos = TimeUnit.MILLISECONDS.toNanos(poolWaitTargetMs);
+    }
+
+    @Scheduled(fixedRate = 250)
+    public synchronized void sample() {
+        Collection<Timer> acquireTimers = Search.in(meterRegistry).name("hikaricp.connections.acquire").timers();
+        long count = 0;
+        double totalNanos = 0;
+        for (Timer timer : acquireTimers) {
+            count += timer.count();
+            totalNanos += timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+
+        long deltaCount = count - lastCount;
+        recentWaitNanos = deltaCount > 0 ? (totalNanos - lastTotalNanos) / deltaCount : 0;
+        lastCount = count;
+        lastTotalNanos = totalNanos;
+
+        pendingThreads = Search.in(meterRegistry).name("hikaricp.connections.pending").gauges().stream()
+            .mapToDouble(gauge -> gauge.value())
+            .sum();
+    }
+
+    /**
+     * 최근 샘플 구간에서 커넥션 풀이 혼잡했는지 여부
+     */
+    public boolean isCongested() {
+        return recentWaitNanos > poolWaitTargetNanos || pendingThreads > 0;
+    }
+
+    public double getRecentWaitMillis() {
+        return recentWaitNanos / 1_000_000d;
+    }
+}
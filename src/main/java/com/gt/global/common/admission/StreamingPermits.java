@@ -0,0 +1,60 @@
+package com.gt.global.common.admission;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * StreamingResponseBody 동시 실행 제한
+ * 허가는 본문이 끝나면 반납하고, 본문이 실행되지 못한 채 비동기 요청이 끝나면(시간 초과, 연결 종료, 작업 거부)
+ * 비동기 완료 콜백에서 반납한다. 한 요청의 허가는 본문과 완료 콜백 중 먼저 가져간 쪽이 한 번만 반납한다.
+ */
+public class StreamingPermits {
+
+    private final Semaphore permits;
+
+    public StreamingPermits(int maxConcurrent) {
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 허가를 얻어 본문을 감싼다.
+     * @return 허가가 없으면 null
+     */
+    public StreamingResponseBody tryAcquire(HttpServletRequest request, StreamingResponseBody body) {
+        if (!permits.tryAcquire()) {
+            return null;
+        }
+        AtomicBoolean claimed = new AtomicBoolean();
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(this, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                if (claimed.compareAndSet(false, true)) {
+                    permits.release();
+                }
+            }
+        });
+        return out -> {
+            if (!claimed.compareAndSet(false, true)) {
+                // 요청이 이미 끝나 허가를 반납한 뒤에 늦게 실행된 경우
+                return;
+            }
+            try {
+                body.writeTo(out);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
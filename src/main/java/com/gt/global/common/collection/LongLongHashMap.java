@@ -0,0 +1,145 @@
+package com.gt.global.common.collection;
+
+import java.util.Arrays;
+
+/**
+ * long → long 오픈 어드레싱 해시맵 (boxing 없음)
+ * 수백만 건 규모의 메모리 인덱스에서 HashMap&lt;Long, Long&gt; 대비 메모리를 크게 줄이기 위해 사용한다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 관리해야 한다.
+ */
+public class LongLongHashMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private final long missingValue;
+    private long[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int size;
+    private int resizeAt;
+
+    /**
+     * @param expectedSize 예상 크기
+     * @param missingValue 키가 없을 때 get이 반환하는 값
+     */
+    public LongLongHashMap(int expectedSize, long missingValue) {
+        this.missingValue = missingValue;
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public long get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+        }
+        return missingValue;
+    }
+
+    public boolean containsKey(long key) {
+        int mask = keys.length - 1;
+        for (int slot = hash(key) & mask; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 이전 값, 없었으면 missingValue
+     */
+    public long put(long key, long value) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        for (; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+        }
+        used[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return missingValue;
+    }
+
+    /**
+     * @return 제거된 값, 없었으면 missingValue
+     */
+    public long remove(long key) {
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        for (; used[slot]; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                long previous = values[slot];
+                shiftBack(slot, mask);
+                size--;
+                return previous;
+            }
+        }
+        return missingValue;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * 선형 탐사 체인이 끊기지 않도록 삭제 위치 뒤의 항목을 앞으로 당긴다.
+     */
+    private void shiftBack(int slot, int mask) {
+        int gap = slot;
+        for (int next = (gap + 1) & mask; used[next]; next = (next + 1) & mask) {
+            int home = hash(keys[next]) & mask;
+            // home이 (gap, next] 구간 밖이면 gap으로 옮길 수 있다.
+            boolean movable = gap <= next ? (home <= gap || home > next) : (home <= gap && home > next);
+            if (movable) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+        }
+        used[gap] = false;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR) + 1));
+        return capacity < expectedSize / LOAD_FACTOR ? capacity << 1 : capacity;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
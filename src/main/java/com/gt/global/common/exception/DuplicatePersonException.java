@@ -0,0 +1,15 @@
+package com.gt.global.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class DuplicatePersonException extends RuntimeException {
+
+    /** 일치한 기존 고객 ID, 동시에 등록 중인 요청과 겹친 경우 null */
+    private final Long duplicateOf;
+
+    public DuplicatePersonException(String message, Long duplicateOf) {
+        super(message);
+        this.duplicateOf = duplicateOf;
+    }
+}
@@ -0,0 +1,8 @@
+package com.gt.global.common.exception;
+
+public class EligibilityProductNotFoundException extends RuntimeException {
+
+    public EligibilityProductNotFoundException(String message) {
+        super(message);
+    }
+}
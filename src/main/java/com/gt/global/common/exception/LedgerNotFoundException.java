@@ -0,0 +1,8 @@
+package com.gt.global.common.exception;
+
+public class LedgerNotFoundException extends RuntimeException {
+
+    public LedgerNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.gt.global.common.exception;
+
+/**
+ * 원장 기록 규칙 위반 (잔액 초과 상환, 중복 취소, 다른 대출에 사용된 posting key 등)
+ * 배치 전체가 기록되지 않는다.
+ */
+public class LedgerPostingException extends RuntimeException {
+
+    public LedgerPostingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.gt.global.common.exception;
+
+/**
+ * 같은 정산 파일이 이미 처리 중
+ */
+public class ReconcileInProgressException extends RuntimeException {
+
+    public ReconcileInProgressException(String message) {
+        super(message);
+    }
+}
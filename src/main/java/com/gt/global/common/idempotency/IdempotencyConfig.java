@@ -0,0 +1,43 @@
+package com.gt.global.common.idempotency;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+@ConditionalOnProperty(prefix = "idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(IdempotencyProperties properties, StringRedisTemplate stringRedisTemplate,
+                                             ObjectMapper objectMapper) {
+        if ("memory".equalsIgnoreCase(properties.getStore())) {
+            return new InMemoryIdempotencyStore();
+        }
+        return new RedisIdempotencyStore(stringRedisTemplate, objectMapper);
+    }
+
+    /**
+     * 사용자별로 키를 구분하므로 Spring Security 필터 체인 다음에 실행되도록 등록한다.
+     * (인증 실패 / rate limit / admission control로 거절된 요청은 키를 잡지 않는다.)
+     */
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore idempotencyStore,
+                                                                       IdempotencyProperties properties,
+                                                                       ObjectMapper objectMapper,
+                                                                       MeterRegistry meterRegistry) {
+        FilterRegistrationBean<IdempotencyFilter> registration = new FilterRegistrationBean<>(
+            new IdempotencyFilter(idempotencyStore, properties, objectMapper, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,244 @@
+package com.gt.global.common.idempotency;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.global.common.entity.ApiResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 헤더가 있는 POST 요청을 한 번만 처리한다.
+ *
+ * - 첫 요청: 키를 잠그고(SET NX + TTL) 처리한 뒤 응답을 저장한다. (5xx / 예외는 저장하지 않고 잠금을 풀어 재시도 허용)
+ * - 이후 같은 키: 저장된 응답을 그대로 돌려준다. (Idempotent-Replayed: true)
+ * - 처리 중에 들어온 같은 키: 다시 처리하지 않고 첫 요청의 결과를 기다린다. (최대 wait-timeout, 넘으면 409)
+ * - 같은 키로 내용이 다른 요청: 422
+ * 키는 사용자 / 경로별로 구분되므로 인증 이후(Spring Security 필터 체인 다음)에 실행된다.
+ * 인증되지 않은 요청과 인증 경로(로그인 / 토큰 재발급 / 로그아웃)는 저장하지 않는다.
+ * (응답에 토큰이 담기고 요청자를 키로 구분할 수 없어, 같은 키를 보낸 다른 사람에게 재전송될 수 있다.)
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String AUTH_PATH_PREFIX = "/api/v1/auth/";
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter waitedReplayed;
+    private final Counter inProgress;
+    private final Counter mismatched;
+    private final Counter failed;
+    private final Counter bypassed;
+    private final Timer waitTime;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.executed = resultCounter(meterRegistry, "executed");
+        this.replayed = resultCounter(meterRegistry, "replayed");
+        this.waitedReplayed = resultCounter(meterRegistry, "waited");
+        this.inProgress = resultCounter(meterRegistry, "in_progress");
+        this.mismatched = resultCounter(meterRegistry, "mismatch");
+        this.failed = resultCounter(meterRegistry, "failed");
+        this.bypassed = resultCounter(meterRegistry, "anonymous");
+        this.waitTime = Timer.builder("idempotency.wait")
+            .description("Time duplicate requests waited for the first request's result")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null
+            || request.getRequestURI().startsWith(AUTH_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String scope = scope();
+        if (scope == null) {
+            bypassed.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        byte[] body = readBody(request);
+        if (body == null) {
+            reject(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large for an idempotent request");
+            return;
+        }
+        String fingerprint = fingerprint(request, body);
+        String key = KEY_PREFIX + scope + ":" + request.getRequestURI() + ":" + idempotencyKey;
+
+        long start = System.nanoTime();
+        long deadline = start + properties.getWaitTimeout().toNanos();
+        boolean waited = false;
+        while (true) {
+            IdempotencyRecord existing = store.get(key);
+            if (existing == null) {
+                IdempotencyRecord lock = IdempotencyRecord.lock(UUID.randomUUID().toString(), fingerprint);
+                if (store.tryLock(key, lock, properties.getLockTtl())) {
+                    execute(new CachedBodyRequest(request, body), response, filterChain, key, lock);
+                    return;
+                }
+                // 같은 순간 다른 요청이 잠금을 얻었다.
+                continue;
+            }
+            if (!existing.fingerprint().equals(fingerprint)) {
+                mismatched.increment();
+                reject(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used for a different request");
+                return;
+            }
+            if (existing.completed()) {
+                (waited ? waitedReplayed : replayed).increment();
+                if (waited) {
+                    waitTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+                replay(response, existing);
+                return;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                inProgress.increment();
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                reject(response, HttpStatus.CONFLICT, "A request with this Idempotency-Key is still in progress");
+                return;
+            }
+            waited = true;
+            try {
+                Thread.sleep(properties.getPollInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted while waiting for idempotent request", e);
+            }
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                         String key, IdempotencyRecord lock) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            failed.increment();
+            store.release(key, lock.token());
+            throw e;
+        }
+
+        int status = wrapper.getStatus();
+        if (status >= 500 || request.isAsyncStarted()) {
+            failed.increment();
+            store.release(key, lock.token());
+        } else {
+            executed.increment();
+            if (!store.complete(key, lock.complete(status, wrapper.getContentType(), wrapper.getContentAsByteArray()),
+                    properties.getResponseTtl())) {
+                log.warn("Idempotency 잠금이 처리 중 만료됨 (lock-ttl 확인 필요): {}", key);
+            }
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletResponse response, IdempotencyRecord record) throws IOException {
+        response.setStatus(record.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        byte[] body = record.body() == null ? new byte[0] : record.body();
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * @return 본문, 최대 크기를 넘으면 null
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        long maxBytes = properties.getMaxBodySize().toBytes();
+        if (request.getContentLengthLong() > maxBytes) {
+            return null;
+        }
+        byte[] body = request.getInputStream().readNBytes((int) maxBytes + 1);
+        return body.length > maxBytes ? null : body;
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) 0);
+            digest.update(body);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return 인증된 사용자, 인증되지 않은 요청이면 null
+     */
+    private static String scope() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(), new ApiResponse<>(false, message, null));
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+            .description("Idempotent POST requests by outcome (replayed / waited = duplicate work avoided)")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
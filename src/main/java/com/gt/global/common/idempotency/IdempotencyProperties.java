@@ -0,0 +1,38 @@
+package com.gt.global.common.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Idempotency-Key 설정 (POST 요청)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    /** 저장소: redis | memory (memory는 단일 노드/테스트용) */
+    private String store = "redis";
+
+    /** 첫 요청이 처리 중임을 표시하는 잠금 유지 시간 (처리 시간보다 길어야 한다) */
+    private Duration lockTtl = Duration.ofSeconds(30);
+
+    /** 응답 보관 시간 (이 시간 안의 재시도는 저장된 응답을 받는다) */
+    private Duration responseTtl = Duration.ofHours(24);
+
+    /** 동시에 들어온 중복 요청이 첫 요청의 결과를 기다리는 최대 시간 */
+    private Duration waitTimeout = Duration.ofSeconds(10);
+
+    /** 결과 확인 주기 */
+    private Duration pollInterval = Duration.ofMillis(50);
+
+    /** 요청 본문 최대 크기 (지문 계산을 위해 메모리에 읽는다) */
+    private DataSize maxBodySize = DataSize.ofMegabytes(1);
+}
@@ -0,0 +1,24 @@
+package com.gt.global.common.idempotency;
+
+/**
+ * 키별 저장 값: 처리 중이면 잠금, 끝났으면 응답
+ * @param token       잠금 소유자 (잠금이 만료된 뒤 다른 요청이 잡은 키를 덮어쓰거나 지우지 않기 위해 사용)
+ * @param fingerprint 요청 지문 (같은 키로 다른 요청이 오면 거절)
+ */
+public record IdempotencyRecord(
+    String token,
+    String fingerprint,
+    boolean completed,
+    int status,
+    String contentType,
+    byte[] body
+) {
+
+    public static IdempotencyRecord lock(String token, String fingerprint) {
+        return new IdempotencyRecord(token, fingerprint, false, 0, null, null);
+    }
+
+    public IdempotencyRecord complete(int status, String contentType, byte[] body) {
+        return new IdempotencyRecord(token, fingerprint, true, status, contentType, body);
+    }
+}
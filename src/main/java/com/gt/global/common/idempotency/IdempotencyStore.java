@@ -0,0 +1,31 @@
+package com.gt.global.common.idempotency;
+
+import java.time.Duration;
+
+/**
+ * 노드들이 공유하는 Idempotency-Key 저장소
+ */
+public interface IdempotencyStore {
+
+    /**
+     * @return 저장 값, 없으면 null
+     */
+    IdempotencyRecord get(String key);
+
+    /**
+     * 키가 없을 때만 잠금을 기록한다. (SET NX)
+     * @return 잠금을 얻었으면 true
+     */
+    boolean tryLock(String key, IdempotencyRecord lock, Duration ttl);
+
+    /**
+     * 잠금 소유자가 같을 때만 응답으로 바꾼다.
+     * @return 잠금이 만료되어 다른 요청이 가져갔으면 false
+     */
+    boolean complete(String key, IdempotencyRecord response, Duration ttl);
+
+    /**
+     * 잠금 소유자가 같을 때만 잠금을 푼다. (응답을 저장하지 않는 실패 시 재시도 허용)
+     */
+    void release(String key, String token);
+}
@@ -0,0 +1,64 @@
+package com.gt.global.common.idempotency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 노드 메모리 저장소 (단일 노드 / 테스트용)
+ * 만료된 값은 조회 시점과, 잠금 요청 1,024번마다 한 번씩 전체를 훑어 지운다.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private static final int PURGE_EVERY = 1024;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger locks = new AtomicInteger();
+
+    @Override
+    public IdempotencyRecord get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.record();
+    }
+
+    @Override
+    public boolean tryLock(String key, IdempotencyRecord lock, Duration ttl) {
+        if (locks.incrementAndGet() % PURGE_EVERY == 0) {
+            entries.values().removeIf(Entry::isExpired);
+        }
+        Entry created = new Entry(lock, expiresAt(ttl));
+        Entry result = entries.compute(key, (k, existing) -> existing == null || existing.isExpired() ? created : existing);
+        return result == created;
+    }
+
+    @Override
+    public boolean complete(String key, IdempotencyRecord response, Duration ttl) {
+        Entry completed = new Entry(response, expiresAt(ttl));
+        Entry result = entries.computeIfPresent(key,
+            (k, existing) -> existing.record().token().equals(response.token()) ? completed : existing);
+        return result == completed;
+    }
+
+    @Override
+    public void release(String key, String token) {
+        entries.computeIfPresent(key, (k, existing) -> existing.record().token().equals(token) ? null : existing);
+    }
+
+    private static long expiresAt(Duration ttl) {
+        return System.nanoTime() + ttl.toNanos();
+    }
+
+    private record Entry(IdempotencyRecord record, long expiresAt) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.gt.global.common.idempotency;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Redis 저장소
+ * 값은 "잠금 토큰:JSON" 형식이며, 응답 저장 / 잠금 해제는 Lua 스크립트로 토큰을 비교한 뒤 실행한다.
+ */
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        if current and string.sub(current, 1, string.len(ARGV[1]) + 1) == ARGV[1] .. ':' then
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        if current and string.sub(current, 1, string.len(ARGV[1]) + 1) == ARGV[1] .. ':' then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public IdempotencyRecord get(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value.substring(value.indexOf(':') + 1), IdempotencyRecord.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("Idempotency 값 변환 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public boolean tryLock(String key, IdempotencyRecord lock, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, serialize(lock), ttl));
+    }
+
+    @Override
+    public boolean complete(String key, IdempotencyRecord response, Duration ttl) {
+        Long result = redisTemplate.execute(COMPLETE_SCRIPT, List.of(key), response.token(), serialize(response),
+            Long.toString(ttl.toMillis()));
+        return result != null && result == 1;
+    }
+
+    @Override
+    public void release(String key, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+    }
+
+    private String serialize(IdempotencyRecord record) {
+        try {
+            return record.token() + ":" + objectMapper.writeValueAsString(record);
+        } catch (IOException e) {
+            throw new IllegalStateException("Idempotency 값 변환 실패", e);
+        }
+    }
+}
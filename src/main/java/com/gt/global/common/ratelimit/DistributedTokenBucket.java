@@ -0,0 +1,152 @@
+package com.gt.global.common.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 하나의 limit(경로 + 키 종류)에 대한 분산 토큰 버킷
+ *
+ * 요청 경로는 로컬 메모리만 사용한다. 각 노드는 전역 버킷에서 미리 가져온(lease) 토큰을 소비하고,
+ * 동기화 주기마다 키별 수요를 모아 전역 저장소에서 다음 lease를 받아온다.
+ * 처음 본 키는 initialCredit 만큼 먼저 허용하고, lease가 바닥났지만 직전 동기화에서 전역 버킷에 여유가 있었다면
+ * leaseSize 만큼 더 빌려 허용한다. 이렇게 먼저 허용한 사용량은 다음 동기화 때 전역 버킷에서 강제로 차감한다.
+ * 따라서 전체 노드의 허용량은 전역 limit + 노드 수 x (initialCredit + leaseSize)를 넘지 않는다.
+ */
+public class DistributedTokenBucket {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    private final String name;
+    private final RateLimitProperties.Limit limit;
+    private final double refillPerSecond;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Map<String, LocalBucket> buckets = new ConcurrentHashMap<>();
+
+    public DistributedTokenBucket(String name, RateLimitProperties.Limit limit, int maxKeys) {
+        this(name, limit, maxKeys, System::nanoTime);
+    }
+
+    DistributedTokenBucket(String name, RateLimitProperties.Limit limit, int maxKeys, LongSupplier nanoClock) {
+        this.name = name;
+        this.limit = limit;
+        this.refillPerSecond = limit.refillPerSecond();
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    /**
+     * 토큰 하나를 소비한다.
+     * @return 허용되면 0, 거절되면 재시도까지 기다려야 하는 시간(ms)
+     */
+    public long tryConsume(String key) {
+        LocalBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            // 키가 폭증하는 상황에서는 새 키에 선허용을 주지 않고 다음 동기화의 lease를 기다리게 한다.
+            long credit = buckets.size() < maxKeys ? limit.getInitialCredit() : 0;
+            bucket = buckets.computeIfAbsent(key, k -> new LocalBucket(credit));
+        }
+        return bucket.tryConsume(nanoClock.getAsLong(), limit.getLeaseSize());
+    }
+
+    /**
+     * 동기화 대상 수요를 모은다. 오래 사용되지 않은 키는 이때 정리된다.
+     */
+    List<RateLimitStore.Demand> drainDemands(long idleTimeoutMillis) {
+        long now = nanoClock.getAsLong();
+        long idleNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+        List<RateLimitStore.Demand> demands = new ArrayList<>();
+
+        buckets.forEach((key, bucket) -> {
+            long debt;
+            long want;
+            synchronized (bucket) {
+                if (bucket.debt == 0 && now - bucket.lastSeen > idleNanos) {
+                    buckets.remove(key, bucket);
+                    return;
+                }
+                debt = bucket.debt;
+                bucket.debt = 0;
+                // 직전 주기의 요청 수만큼 다음 주기를 위해 미리 가져온다.
+                want = bucket.demand > 0 ? Math.max(0, Math.min(limit.getLeaseSize(), bucket.demand) - bucket.tokens) : 0;
+                bucket.demand = 0;
+            }
+            if (debt > 0 || want > 0) {
+                demands.add(new RateLimitStore.Demand(KEY_PREFIX + name + ":" + key, debt, want,
+                    limit.getCapacity(), refillPerSecond));
+            }
+        });
+        return demands;
+    }
+
+    /**
+     * 전역 저장소의 할당 결과 중 이 limit의 키만 반영한다.
+     */
+    void applyGrants(Map<String, RateLimitStore.Grant> grants) {
+        String prefix = KEY_PREFIX + name + ":";
+        grants.forEach((storeKey, grant) -> {
+            if (!storeKey.startsWith(prefix)) {
+                return;
+            }
+            LocalBucket bucket = buckets.get(storeKey.substring(prefix.length()));
+            if (bucket != null) {
+                synchronized (bucket) {
+                    bucket.tokens += grant.granted();
+                    bucket.retryAfterMillis = grant.retryAfterMillis();
+                }
+            }
+        });
+    }
+
+    private static final class LocalBucket {
+
+        /** 전역 버킷에서 받아 둔 토큰 */
+        private long tokens;
+        /** 아직 남은 선허용 횟수 */
+        private long credit;
+        /** 선허용으로 소비했지만 전역 버킷에 반영되지 않은 토큰 */
+        private long debt;
+        /** 마지막 동기화 이후 들어온 요청 수 */
+        private long demand;
+        /** 직전 동기화에서 전역 버킷에 남은 토큰이 없을 때 다음 토큰까지의 시간, 여유가 있으면 0 */
+        private long retryAfterMillis;
+        private long lastSeen;
+
+        private LocalBucket(long credit) {
+            this.credit = credit;
+            // 첫 동기화 전에는 전역 버킷 상태를 모르므로 빌려 주지 않는다.
+            this.retryAfterMillis = 1000;
+        }
+
+        private synchronized long tryConsume(long now, long borrowLimit) {
+            lastSeen = now;
+            demand++;
+            if (tokens > 0) {
+                tokens--;
+                return 0;
+            }
+            if (credit > 0) {
+                credit--;
+                debt++;
+                return 0;
+            }
+            if (retryAfterMillis == 0 && debt < borrowLimit) {
+                debt++;
+                return 0;
+            }
+            return Math.max(1, retryAfterMillis);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.gt.global.common.ratelimit;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로세스 메모리에 전역 버킷을 두는 저장소
+ * 단일 노드 실행, 테스트, 그리고 Redis 장애 시 노드 단위 fallback으로 사용한다.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public InMemoryRateLimitStore() {
+        this(System::nanoTime);
+    }
+
+    InMemoryRateLimitStore(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public Map<String, Grant> acquire(List<Demand> demands) {
+        long now = nanoClock.getAsLong();
+        Map<String, Grant> grants = new HashMap<>(demands.size() * 2);
+        for (Demand demand : demands) {
+            Bucket bucket = buckets.computeIfAbsent(demand.key(), k -> new Bucket(demand.capacity(), now));
+            synchronized (bucket) {
+                grants.put(demand.key(), bucket.take(demand, now));
+            }
+        }
+        return grants;
+    }
+
+    /**
+     * idleNanos 동안 갱신되지 않은 버킷을 제거한다.
+     */
+    public void evictIdle(long idleNanos) {
+        long now = nanoClock.getAsLong();
+        buckets.entrySet().removeIf(entry -> now - entry.getValue().updatedAt > idleNanos);
+    }
+
+    private static final class Bucket {
+
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(long capacity, long now) {
+            this.tokens = capacity;
+            this.updatedAt = now;
+        }
+
+        private Grant take(Demand demand, long now) {
+            double elapsedSeconds = (now - updatedAt) / 1_000_000_000.0;
+            tokens = Math.min(demand.capacity(), tokens + elapsedSeconds * demand.refillPerSecond());
+            updatedAt = now;
+
+            tokens -= demand.debt();
+            long granted = Math.max(0, Math.min(demand.want(), (long) Math.floor(tokens)));
+            tokens -= granted;
+
+            long retryAfterMillis = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / demand.refillPerSecond() * 1000);
+            return new Grant(granted, retryAfterMillis);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.gt.global.common.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimitStore rateLimitStore(RateLimitProperties properties, StringRedisTemplate stringRedisTemplate) {
+        if ("memory".equalsIgnoreCase(properties.getStore())) {
+            return new InMemoryRateLimitStore();
+        }
+        return new RedisRateLimitStore(stringRedisTemplate);
+    }
+
+    /**
+     * 비활성화되어도 빈은 등록된다. (서비스 계층의 계정 기준 확인은 항상 허용)
+     */
+    @Bean
+    public RateLimiter rateLimiter(RateLimitProperties properties, RateLimitStore rateLimitStore,
+                                   MeterRegistry meterRegistry) {
+        return new RateLimiter(properties, rateLimitStore, meterRegistry);
+    }
+
+    /**
+     * 요청 로깅 필터 다음, admission control 필터보다 먼저 실행되도록 등록한다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(RateLimitProperties properties,
+                                                                   RateLimiter rateLimiter,
+                                                                   ObjectMapper objectMapper) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(
+            new RateLimitFilter(rateLimiter, properties.isTrustForwardedFor(), objectMapper));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
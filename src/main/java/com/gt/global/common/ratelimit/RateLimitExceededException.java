@@ -0,0 +1,17 @@
+package com.gt.global.common.ratelimit;
+
+import lombok.Getter;
+
+/**
+ * rate limit 초과 시 발생, 429 + Retry-After로 응답된다.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String limitName, long retryAfterSeconds) {
+        super("Rate limit exceeded: " + limitName);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,23 @@
+package com.gt.global.common.ratelimit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import com.gt.global.common.entity.ApiResponse;
+
+@RestControllerAdvice
+public class RateLimitExceptionHandler {
+
+    /**
+     * 서비스 계층(계정 기준 limit)에서 거절된 요청을 429로 응답한다.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRateLimitExceeded(RateLimitExceededException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+            .body(new ApiResponse<>(false, "Too many requests, please retry later", null));
+    }
+}
@@ -0,0 +1,77 @@
+package com.gt.global.common.ratelimit;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.global.common.entity.ApiResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 경로에 IP 기준 rate limit을 적용한다.
+ * BCrypt, Google 토큰 검증, Redis 조회 같은 비싼 처리 전에 거절하도록 admission control보다 먼저 실행된다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimiter rateLimiter;
+    private final boolean trustForwardedFor;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(RateLimiter rateLimiter, boolean trustForwardedFor, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.trustForwardedFor = trustForwardedFor;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return rateLimiter.routeOf(request.getMethod(), request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String route = rateLimiter.routeOf(request.getMethod(), request.getRequestURI());
+        String clientIp = clientIp(request);
+        long retryAfterSeconds = rateLimiter.tryAcquire(route, RateLimiter.KeyType.IP, clientIp);
+        if (retryAfterSeconds > 0) {
+            log.warn("[{}] IP 기준 요청 한도 초과: {}", route, clientIp);
+            reject(response, retryAfterSeconds);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader(FORWARDED_FOR);
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getWriter(),
+            new ApiResponse<>(false, "Too many requests, please retry later", null));
+    }
+}
@@ -0,0 +1,68 @@
+package com.gt.global.common.ratelimit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 경로별 토큰 버킷 rate limit 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** 전역 버킷 저장소: redis | memory (memory는 단일 노드/테스트용) */
+    private String store = "redis";
+
+    /** 로컬 사용량을 전역 저장소와 동기화하는 주기(ms) */
+    private long syncIntervalMs = 100;
+
+    /** 이 시간 동안 요청이 없는 키는 로컬에서 제거(ms) */
+    private long idleTimeoutMs = 60_000;
+
+    /** 노드당 limit별로 추적하는 최대 키 수 */
+    private int maxKeys = 100_000;
+
+    /** X-Forwarded-For 첫 번째 값을 클라이언트 IP로 사용 (신뢰할 수 있는 프록시 뒤에서만) */
+    private boolean trustForwardedFor = false;
+
+    /** key: 경로 이름 */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String method = "POST";
+        private String path;
+        /** IP 기준 limit, 없으면 IP 제한 없음 */
+        private Limit ip;
+        /** 계정 기준 limit, 없으면 계정 제한 없음 */
+        private Limit account;
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        /** 버킷 최대 토큰 수(허용 burst) */
+        private long capacity = 10;
+        /** refillPeriod마다 채워지는 토큰 수 */
+        private long refillTokens = 10;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+        /** 동기화 한 번에 노드가 미리 가져올 수 있는 최대 토큰 수 */
+        private long leaseSize = 5;
+        /** 처음 본 키에 대해 동기화 전에 허용하는 요청 수 (이후 전역 버킷에서 차감) */
+        private long initialCredit = 2;
+
+        public double refillPerSecond() {
+            return refillTokens / (refillPeriod.toMillis() / 1000.0);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.gt.global.common.ratelimit;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 노드들이 공유하는 전역 토큰 버킷 저장소
+ * 요청마다 호출되지 않고, 동기화 주기마다 모든 키의 수요를 한 번에 전달한다.
+ */
+public interface RateLimitStore {
+
+    /**
+     * 전역 버킷에서 토큰을 가져온다.
+     * @param demands 키별 강제 차감량(debt)과 요청량(want)
+     * @return 키별 할당 결과
+     */
+    Map<String, Grant> acquire(List<Demand> demands);
+
+    /**
+     * @param debt 동기화 전에 이미 허용한 요청 수, 버킷이 음수가 되더라도 차감한다.
+     * @param want 가져오고 싶은 토큰 수, 남은 만큼만 할당된다.
+     */
+    record Demand(String key, long debt, long want, long capacity, double refillPerSecond) {
+    }
+
+    /**
+     * @param granted 할당된 토큰 수
+     * @param retryAfterMillis 다음 토큰이 채워질 때까지 남은 시간
+     */
+    record Grant(long granted, long retryAfterMillis) {
+    }
+}
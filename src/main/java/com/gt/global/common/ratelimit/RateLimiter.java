@@ -0,0 +1,147 @@
+package com.gt.global.common.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.gt.global.common.resilience.CircuitBreaker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 경로별 IP / 계정 기준 분산 rate limiter
+ * 요청 처리 중에는 로컬 버킷만 확인하고, 전역 저장소(Redis)와는 syncIntervalMs 주기로 한 번에 동기화한다.
+ * 저장소 장애 시에는 노드 로컬 버킷으로 동작한다(노드마다 limit 전체를 허용).
+ */
+@Slf4j
+public class RateLimiter {
+
+    public enum KeyType { IP, ACCOUNT }
+
+    private final boolean enabled;
+    private final long idleTimeoutMs;
+    private final RateLimitStore store;
+    private final InMemoryRateLimitStore fallbackStore = new InMemoryRateLimitStore();
+    private final CircuitBreaker circuitBreaker;
+
+    /** key: "경로:IP" / "경로:ACCOUNT" */
+    private final Map<String, Limiter> limiters = new HashMap<>();
+    /** key: "METHOD path", value: 경로 이름 */
+    private final Map<String, String> routesByRequest = new HashMap<>();
+
+    private final Timer syncTimer;
+    private final Counter syncFallbackCounter;
+
+    public RateLimiter(RateLimitProperties properties, RateLimitStore store, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.idleTimeoutMs = properties.getIdleTimeoutMs();
+        this.store = store;
+        this.circuitBreaker = new CircuitBreaker("rate-limit-store", 3, Duration.ofSeconds(5));
+
+        properties.getRoutes().forEach((route, config) -> {
+            routesByRequest.put(config.getMethod() + " " + config.getPath(), route);
+            register(route, KeyType.IP, config.getIp(), properties.getMaxKeys(), meterRegistry);
+            register(route, KeyType.ACCOUNT, config.getAccount(), properties.getMaxKeys(), meterRegistry);
+        });
+
+        this.syncTimer = Timer.builder("ratelimit.sync")
+            .description("Time spent syncing local buckets with the shared store")
+            .register(meterRegistry);
+        this.syncFallbackCounter = Counter.builder("ratelimit.sync.fallback")
+            .description("Syncs served by the node-local fallback store")
+            .register(meterRegistry);
+    }
+
+    private void register(String route, KeyType type, RateLimitProperties.Limit limit, int maxKeys,
+                          MeterRegistry meterRegistry) {
+        if (limit == null) {
+            return;
+        }
+        String name = route + ":" + type.name().toLowerCase();
+        DistributedTokenBucket bucket = new DistributedTokenBucket(name, limit, maxKeys);
+        Counter rejected = Counter.builder("ratelimit.rejected")
+            .tag("limit", name)
+            .register(meterRegistry);
+        Gauge.builder("ratelimit.keys", bucket, DistributedTokenBucket::trackedKeys)
+            .tag("limit", name)
+            .register(meterRegistry);
+        limiters.put(route + ":" + type.name(), new Limiter(bucket, rejected));
+    }
+
+    /**
+     * 요청 메서드와 URI에 해당하는 경로 이름, 제한 대상이 아니면 null
+     */
+    public String routeOf(String method, String requestUri) {
+        return enabled ? routesByRequest.get(method + " " + requestUri) : null;
+    }
+
+    /**
+     * 토큰 하나를 소비한다.
+     * @return 허용되면 0, 거절되면 Retry-After로 보낼 초
+     */
+    public long tryAcquire(String route, KeyType type, String key) {
+        if (!enabled || key == null) {
+            return 0;
+        }
+        Limiter limiter = limiters.get(route + ":" + type.name());
+        if (limiter == null) {
+            return 0;
+        }
+        long retryAfterMillis = limiter.bucket.tryConsume(key);
+        if (retryAfterMillis == 0) {
+            return 0;
+        }
+        limiter.rejected.increment();
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999));
+    }
+
+    /**
+     * 계정 기준 limit을 확인하고 초과하면 RateLimitExceededException을 던진다.
+     */
+    public void checkAccount(String route, String account) {
+        long retryAfterSeconds = tryAcquire(route, KeyType.ACCOUNT, account);
+        if (retryAfterSeconds > 0) {
+            log.warn("[{}] 계정 기준 요청 한도 초과: {}", route, account);
+            throw new RateLimitExceededException(route + ":account", retryAfterSeconds);
+        }
+    }
+
+    /**
+     * 모든 limit의 수요를 모아 전역 저장소와 한 번의 왕복으로 동기화한다.
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.sync-interval-ms:100}")
+    public void sync() {
+        if (!enabled || limiters.isEmpty()) {
+            return;
+        }
+        List<RateLimitStore.Demand> demands = new ArrayList<>();
+        limiters.values().forEach(limiter -> demands.addAll(limiter.bucket.drainDemands(idleTimeoutMs)));
+        if (demands.isEmpty()) {
+            return;
+        }
+
+        Map<String, RateLimitStore.Grant> grants = syncTimer.record(() -> circuitBreaker.execute(
+            () -> store.acquire(demands),
+            cause -> {
+                syncFallbackCounter.increment();
+                if (!(cause instanceof CircuitBreaker.OpenCircuitException)) {
+                    log.warn("rate limit 저장소 동기화 실패, 로컬 버킷으로 처리합니다: {}", cause.getMessage());
+                }
+                return fallbackStore.acquire(demands);
+            }));
+        limiters.values().forEach(limiter -> limiter.bucket.applyGrants(grants));
+        fallbackStore.evictIdle(TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs));
+    }
+
+    private record Limiter(DistributedTokenBucket bucket, Counter rejected) {
+    }
+}
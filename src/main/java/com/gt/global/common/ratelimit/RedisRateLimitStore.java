@@ -0,0 +1,72 @@
+package com.gt.global.common.ratelimit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Redis에 전역 토큰 버킷을 두는 저장소
+ * 동기화 한 번에 모든 키의 Lua 스크립트를 하나의 파이프라인으로 실행하므로 노드당 왕복은 주기마다 한 번이다.
+ * 시간은 노드 간 시계 차이를 피하기 위해 Redis TIME을 사용한다.
+ */
+public class RedisRateLimitStore implements RateLimitStore {
+
+    private static final byte[] TOKEN_BUCKET_SCRIPT = """
+        local capacity = tonumber(ARGV[1])
+        local rate = tonumber(ARGV[2])
+        local debt = tonumber(ARGV[3])
+        local want = tonumber(ARGV[4])
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local state = redis.call('HMGET', KEYS[1], 't', 'ts')
+        local tokens = tonumber(state[1]) or capacity
+        local updated = tonumber(state[2]) or now
+        tokens = math.min(capacity, tokens + math.max(0, now - updated) * rate / 1000)
+        tokens = tokens - debt
+        local granted = math.max(0, math.min(want, math.floor(tokens)))
+        tokens = tokens - granted
+        redis.call('HSET', KEYS[1], 't', tostring(tokens), 'ts', now)
+        redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - math.min(tokens, 0)) / rate * 1000) + 1000)
+        local retry = 0
+        if tokens < 1 then retry = math.ceil((1 - tokens) / rate * 1000) end
+        return {granted, retry}
+        """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRateLimitStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Map<String, Grant> acquire(List<Demand> demands) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Demand demand : demands) {
+                connection.scriptingCommands().eval(TOKEN_BUCKET_SCRIPT, ReturnType.MULTI, 1,
+                    bytes(demand.key()),
+                    bytes(Long.toString(demand.capacity())),
+                    bytes(Double.toString(demand.refillPerSecond())),
+                    bytes(Long.toString(demand.debt())),
+                    bytes(Long.toString(demand.want())));
+            }
+            return null;
+        });
+
+        Map<String, Grant> grants = new HashMap<>(demands.size() * 2);
+        for (int i = 0; i < demands.size(); i++) {
+            List<?> result = (List<?>) results.get(i);
+            grants.put(demands.get(i).key(),
+                new Grant(((Number) result.get(0)).longValue(), ((Number) result.get(1)).longValue()));
+        }
+        return grants;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+package com.gt.global.common.resilience;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 의존성(Redis 등) 호출을 감싸는 경량 서킷 브레이커
+ * - CLOSED: 정상 호출, 연속 실패가 임계치에 도달하면 OPEN
+ * - OPEN: 호출하지 않고 즉시 fallback, openDuration 경과 후 HALF_OPEN
+ * - HALF_OPEN: 단 하나의 probe 호출만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    @Getter
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 브레이커를 통해 호출을 실행한다.
+     * 호출이 허용되지 않거나 실패하면 fallback 결과를 반환한다.
+     * @param call 보호할 호출
+     * @param fallback 실패 원인을 받아 대체 결과를 만드는 함수
+     * @return 호출 결과 또는 fallback 결과
+     */
+    public <T> T execute(Supplier<T> call, Function<Throwable, T> fallback) {
+        if (!tryAcquirePermission()) {
+            return fallback.apply(OpenCircuitException.INSTANCE);
+        }
+        try {
+            T result = call.get();
+            onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            onFailure(e);
+            return fallback.apply(e);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    boolean tryAcquirePermission() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && nanoClock.getAsLong() - openedAt >= openDurationNanos) {
+            // OPEN 유지 시간이 지나면 한 스레드만 probe 호출을 수행한다.
+            return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return false;
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            log.info("[{}] circuit closed", name);
+        }
+    }
+
+    void onFailure(Throwable cause) {
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(cause);
+        }
+    }
+
+    private void open(Throwable cause) {
+        openedAt = nanoClock.getAsLong();
+        consecutiveFailures.set(0);
+        if (state.getAndSet(State.OPEN) != State.OPEN) {
+            log.warn("[{}] circuit opened: {}", name, cause.getMessage());
+        }
+    }
+
+    /**
+     * 브레이커가 열려 있어 호출 자체가 생략되었음을 나타내는 예외
+     */
+    public static final class OpenCircuitException extends RuntimeException {
+
+        static final OpenCircuitException INSTANCE = new OpenCircuitException();
+
+        private OpenCircuitException() {
+            super("circuit is open", null, false, false);
+        }
+    }
+}
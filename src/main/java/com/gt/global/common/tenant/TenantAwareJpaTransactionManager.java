@@ -0,0 +1,37 @@
+package com.gt.global.common.tenant;
+
+import org.hibernate.Session;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 트랜잭션 시작 시 현재 지점으로 Hibernate 지점 필터를 켠다.
+ * Repository 메서드는 모두 트랜잭션 안에서 실행되므로 JPQL / Criteria / 파생 쿼리에 지점 조건이 붙는다.
+ * OSIV로 요청 동안 같은 EntityManager를 여러 트랜잭션이 쓰므로 지점이 없으면 필터를 끈다.
+ */
+public class TenantAwareJpaTransactionManager extends JpaTransactionManager {
+
+    public TenantAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (holder == null) {
+            return;
+        }
+        Session session = holder.getEntityManager().unwrap(Session.class);
+        Integer branchId = TenantContext.current();
+        if (branchId == null) {
+            session.disableFilter(TenantFilters.BRANCH_FILTER);
+        } else {
+            session.enableFilter(TenantFilters.BRANCH_FILTER).setParameter(TenantFilters.BRANCH_PARAM, branchId);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.gt.global.common.tenant;
+
+/**
+ * 현재 요청의 지점(branch) ID
+ * JwtAuthenticationFilter가 액세스 토큰의 지점 claim으로 설정하고, 요청이 끝나면 지운다.
+ * 값이 없으면(기동 작업, 배치, 인증 전 요청) 지점 조건 없이 조회한다.
+ */
+public final class TenantContext {
+
+    /** 지점 도입 전 데이터와 지점 claim이 없는 토큰의 지점 */
+    public static final int DEFAULT_BRANCH_ID = 1;
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * @return 현재 지점 ID, 지점이 정해지지 않았으면 null
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static int currentOrDefault() {
+        Integer branchId = CURRENT.get();
+        return branchId == null ? DEFAULT_BRANCH_ID : branchId;
+    }
+
+    public static void set(int branchId) {
+        CURRENT.set(branchId);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * ID로 직접 읽은 엔티티(em.find / 2차 캐시)는 Hibernate 필터가 적용되지 않으므로 이 메서드로 확인한다.
+     */
+    public static boolean canSee(Integer branchId) {
+        Integer current = CURRENT.get();
+        return current == null || current.equals(branchId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.gt.global.common.tenant;
+
+/**
+ * 인증 정보(Authentication.getDetails)에 담는 지점 ID
+ */
+public record TenantDetails(int branchId) {
+}
@@ -0,0 +1,14 @@
+package com.gt.global.common.tenant;
+
+/**
+ * 지점 조건 Hibernate 필터 이름 (@FilterDef는 Person에 선언)
+ */
+public final class TenantFilters {
+
+    public static final String BRANCH_FILTER = "branchFilter";
+    public static final String BRANCH_PARAM = "branchId";
+    public static final String BRANCH_CONDITION = "branch_id = :" + BRANCH_PARAM;
+
+    private TenantFilters() {
+    }
+}
@@ -0,0 +1,97 @@
+package com.gt.global.common.tenant;
+
+import java.util.Arrays;
+
+/**
+ * JDBC 조회의 지점 조건
+ *
+ * Hibernate 지점 필터(TenantFilters)는 JPA 조회에만 적용되므로, JdbcTemplate으로 읽는 저장소는
+ * 호출 측이 넘긴 TenantScope로 같은 조건을 붙인다. (조건은 SQL 끝에 두고 지점 ID는 마지막 인자로 바인딩)
+ * TenantContext는 요청 스레드에만 있으므로 StreamingResponseBody / 작업 스레드에서 쓸 범위는
+ * 요청 스레드에서 current()로 잡아 넘긴다.
+ */
+public final class TenantScope {
+
+    private static final TenantScope ALL = new TenantScope(null);
+
+    private final Integer branchId;
+
+    private TenantScope(Integer branchId) {
+        this.branchId = branchId;
+    }
+
+    /**
+     * 현재 요청의 지점, 지점이 정해지지 않았으면(기동 작업, 배치) 전체
+     */
+    public static TenantScope current() {
+        Integer branchId = TenantContext.current();
+        return branchId == null ? ALL : new TenantScope(branchId);
+    }
+
+    /**
+     * 지점 조건 없음 (기동 작업, 배치, 관리 작업)
+     */
+    public static TenantScope all() {
+        return ALL;
+    }
+
+    public static TenantScope of(int branchId) {
+        return new TenantScope(branchId);
+    }
+
+    /**
+     * @return 지점 ID, 전체면 null
+     */
+    public Integer branchId() {
+        return branchId;
+    }
+
+    public boolean isAll() {
+        return branchId == null;
+    }
+
+    /**
+     * 전체 범위일 때만 요청한 지점으로 좁힌다. (지점이 정해진 요청은 다른 지점을 요청해도 자기 지점)
+     */
+    public TenantScope narrow(Integer requested) {
+        return isAll() && requested != null ? of(requested) : this;
+    }
+
+    /**
+     * 다른 조건 뒤에 붙이는 지점 조건: " AND column = ?" (전체면 빈 문자열)
+     */
+    public String branchClause(String column) {
+        return isAll() ? "" : " AND " + column + " = ?";
+    }
+
+    /**
+     * 다른 조건이 없을 때의 지점 조건: " WHERE column = ?" (전체면 빈 문자열)
+     */
+    public String where(String column) {
+        return isAll() ? "" : " WHERE " + column + " = ?";
+    }
+
+    /**
+     * branchClause / where 자리에 맞춰 인자 끝에 지점 ID를 붙인다.
+     */
+    public Object[] bind(Object... args) {
+        if (isAll()) {
+            return args;
+        }
+        Object[] bound = Arrays.copyOf(args, args.length + 1);
+        bound[args.length] = branchId;
+        return bound;
+    }
+
+    /**
+     * 이미 읽은 행(ID 조회, 캐시)이 범위 안인지
+     */
+    public boolean canSee(Integer rowBranchId) {
+        return isAll() || branchId.equals(rowBranchId);
+    }
+
+    @Override
+    public String toString() {
+        return isAll() ? "all" : String.valueOf(branchId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.gt.global.config;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
+
+/**
+ * JPA Auditing 시각
+ * 컬럼 정밀도(TIMESTAMP(6), 마이크로초)로 잘라 기록한다.
+ * 영속성 컨텍스트 / 2차 캐시에 남은 값과 DB에서 다시 읽은 값이 같아야 lastModifiedDate 기반 ETag가 일치한다.
+ */
+@Configuration
+public class AuditingConfig {
+
+    @Bean
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+}
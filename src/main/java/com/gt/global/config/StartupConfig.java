@@ -0,0 +1,44 @@
+package com.gt.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.security.web.SecurityFilterChain;
+
+import com.gt.auth.infra.security.JwtTokenProvider;
+import com.gt.eligibility.application.rule.ProductCatalog;
+import com.gt.ledger.application.partition.LedgerPartitionManager;
+import com.gt.outbox.application.relay.OutboxRelay;
+import com.gt.portfolio.application.service.serviceImpl.PortfolioServiceImpl;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 기동 시간 설정
+ *
+ * spring.main.lazy-initialization=true 이면 빈을 처음 사용할 때 만든다. (PropertyFileLogger 같은 부가 빈 포함)
+ * 다만 첫 요청 경로(커넥션 풀, Hibernate, 보안 필터, JWT, Redis)까지 지연되면 첫 요청이 그만큼 느려지므로
+ * 이 빈들은 지연 초기화에서 제외해 기동 중에 만든다.
+ * outbox relay, 원장 파티션 관리, 상품 규칙 재적용, 포트폴리오 정합성 검사는 요청이 없어도 동작해야 하므로 함께 제외한다.
+ * (@Scheduled 빈은 Spring Boot가 이미 제외한다.)
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter requestPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+            DataSource.class,
+            EntityManagerFactory.class,
+            SecurityFilterChain.class,
+            JwtTokenProvider.class,
+            RedisConnectionFactory.class,
+            OutboxRelay.class,
+            LedgerPartitionManager.class,
+            ProductCatalog.class,
+            PortfolioServiceImpl.class);
+    }
+}
@@ -0,0 +1,27 @@
+package com.gt.global.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.gt.global.common.tenant.TenantAwareJpaTransactionManager;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 지점(branch) 단위 데이터 분리
+ * Spring Boot 기본 JpaTransactionManager 대신 트랜잭션 시작 시 지점 필터를 켜는 트랜잭션 매니저를 등록한다.
+ */
+@Configuration
+public class TenantConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                         ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        TenantAwareJpaTransactionManager transactionManager = new TenantAwareJpaTransactionManager(entityManagerFactory);
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,76 @@
+package com.gt.global.config.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * datasource.routing.enabled=true 일 때 primary/replica 라우팅 데이터소스를 등록한다.
+ * 비활성화 상태에서는 Spring Boot 기본 단일 데이터소스가 그대로 사용된다.
+ * 각 커넥션 풀은 빈이 아니므로 Hikari 메트릭(hikaricp.*)을 직접 MeterRegistry에 연결한다.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                 DataSourceRoutingProperties routingProperties,
+                                                                 MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName("primary");
+        primary.setMetricRegistry(meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (DataSourceRoutingProperties.Replica replica : routingProperties.getReplicas()) {
+            HikariDataSource replicaDataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .driverClassName(replica.getDriverClassName())
+                .build();
+            replicaDataSource.setPoolName(replica.getName());
+            replicaDataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            replicaDataSource.setReadOnly(true);
+            replicaDataSource.setMetricRegistry(meterRegistry);
+            replicas.put(replica.getName(), replicaDataSource);
+        }
+
+        return new ReadWriteRoutingDataSource(primary, replicas, meterRegistry);
+    }
+
+    /**
+     * JPA/JDBC가 사용하는 데이터소스
+     * 실제 연결은 첫 쿼리 시점에 얻으므로 트랜잭션의 readOnly 설정이 라우팅에 반영된다.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReadWriteRoutingDataSource readWriteRoutingDataSource,
+                                                     DataSourceRoutingProperties routingProperties,
+                                                     MeterRegistry meterRegistry) {
+        return new ReplicaHealthChecker(readWriteRoutingDataSource, routingProperties, meterRegistry);
+    }
+}
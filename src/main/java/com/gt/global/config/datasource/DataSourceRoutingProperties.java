@@ -0,0 +1,43 @@
+package com.gt.global.config.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기/쓰기 데이터소스 라우팅 설정
+ * 쓰기 트랜잭션은 spring.datasource(primary)로, readOnly 트랜잭션은 replicas로 라우팅된다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    /** 복제본 상태 확인 주기(ms) */
+    private long healthCheckIntervalMs = 5000;
+
+    /** 허용 가능한 최대 복제 지연(초), 초과하면 해당 복제본은 읽기 대상에서 제외 */
+    private double maxReplicaLagSeconds = 5;
+
+    /** 복제 지연(초)을 반환하는 쿼리, 비어 있으면 연결 확인만 수행 */
+    private String lagQuery;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,115 @@
+package com.gt.global.config.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * readOnly 트랜잭션은 정상 상태의 복제본으로 라운드로빈 라우팅하고, 그 외에는 primary로 보낸다.
+ * 트랜잭션의 readOnly 여부가 확정된 뒤에 연결을 얻어야 하므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final Map<String, Boolean> replicaHealth = new ConcurrentHashMap<>();
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    private final Map<String, Counter> routedCounters = new HashMap<>();
+    private final Counter replicaFallbackCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, MeterRegistry meterRegistry) {
+        this.replicaKeys = List.copyOf(replicas.keySet());
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+
+        // 읽기/쓰기 분배 현황 노출
+        routedCounters.put(PRIMARY, routedCounter(meterRegistry, PRIMARY));
+        for (String key : replicaKeys) {
+            replicaHealth.put(key, true);
+            routedCounters.put(key, routedCounter(meterRegistry, key));
+            Gauge.builder("datasource.replica.healthy", replicaHealth, health -> health.get(key) ? 1 : 0)
+                .tag("target", key)
+                .register(meterRegistry);
+        }
+        this.replicaFallbackCounter = Counter.builder("datasource.routing.replica.fallback")
+            .description("Read-only connections sent to primary because no replica was healthy")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? nextHealthyReplica() : PRIMARY;
+        routedCounters.get(key).increment();
+        return key;
+    }
+
+    public List<String> getReplicaKeys() {
+        return replicaKeys;
+    }
+
+    public DataSource getReplica(String key) {
+        return getResolvedDataSources().get(key);
+    }
+
+    public void markReplicaHealth(String key, boolean healthy) {
+        replicaHealth.put(key, healthy);
+    }
+
+    public boolean isReplicaHealthy(String key) {
+        return replicaHealth.getOrDefault(key, false);
+    }
+
+    /**
+     * 내부에서 생성한 커넥션 풀 종료 (빈 destroy 시 호출)
+     */
+    public void close() {
+        getResolvedDataSources().values().forEach(dataSource -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("데이터소스 종료 실패", e);
+                }
+            }
+        });
+    }
+
+    private String nextHealthyReplica() {
+        int size = replicaKeys.size();
+        for (int i = 0; i < size; i++) {
+            String key = replicaKeys.get(Math.floorMod(cursor.getAndIncrement(), size));
+            if (replicaHealth.get(key)) {
+                return key;
+            }
+        }
+        if (size > 0) {
+            replicaFallbackCounter.increment();
+        }
+        return PRIMARY;
+    }
+
+    private static Counter routedCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing.connections")
+            .description("Connections handed out per routing target")
+            .tag("target", target)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,78 @@
+package com.gt.global.config.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 상태 확인
+ * 연결이 불가능하거나 복제 지연이 maxReplicaLagSeconds를 넘는 복제본은 읽기 라우팅 대상에서 제외한다.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+    private final DataSourceRoutingProperties properties;
+    private final Map<String, Double> replicaLag = new ConcurrentHashMap<>();
+
+    public ReplicaHealthChecker(ReadWriteRoutingDataSource routingDataSource, DataSourceRoutingProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.properties = properties;
+        for (String key : routingDataSource.getReplicaKeys()) {
+            replicaLag.put(key, 0d);
+            Gauge.builder("datasource.replica.lag.seconds", replicaLag, lag -> lag.get(key))
+                .tag("target", key)
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (String key : routingDataSource.getReplicaKeys()) {
+            boolean healthy = check(key);
+            if (healthy != routingDataSource.isReplicaHealthy(key)) {
+                log.warn("복제본 상태 변경: {} -> {}", key, healthy ? "UP" : "DOWN");
+            }
+            routingDataSource.markReplicaHealth(key, healthy);
+        }
+    }
+
+    private boolean check(String key) {
+        try (Connection connection = routingDataSource.getReplica(key).getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return false;
+            }
+            if (!StringUtils.hasText(properties.getLagQuery())) {
+                return true;
+            }
+            double lag = queryLag(connection);
+            replicaLag.put(key, lag);
+            return lag <= properties.getMaxReplicaLagSeconds();
+        } catch (SQLException e) {
+            log.debug("복제본 상태 확인 실패: {} - {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    private double queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+            try (ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+                return resultSet.next() ? resultSet.getDouble(1) : Double.MAX_VALUE;
+            }
+        }
+    }
+}
@@ -1,12 +1,23 @@
 package com.gt.global.config.redis;
 
+import java.time.Duration;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
 
 @Configuration
 public class RedisConfig {
@@ -17,17 +28,74 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int redisPort;
 
+    @Value("${spring.data.redis.timeout}")
+    private Duration commandTimeout;
+
+    @Value("${spring.data.redis.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${spring.data.redis.lettuce.pool.max-active}")
+    private int poolMaxActive;
+
+    @Value("${spring.data.redis.lettuce.pool.max-idle}")
+    private int poolMaxIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.min-idle}")
+    private int poolMinIdle;
+
+    @Value("${spring.data.redis.lettuce.pool.max-wait}")
+    private Duration poolMaxWait;
+
+    /**
+     * Lettuce 이벤트 루프/타이머 스레드는 애플리케이션 전체에서 하나만 사용한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources redisClientResources() {
+        return DefaultClientResources.create();
+    }
+
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(redisHost, redisPort);
+    public RedisConnectionFactory redisConnectionFactory(ClientResources redisClientResources) {
+        /**
+         * Lettuce 기본값은 커맨드 타임아웃 60초, 연결이 끊겨도 커맨드를 큐에 쌓아두는 방식이다.
+         * Redis가 느리거나 내려간 경우 요청 스레드가 그대로 묶이므로
+         * 연결/커맨드 타임아웃을 명시하고, 연결이 끊긴 동안에는 커맨드를 즉시 거절하도록 설정한다.
+         */
+        ClientOptions clientOptions = ClientOptions.builder()
+            .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).keepAlive(true).build())
+            .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+            .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+            .autoReconnect(true)
+            .build();
+
+        /**
+         * 일반 커맨드는 하나의 공유 네이티브 연결로 멀티플렉싱되고(shareNativeConnection),
+         * 파이프라인/트랜잭션처럼 연결을 독점해야 하는 작업만 풀에서 연결을 빌려 쓴다.
+         */
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxIdle);
+        poolConfig.setMinIdle(poolMinIdle);
+        poolConfig.setMaxWait(poolMaxWait);
+
+        LettuceClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+            .poolConfig(poolConfig)
+            .clientResources(redisClientResources)
+            .commandTimeout(commandTimeout)
+            .clientOptions(clientOptions)
+            .build();
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration(redisHost, redisPort), clientConfiguration);
+        connectionFactory.setShareNativeConnection(true);
+        return connectionFactory;
     }
 
+    /**
+     * 애플리케이션의 Redis 접근은 모두 문자열 키/값을 사용하므로 StringRedisTemplate 하나만 등록한다.
+     */
     @Bean
-    public RedisTemplate<String, String> redisTemplate() {
-        RedisTemplate<String, String> redisTemplate = new RedisTemplate<>();
-        redisTemplate.setConnectionFactory(redisConnectionFactory());
-        redisTemplate.setKeySerializer(new StringRedisSerializer());
-        redisTemplate.setValueSerializer(new StringRedisSerializer());
-        return redisTemplate;
+    public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        return new StringRedisTemplate(redisConnectionFactory);
     }
-} 
\ No newline at end of file
+}
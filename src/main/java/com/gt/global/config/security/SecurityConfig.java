@@ -1,5 +1,6 @@
 package com.gt.global.config.security;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -26,6 +27,10 @@ public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
 
+    // 관리 포트 (management.server.port), 설정하지 않으면 actuator가 API 포트에 함께 열린다.
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     /**
      * Spring Security에서 설정된 CORS
      * 적용 대상: Spring Security가 보호하는 보안 필터 체인 내의 요청에만 적용됩니다.
@@ -74,8 +79,23 @@ public class SecurityConfig {
                     "/api/v1/auth/**",
                     "/swagger-ui/**",
                     "/v3/api-docs/**",
-                    "/docs/**"
+                    "/docs/**",
+                    "/actuator/health/**",
+                    "/.well-known/jwks.json"
                 ).permitAll()
+                // 메트릭 수집은 내부망에만 여는 관리 포트로 들어온 요청만 인증 없이 허용 (API 포트에서는 인증 필요)
+                .requestMatchers(request -> managementPort > 0 && request.getLocalPort() == managementPort
+                    && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                // 고객 전체 export / 검색 인덱스 재생성은 관리자만
+                .requestMatchers("/api/person/export", "/api/person/search/rebuild").hasRole("ADMIN")
+                // 은행 입금 내역 정산은 관리자만
+                .requestMatchers("/api/reconcile/**").hasRole("ADMIN")
+                // 고객 요약 재생성 / 정합성 검사는 관리자만
+                .requestMatchers("/api/overview/rebuild", "/api/overview/check").hasRole("ADMIN")
+                // 상품 규칙 다시 읽기 / 고객 전체 일괄 심사는 관리자만
+                .requestMatchers("/api/eligibility/products/reload", "/api/eligibility/products/*/evaluate-all").hasRole("ADMIN")
+                // 포트폴리오 카운터 정합성 검사는 관리자만
+                .requestMatchers("/api/portfolio/reconcile").hasRole("ADMIN")
                 .anyRequest().authenticated())
             
             // 6. 예외 처리 설정 (ExceptionTranslationFilter)
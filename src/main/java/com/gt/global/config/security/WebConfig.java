@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import com.gt.global.common.idempotency.IdempotencyFilter;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,7 +47,8 @@ public class WebConfig implements WebMvcConfigurer {
         registry.addMapping("/**") // 모든 경로에 대해 CORS 허용
                 .allowedOrigins(origins.toString()) // 프론트엔드 도메인 허용
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS") // 허용할 HTTP 메서드
-                .allowedHeaders("*"); // 허용할 헤더
+                .allowedHeaders("*") // 허용할 헤더
+                .exposedHeaders(IdempotencyFilter.REPLAYED_HEADER); // 저장된 응답 재전송 여부
                 // .allowCredentials(true); // 쿠키 및 인증 정보 허용
     }
 
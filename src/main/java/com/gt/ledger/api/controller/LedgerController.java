@@ -0,0 +1,108 @@
+package com.gt.ledger.api.controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gt.global.common.entity.ApiResponse;
+import com.gt.global.common.exception.LedgerNotFoundException;
+import com.gt.global.common.exception.LedgerPostingException;
+import com.gt.ledger.api.dto.BalanceResponse;
+import com.gt.ledger.api.dto.LedgerEntryResponse;
+import com.gt.ledger.api.dto.LoanOpenRequest;
+import com.gt.ledger.api.dto.PostingBatchRequest;
+import com.gt.ledger.api.dto.PostingBatchResponse;
+import com.gt.ledger.application.service.LedgerService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/ledger/loans")
+@RequiredArgsConstructor
+public class LedgerController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final LedgerService ledgerService;
+
+    /**
+     * 대출 생성 (실행 항목 기록)
+     */
+    @PostMapping
+    public ResponseEntity<?> openLoan(@Valid @RequestBody LoanOpenRequest request) {
+        try {
+            PostingBatchResponse response = ledgerService.openLoan(request);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .body(new ApiResponse<>(true, "Loan opened", response));
+        } catch (LedgerNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, e.getMessage(), null));
+        } catch (LedgerPostingException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ApiResponse<>(false, e.getMessage(), null));
+        } catch (DuplicateKeyException e) {
+            // 같은 posting key로 동시에 들어온 요청, 재시도하면 기존 대출이 반환된다.
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, "Concurrent request with the same posting key, retry", null));
+        }
+    }
+
+    /**
+     * 상환 / 수수료 / 취소 항목 일괄 기록
+     */
+    @PostMapping("/{loanId}/entries")
+    public ResponseEntity<?> post(@PathVariable long loanId, @Valid @RequestBody PostingBatchRequest request) {
+        try {
+            PostingBatchResponse response = ledgerService.post(loanId, request.getPostings());
+            return ResponseEntity.ok(new ApiResponse<>(true, "Entries posted", response));
+        } catch (LedgerNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, e.getMessage(), null));
+        } catch (LedgerPostingException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ApiResponse<>(false, e.getMessage(), null));
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, "Concurrent request with the same posting key, retry", null));
+        }
+    }
+
+    @GetMapping("/{loanId}/balance")
+    public ResponseEntity<?> balance(@PathVariable long loanId) {
+        try {
+            BalanceResponse response = ledgerService.getBalance(loanId);
+            return ResponseEntity.ok(new ApiResponse<>(true, "Balance", response));
+        } catch (LedgerNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
+    /**
+     * 항목 조회, 다음 페이지는 마지막 seq를 afterSeq로 전달
+     * from(ISO 일시)을 주면 그 이후 기록된 항목만 조회한다. (최근 구간은 해당 월 파티션만 읽는다)
+     */
+    @GetMapping("/{loanId}/entries")
+    public ResponseEntity<?> entries(@PathVariable long loanId,
+                                     @RequestParam(defaultValue = "0") long afterSeq,
+                                     @RequestParam(required = false)
+                                     @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                     @RequestParam(defaultValue = "100") int size) {
+        if (afterSeq < 0 || size <= 0) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Invalid afterSeq or size", null));
+        }
+        try {
+            List<LedgerEntryResponse> entries = ledgerService.getEntries(loanId, afterSeq, from, Math.min(size, MAX_PAGE_SIZE));
+            return ResponseEntity.ok(new ApiResponse<>(true, "Entries", entries));
+        } catch (LedgerNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+}
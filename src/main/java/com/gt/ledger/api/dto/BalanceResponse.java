@@ -0,0 +1,20 @@
+package com.gt.ledger.api.dto;
+
+import com.gt.ledger.domain.entity.LoanBalance;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BalanceResponse {
+
+    private long loanId;
+    private long balance;
+    private long asOfSeq;       // 잔액에 반영된 마지막 항목 순번
+    private long snapshotSeq;   // 기준 스냅샷 순번
+
+    public static BalanceResponse from(LoanBalance balance) {
+        return new BalanceResponse(balance.loanId(), balance.balance(), balance.asOfSeq(), balance.snapshotSeq());
+    }
+}
@@ -0,0 +1,26 @@
+package com.gt.ledger.api.dto;
+
+import java.time.LocalDateTime;
+
+import com.gt.ledger.domain.entity.EntryType;
+import com.gt.ledger.domain.entity.LedgerEntry;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LedgerEntryResponse {
+
+    private long seq;
+    private EntryType type;
+    private long amount;        // 잔액 증감 (부호 포함)
+    private String postingKey;
+    private Long reversesSeq;
+    private LocalDateTime createdAt;
+
+    public static LedgerEntryResponse from(LedgerEntry entry) {
+        return new LedgerEntryResponse(entry.seq(), entry.type(), entry.amount(), entry.postingKey(),
+            entry.reversesSeq(), entry.createdAt());
+    }
+}
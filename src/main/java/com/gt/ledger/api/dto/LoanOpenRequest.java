@@ -0,0 +1,29 @@
+package com.gt.ledger.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanOpenRequest {
+
+    @NotNull(message = "고객 ID는 필수입니다.")
+    private Long personId;
+
+    @NotNull(message = "대출 원금은 필수입니다.")
+    @Positive(message = "대출 원금은 0보다 커야 합니다.")
+    private Long principal;
+
+    // 재시도 시 같은 키를 보내면 대출이 한 번만 생성된다.
+    @NotBlank(message = "posting key는 필수입니다.")
+    @Size(max = 64, message = "posting key는 64자 이하입니다.")
+    private String postingKey;
+}
@@ -0,0 +1,17 @@
+package com.gt.ledger.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class PostingBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "기록할 항목이 없습니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 기록할 수 있습니다.")
+    private List<PostingRequest> postings;
+}
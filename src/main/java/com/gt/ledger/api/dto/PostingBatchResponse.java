@@ -0,0 +1,16 @@
+package com.gt.ledger.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PostingBatchResponse {
+
+    private long loanId;
+    private long balance;       // 기록 후 잔액
+    private long lastSeq;
+    private List<PostingResult> results;
+}
@@ -0,0 +1,33 @@
+package com.gt.ledger.api.dto;
+
+import com.gt.ledger.domain.entity.EntryType;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostingRequest {
+
+    @NotNull(message = "항목 종류는 필수입니다.")
+    private EntryType type;
+
+    // 금액(원), REVERSAL은 생략 가능 (취소 대상 금액 사용)
+    @Positive(message = "금액은 0보다 커야 합니다.")
+    private Long amount;
+
+    @NotBlank(message = "posting key는 필수입니다.")
+    @Size(max = 64, message = "posting key는 64자 이하입니다.")
+    private String postingKey;
+
+    // REVERSAL일 때 취소 대상 항목 순번
+    private Long reversesSeq;
+}
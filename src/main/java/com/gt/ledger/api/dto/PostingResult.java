@@ -0,0 +1,19 @@
+package com.gt.ledger.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PostingResult {
+
+    public enum Status {
+        CREATED,
+        /** 같은 posting key로 이미 기록되어 있어 건너뜀 */
+        DUPLICATE
+    }
+
+    private String postingKey;
+    private long seq;           // 기록된(또는 기존) 항목 순번
+    private Status status;
+}
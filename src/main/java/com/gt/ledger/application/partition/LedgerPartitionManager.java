@@ -0,0 +1,242 @@
+package com.gt.ledger.application.partition;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.ledger.domain.entity.LoanState;
+import com.gt.ledger.domain.repository.LedgerPartitionRepository;
+import com.gt.ledger.domain.repository.LedgerRepository;
+import com.gt.ledger.infra.config.LedgerPartitionProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원장 항목 월별 파티션 관리
+ *
+ * 주기마다 이번 달부터 premakeMonths 이후까지 파티션을 미리 만들고,
+ * retentionMonths보다 오래된 월은 다음 순서로 보관 처리한다.
+ * 1. 잔액 계산에 그 월 항목이 필요한 대출(스냅샷 이후 항목이 그 월에 있는 대출)에 현재 잔액 스냅샷을 남긴다.
+ * 2. 파티션을 COPY 텍스트 형식으로 gzip 파일에 쓴다. (임시 파일에 쓴 뒤 이름 변경)
+ * 3. 한 트랜잭션에서 파티션을 떼어내고 그 월의 posting key / 취소 기록을 지운 뒤 파티션을 지운다.
+ * 보관된 항목은 조회 / 취소 대상이 아니며, 그 월의 posting key로 다시 요청하면 새 항목으로 기록된다.
+ * 여러 노드가 떠 있어도 advisory lock으로 한 노드만 작업한다.
+ */
+@Slf4j
+public class LedgerPartitionManager {
+
+    /** 잔액 조회의 created_at 하한 여유(JdbcLedgerRepository BALANCE_SQL)와 맞춘다. */
+    private static final long SEAL_MARGIN_DAYS = 1;
+
+    private final LedgerPartitionRepository partitionRepository;
+    private final LedgerRepository ledgerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final LedgerPartitionProperties properties;
+    private final Clock clock;
+
+    private final Counter createdPartitions;
+    private final Counter archivedPartitions;
+    private final Counter archivedRows;
+    private final Counter sealedLoans;
+    private final Timer archiveTime;
+
+    private Thread worker;
+    private volatile boolean running;
+
+    public LedgerPartitionManager(LedgerPartitionRepository partitionRepository,
+                                  LedgerRepository ledgerRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  LedgerPartitionProperties properties,
+                                  MeterRegistry meterRegistry,
+                                  Clock clock) {
+        if (properties.getRetentionMonths() < 1 || properties.getPremakeMonths() < 1) {
+            throw new IllegalArgumentException("ledger.partition.retention-months / premake-months must be positive");
+        }
+        this.partitionRepository = partitionRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.clock = clock;
+
+        this.createdPartitions = Counter.builder("ledger.partition.created")
+            .description("Monthly ledger_entry partitions created ahead")
+            .register(meterRegistry);
+        this.archivedPartitions = Counter.builder("ledger.partition.archived")
+            .description("Monthly ledger_entry partitions archived and dropped")
+            .register(meterRegistry);
+        this.archivedRows = Counter.builder("ledger.partition.archived.rows")
+            .description("Ledger entries written to archive files")
+            .register(meterRegistry);
+        this.sealedLoans = Counter.builder("ledger.partition.sealed.loans")
+            .description("Loans snapshotted before their tail entries were archived")
+            .register(meterRegistry);
+        this.archiveTime = Timer.builder("ledger.partition.archive.time")
+            .description("Time to seal, export and drop one monthly partition")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 파티션 여부 확인에 DB가 필요하므로 컨텍스트 refresh가 아닌 기동 완료 후에 시작한다.
+     * (DB 없이 refresh까지만 실행하는 AppCDS 학습 실행에서는 호출되지 않는다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!partitionRepository.isPartitioned()) {
+            log.info("ledger_entry가 파티션 테이블이 아니므로 파티션 관리를 하지 않습니다.");
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "ledger-partition");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    /**
+     * 파티션 생성 + 보관 한 번 실행
+     * @return 보관 처리한 월 (다른 노드가 작업 중이면 빈 목록)
+     */
+    public List<YearMonth> maintainOnce() {
+        List<YearMonth> archived = new ArrayList<>();
+        partitionRepository.runExclusively(() -> {
+            YearMonth current = YearMonth.now(clock);
+            List<YearMonth> partitions = partitionRepository.findPartitions();
+            for (int i = 0; i <= properties.getPremakeMonths(); i++) {
+                YearMonth month = current.plusMonths(i);
+                if (!partitions.contains(month)) {
+                    partitionRepository.createPartition(month);
+                    createdPartitions.increment();
+                    log.info("원장 파티션 생성: {}", LedgerPartitionRepository.partitionName(month));
+                }
+            }
+            YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths());
+            for (YearMonth month : partitions) {
+                if (month.isBefore(oldestKept) && running()) {
+                    archive(month);
+                    archived.add(month);
+                }
+            }
+        });
+        return archived;
+    }
+
+    private void archive(YearMonth month) {
+        long start = System.nanoTime();
+        LocalDateTime end = month.plusMonths(1).atDay(1).atStartOfDay();
+        int sealed = seal(end.plusDays(SEAL_MARGIN_DAYS));
+
+        Path file = Path.of(properties.getArchiveDir(), LedgerPartitionRepository.partitionName(month) + ".tsv.gz");
+        long rows = export(month, file);
+
+        Integer deletedKeys = transactionTemplate.execute(status -> {
+            partitionRepository.detachPartition(month);
+            int deleted = partitionRepository.deleteKeysBefore(end);
+            partitionRepository.dropPartition(month);
+            return deleted;
+        });
+
+        archivedPartitions.increment();
+        archivedRows.increment(rows);
+        archiveTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        log.info("원장 파티션 보관: {}, rows = {}, sealed loans = {}, posting keys = {}, file = {}, elapsed = {}ms",
+            LedgerPartitionRepository.partitionName(month), rows, sealed, deletedKeys, file,
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 잔액 계산이 before 이전 항목에 기대는 대출에 현재 잔액 스냅샷을 남긴다.
+     * 스냅샷 시각이 현재로 바뀌므로 이후 잔액 조회는 보관할 월을 읽지 않는다.
+     */
+    private int seal(LocalDateTime before) {
+        int total = 0;
+        List<Long> loans;
+        while (!(loans = partitionRepository.findUnsealedLoans(before, properties.getSealBatchSize())).isEmpty()) {
+            List<Long> batch = loans;
+            Integer sealed = transactionTemplate.execute(status -> {
+                int count = 0;
+                LocalDateTime now = LocalDateTime.now(clock);
+                for (Long loanId : batch) {
+                    LoanState loan = ledgerRepository.lockLoan(loanId, TenantScope.all()).orElse(null);
+                    if (loan == null || loan.lastSeq() == loan.snapshotSeq()) {
+                        continue;
+                    }
+                    long balance = ledgerRepository.findBalance(loanId, TenantScope.all()).orElseThrow().balance();
+                    ledgerRepository.insertSnapshot(loanId, loan.lastSeq(), balance, now);
+                    ledgerRepository.advance(loanId, loan.lastSeq(), loan.lastSeq());
+                    count++;
+                }
+                return count;
+            });
+            total += sealed == null ? 0 : sealed;
+        }
+        sealedLoans.increment(total);
+        return total;
+    }
+
+    private long export(YearMonth month, Path file) {
+        Path temp = file.resolveSibling(file.getFileName() + ".part");
+        try {
+            Files.createDirectories(file.getParent());
+            long rows;
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)), 1 << 16)) {
+                rows = partitionRepository.exportPartition(month, out);
+            }
+            // 이전 실행이 파일만 쓰고 중단된 경우 같은 내용으로 덮어쓴다. (지난 월 파티션은 바뀌지 않는다)
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return rows;
+        } catch (IOException e) {
+            throw new UncheckedIOException("원장 보관 파일 쓰기 실패: " + file, e);
+        }
+    }
+
+    private boolean running() {
+        // 스레드 없이 maintainOnce만 호출하는 경우(테스트)도 진행한다.
+        return running || worker == null;
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                maintainOnce();
+            } catch (RuntimeException e) {
+                log.warn("원장 파티션 관리 실패, {} 후 재시도: {}", properties.getCheckInterval(), e.getMessage());
+            }
+            try {
+                Thread.sleep(properties.getCheckInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
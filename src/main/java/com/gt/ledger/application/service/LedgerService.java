@@ -0,0 +1,33 @@
+package com.gt.ledger.application.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.gt.ledger.api.dto.BalanceResponse;
+import com.gt.ledger.api.dto.LedgerEntryResponse;
+import com.gt.ledger.api.dto.LoanOpenRequest;
+import com.gt.ledger.api.dto.PostingBatchResponse;
+import com.gt.ledger.api.dto.PostingRequest;
+
+public interface LedgerService {
+
+    /**
+     * 대출 생성 + 실행(DISBURSEMENT) 항목 기록
+     * 같은 posting key로 다시 요청하면 기존 대출을 반환한다.
+     */
+    PostingBatchResponse openLoan(LoanOpenRequest request);
+
+    /**
+     * 항목 일괄 기록 (전부 기록되거나 전부 거절)
+     * 이미 기록된 posting key는 DUPLICATE로 건너뛴다.
+     */
+    PostingBatchResponse post(long loanId, List<PostingRequest> postings);
+
+    BalanceResponse getBalance(long loanId);
+
+    /**
+     * afterSeq 이후 항목 (keyset 페이지), from이 있으면 그 시각 이후 항목만
+     * @throws com.gt.global.common.exception.LedgerNotFoundException 없거나 다른 지점의 대출
+     */
+    List<LedgerEntryResponse> getEntries(long loanId, long afterSeq, LocalDateTime from, int size);
+}
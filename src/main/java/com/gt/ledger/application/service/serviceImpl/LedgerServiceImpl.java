@@ -0,0 +1,256 @@
+package com.gt.ledger.application.service.serviceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gt.global.common.exception.LedgerNotFoundException;
+import com.gt.global.common.exception.LedgerPostingException;
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.ledger.api.dto.BalanceResponse;
+import com.gt.ledger.api.dto.LedgerEntryResponse;
+import com.gt.ledger.api.dto.LoanOpenRequest;
+import com.gt.ledger.api.dto.PostingBatchResponse;
+import com.gt.ledger.api.dto.PostingRequest;
+import com.gt.ledger.api.dto.PostingResult;
+import com.gt.ledger.application.service.LedgerService;
+import com.gt.ledger.domain.entity.EntryType;
+import com.gt.ledger.domain.entity.LedgerEntry;
+import com.gt.ledger.domain.entity.LoanBalance;
+import com.gt.ledger.domain.entity.LoanState;
+import com.gt.ledger.domain.event.LoanPostedEvent;
+import com.gt.ledger.domain.repository.LedgerRepository;
+import com.gt.outbox.application.publisher.OutboxPublisher;
+import com.gt.portfolio.application.counter.PortfolioCounters;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대출 원장
+ *
+ * 항목은 추가만 하고, 정정은 REVERSAL 항목으로 기록한다.
+ * 대출 행을 잠근 상태에서 순번을 발급하므로 같은 대출의 기록은 직렬화되고 순번에 빈틈이 없다.
+ * 마지막 스냅샷 이후 항목이 snapshotInterval개에 도달하면 그 시점 잔액을 스냅샷으로 남겨,
+ * 잔액 조회는 이력 길이와 관계없이 최대 snapshotInterval개 항목만 합산한다.
+ * 포트폴리오 카운터(지점 / 잔액 구간, 일자별 합계)도 같은 트랜잭션에서 갱신한다.
+ */
+@Slf4j
+@Service
+public class LedgerServiceImpl implements LedgerService {
+
+    private final LedgerRepository ledgerRepository;
+    private final OutboxPublisher outboxPublisher;
+    private final PortfolioCounters portfolioCounters;
+    private final int snapshotInterval;
+
+    private final Timer postTime;
+    private final Timer balanceReadTime;
+    private final DistributionSummary balanceTail;
+
+    public LedgerServiceImpl(LedgerRepository ledgerRepository,
+                             OutboxPublisher outboxPublisher,
+                             PortfolioCounters portfolioCounters,
+                             MeterRegistry meterRegistry,
+                             @Value("${ledger.snapshot-interval:100}") int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("ledger.snapshot-interval must be positive: " + snapshotInterval);
+        }
+        this.ledgerRepository = ledgerRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.portfolioCounters = portfolioCounters;
+        this.snapshotInterval = snapshotInterval;
+        this.postTime = Timer.builder("ledger.post")
+            .description("Ledger batch posting time")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.balanceReadTime = Timer.builder("ledger.balance.read")
+            .description("Loan balance read time (snapshot + tail)")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.balanceTail = DistributionSummary.builder("ledger.balance.tail")
+            .description("Entries summed after the snapshot on balance read")
+            .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public PostingBatchResponse openLoan(LoanOpenRequest request) {
+        // 재시도: 같은 키의 실행 항목이 있으면 해당 대출 반환
+        LedgerEntry existing = ledgerRepository.findByPostingKeys(List.of(request.getPostingKey()))
+            .get(request.getPostingKey());
+        if (existing != null) {
+            if (existing.type() != EntryType.DISBURSEMENT || existing.seq() != 1) {
+                throw new LedgerPostingException("이미 다른 항목에 사용된 posting key입니다: " + request.getPostingKey());
+            }
+            return post(existing.loanId(), List.of(disbursement(request)));
+        }
+
+        if (!ledgerRepository.existsPerson(request.getPersonId(), TenantScope.current())) {
+            throw new LedgerNotFoundException("고객을 찾을 수 없습니다: " + request.getPersonId());
+        }
+        long loanId = ledgerRepository.insertLoan(request.getPersonId(), LocalDateTime.now());
+        return post(loanId, List.of(disbursement(request)));
+    }
+
+    @Override
+    @Transactional
+    public PostingBatchResponse post(long loanId, List<PostingRequest> postings) {
+        long start = System.nanoTime();
+
+        TenantScope scope = TenantScope.current();
+        LoanState loan = ledgerRepository.lockLoan(loanId, scope)
+            .orElseThrow(() -> new LedgerNotFoundException("대출을 찾을 수 없습니다: " + loanId));
+
+        Set<String> keys = new LinkedHashSet<>();
+        Set<Long> reversalTargets = new HashSet<>();
+        for (PostingRequest posting : postings) {
+            keys.add(posting.getPostingKey());
+            if (posting.getType() == EntryType.REVERSAL && posting.getReversesSeq() != null
+                    && posting.getReversesSeq() <= loan.lastSeq()) {
+                reversalTargets.add(posting.getReversesSeq());
+            }
+        }
+        Map<String, LedgerEntry> recorded = ledgerRepository.findByPostingKeys(keys);
+        Map<Long, LedgerEntry> targets = ledgerRepository.findEntries(loanId, reversalTargets);
+        Set<Long> reversed = new HashSet<>(ledgerRepository.findReversedSeqs(loanId, reversalTargets));
+
+        // 잠금 이후 읽으므로 loan의 위치와 일치한다.
+        long balance = ledgerRepository.findBalance(loanId, scope).map(LoanBalance::balance).orElse(0L);
+        long balanceBefore = balance;
+
+        LocalDateTime now = LocalDateTime.now();
+        long seq = loan.lastSeq();
+        List<LedgerEntry> appended = new ArrayList<>();
+        Map<String, Long> appendedKeys = new HashMap<>();
+        List<PostingResult> results = new ArrayList<>(postings.size());
+
+        for (PostingRequest posting : postings) {
+            String key = posting.getPostingKey();
+            LedgerEntry duplicate = recorded.get(key);
+            if (duplicate != null) {
+                if (duplicate.loanId() != loanId) {
+                    throw new LedgerPostingException("다른 대출에 사용된 posting key입니다: " + key);
+                }
+                results.add(new PostingResult(key, duplicate.seq(), PostingResult.Status.DUPLICATE));
+                continue;
+            }
+            Long sameBatch = appendedKeys.get(key);
+            if (sameBatch != null) {
+                results.add(new PostingResult(key, sameBatch, PostingResult.Status.DUPLICATE));
+                continue;
+            }
+
+            long amount;
+            if (posting.getType() == EntryType.REVERSAL) {
+                LedgerEntry target = reversalTarget(posting, targets, reversed, loan.lastSeq(), appended);
+                amount = -target.amount();
+                reversed.add(target.seq());
+            } else {
+                if (posting.getAmount() == null) {
+                    throw new LedgerPostingException("금액이 없습니다: " + key);
+                }
+                amount = posting.getType().getSign() * posting.getAmount();
+            }
+
+            balance += amount;
+            if (balance < 0) {
+                throw new LedgerPostingException("잔액을 초과하는 항목입니다: " + key);
+            }
+
+            seq++;
+            LedgerEntry entry = new LedgerEntry(loanId, seq, posting.getType(), amount, key,
+                posting.getType() == EntryType.REVERSAL ? posting.getReversesSeq() : null, now);
+            appended.add(entry);
+            appendedKeys.put(key, seq);
+            results.add(new PostingResult(key, seq, PostingResult.Status.CREATED));
+        }
+
+        if (!appended.isEmpty()) {
+            ledgerRepository.appendEntries(appended);
+
+            long snapshotSeq = loan.snapshotSeq();
+            if (seq - snapshotSeq >= snapshotInterval) {
+                ledgerRepository.insertSnapshot(loanId, seq, balance, now);
+                snapshotSeq = seq;
+            }
+            ledgerRepository.advance(loanId, seq, snapshotSeq);
+            portfolioCounters.recordPosting(loan.branchId(), loanId, loan.lastSeq() == 0, balanceBefore, balance, appended);
+            // 같은 트랜잭션에서 기록 후 잔액을 outbox에 남긴다. (고객 요약 read model 등)
+            outboxPublisher.publish(LoanPostedEvent.AGGREGATE_TYPE, loanId, LoanPostedEvent.EVENT_TYPE,
+                new LoanPostedEvent(loanId, loan.personId(), balance, seq, now));
+        }
+
+        postTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new PostingBatchResponse(loanId, balance, seq, results);
+    }
+
+    /**
+     * 잔액 조회는 replica 지연 없이 primary에서 단일 조회로 처리한다. (readOnly 트랜잭션 미사용)
+     */
+    @Override
+    public BalanceResponse getBalance(long loanId) {
+        long start = System.nanoTime();
+        LoanBalance balance = ledgerRepository.findBalance(loanId, TenantScope.current())
+            .orElseThrow(() -> new LedgerNotFoundException("대출을 찾을 수 없습니다: " + loanId));
+        balanceReadTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        balanceTail.record(balance.tailEntries());
+        return BalanceResponse.from(balance);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LedgerEntryResponse> getEntries(long loanId, long afterSeq, LocalDateTime from, int size) {
+        if (!ledgerRepository.existsLoan(loanId, TenantScope.current())) {
+            throw new LedgerNotFoundException("대출을 찾을 수 없습니다: " + loanId);
+        }
+        return ledgerRepository.findEntriesAfter(loanId, afterSeq, from, size).stream()
+            .map(LedgerEntryResponse::from)
+            .toList();
+    }
+
+    private LedgerEntry reversalTarget(PostingRequest posting, Map<Long, LedgerEntry> targets, Set<Long> reversed,
+                                       long lastSeq, List<LedgerEntry> appended) {
+        Long reversesSeq = posting.getReversesSeq();
+        if (reversesSeq == null) {
+            throw new LedgerPostingException("취소 대상 순번이 없습니다: " + posting.getPostingKey());
+        }
+        // 같은 배치에서 앞서 기록한 항목도 취소할 수 있다.
+        LedgerEntry target = reversesSeq > lastSeq && reversesSeq - lastSeq <= appended.size()
+            ? appended.get((int) (reversesSeq - lastSeq - 1))
+            : targets.get(reversesSeq);
+        if (target == null) {
+            throw new LedgerPostingException("취소 대상 항목이 없습니다: " + reversesSeq);
+        }
+        if (target.type() == EntryType.REVERSAL) {
+            throw new LedgerPostingException("취소 항목은 다시 취소할 수 없습니다: " + reversesSeq);
+        }
+        if (reversed.contains(reversesSeq)) {
+            throw new LedgerPostingException("이미 취소된 항목입니다: " + reversesSeq);
+        }
+        if (posting.getAmount() != null && posting.getAmount() != Math.abs(target.amount())) {
+            throw new LedgerPostingException("취소 금액이 대상 항목과 다릅니다: " + reversesSeq);
+        }
+        return target;
+    }
+
+    private static PostingRequest disbursement(LoanOpenRequest request) {
+        return PostingRequest.builder()
+            .type(EntryType.DISBURSEMENT)
+            .amount(request.getPrincipal())
+            .postingKey(request.getPostingKey())
+            .build();
+    }
+}
@@ -0,0 +1,20 @@
+package com.gt.ledger.domain.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원장 항목 종류
+ * sign: 잔액에 반영되는 방향, REVERSAL은 취소 대상 항목의 반대 부호
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EntryType {
+
+    DISBURSEMENT(1),    // 대출 실행
+    REPAYMENT(-1),      // 상환
+    FEE(1),             // 수수료 / 연체료
+    REVERSAL(0);        // 기존 항목 취소
+
+    private final int sign;
+}
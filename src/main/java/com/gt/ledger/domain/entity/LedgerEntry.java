@@ -0,0 +1,12 @@
+package com.gt.ledger.domain.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원장 항목 (기록 후 변경하지 않음)
+ * @param amount 잔액 증감, 부호 포함
+ * @param reversesSeq 취소 항목이면 취소 대상 순번
+ */
+public record LedgerEntry(long loanId, long seq, EntryType type, long amount,
+                          String postingKey, Long reversesSeq, LocalDateTime createdAt) {
+}
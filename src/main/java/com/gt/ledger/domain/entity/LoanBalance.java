@@ -0,0 +1,14 @@
+package com.gt.ledger.domain.entity;
+
+/**
+ * 스냅샷 잔액 + 이후 항목 합계
+ * @param asOfSeq 잔액에 반영된 마지막 순번
+ * @param snapshotSeq 기준 스냅샷 순번
+ */
+public record LoanBalance(long loanId, long balance, long asOfSeq, long snapshotSeq) {
+
+    /** 스냅샷 이후 합산한 항목 수 */
+    public long tailEntries() {
+        return asOfSeq - snapshotSeq;
+    }
+}
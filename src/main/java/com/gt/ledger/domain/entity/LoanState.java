@@ -0,0 +1,10 @@
+package com.gt.ledger.domain.entity;
+
+/**
+ * 대출별 원장 위치
+ * @param branchId 고객과 같은 지점
+ * @param lastSeq 마지막 항목 순번
+ * @param snapshotSeq 최근 스냅샷에 반영된 순번 (스냅샷이 없으면 0)
+ */
+public record LoanState(long loanId, long personId, int branchId, long lastSeq, long snapshotSeq) {
+}
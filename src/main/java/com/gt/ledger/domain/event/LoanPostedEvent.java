@@ -0,0 +1,19 @@
+package com.gt.ledger.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원장 기록 outbox 이벤트 (payload), 기록 배치마다 한 번
+ * 변경분이 아니라 기록 후 잔액을 담으므로 소비자는 lastSeq가 더 큰 이벤트만 반영하면 된다. (중복 / 재전달 무해)
+ */
+public record LoanPostedEvent(
+    long loanId,
+    long personId,
+    long balance,
+    long lastSeq,
+    LocalDateTime postedAt
+) {
+
+    public static final String AGGREGATE_TYPE = "Loan";
+    public static final String EVENT_TYPE = "LoanPosted";
+}
@@ -0,0 +1,56 @@
+package com.gt.ledger.domain.repository;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 원장 항목 월별 파티션 관리 (PostgreSQL)
+ * 파티션 이름은 ledger_entry_pYYYYMM, 범위는 [그 달 1일, 다음 달 1일)
+ */
+public interface LedgerPartitionRepository {
+
+    DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    static String partitionName(YearMonth month) {
+        return "ledger_entry_p" + month.format(SUFFIX);
+    }
+
+    /**
+     * ledger_entry가 파티션 테이블인지 (H2 등 파티셔닝이 없는 DB는 false)
+     */
+    boolean isPartitioned();
+
+    /**
+     * 다른 노드가 관리 작업 중이면 실행하지 않고 false 반환 (advisory lock)
+     */
+    boolean runExclusively(Runnable action);
+
+    List<YearMonth> findPartitions();
+
+    void createPartition(YearMonth month);
+
+    /**
+     * 파티션 전체를 COPY 텍스트 형식으로 출력
+     * @return 행 수
+     */
+    long exportPartition(YearMonth month, OutputStream out);
+
+    void detachPartition(YearMonth month);
+
+    void dropPartition(YearMonth month);
+
+    /**
+     * before 이전에 기록된 posting key / 취소 기록 삭제 (보관 처리한 항목의 보조 테이블 정리)
+     * @return 삭제한 posting key 수
+     */
+    int deleteKeysBefore(LocalDateTime before);
+
+    /**
+     * 스냅샷(없으면 대출 생성) 시각이 before 이전이면서 스냅샷 이후 항목이 있는 대출
+     * (잔액 계산에 before 이전 항목이 필요할 수 있는 대출)
+     */
+    List<Long> findUnsealedLoans(LocalDateTime before, int limit);
+}
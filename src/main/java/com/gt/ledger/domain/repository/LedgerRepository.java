@@ -0,0 +1,70 @@
+package com.gt.ledger.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.ledger.domain.entity.LedgerEntry;
+import com.gt.ledger.domain.entity.LoanBalance;
+import com.gt.ledger.domain.entity.LoanState;
+
+/**
+ * 대출 원장 저장소
+ * 항목은 append-only이며, 대출 행(loan)을 잠근 상태에서만 순번을 발급하고 기록한다.
+ */
+public interface LedgerRepository {
+
+    /**
+     * 범위 안 지점의 고객인지 (범위 밖 고객에게는 대출을 열지 않는다)
+     */
+    boolean existsPerson(long personId, TenantScope scope);
+
+    long insertLoan(long personId, LocalDateTime createdDate);
+
+    /**
+     * 범위 안 지점의 대출인지
+     */
+    boolean existsLoan(long loanId, TenantScope scope);
+
+    /**
+     * 대출 행을 잠그고(SELECT ... FOR UPDATE) 현재 원장 위치를 반환
+     * @return 범위 밖 지점의 대출이면 empty
+     */
+    Optional<LoanState> lockLoan(long loanId, TenantScope scope);
+
+    /**
+     * 최근 스냅샷 + 이후 항목으로 잔액 계산 (한 번의 조회, 최대 snapshot-interval 개 항목 합산)
+     * @return 범위 밖 지점의 대출이면 empty
+     */
+    Optional<LoanBalance> findBalance(long loanId, TenantScope scope);
+
+    /**
+     * posting key로 이미 기록된 항목 조회
+     */
+    Map<String, LedgerEntry> findByPostingKeys(Collection<String> postingKeys);
+
+    Map<Long, LedgerEntry> findEntries(long loanId, Collection<Long> seqs);
+
+    /**
+     * seqs 중 이미 취소된 항목의 순번
+     */
+    Set<Long> findReversedSeqs(long loanId, Collection<Long> seqs);
+
+    /**
+     * afterSeq 이후 항목, from이 있으면 그 시각 이후 기록된 항목만 (해당 월 파티션만 읽는다)
+     */
+    List<LedgerEntry> findEntriesAfter(long loanId, long afterSeq, LocalDateTime from, int limit);
+
+    /**
+     * JDBC batch로 항목 기록
+     */
+    void appendEntries(List<LedgerEntry> entries);
+
+    void insertSnapshot(long loanId, long seq, long balance, LocalDateTime createdAt);
+
+    void advance(long loanId, long lastSeq, long snapshotSeq);
+}
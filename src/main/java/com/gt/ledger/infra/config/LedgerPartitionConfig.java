@@ -0,0 +1,31 @@
+package com.gt.ledger.infra.config;
+
+import java.time.Clock;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.gt.ledger.application.partition.LedgerPartitionManager;
+import com.gt.ledger.domain.repository.LedgerPartitionRepository;
+import com.gt.ledger.domain.repository.LedgerRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(LedgerPartitionProperties.class)
+public class LedgerPartitionConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ledger.partition", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public LedgerPartitionManager ledgerPartitionManager(LedgerPartitionRepository partitionRepository,
+                                                         LedgerRepository ledgerRepository,
+                                                         PlatformTransactionManager transactionManager,
+                                                         LedgerPartitionProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        return new LedgerPartitionManager(partitionRepository, ledgerRepository, transactionManager, properties,
+            meterRegistry, Clock.systemDefaultZone());
+    }
+}
@@ -0,0 +1,35 @@
+package com.gt.ledger.infra.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 원장 항목 월별 파티션 관리 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ledger.partition")
+public class LedgerPartitionProperties {
+
+    /** ledger_entry가 파티션 테이블이 아니면(H2) 켜져 있어도 동작하지 않는다. */
+    private boolean enabled = true;
+
+    /** 이번 달 이후로 미리 만들어 두는 월 파티션 수 */
+    private int premakeMonths = 3;
+
+    /** 이번 달 이전으로 남겨 두는 월 파티션 수, 그보다 오래된 월은 보관 파일로 옮기고 지운다. (posting key 재시도 보장 기간이기도 하다) */
+    private int retentionMonths = 24;
+
+    /** 보관 파일(ledger_entry_pYYYYMM.tsv.gz) 디렉터리 */
+    private String archiveDir = "/data/ledger/archive";
+
+    /** 관리 작업 주기 */
+    private Duration checkInterval = Duration.ofHours(1);
+
+    /** 보관 전 스냅샷을 남기는 대출 수 (한 트랜잭션) */
+    private int sealBatchSize = 500;
+}
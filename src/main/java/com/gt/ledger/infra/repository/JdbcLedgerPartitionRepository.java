@@ -0,0 +1,129 @@
+package com.gt.ledger.infra.repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.gt.ledger.domain.repository.LedgerPartitionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원장 항목 월별 파티션 JDBC 구현 (PostgreSQL 전용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcLedgerPartitionRepository implements LedgerPartitionRepository {
+
+    private static final String PARENT = "ledger_entry";
+    private static final String PREFIX = PARENT + "_p";
+
+    /** 파티션 관리 작업 advisory lock 키 */
+    private static final long LOCK_KEY = 0x4c45444745525041L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean isPartitioned() {
+        boolean postgres = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())));
+        return postgres && Objects.equals(1, jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM pg_partitioned_table WHERE partrelid = to_regclass(?)", Integer.class, PARENT));
+    }
+
+    @Override
+    public boolean runExclusively(Runnable action) {
+        // session lock이므로 같은 커넥션에서 풀어야 한다. (작업 자체는 다른 커넥션으로 실행)
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?)")) {
+                return false;
+            }
+            try {
+                action.run();
+                return true;
+            } finally {
+                advisoryLock(connection, "SELECT pg_advisory_unlock(?)");
+            }
+        }));
+    }
+
+    @Override
+    public List<YearMonth> findPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?) ORDER BY c.relname
+                """, String.class, PARENT).stream()
+            .filter(name -> name.startsWith(PREFIX) && name.length() == PREFIX.length() + 6)
+            .map(name -> YearMonth.parse(name.substring(PREFIX.length()), SUFFIX))
+            .toList();
+    }
+
+    @Override
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+            LedgerPartitionRepository.partitionName(month), PARENT, month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    @Override
+    public long exportPartition(YearMonth month, OutputStream out) {
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyOut("COPY " + LedgerPartitionRepository.partitionName(month) + " TO STDOUT", out);
+            } catch (IOException e) {
+                throw new DataAccessResourceFailureException("원장 파티션 출력 실패: " + LedgerPartitionRepository.partitionName(month), e);
+            }
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    @Override
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + LedgerPartitionRepository.partitionName(month));
+    }
+
+    @Override
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + LedgerPartitionRepository.partitionName(month));
+    }
+
+    @Override
+    public int deleteKeysBefore(LocalDateTime before) {
+        Timestamp bound = Timestamp.valueOf(before);
+        jdbcTemplate.update("DELETE FROM ledger_reversal WHERE created_at < ?", bound);
+        return jdbcTemplate.update("DELETE FROM ledger_posting_key WHERE created_at < ?", bound);
+    }
+
+    @Override
+    public List<Long> findUnsealedLoans(LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList("""
+            SELECT l.loan_id FROM loan l
+            LEFT JOIN ledger_snapshot s ON s.loan_id = l.loan_id AND s.entry_seq = l.snapshot_seq
+            WHERE l.last_seq > l.snapshot_seq AND COALESCE(s.created_at, l.created_date) < ?
+            ORDER BY l.loan_id LIMIT ?
+            """, Long.class, Timestamp.valueOf(before), limit);
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
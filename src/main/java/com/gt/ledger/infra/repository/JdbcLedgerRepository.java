@@ -0,0 +1,252 @@
+package com.gt.ledger.infra.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.ledger.domain.entity.EntryType;
+import com.gt.ledger.domain.entity.LedgerEntry;
+import com.gt.ledger.domain.entity.LoanBalance;
+import com.gt.ledger.domain.entity.LoanState;
+import com.gt.ledger.domain.repository.LedgerRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원장 JDBC 구현
+ * 항목은 영속성 컨텍스트를 거치지 않고 batch INSERT로만 기록한다.
+ * (PostgreSQL은 reWriteBatchedInserts=true 이면 batch가 multi-row INSERT로 전송된다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcLedgerRepository implements LedgerRepository {
+
+    private static final String ENTRY_COLUMNS =
+        "loan_id, entry_seq, entry_type, amount, posting_key, reverses_seq, created_at";
+
+    private static final String INSERT_ENTRY =
+        "INSERT INTO ledger_entry (" + ENTRY_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_POSTING_KEY =
+        "INSERT INTO ledger_posting_key (posting_key, loan_id, entry_seq, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_REVERSAL =
+        "INSERT INTO ledger_reversal (loan_id, reverses_seq, entry_seq, created_at) VALUES (?, ?, ?, ?)";
+
+    /**
+     * 대출 행, 스냅샷, 이후 항목 합계를 한 문장으로 읽어 서로 일관된 시점의 값을 얻는다.
+     * 합계 범위는 (snapshot_seq, last_seq] 이므로 항목 수는 스냅샷 주기를 넘지 않는다.
+     * 이후 항목은 스냅샷(없으면 대출 생성) 시각 이후에 기록되므로 created_at 하한으로 월 파티션을 좁힌다.
+     * (노드 간 시계 차이를 감안해 하루 여유를 둔다)
+     */
+    private static final String BALANCE_SQL = """
+        SELECT l.last_seq, l.snapshot_seq,
+               COALESCE(s.balance, 0) + COALESCE((
+                   SELECT SUM(e.amount) FROM ledger_entry e
+                   WHERE e.loan_id = l.loan_id AND e.entry_seq > l.snapshot_seq AND e.entry_seq <= l.last_seq
+                     AND e.created_at >= COALESCE(s.created_at, l.created_date) - INTERVAL '1' DAY
+               ), 0)
+        FROM loan l
+        LEFT JOIN ledger_snapshot s ON s.loan_id = l.loan_id AND s.entry_seq = l.snapshot_seq
+        WHERE l.loan_id = ?
+        """;
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean existsPerson(long personId, TenantScope scope) {
+        return Boolean.TRUE.equals(jdbcTemplate.query(
+            "SELECT 1 FROM person WHERE person_id = ?" + scope.branchClause("branch_id"),
+            ResultSet::next, scope.bind(personId)));
+    }
+
+    @Override
+    public long insertLoan(long personId, LocalDateTime createdDate) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                // 고객과 같은 지점으로 기록 (fk_loan_person은 (branch_id, person_id) 참조)
+                "INSERT INTO loan (person_id, branch_id, last_seq, snapshot_seq, created_date) "
+                    + "SELECT person_id, branch_id, 0, 0, ? FROM person WHERE person_id = ?",
+                new String[] {"loan_id"});
+            statement.setTimestamp(1, Timestamp.valueOf(createdDate));
+            statement.setLong(2, personId);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKeyAs(Number.class).longValue();
+    }
+
+    @Override
+    public boolean existsLoan(long loanId, TenantScope scope) {
+        return Boolean.TRUE.equals(jdbcTemplate.query(
+            "SELECT 1 FROM loan WHERE loan_id = ?" + scope.branchClause("branch_id"),
+            ResultSet::next, scope.bind(loanId)));
+    }
+
+    @Override
+    public Optional<LoanState> lockLoan(long loanId, TenantScope scope) {
+        List<LoanState> loans = jdbcTemplate.query(
+            "SELECT loan_id, person_id, branch_id, last_seq, snapshot_seq FROM loan WHERE loan_id = ?"
+                + scope.branchClause("branch_id") + " FOR UPDATE",
+            (rs, rowNum) -> new LoanState(rs.getLong(1), rs.getLong(2), rs.getInt(3), rs.getLong(4), rs.getLong(5)),
+            scope.bind(loanId));
+        return loans.stream().findFirst();
+    }
+
+    @Override
+    public Optional<LoanBalance> findBalance(long loanId, TenantScope scope) {
+        List<LoanBalance> balances = jdbcTemplate.query(BALANCE_SQL + scope.branchClause("l.branch_id"),
+            (rs, rowNum) -> new LoanBalance(loanId, rs.getLong(3), rs.getLong(1), rs.getLong(2)),
+            scope.bind(loanId));
+        return balances.stream().findFirst();
+    }
+
+    @Override
+    public Map<String, LedgerEntry> findByPostingKeys(Collection<String> postingKeys) {
+        if (postingKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, LedgerEntry> entries = new HashMap<>();
+        // 키 테이블의 created_at으로 항목 파티션을 바로 찾는다.
+        jdbcTemplate.query("SELECT " + prefixed("e", ENTRY_COLUMNS) + " FROM ledger_posting_key k "
+                + "JOIN ledger_entry e ON e.loan_id = k.loan_id AND e.entry_seq = k.entry_seq AND e.created_at = k.created_at "
+                + "WHERE k.posting_key IN (" + placeholders(postingKeys.size()) + ")",
+            (ResultSet rs) -> {
+                LedgerEntry entry = toEntry(rs);
+                entries.put(entry.postingKey(), entry);
+            }, postingKeys.toArray());
+        return entries;
+    }
+
+    @Override
+    public Map<Long, LedgerEntry> findEntries(long loanId, Collection<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, LedgerEntry> entries = new HashMap<>();
+        jdbcTemplate.query("SELECT " + ENTRY_COLUMNS + " FROM ledger_entry WHERE loan_id = ? AND entry_seq IN ("
+                + placeholders(seqs.size()) + ")",
+            (ResultSet rs) -> {
+                LedgerEntry entry = toEntry(rs);
+                entries.put(entry.seq(), entry);
+            }, withLoanId(loanId, seqs));
+        return entries;
+    }
+
+    @Override
+    public Set<Long> findReversedSeqs(long loanId, Collection<Long> seqs) {
+        if (seqs.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Long> reversed = new HashSet<>();
+        jdbcTemplate.query("SELECT reverses_seq FROM ledger_reversal WHERE loan_id = ? AND reverses_seq IN ("
+                + placeholders(seqs.size()) + ")",
+            (ResultSet rs) -> {
+                reversed.add(rs.getLong(1));
+            }, withLoanId(loanId, seqs));
+        return reversed;
+    }
+
+    @Override
+    public List<LedgerEntry> findEntriesAfter(long loanId, long afterSeq, LocalDateTime from, int limit) {
+        if (from != null) {
+            return jdbcTemplate.query("SELECT " + ENTRY_COLUMNS + " FROM ledger_entry "
+                    + "WHERE loan_id = ? AND created_at >= ? AND entry_seq > ? ORDER BY entry_seq LIMIT ?",
+                (rs, rowNum) -> toEntry(rs), loanId, Timestamp.valueOf(from), afterSeq, limit);
+        }
+        return jdbcTemplate.query("SELECT " + ENTRY_COLUMNS + " FROM ledger_entry "
+                + "WHERE loan_id = ? AND entry_seq > ? ORDER BY entry_seq LIMIT ?",
+            (rs, rowNum) -> toEntry(rs), loanId, afterSeq, limit);
+    }
+
+    @Override
+    public void appendEntries(List<LedgerEntry> entries) {
+        // 키를 먼저 기록해 같은 키의 동시 요청은 항목 기록 전에 DuplicateKeyException으로 끝난다.
+        jdbcTemplate.batchUpdate(INSERT_POSTING_KEY, entries, BATCH_SIZE, (statement, entry) -> {
+            statement.setString(1, entry.postingKey());
+            statement.setLong(2, entry.loanId());
+            statement.setLong(3, entry.seq());
+            statement.setTimestamp(4, Timestamp.valueOf(entry.createdAt()));
+        });
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, entries, BATCH_SIZE, (statement, entry) -> {
+            statement.setLong(1, entry.loanId());
+            statement.setLong(2, entry.seq());
+            statement.setString(3, entry.type().name());
+            statement.setLong(4, entry.amount());
+            statement.setString(5, entry.postingKey());
+            statement.setObject(6, entry.reversesSeq(), Types.BIGINT);
+            statement.setTimestamp(7, Timestamp.valueOf(entry.createdAt()));
+        });
+        List<LedgerEntry> reversals = entries.stream().filter(entry -> entry.reversesSeq() != null).toList();
+        if (!reversals.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_REVERSAL, reversals, BATCH_SIZE, (statement, entry) -> {
+                statement.setLong(1, entry.loanId());
+                statement.setLong(2, entry.reversesSeq());
+                statement.setLong(3, entry.seq());
+                statement.setTimestamp(4, Timestamp.valueOf(entry.createdAt()));
+            });
+        }
+    }
+
+    @Override
+    public void insertSnapshot(long loanId, long seq, long balance, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO ledger_snapshot (loan_id, entry_seq, balance, created_at) VALUES (?, ?, ?, ?)",
+            loanId, seq, balance, Timestamp.valueOf(createdAt));
+    }
+
+    @Override
+    public void advance(long loanId, long lastSeq, long snapshotSeq) {
+        jdbcTemplate.update("UPDATE loan SET last_seq = ?, snapshot_seq = ? WHERE loan_id = ?",
+            lastSeq, snapshotSeq, loanId);
+    }
+
+    private static LedgerEntry toEntry(ResultSet rs) throws SQLException {
+        long reversesSeq = rs.getLong(6);
+        boolean reversal = !rs.wasNull();
+        return new LedgerEntry(
+            rs.getLong(1),
+            rs.getLong(2),
+            EntryType.valueOf(rs.getString(3)),
+            rs.getLong(4),
+            rs.getString(5),
+            reversal ? reversesSeq : null,
+            rs.getTimestamp(7).toLocalDateTime());
+    }
+
+    private static String prefixed(String alias, String columns) {
+        return alias + "." + String.join(", " + alias + ".", columns.split(", "));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] withLoanId(long loanId, Collection<Long> seqs) {
+        Object[] args = new Object[seqs.size() + 1];
+        args[0] = loanId;
+        int i = 1;
+        for (Long seq : seqs) {
+            args[i++] = seq;
+        }
+        return args;
+    }
+}
@@ -0,0 +1,87 @@
+package com.gt.outbox.application.publisher;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.outbox.application.relay.OutboxRelay;
+import com.gt.outbox.domain.repository.OutboxRepository;
+
+/**
+ * 도메인 이벤트를 outbox 테이블에 기록한다.
+ * 호출한 서비스의 트랜잭션 안에서만 기록하므로, 엔티티 변경이 롤백되면 이벤트도 함께 사라진다.
+ */
+@Component
+public class OutboxPublisher {
+
+    private static final Object WAKE_UP_REGISTERED = new Object();
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<OutboxRelay> relay;
+    private volatile int partitions;
+
+    public OutboxPublisher(OutboxRepository outboxRepository, ObjectMapper objectMapper, ObjectProvider<OutboxRelay> relay) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.relay = relay;
+    }
+
+    /**
+     * @param aggregateId 같은 값의 이벤트는 기록된 순서대로 전달된다.
+     * @param payload     JSON으로 변환해 저장
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String aggregateType, Object aggregateId, String eventType, Object payload) {
+        String id = String.valueOf(aggregateId);
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("outbox payload 변환 실패: " + eventType, e);
+        }
+        outboxRepository.insert(partitionOf(id), aggregateType, id, eventType, json, LocalDateTime.now());
+        wakeUpRelayAfterCommit();
+    }
+
+    /**
+     * aggregate → partition (partition 수는 outbox_partition 행 수, 운영 중에는 바꾸지 않는다)
+     */
+    int partitionOf(String aggregateId) {
+        int count = partitions;
+        if (count == 0) {
+            count = outboxRepository.partitionCount();
+            partitions = count;
+        }
+        return Math.floorMod(aggregateId.hashCode(), count);
+    }
+
+    /**
+     * 커밋 직후 이 노드의 relay를 깨워 polling 주기만큼의 지연을 없앤다. (트랜잭션당 한 번)
+     */
+    private void wakeUpRelayAfterCommit() {
+        OutboxRelay target = relay.getIfAvailable();
+        if (target == null || TransactionSynchronizationManager.hasResource(WAKE_UP_REGISTERED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WAKE_UP_REGISTERED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                target.wakeUp();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WAKE_UP_REGISTERED);
+            }
+        });
+    }
+}
@@ -0,0 +1,180 @@
+package com.gt.outbox.application.relay;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gt.outbox.application.sink.OutboxSink;
+import com.gt.outbox.domain.entity.OutboxEvent;
+import com.gt.outbox.domain.repository.OutboxRepository;
+import com.gt.outbox.infra.config.OutboxProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 이벤트를 배치로 읽어 sink에 전달한다.
+ *
+ * 한 트랜잭션에서 partition 몇 개를 FOR UPDATE SKIP LOCKED로 잠그고, 그 partition의 대기 이벤트를
+ * event_id 순으로 전달한 뒤 published_at을 기록한다. 다른 노드는 잠긴 partition을 건너뛰므로
+ * 여러 노드가 일을 나눠 가지면서도 같은 aggregate의 이벤트는 한 노드가 순서대로 전달한다.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    /** 보관 기간 정리 주기 */
+    private static final long PURGE_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+    private static final int PURGE_BATCH = 5_000;
+
+    private final OutboxRepository outboxRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxProperties.Relay properties;
+    private final Semaphore wakeUps = new Semaphore(0);
+
+    private final Counter deliveredEvents;
+    private final Counter failures;
+    private final DistributionSummary batchSize;
+    private final Timer batchTime;
+    private final Timer lag;
+
+    private Thread worker;
+    private volatile boolean running;
+    private long nextPurgeAt;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       List<OutboxSink> sinks,
+                       PlatformTransactionManager transactionManager,
+                       OutboxProperties.Relay properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+
+        this.deliveredEvents = Counter.builder("outbox.relay.events")
+            .description("Outbox events delivered to all sinks")
+            .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+            .description("Outbox batches rolled back after a sink failure")
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("outbox.relay.batch.size")
+            .description("Outbox events per relay transaction")
+            .register(meterRegistry);
+        this.batchTime = Timer.builder("outbox.relay.batch.time")
+            .description("Outbox relay transaction time (claim + deliver + mark)")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.lag = Timer.builder("outbox.lag")
+            .description("Time from outbox write to delivery")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        log.info("outbox relay 시작: sinks = {}", sinks.stream().map(OutboxSink::name).toList());
+        running = true;
+        nextPurgeAt = System.nanoTime();
+        worker = new Thread(this::run, "outbox-relay");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    /**
+     * 대기 중이면 바로 다음 배치를 조회하게 한다.
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * 배치 하나 전달
+     * @return 전달한 이벤트 수 (잠글 partition이 없거나 대기 이벤트가 없으면 0)
+     */
+    public int drainOnce() {
+        long start = System.nanoTime();
+        List<OutboxEvent> delivered = transactionTemplate.execute(status -> {
+            List<Integer> partitions = outboxRepository.claimPartitions(properties.getPartitionsPerClaim(), LocalDateTime.now());
+            List<OutboxEvent> events = outboxRepository.findPending(partitions, properties.getBatchSize());
+            if (events.isEmpty()) {
+                return events;
+            }
+            for (OutboxSink sink : sinks) {
+                sink.deliver(events);
+            }
+            outboxRepository.markPublished(events, LocalDateTime.now());
+            return events;
+        });
+        if (delivered == null || delivered.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboxEvent event : delivered) {
+            lag.record(Duration.between(event.createdAt(), now));
+        }
+        deliveredEvents.increment(delivered.size());
+        batchSize.record(delivered.size());
+        batchTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return delivered.size();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                if (drainOnce() == 0) {
+                    purgeIfDue();
+                    wakeUps.tryAcquire(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUps.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.warn("outbox 전달 실패, {}ms 후 재시도: {}", properties.getRetryBackoff().toMillis(), e.getMessage());
+                try {
+                    Thread.sleep(properties.getRetryBackoff().toMillis());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void purgeIfDue() {
+        if (System.nanoTime() - nextPurgeAt < 0) {
+            return;
+        }
+        nextPurgeAt = System.nanoTime() + PURGE_INTERVAL_NANOS;
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> outboxRepository.deletePublishedBefore(cutoff, PURGE_BATCH));
+            if (deleted > 0) {
+                log.info("전달 완료 outbox 이벤트 정리: {}건", deleted);
+            }
+        } while (deleted == PURGE_BATCH && running);
+    }
+}
@@ -0,0 +1,51 @@
+package com.gt.outbox.application.sink;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import com.gt.outbox.domain.entity.OutboxEvent;
+
+/**
+ * 최근 이벤트를 메모리에 보관하는 sink (로컬 실행 / 테스트용)
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final int capacity;
+    private final Deque<OutboxEvent> events = new ArrayDeque<>();
+    private long lastEventId;
+
+    public InMemoryOutboxSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public String name() {
+        return "memory";
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxEvent> batch) {
+        for (OutboxEvent event : batch) {
+            events.addLast(event);
+            lastEventId = Math.max(lastEventId, event.eventId());
+            if (events.size() > capacity) {
+                events.removeFirst();
+            }
+        }
+    }
+
+    /** 보관 중인 이벤트 (전달된 순서) */
+    public synchronized List<OutboxEvent> events() {
+        return new ArrayList<>(events);
+    }
+
+    public synchronized long lastEventId() {
+        return lastEventId;
+    }
+
+    public synchronized void clear() {
+        events.clear();
+    }
+}
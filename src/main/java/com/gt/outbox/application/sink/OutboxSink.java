@@ -0,0 +1,21 @@
+package com.gt.outbox.application.sink;
+
+import java.util.List;
+
+import com.gt.outbox.domain.entity.OutboxEvent;
+
+/**
+ * outbox 이벤트 전달 대상 (빈으로 등록하면 relay가 모두에게 전달한다)
+ *
+ * 전달은 at-least-once: 전달 후 커밋 전에 실패하면 같은 이벤트가 다시 전달되므로 eventId로 중복을 걸러야 한다.
+ * 예외를 던지면 배치 전체가 롤백되고 잠시 후 같은 순서로 다시 전달된다.
+ */
+public interface OutboxSink {
+
+    String name();
+
+    /**
+     * @param events event_id 순 (같은 aggregate의 이벤트는 기록된 순서대로)
+     */
+    void deliver(List<OutboxEvent> events);
+}
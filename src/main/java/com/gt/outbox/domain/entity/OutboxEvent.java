@@ -0,0 +1,20 @@
+package com.gt.outbox.domain.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 이벤트
+ * @param eventId      전달 순서 (sink는 이 값으로 중복 전달을 걸러야 한다)
+ * @param aggregateId  같은 aggregate의 이벤트는 기록된 순서대로 전달된다.
+ * @param payload      JSON
+ */
+public record OutboxEvent(
+    long eventId,
+    int partition,
+    String aggregateType,
+    String aggregateId,
+    String eventType,
+    String payload,
+    LocalDateTime createdAt
+) {
+}
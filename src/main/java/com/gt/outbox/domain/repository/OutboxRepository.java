@@ -0,0 +1,32 @@
+package com.gt.outbox.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.gt.outbox.domain.entity.OutboxEvent;
+
+public interface OutboxRepository {
+
+    int partitionCount();
+
+    void insert(int partition, String aggregateType, String aggregateId, String eventType, String payload,
+                LocalDateTime createdAt);
+
+    /**
+     * 다른 노드가 잡지 않은 partition을 오래 처리하지 않은 순으로 잠근다. (트랜잭션 종료 시 해제)
+     */
+    List<Integer> claimPartitions(int limit, LocalDateTime now);
+
+    /**
+     * 잠근 partition의 전달 대기 이벤트 (event_id 순)
+     */
+    List<OutboxEvent> findPending(List<Integer> partitions, int limit);
+
+    void markPublished(List<OutboxEvent> events, LocalDateTime publishedAt);
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 삭제
+     * @return 삭제한 건수
+     */
+    int deletePublishedBefore(LocalDateTime cutoff, int limit);
+}
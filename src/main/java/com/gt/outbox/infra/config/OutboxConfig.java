@@ -0,0 +1,48 @@
+package com.gt.outbox.infra.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.gt.outbox.application.relay.OutboxRelay;
+import com.gt.outbox.application.sink.InMemoryOutboxSink;
+import com.gt.outbox.application.sink.OutboxSink;
+import com.gt.outbox.domain.repository.OutboxRepository;
+import com.gt.outbox.infra.sink.RedisStreamOutboxSink;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox", name = "sink", havingValue = "redis", matchIfMissing = true)
+    public RedisStreamOutboxSink redisStreamOutboxSink(OutboxProperties properties, StringRedisTemplate stringRedisTemplate) {
+        return new RedisStreamOutboxSink(stringRedisTemplate, properties.getRedis().getStreamKey(),
+            properties.getRedis().getMaxLength());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox", name = "sink", havingValue = "memory")
+    public InMemoryOutboxSink inMemoryOutboxSink(OutboxProperties properties) {
+        return new InMemoryOutboxSink(properties.getMemory().getCapacity());
+    }
+
+    /**
+     * 등록된 모든 OutboxSink에 @Order 순서대로 전달한다. (sink가 없으면 전달 완료로만 기록)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(OutboxRepository outboxRepository,
+                                   ObjectProvider<OutboxSink> sinks,
+                                   PlatformTransactionManager transactionManager,
+                                   OutboxProperties properties,
+                                   MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxRepository, sinks.orderedStream().toList(), transactionManager, properties.getRelay(), meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.gt.outbox.infra.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 트랜잭션 outbox 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    /** 기본 sink: redis | memory | none (다른 OutboxSink 빈은 이 값과 관계없이 등록된다) */
+    private String sink = "redis";
+
+    private Relay relay = new Relay();
+    private Redis redis = new Redis();
+    private Memory memory = new Memory();
+
+    @Getter
+    @Setter
+    public static class Relay {
+
+        private boolean enabled = true;
+
+        /** 한 트랜잭션에서 전달하는 최대 이벤트 수 */
+        private int batchSize = 500;
+
+        /** 한 번에 잠그는 partition 수 (노드 수가 많으면 줄여서 나눠 가진다) */
+        private int partitionsPerClaim = 4;
+
+        /** 대기 이벤트가 없을 때 다시 조회하기까지의 시간 (같은 노드의 커밋은 즉시 깨운다) */
+        private Duration pollInterval = Duration.ofMillis(200);
+
+        /** sink 전달 실패 후 재시도까지의 시간 */
+        private Duration retryBackoff = Duration.ofSeconds(1);
+
+        /** 전달 완료 이벤트 보관 기간 */
+        private Duration retention = Duration.ofDays(7);
+    }
+
+    @Getter
+    @Setter
+    public static class Redis {
+        private String streamKey = "outbox:events";
+        private long maxLength = 1_000_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Memory {
+        private int capacity = 10_000;
+    }
+}
@@ -0,0 +1,109 @@
+package com.gt.outbox.infra.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.gt.outbox.domain.entity.OutboxEvent;
+import com.gt.outbox.domain.repository.OutboxRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * outbox JDBC 구현
+ * 이벤트 INSERT는 호출한 서비스의 트랜잭션(JPA 포함)에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcOutboxRepository implements OutboxRepository {
+
+    private static final String EVENT_COLUMNS =
+        "event_id, partition_no, aggregate_type, aggregate_id, event_type, payload, created_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int partitionCount() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_partition", Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public void insert(int partition, String aggregateType, String aggregateId, String eventType, String payload,
+                       LocalDateTime createdAt) {
+        jdbcTemplate.update("""
+            INSERT INTO outbox_event (partition_no, aggregate_type, aggregate_id, event_type, payload, created_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """, partition, aggregateType, aggregateId, eventType, payload, Timestamp.valueOf(createdAt));
+    }
+
+    @Override
+    public List<Integer> claimPartitions(int limit, LocalDateTime now) {
+        List<Integer> partitions = jdbcTemplate.queryForList("""
+            SELECT partition_no FROM outbox_partition
+            ORDER BY claimed_at, partition_no
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """, Integer.class, limit);
+        if (partitions.isEmpty()) {
+            return partitions;
+        }
+        jdbcTemplate.update("UPDATE outbox_partition SET claimed_at = ? WHERE partition_no IN (" + placeholders(partitions.size()) + ")",
+            prepend(Timestamp.valueOf(now), partitions));
+        return partitions;
+    }
+
+    @Override
+    public List<OutboxEvent> findPending(List<Integer> partitions, int limit) {
+        if (partitions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Object[] args = new Object[partitions.size() + 1];
+        for (int i = 0; i < partitions.size(); i++) {
+            args[i] = partitions.get(i);
+        }
+        args[partitions.size()] = limit;
+        return jdbcTemplate.query("SELECT " + EVENT_COLUMNS + " FROM outbox_event "
+                + "WHERE published_at IS NULL AND partition_no IN (" + placeholders(partitions.size()) + ") "
+                + "ORDER BY event_id LIMIT ?",
+            (rs, rowNum) -> new OutboxEvent(rs.getLong(1), rs.getInt(2), rs.getString(3), rs.getString(4),
+                rs.getString(5), rs.getString(6), rs.getTimestamp(7).toLocalDateTime()),
+            args);
+    }
+
+    @Override
+    public void markPublished(List<OutboxEvent> events, LocalDateTime publishedAt) {
+        Timestamp timestamp = Timestamp.valueOf(publishedAt);
+        jdbcTemplate.batchUpdate("UPDATE outbox_event SET published_at = ? WHERE event_id = ?", events, 500,
+            (statement, event) -> {
+                statement.setTimestamp(1, timestamp);
+                statement.setLong(2, event.eventId());
+            });
+    }
+
+    @Override
+    public int deletePublishedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update("""
+            DELETE FROM outbox_event WHERE event_id IN (
+                SELECT event_id FROM outbox_event WHERE published_at < ? LIMIT ?
+            )
+            """, Timestamp.valueOf(cutoff), limit);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] prepend(Object first, List<Integer> rest) {
+        Object[] args = new Object[rest.size() + 1];
+        args[0] = first;
+        for (int i = 0; i < rest.size(); i++) {
+            args[i + 1] = rest.get(i);
+        }
+        return args;
+    }
+}
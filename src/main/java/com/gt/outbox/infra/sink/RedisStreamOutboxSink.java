@@ -0,0 +1,60 @@
+package com.gt.outbox.infra.sink;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.gt.outbox.application.sink.OutboxSink;
+import com.gt.outbox.domain.entity.OutboxEvent;
+
+/**
+ * Redis Stream sink: 배치 전체를 XADD 파이프라인 한 번으로 전송한다.
+ * 소비자는 consumer group으로 읽고, 필드의 eventId로 중복을 거른다.
+ */
+public class RedisStreamOutboxSink implements OutboxSink {
+
+    private final StringRedisTemplate redisTemplate;
+    private final byte[] streamKey;
+    private final XAddOptions options;
+
+    /**
+     * @param maxLength 스트림 최대 길이 (근사 trim)
+     */
+    public RedisStreamOutboxSink(StringRedisTemplate redisTemplate, String streamKey, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.streamKey = bytes(streamKey);
+        this.options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+    }
+
+    @Override
+    public String name() {
+        return "redis-stream";
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxEvent event : events) {
+                Map<byte[], byte[]> fields = new LinkedHashMap<>();
+                fields.put(bytes("eventId"), bytes(Long.toString(event.eventId())));
+                fields.put(bytes("aggregateType"), bytes(event.aggregateType()));
+                fields.put(bytes("aggregateId"), bytes(event.aggregateId()));
+                fields.put(bytes("eventType"), bytes(event.eventType()));
+                fields.put(bytes("createdAt"), bytes(event.createdAt().toString()));
+                fields.put(bytes("payload"), bytes(event.payload()));
+                connection.streamCommands().xAdd(StreamRecords.rawBytes(fields).withStreamKey(streamKey), options);
+            }
+            return null;
+        });
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,64 @@
+package com.gt.overview.api.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gt.global.common.entity.ApiResponse;
+import com.gt.overview.api.dto.CustomerOverviewResponse;
+import com.gt.overview.api.dto.OverviewCheckResponse;
+import com.gt.overview.api.dto.OverviewRebuildResponse;
+import com.gt.overview.application.service.CustomerOverviewService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/overview")
+@RequiredArgsConstructor
+public class CustomerOverviewController {
+
+    private final CustomerOverviewService customerOverviewService;
+
+    /**
+     * 고객 요약 (프로필, 활성 대출, 잔액 합계, 마지막 원장 기록 시각)
+     */
+    @GetMapping("/{personId}")
+    public ResponseEntity<?> overview(@PathVariable long personId) {
+        CustomerOverviewResponse response = customerOverviewService.getOverview(personId);
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Person not found", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, "Customer overview", response));
+    }
+
+    /**
+     * 전체 재생성 (관리자)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild() {
+        OverviewRebuildResponse response = customerOverviewService.rebuild();
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, "Overview rebuild or check is already in progress", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, "Overviews rebuilt", response));
+    }
+
+    /**
+     * 원본과 정합성 검사 (관리자), repair=true면 누락 / 불일치 행을 고친다.
+     */
+    @PostMapping("/check")
+    public ResponseEntity<?> check(@RequestParam(defaultValue = "false") boolean repair) {
+        OverviewCheckResponse response = customerOverviewService.check(repair);
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, "Overview rebuild or check is already in progress", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, "Overviews checked", response));
+    }
+}
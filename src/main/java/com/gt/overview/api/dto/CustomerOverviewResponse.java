@@ -0,0 +1,36 @@
+package com.gt.overview.api.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.gt.overview.domain.entity.CustomerOverview;
+import com.gt.overview.domain.entity.LoanSummary;
+import com.gt.person.domain.entity.Gender;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CustomerOverviewResponse {
+
+    private long personId;
+    private int branchId;
+    private String name;
+    private String phone;
+    private LocalDate birth;
+    private Gender gender;
+    private String address1;
+    private int activeLoans;            // 잔액이 남은 대출 수
+    private long outstandingBalance;    // 대출 잔액 합계
+    private LocalDateTime lastPostedAt; // 마지막 원장 기록 시각
+    private List<LoanSummary> loans;
+    private LocalDateTime updatedAt;    // 요약 갱신 시각 (원본 대비 지연 확인용)
+
+    public static CustomerOverviewResponse from(CustomerOverview overview) {
+        return new CustomerOverviewResponse(overview.personId(), overview.branchId(), overview.name(), overview.phone(),
+            overview.birth(), overview.gender(), overview.address1(), overview.activeLoans(), overview.outstandingBalance(),
+            overview.lastPostedAt(), overview.loans(), overview.updatedAt());
+    }
+}
@@ -0,0 +1,18 @@
+package com.gt.overview.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OverviewCheckResponse {
+
+    private long checked;
+    private long missing;           // 요약 행이 없는 고객
+    private long mismatched;        // 원본과 내용이 다른 고객
+    private long repaired;
+    private List<Long> samples;     // 누락 / 불일치 고객 ID 일부
+    private long elapsedMs;
+}
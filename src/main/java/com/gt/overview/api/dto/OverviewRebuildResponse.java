@@ -0,0 +1,12 @@
+package com.gt.overview.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class OverviewRebuildResponse {
+
+    private long rebuilt;
+    private long elapsedMs;
+}
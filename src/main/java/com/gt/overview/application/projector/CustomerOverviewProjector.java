@@ -0,0 +1,107 @@
+package com.gt.overview.application.projector;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.ledger.domain.event.LoanPostedEvent;
+import com.gt.outbox.application.sink.OutboxSink;
+import com.gt.outbox.domain.entity.OutboxEvent;
+import com.gt.overview.domain.entity.CustomerOverview;
+import com.gt.overview.domain.entity.LoanSummary;
+import com.gt.overview.domain.repository.CustomerOverviewRepository;
+import com.gt.person.domain.event.PersonCreatedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 이벤트로 고객 요약을 갱신하는 sink
+ *
+ * relay 트랜잭션 안에서 고객 행을 잠그고 반영하므로, 실패하면 배치와 함께 롤백되어 다시 전달된다.
+ * - PersonCreated: 프로필 반영
+ * - LoanPosted: 이벤트에 담긴 기록 후 잔액을 대출별 lastSeq 비교로 반영 (중복 / 재전달은 무시된다)
+ * 고객과 대출 이벤트는 partition이 달라 순서가 보장되지 않으므로, 행이 없으면 원본에서 만들어 저장한다.
+ * (동시에 같은 고객 행을 추가하면 한쪽이 DuplicateKeyException으로 롤백되고 재전달 시 갱신한다.)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "overview.projector", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CustomerOverviewProjector implements OutboxSink {
+
+    private final CustomerOverviewRepository overviewRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Counter appliedEvents;
+    private final Counter loadedFromSource;
+
+    public CustomerOverviewProjector(CustomerOverviewRepository overviewRepository,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        this.overviewRepository = overviewRepository;
+        this.objectMapper = objectMapper;
+        this.appliedEvents = Counter.builder("overview.projector.events")
+            .description("Outbox events applied to customer overviews")
+            .register(meterRegistry);
+        this.loadedFromSource = Counter.builder("overview.projector.source.loads")
+            .description("Customer overviews built from source tables on a missing row")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String name() {
+        return "customer-overview";
+    }
+
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            if (PersonCreatedEvent.EVENT_TYPE.equals(event.eventType())) {
+                PersonCreatedEvent created = read(event, PersonCreatedEvent.class);
+                apply(created.personId(), current -> new CustomerOverview(created.personId(), created.branchId(),
+                    created.name(), created.phone(), created.birth(), created.gender(), created.address1(),
+                    current.loans(), LocalDateTime.now()));
+            } else if (LoanPostedEvent.EVENT_TYPE.equals(event.eventType())) {
+                LoanPostedEvent posted = read(event, LoanPostedEvent.class);
+                apply(posted.personId(), current -> current.withLoan(
+                    new LoanSummary(posted.loanId(), posted.balance(), posted.lastSeq(), posted.postedAt()), LocalDateTime.now()));
+            } else {
+                continue;
+            }
+            appliedEvents.increment();
+        }
+    }
+
+    private void apply(long personId, UnaryOperator<CustomerOverview> change) {
+        Optional<CustomerOverview> locked = overviewRepository.lock(personId);
+        CustomerOverview current = locked.orElse(null);
+        if (current == null) {
+            current = overviewRepository.loadFromSource(List.of(personId)).get(personId);
+            if (current == null) {
+                // 원본이 없으면(이벤트 이후 삭제) 반영할 대상이 없다.
+                log.debug("고객 요약 원본 없음: personId = {}", personId);
+                return;
+            }
+            loadedFromSource.increment();
+        }
+        CustomerOverview changed = change.apply(current);
+        if (changed != current || locked.isEmpty()) {
+            overviewRepository.save(changed);
+        }
+    }
+
+    private <T> T read(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("outbox payload 변환 실패: eventId = " + event.eventId(), e);
+        }
+    }
+}
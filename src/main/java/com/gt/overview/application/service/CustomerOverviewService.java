@@ -0,0 +1,26 @@
+package com.gt.overview.application.service;
+
+import com.gt.overview.api.dto.CustomerOverviewResponse;
+import com.gt.overview.api.dto.OverviewCheckResponse;
+import com.gt.overview.api.dto.OverviewRebuildResponse;
+
+public interface CustomerOverviewService {
+
+    /**
+     * 고객 요약 (행이 없으면 원본에서 만들어 저장)
+     * @return 고객이 없거나 다른 지점 고객이면 null
+     */
+    CustomerOverviewResponse getOverview(long personId);
+
+    /**
+     * 전체 고객의 요약을 원본에서 다시 만든다.
+     * @return 재생성 / 검사가 이미 실행 중이면 null
+     */
+    OverviewRebuildResponse rebuild();
+
+    /**
+     * 저장된 요약과 원본을 비교한다. repair면 누락 / 불일치 행을 원본으로 고친다.
+     * @return 재생성 / 검사가 이미 실행 중이면 null
+     */
+    OverviewCheckResponse check(boolean repair);
+}
@@ -0,0 +1,185 @@
+package com.gt.overview.application.service.serviceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.overview.api.dto.CustomerOverviewResponse;
+import com.gt.overview.api.dto.OverviewCheckResponse;
+import com.gt.overview.api.dto.OverviewRebuildResponse;
+import com.gt.overview.application.service.CustomerOverviewService;
+import com.gt.overview.domain.entity.CustomerOverview;
+import com.gt.overview.domain.repository.CustomerOverviewRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고객 요약 조회 / 재생성 / 정합성 검사
+ *
+ * 조회는 미리 합쳐 둔 행 하나만 읽는다. 갱신은 CustomerOverviewProjector가 outbox 이벤트로 한다.
+ * 재생성과 검사는 고객 ID keyset 배치로 진행하며, 고칠 때는 행을 잠근 뒤 원본을 다시 읽어 저장한다.
+ * (잠근 뒤 읽은 원본은 이미 커밋된 모든 기록을 포함하므로, 늦게 도착한 이벤트는 lastSeq 비교로 무시된다.)
+ */
+@Slf4j
+@Service
+public class CustomerOverviewServiceImpl implements CustomerOverviewService {
+
+    private static final int MAX_SAMPLES = 20;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final CustomerOverviewRepository overviewRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final AtomicBoolean scanning = new AtomicBoolean();
+
+    private final Timer readTime;
+    private final Timer rebuildTime;
+
+    public CustomerOverviewServiceImpl(CustomerOverviewRepository overviewRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${overview.batch-size:500}") int batchSize) {
+        this.overviewRepository = overviewRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.readTime = Timer.builder("overview.read")
+            .description("Customer overview read time")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.rebuildTime = Timer.builder("overview.rebuild")
+            .description("Customer overview full rebuild time")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public CustomerOverviewResponse getOverview(long personId) {
+        long start = System.nanoTime();
+        CustomerOverview overview = overviewRepository.find(personId).orElse(null);
+        if (overview == null) {
+            overview = overviewRepository.loadFromSource(List.of(personId)).get(personId);
+            if (overview == null) {
+                return null;
+            }
+            try {
+                overviewRepository.save(overview);
+            } catch (DuplicateKeyException e) {
+                // projector가 먼저 추가한 경우, 다음 조회부터 그 행을 읽는다.
+            }
+        }
+        readTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return TenantScope.current().canSee(overview.branchId()) ? CustomerOverviewResponse.from(overview) : null;
+    }
+
+    @Override
+    public OverviewRebuildResponse rebuild() {
+        if (!scanning.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            long start = System.nanoTime();
+            long rebuilt = 0;
+            long afterId = 0;
+            List<Long> personIds;
+            while (!(personIds = overviewRepository.findPersonIdsAfter(afterId, batchSize)).isEmpty()) {
+                rebuilt += repair(personIds);
+                afterId = personIds.get(personIds.size() - 1);
+            }
+            long elapsed = System.nanoTime() - start;
+            rebuildTime.record(elapsed, TimeUnit.NANOSECONDS);
+            log.info("고객 요약 재생성 완료: customers = {}, elapsed = {}ms", rebuilt, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            return new OverviewRebuildResponse(rebuilt, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        } finally {
+            scanning.set(false);
+        }
+    }
+
+    /**
+     * relay가 아직 전달하지 않은 이벤트가 있는 고객도 불일치로 집계된다. (원본이 앞서 있는 상태)
+     */
+    @Override
+    public OverviewCheckResponse check(boolean repair) {
+        if (!scanning.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            long start = System.nanoTime();
+            long checked = 0;
+            long missing = 0;
+            long mismatched = 0;
+            long repaired = 0;
+            List<Long> samples = new ArrayList<>();
+            long afterId = 0;
+            List<Long> personIds;
+            while (!(personIds = overviewRepository.findPersonIdsAfter(afterId, batchSize)).isEmpty()) {
+                Map<Long, CustomerOverview> stored = overviewRepository.findAll(personIds);
+                Map<Long, CustomerOverview> source = overviewRepository.loadFromSource(personIds);
+                List<Long> broken = new ArrayList<>();
+                for (CustomerOverview expected : source.values()) {
+                    CustomerOverview actual = stored.get(expected.personId());
+                    if (actual == null) {
+                        missing++;
+                    } else if (!actual.sameContent(expected)) {
+                        mismatched++;
+                    } else {
+                        continue;
+                    }
+                    broken.add(expected.personId());
+                    if (samples.size() < MAX_SAMPLES) {
+                        samples.add(expected.personId());
+                    }
+                }
+                checked += source.size();
+                if (repair && !broken.isEmpty()) {
+                    repaired += repair(broken);
+                }
+                afterId = personIds.get(personIds.size() - 1);
+            }
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("고객 요약 검사 완료: checked = {}, missing = {}, mismatched = {}, repaired = {}, elapsed = {}ms",
+                checked, missing, mismatched, repaired, elapsed);
+            return new OverviewCheckResponse(checked, missing, mismatched, repaired, samples, elapsed);
+        } finally {
+            scanning.set(false);
+        }
+    }
+
+    /**
+     * 행을 잠그고 원본을 읽어 저장 (한 트랜잭션)
+     * projector와 같은 행을 동시에 추가하거나 잠금 순서가 엇갈리면 다시 시도한다.
+     * @return 저장한 고객 수
+     */
+    private int repair(List<Long> personIds) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Integer saved = transactionTemplate.execute(status -> {
+                    for (Long personId : personIds) {
+                        overviewRepository.lock(personId);
+                    }
+                    Map<Long, CustomerOverview> source = overviewRepository.loadFromSource(personIds);
+                    for (CustomerOverview overview : source.values()) {
+                        overviewRepository.save(overview);
+                    }
+                    return source.size();
+                });
+                return saved == null ? 0 : saved;
+            } catch (DuplicateKeyException | PessimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("고객 요약 저장 충돌, 재시도 {}: {}", attempt, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.gt.overview.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.gt.person.domain.entity.Gender;
+
+/**
+ * 고객 요약 (read model 문서)
+ * 대시보드가 한 번에 읽는 프로필 + 대출별 잔액. 원본은 person / loan / ledger이며 변경 시 outbox 이벤트로 갱신한다.
+ * 대출은 loanId 순으로 보관하고, 같은 대출은 lastSeq가 더 큰 값만 반영한다.
+ */
+public record CustomerOverview(
+    long personId,
+    int branchId,
+    String name,
+    String phone,
+    LocalDate birth,
+    Gender gender,
+    String address1,
+    List<LoanSummary> loans,
+    LocalDateTime updatedAt
+) {
+
+    public CustomerOverview {
+        loans = List.copyOf(loans);
+    }
+
+    public int activeLoans() {
+        return (int) loans.stream().filter(LoanSummary::hasBalance).count();
+    }
+
+    public long outstandingBalance() {
+        return loans.stream().mapToLong(LoanSummary::balance).sum();
+    }
+
+    public LocalDateTime lastPostedAt() {
+        return loans.stream().map(LoanSummary::lastPostedAt).filter(Objects::nonNull)
+            .max(Comparator.naturalOrder()).orElse(null);
+    }
+
+    /**
+     * 대출 잔액 반영, 이미 같거나 더 최근 순번이 반영되어 있으면 그대로 반환
+     */
+    public CustomerOverview withLoan(LoanSummary loan, LocalDateTime now) {
+        for (LoanSummary existing : loans) {
+            if (existing.loanId() == loan.loanId() && existing.lastSeq() >= loan.lastSeq()) {
+                return this;
+            }
+        }
+        Map<Long, LoanSummary> merged = byLoanId(loans);
+        merged.put(loan.loanId(), loan);
+        return new CustomerOverview(personId, branchId, name, phone, birth, gender, address1, sorted(merged), now);
+    }
+
+    /**
+     * 저장된 문서와 원본이 같은 내용인지
+     * 갱신 시각과 대출별 기록 시각은 비교하지 않는다. (이벤트의 시각은 DB TIMESTAMP(6)보다 정밀할 수 있다)
+     */
+    public boolean sameContent(CustomerOverview other) {
+        if (personId != other.personId || branchId != other.branchId || !Objects.equals(name, other.name)
+                || !Objects.equals(phone, other.phone) || !Objects.equals(birth, other.birth) || gender != other.gender
+                || !Objects.equals(address1, other.address1) || loans.size() != other.loans.size()) {
+            return false;
+        }
+        for (int i = 0; i < loans.size(); i++) {
+            LoanSummary a = loans.get(i);
+            LoanSummary b = other.loans.get(i);
+            if (a.loanId() != b.loanId() || a.balance() != b.balance() || a.lastSeq() != b.lastSeq()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<Long, LoanSummary> byLoanId(List<LoanSummary> loans) {
+        Map<Long, LoanSummary> map = new LinkedHashMap<>();
+        for (LoanSummary loan : loans) {
+            map.put(loan.loanId(), loan);
+        }
+        return map;
+    }
+
+    private static List<LoanSummary> sorted(Map<Long, LoanSummary> loans) {
+        List<LoanSummary> list = new ArrayList<>(loans.values());
+        list.sort(Comparator.comparingLong(LoanSummary::loanId));
+        return list;
+    }
+}
@@ -0,0 +1,15 @@
+package com.gt.overview.domain.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고객 요약에 담는 대출별 잔액
+ * @param lastSeq 잔액에 반영된 마지막 항목 순번 (이벤트 재전달 / 역순 도착 판단 기준)
+ * @param lastPostedAt 마지막 항목 기록 시각 (항목이 보관된 경우 null)
+ */
+public record LoanSummary(long loanId, long balance, long lastSeq, LocalDateTime lastPostedAt) {
+
+    public boolean hasBalance() {
+        return balance > 0;
+    }
+}
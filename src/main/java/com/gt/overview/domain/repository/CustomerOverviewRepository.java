@@ -0,0 +1,35 @@
+package com.gt.overview.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.gt.overview.domain.entity.CustomerOverview;
+
+public interface CustomerOverviewRepository {
+
+    Optional<CustomerOverview> find(long personId);
+
+    Map<Long, CustomerOverview> findAll(Collection<Long> personIds);
+
+    /**
+     * 갱신 전 행 잠금 (같은 고객의 이벤트 반영 / 재생성을 직렬화)
+     */
+    Optional<CustomerOverview> lock(long personId);
+
+    /**
+     * 있으면 갱신, 없으면 추가 (동시에 추가하면 한쪽은 DuplicateKeyException)
+     */
+    void save(CustomerOverview overview);
+
+    /**
+     * 원본 고객 ID (keyset 페이지)
+     */
+    List<Long> findPersonIdsAfter(long afterId, int limit);
+
+    /**
+     * 원본(person / loan / ledger)에서 문서를 만든다. 없는 고객은 결과에 포함되지 않는다.
+     */
+    Map<Long, CustomerOverview> loadFromSource(Collection<Long> personIds);
+}
@@ -0,0 +1,157 @@
+package com.gt.overview.infra.repository;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.overview.domain.entity.CustomerOverview;
+import com.gt.overview.domain.entity.LoanSummary;
+import com.gt.overview.domain.repository.CustomerOverviewRepository;
+import com.gt.person.domain.entity.Gender;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 고객 요약 JDBC 구현
+ * 문서는 JSON 한 컬럼에 두고, 대시보드 조건에 쓰는 값(지점, 활성 대출 수, 잔액 합계)만 컬럼으로 함께 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcCustomerOverviewRepository implements CustomerOverviewRepository {
+
+    private static final String UPDATE = """
+        UPDATE customer_overview
+        SET branch_id = ?, active_loans = ?, outstanding_balance = ?, document = ?, updated_at = ?
+        WHERE person_id = ?
+        """;
+
+    private static final String INSERT = """
+        INSERT INTO customer_overview (branch_id, active_loans, outstanding_balance, document, updated_at, person_id)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    /**
+     * 대출별 잔액은 JdbcLedgerRepository의 잔액 조회와 같은 스냅샷 + 이후 항목 합계,
+     * 마지막 기록 시각은 last_seq 항목의 created_at (보관되어 없으면 NULL)
+     */
+    private static final String SOURCE_LOANS_SQL = """
+        SELECT l.person_id, l.loan_id, l.last_seq,
+               COALESCE(s.balance, 0) + COALESCE((
+                   SELECT SUM(e.amount) FROM ledger_entry e
+                   WHERE e.loan_id = l.loan_id AND e.entry_seq > l.snapshot_seq AND e.entry_seq <= l.last_seq
+                     AND e.created_at >= COALESCE(s.created_at, l.created_date) - INTERVAL '1' DAY
+               ), 0),
+               (SELECT e.created_at FROM ledger_entry e WHERE e.loan_id = l.loan_id AND e.entry_seq = l.last_seq)
+        FROM loan l
+        LEFT JOIN ledger_snapshot s ON s.loan_id = l.loan_id AND s.entry_seq = l.snapshot_seq
+        WHERE l.last_seq > 0 AND l.person_id IN (%s)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Optional<CustomerOverview> find(long personId) {
+        return jdbcTemplate.query("SELECT document FROM customer_overview WHERE person_id = ?",
+            (rs, rowNum) -> read(rs.getString(1)), personId).stream().findFirst();
+    }
+
+    @Override
+    public Map<Long, CustomerOverview> findAll(Collection<Long> personIds) {
+        if (personIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, CustomerOverview> overviews = new HashMap<>();
+        jdbcTemplate.query("SELECT document FROM customer_overview WHERE person_id IN ("
+                + String.join(", ", Collections.nCopies(personIds.size(), "?")) + ")",
+            (ResultSet rs) -> {
+                CustomerOverview overview = read(rs.getString(1));
+                overviews.put(overview.personId(), overview);
+            }, personIds.toArray());
+        return overviews;
+    }
+
+    @Override
+    public Optional<CustomerOverview> lock(long personId) {
+        return jdbcTemplate.query("SELECT document FROM customer_overview WHERE person_id = ? FOR UPDATE",
+            (rs, rowNum) -> read(rs.getString(1)), personId).stream().findFirst();
+    }
+
+    @Override
+    public void save(CustomerOverview overview) {
+        Object[] args = {overview.branchId(), overview.activeLoans(), overview.outstandingBalance(), write(overview),
+            Timestamp.valueOf(overview.updatedAt()), overview.personId()};
+        if (jdbcTemplate.update(UPDATE, args) == 0) {
+            jdbcTemplate.update(INSERT, args);
+        }
+    }
+
+    @Override
+    public List<Long> findPersonIdsAfter(long afterId, int limit) {
+        return jdbcTemplate.queryForList("SELECT person_id FROM person WHERE person_id > ? ORDER BY person_id LIMIT ?",
+            Long.class, afterId, limit);
+    }
+
+    @Override
+    public Map<Long, CustomerOverview> loadFromSource(Collection<Long> personIds) {
+        if (personIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(personIds.size(), "?"));
+        Object[] args = personIds.toArray();
+
+        Map<Long, List<LoanSummary>> loans = new HashMap<>();
+        jdbcTemplate.query(String.format(SOURCE_LOANS_SQL, placeholders), (ResultSet rs) -> {
+            Timestamp postedAt = rs.getTimestamp(5);
+            loans.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>())
+                .add(new LoanSummary(rs.getLong(2), rs.getLong(4), rs.getLong(3),
+                    postedAt == null ? null : postedAt.toLocalDateTime()));
+        }, args);
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, CustomerOverview> overviews = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT person_id, branch_id, name, phone, birth, gender, address1 FROM person "
+                + "WHERE person_id IN (" + placeholders + ") ORDER BY person_id",
+            (ResultSet rs) -> {
+                long personId = rs.getLong(1);
+                // 빈 문서에 대출을 하나씩 반영해 loanId 순으로 정렬된 목록을 만든다.
+                CustomerOverview overview = new CustomerOverview(personId, rs.getInt(2), rs.getString(3), rs.getString(4),
+                    rs.getObject(5, LocalDate.class), Gender.fromCode(rs.getString(6)), rs.getString(7), List.of(), now);
+                for (LoanSummary loan : loans.getOrDefault(personId, List.of())) {
+                    overview = overview.withLoan(loan, now);
+                }
+                overviews.put(personId, overview);
+            }, args);
+        return overviews;
+    }
+
+    private CustomerOverview read(String json) {
+        try {
+            return objectMapper.readValue(json, CustomerOverview.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("고객 요약 문서 변환 실패", e);
+        }
+    }
+
+    private String write(CustomerOverview overview) {
+        try {
+            return objectMapper.writeValueAsString(overview);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("고객 요약 문서 변환 실패: " + overview.personId(), e);
+        }
+    }
+}
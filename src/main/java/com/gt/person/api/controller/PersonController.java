@@ -1,5 +1,7 @@
 package com.gt.person.api.controller;
 
+import java.util.List;
+
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -8,8 +10,12 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.gt.global.common.entity.ApiResponse;
+import com.gt.global.common.exception.DuplicatePersonException;
 import com.gt.global.common.exception.EntityNotSaveException;
+import com.gt.person.api.dto.PersonBulkCreateRequest;
+import com.gt.person.api.dto.PersonBulkCreateResult;
 import com.gt.person.api.dto.PersonCreateRequest;
+import com.gt.person.api.dto.PersonCreateResponse;
 import com.gt.person.application.service.PersonService;
 
 import jakarta.validation.Valid;
@@ -20,10 +26,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PersonController {
     
+    /** 중복 의심으로 표시된 경우 일치한 기존 고객 ID */
+    static final String DUPLICATE_OF_HEADER = "X-Duplicate-Of";
+
     private final PersonService personVervice;
 
     /**
      * 고객 생성
+     * 이름 + 생년월일 + 전화번호가 같은 고객이 있으면 409,
+     * 전화번호 또는 이름 + 생년월일만 같으면 등록하고 X-Duplicate-Of 헤더로 알려 준다.
      * @param createRequest
      * @return
      */
@@ -31,10 +42,16 @@ public class PersonController {
     public ResponseEntity<?> createPerson(@Valid @RequestBody PersonCreateRequest createRequest) {
         
         try {
-            Long personId = personVervice.createPerson(createRequest);
+            PersonCreateResponse response = personVervice.createPerson(createRequest);
+            ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.CREATED);
+            if (response.getDuplicateOf() != null) {
+                builder.header(DUPLICATE_OF_HEADER, String.valueOf(response.getDuplicateOf()));
+            }
+            return builder.body(new ApiResponse<>(true, "Person created successfully", response.getId()));
+        } catch (DuplicatePersonException e) {
             return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(new ApiResponse<>(true, "Person created successfully", personId));
+                .status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, e.getMessage(), e.getDuplicateOf()));
         } catch (EntityNotSaveException e) {
             return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -46,4 +63,23 @@ public class PersonController {
         }
         
     }
+
+    /**
+     * 고객 일괄 등록
+     * 명백한 중복은 건너뛰고 행별 처리 결과를 반환한다.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createPersons(@Valid @RequestBody PersonBulkCreateRequest bulkRequest) {
+        try {
+            List<PersonBulkCreateResult> results = personVervice.createPersons(bulkRequest.getPersons());
+            return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(new ApiResponse<>(true, "Persons processed", results));
+        } catch (DuplicatePersonException e) {
+            // 다른 노드에서 동시에 등록된 고객과 겹쳐 배치 전체가 롤백된 경우, 다시 보내면 그 행은 REJECTED로 처리된다.
+            return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, e.getMessage() + ", retry the batch", null));
+        }
+    }
 }
@@ -0,0 +1,86 @@
+package com.gt.person.api.controller;
+
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.gt.global.common.admission.StreamingPermits;
+import com.gt.global.common.entity.ApiResponse;
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.person.application.export.ExportFormat;
+import com.gt.person.application.service.PersonExportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/person")
+public class PersonExportController {
+
+    private final PersonExportService personExportService;
+    /** export는 DB 연결을 오래 점유하므로 동시 실행 수를 제한한다. */
+    private final StreamingPermits exportPermits;
+
+    public PersonExportController(PersonExportService personExportService,
+                                  @Value("${person.export.max-concurrent:2}") int maxConcurrentExports) {
+        this.personExportService = personExportService;
+        this.exportPermits = new StreamingPermits(maxConcurrentExports);
+    }
+
+    /**
+     * 고객 전체 export (chunked 전송)
+     * Accept-Encoding에 gzip이 있으면 gzip으로 압축해 보낸다.
+     * 본문은 다른 스레드에서 쓰므로 지점은 여기서 잡아 넘기고, 지점이 없으면 전체를 내보내지 않고 거부한다.
+     * @param format csv | ndjson
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportPersons(@RequestParam(defaultValue = "csv") String format,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                           HttpServletRequest request) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse<>(false, "Unsupported export format: " + format, null));
+        }
+
+        TenantScope scope = TenantScope.current();
+        if (scope.isAll()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ApiResponse<>(false, "Branch is not resolved for this request", null));
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase(Locale.ROOT).contains("gzip");
+        StreamingResponseBody body = exportPermits.tryAcquire(request, out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024, true) : out;
+            personExportService.exportAll(exportFormat, scope, target);
+        });
+        if (body == null) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "60")
+                .body(new ApiResponse<>(false, "Another export is in progress, please retry later", null));
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType() + ";charset=UTF-8")
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"persons." + exportFormat.getExtension() + "\"")
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+}
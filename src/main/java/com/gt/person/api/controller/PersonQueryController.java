@@ -0,0 +1,161 @@
+package com.gt.person.api.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gt.global.common.entity.ApiResponse;
+import com.gt.person.api.dto.AgeBandResponse;
+import com.gt.person.api.dto.PersonPageResponse;
+import com.gt.person.api.dto.PersonSummaryResponse;
+import com.gt.person.application.etag.PersonETags;
+import com.gt.person.application.service.PersonQueryService;
+import com.gt.person.domain.entity.Gender;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/person")
+@RequiredArgsConstructor
+public class PersonQueryController {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_AGE = 150;
+    private static final int MAX_AGE_BANDS = 30;
+
+    /**
+     * 개인정보이므로 공유 캐시에는 저장하지 않고, 브라우저 캐시도 매번 ETag로 재검증한다.
+     * 인증 정보별로 응답이 달라질 수 있으므로 Vary: Authorization
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final PersonQueryService personQueryService;
+
+    /**
+     * 고객 상세
+     * If-None-Match가 현재 ETag와 같으면 수정 시각만 조회하고 304로 응답한다. (엔티티 로딩 / 직렬화 없음)
+     */
+    @GetMapping("/{personId:\\d+}")
+    public ResponseEntity<?> person(@PathVariable long personId,
+                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> etag = personQueryService.findETag(personId);
+            if (etag.isEmpty()) {
+                return notFound(personId);
+            }
+            if (PersonETags.matches(ifNoneMatch, etag.get())) {
+                return notModified(etag.get());
+            }
+        }
+        return personQueryService.findPerson(personId)
+            .<ResponseEntity<?>>map(person -> ResponseEntity.ok()
+                .eTag(person.getEtag())
+                .cacheControl(REVALIDATE)
+                .varyBy(HttpHeaders.AUTHORIZATION)
+                .body(new ApiResponse<>(true, "Person", person)))
+            .orElseGet(() -> notFound(personId));
+    }
+
+    /**
+     * 고객 목록 (ID 순 keyset 페이지)
+     * @param afterId 이전 페이지의 nextAfterId (첫 페이지는 0)
+     */
+    @GetMapping
+    public ResponseEntity<?> persons(@RequestParam(defaultValue = "0") long afterId,
+                                     @RequestParam(defaultValue = "50") int size,
+                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (afterId < 0 || size <= 0) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Invalid paging", null));
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        if (ifNoneMatch != null) {
+            String etag = personQueryService.findPageETag(afterId, pageSize);
+            if (PersonETags.matches(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+        }
+        PersonPageResponse page = personQueryService.findPage(afterId, pageSize);
+        return ResponseEntity.ok()
+            .eTag(page.getEtag())
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.AUTHORIZATION)
+            .body(new ApiResponse<>(true, "Persons", page));
+    }
+
+    /**
+     * 연령대별 / 성별 고객 수
+     * 구간마다 집계 조회를 한 번씩 하므로 구간 수를 MAX_AGE_BANDS로 제한한다.
+     * @param band 구간 크기(년)
+     * @param maxAge 이 나이 이상은 마지막 구간 (MAX_AGE 이하)
+     * @param asOf 기준일 (기본 오늘)
+     */
+    @GetMapping("/age-bands")
+    public ResponseEntity<?> ageBands(@RequestParam(defaultValue = "10") int band,
+                                      @RequestParam(defaultValue = "80") int maxAge,
+                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        if (band <= 0 || maxAge <= 0 || maxAge > MAX_AGE) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse<>(false, "band must be positive and maxAge between 1 and " + MAX_AGE, null));
+        }
+        if ((maxAge + band - 1) / band > MAX_AGE_BANDS) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse<>(false, "Too many age bands, at most " + MAX_AGE_BANDS, null));
+        }
+        List<AgeBandResponse> bands = personQueryService.countByAgeBand(asOf == null ? LocalDate.now() : asOf, band, maxAge);
+        return ResponseEntity.ok(new ApiResponse<>(true, "Age bands", bands));
+    }
+
+    /**
+     * 출생 코호트 조회 [bornFrom, bornTo)
+     * @param gender M / F / U (생략 시 전체)
+     */
+    @GetMapping("/cohort")
+    public ResponseEntity<?> cohort(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornFrom,
+                                    @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate bornTo,
+                                    @RequestParam(required = false) String gender,
+                                    @RequestParam(defaultValue = "0") int page,
+                                    @RequestParam(defaultValue = "50") int size) {
+        Gender genderFilter;
+        try {
+            genderFilter = gender == null ? null : Gender.from(gender);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+        if (!bornFrom.isBefore(bornTo) || page < 0 || size <= 0) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Invalid cohort range or paging", null));
+        }
+
+        Slice<PersonSummaryResponse> persons = personQueryService.findCohort(bornFrom, bornTo, genderFilter,
+            PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE)));
+        // Slice 구현체를 그대로 직렬화하지 않고 필요한 값만 내보낸다.
+        return ResponseEntity.ok(new ApiResponse<>(true, "Cohort",
+            Map.of("content", persons.getContent(), "page", page, "hasNext", persons.hasNext())));
+    }
+
+    private static ResponseEntity<?> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .eTag(etag)
+            .cacheControl(REVALIDATE)
+            .varyBy(HttpHeaders.AUTHORIZATION)
+            .build();
+    }
+
+    private static ResponseEntity<?> notFound(long personId) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Person not found: " + personId, null));
+    }
+}
@@ -0,0 +1,52 @@
+package com.gt.person.api.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gt.global.common.entity.ApiResponse;
+import com.gt.person.api.dto.PersonSearchResponse;
+import com.gt.person.application.service.PersonSearchService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/person/search")
+@RequiredArgsConstructor
+public class PersonSearchController {
+
+    private final PersonSearchService personSearchService;
+
+    /**
+     * 고객 검색 (부분 이름, 영문 표기 이름, 부분 전화번호, 주소)
+     * @param q 검색어
+     * @param limit 최대 결과 수
+     */
+    @GetMapping
+    public ResponseEntity<?> search(@RequestParam String q, @RequestParam(defaultValue = "20") int limit) {
+        if (q.isBlank() || limit <= 0) {
+            return ResponseEntity.badRequest()
+                .body(new ApiResponse<>(false, "Query must not be blank", null));
+        }
+        List<PersonSearchResponse> results = personSearchService.search(q.trim(), limit);
+        return ResponseEntity.ok(new ApiResponse<>(true, "Search completed", results));
+    }
+
+    /**
+     * 검색 인덱스 재생성 (관리자)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<?> rebuild() {
+        if (!personSearchService.rebuild()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, "Index rebuild is already in progress", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, "Index rebuilt", personSearchService.stats()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.gt.person.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class AgeBandResponse {
+    private int fromAge;    // 이상
+    private int toAge;      // 미만
+    private long male;
+    private long female;
+    private long unknown;
+    private long total;
+}
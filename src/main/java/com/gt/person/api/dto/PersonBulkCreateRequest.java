@@ -0,0 +1,17 @@
+package com.gt.person.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class PersonBulkCreateRequest {
+
+    @Valid
+    @NotEmpty(message = "등록할 고객이 없습니다.")
+    @Size(max = 1000, message = "한 번에 최대 1000명까지 등록할 수 있습니다.")
+    private List<PersonCreateRequest> persons;
+}
@@ -0,0 +1,22 @@
+package com.gt.person.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PersonBulkCreateResult {
+
+    public enum Status {
+        CREATED,
+        /** 등록되었으나 중복 의심 */
+        FLAGGED,
+        /** 명백한 중복으로 등록하지 않음 */
+        REJECTED
+    }
+
+    private int index;          // 요청 목록에서의 위치
+    private Status status;
+    private Long id;            // 등록된 고객 ID
+    private Long duplicateOf;   // 일치한 기존 고객 ID
+}
@@ -2,7 +2,14 @@ package com.gt.person.api.dto;
 
 import com.google.auto.value.AutoValue.Builder;
 
+import java.time.LocalDate;
+
+import com.gt.person.domain.entity.Gender;
+
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Pattern;
 import lombok.Data;
 
 @Data
@@ -13,13 +20,16 @@ public class PersonCreateRequest {
     private String name;    // 이름
 
     @NotBlank(message = "전화번호는 필수 입력 항목입니다.")
-    private String phone;   // 전화번호
+    // 구분자 포함 7 ~ 20자, 숫자는 7 ~ 15자리 (정규형 컬럼 길이 PhoneNumbers.MAX_LENGTH)
+    @Pattern(regexp = "^(?=(?:[^0-9]*[0-9]){7,15}[^0-9]*$)\\+?[0-9 ().-]{7,20}$", message = "전화번호 형식이 올바르지 않습니다.")
+    private String phone;   // 전화번호 (저장 시 숫자만 남긴 정규형으로 변환)
 
-    @NotBlank(message = "생년월일은 필수 입력 항목입니다.")
-    private String birth;   // 생년월일
+    @NotNull(message = "생년월일은 필수 입력 항목입니다.")
+    @Past(message = "생년월일은 오늘 이전이어야 합니다.")
+    private LocalDate birth;   // 생년월일 (yyyy-MM-dd)
 
-    @NotBlank(message = "성별은 필수 입력 항목입니다.")
-    private String gender;  // 성별
+    @NotNull(message = "성별은 필수 입력 항목입니다.")
+    private Gender gender;  // 성별 (M / F / U, Male / Female 등도 허용)
 
     @NotBlank(message = "주소1은 필수 입력 항목입니다.")
     private String address1; // 주소1
@@ -7,4 +7,5 @@ import lombok.Data;
 @Builder
 public class PersonCreateResponse {
     private Long id;
+    private Long duplicateOf;   // 중복 의심 고객 ID
 }
@@ -0,0 +1,29 @@
+package com.gt.person.api.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.gt.person.domain.entity.Gender;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PersonDetailResponse {
+    private Long id;
+    private String name;
+    private String phone;
+    private LocalDate birth;
+    private Gender gender;
+    private String address1;
+    private String address2;
+    private Long duplicateOf;
+    private LocalDateTime createdDate;
+    private LocalDateTime lastModifiedDate;
+
+    /** 응답 헤더(ETag)로만 내보낸다. */
+    @JsonIgnore
+    private String etag;
+}
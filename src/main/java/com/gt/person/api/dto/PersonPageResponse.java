@@ -0,0 +1,23 @@
+package com.gt.person.api.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 고객 목록 (ID 기준 keyset 페이지)
+ * nextAfterId가 null이면 마지막 페이지
+ */
+@Data
+@Builder
+public class PersonPageResponse {
+    private List<PersonSummaryResponse> content;
+    private Long nextAfterId;
+
+    /** 응답 헤더(ETag)로만 내보낸다. */
+    @JsonIgnore
+    private String etag;
+}
@@ -0,0 +1,14 @@
+package com.gt.person.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PersonSearchResponse {
+    private Long id;
+    private String name;
+    private String phone;
+    private String address1;
+    private double score;
+}
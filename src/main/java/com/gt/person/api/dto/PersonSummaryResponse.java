@@ -0,0 +1,17 @@
+package com.gt.person.api.dto;
+
+import java.time.LocalDate;
+
+import com.gt.person.domain.entity.Gender;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class PersonSummaryResponse {
+    private Long id;
+    private String name;
+    private LocalDate birth;
+    private Gender gender;
+}
@@ -0,0 +1,19 @@
+package com.gt.person.application.duplicate;
+
+/**
+ * 중복 검사 결과
+ * @param duplicateOf 일치한 기존 고객 ID, 다른 요청이 같은 고객을 등록 중이면 null
+ */
+public record DuplicateCheck(Result result, Long duplicateOf) {
+
+    public enum Result {
+        /** 일치 없음 */
+        NONE,
+        /** 전화번호 또는 이름+생년월일 일치: 등록하되 duplicate_of 표시 */
+        LIKELY,
+        /** 이름+생년월일+전화번호 일치: 등록 거절 */
+        CLEAR
+    }
+
+    public static final DuplicateCheck NONE = new DuplicateCheck(Result.NONE, null);
+}
@@ -0,0 +1,81 @@
+package com.gt.person.application.duplicate;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+
+import com.gt.person.domain.entity.PhoneNumbers;
+
+/**
+ * 중복 판정용 정규화 키 (64bit 해시)
+ * - full: 이름 + 생년월일 + 전화번호가 모두 같음 → 명백한 중복
+ * - phone: 전화번호만 같음 → 중복 의심
+ * - nameBirth: 이름 + 생년월일이 같음 → 중복 의심
+ * 값이 비어 있어 만들 수 없는 키는 0이다.
+ * 고객은 지점별로 관리하므로 검사에는 forBranch로 지점을 섞은 키를 쓴다. (다른 지점 고객과는 중복이 아니다)
+ */
+public record DuplicateKeys(long full, long phone, long nameBirth) {
+
+    public static DuplicateKeys of(String name, String phone, LocalDate birth) {
+        String normalizedName = normalizeName(name);
+        String normalizedPhone = phone == null ? "" : PhoneNumbers.canonical(phone);
+        String normalizedBirth = birth == null ? "" : birth.toString();
+
+        boolean hasName = !normalizedName.isEmpty() && !normalizedBirth.isEmpty();
+        boolean hasPhone = !normalizedPhone.isEmpty();
+        return new DuplicateKeys(
+            hasName && hasPhone ? hash('F', normalizedName, normalizedBirth, normalizedPhone) : 0,
+            hasPhone ? hash('P', normalizedPhone) : 0,
+            hasName ? hash('N', normalizedName, normalizedBirth) : 0);
+    }
+
+    /**
+     * 지점별 키 (0은 그대로 0)
+     */
+    public DuplicateKeys forBranch(int branchId) {
+        return new DuplicateKeys(mix(full, branchId), mix(phone, branchId), mix(nameBirth, branchId));
+    }
+
+    /**
+     * 공백/구두점 제거, 전각 → 반각(NFKC), 소문자
+     * "홍 길동" = "홍길동", "John  Doe" = "JOHN-DOE" = "johndoe"
+     */
+    static String normalizeName(String name) {
+        if (name == null) {
+            return "";
+        }
+        String nfkc = Normalizer.normalize(name, Normalizer.Form.NFKC);
+        StringBuilder out = new StringBuilder(nfkc.length());
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                out.append(Character.toLowerCase(c));
+            }
+        }
+        return out.toString();
+    }
+
+    private static long mix(long key, int branchId) {
+        if (key == 0) {
+            return 0;
+        }
+        long h = (key ^ branchId * 0x9E3779B97F4A7C15L) * 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    /** FNV-1a 64 + 최종 혼합, 0은 "키 없음"으로 쓰므로 피한다. */
+    private static long hash(char tag, String... parts) {
+        long h = 0xcbf29ce484222325L;
+        h = (h ^ tag) * 0x100000001b3L;
+        for (String part : parts) {
+            for (int i = 0; i < part.length(); i++) {
+                h = (h ^ part.charAt(i)) * 0x100000001b3L;
+            }
+            h = (h ^ 0x1F) * 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+}
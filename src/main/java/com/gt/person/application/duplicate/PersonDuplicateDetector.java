@@ -0,0 +1,256 @@
+package com.gt.person.application.duplicate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gt.global.common.collection.LongLongHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고객 중복 검사용 메모리 키 인덱스
+ *
+ * 키는 DuplicateKeys의 64bit 해시(지점별), 값은 고객 ID이며 boxing 없는 long 해시맵에 보관한다. (100만 건 기준 약 100MB)
+ * 기동 시 DB 전체를 읽어 채우고, 이후 등록은 트랜잭션에 묶어 반영한다.
+ * - reserve: 검사와 동시에 키를 선점해 같은 고객의 동시 등록도 막는다.
+ * - 커밋되면 선점한 키에 고객 ID를 기록하고, 롤백되면 선점을 풀어 준다.
+ * 인덱스는 노드별이라 다른 노드의 등록은 기동 시에만 읽는다.
+ * 명백한 중복은 person.duplicate_key 고유 인덱스가 대신 거절하며, 그때 키를 이 노드에도 남긴다.
+ * 중복 의심(전화번호 / 이름 + 생년월일)은 다른 노드 등록분을 재기동 전까지 판정하지 못한다.
+ */
+@Slf4j
+@Component
+public class PersonDuplicateDetector {
+
+    private static final long MISSING = -1;
+    /** 등록 중(커밋 전)인 키. 고객 ID는 1부터 시작한다. */
+    private static final long RESERVED = 0;
+
+    private static final String WARM_UP_SQL = "SELECT person_id, name, phone, birth, branch_id FROM person";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+    private final LongLongHashMap fullKeys;
+    private final LongLongHashMap phoneKeys;
+    private final LongLongHashMap nameBirthKeys;
+
+    private final Timer checkTimer;
+    private final Counter noneCounter;
+    private final Counter likelyCounter;
+    private final Counter clearCounter;
+
+    public PersonDuplicateDetector(JdbcTemplate jdbcTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${person.duplicate.expected-size:100000}") int expectedSize,
+                                   @Value("${person.duplicate.fetch-size:5000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+        this.fullKeys = new LongLongHashMap(expectedSize, MISSING);
+        this.phoneKeys = new LongLongHashMap(expectedSize, MISSING);
+        this.nameBirthKeys = new LongLongHashMap(expectedSize, MISSING);
+
+        this.checkTimer = Timer.builder("person.duplicate.check.time")
+            .description("In-memory duplicate check time")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.noneCounter = resultCounter(meterRegistry, DuplicateCheck.Result.NONE);
+        this.likelyCounter = resultCounter(meterRegistry, DuplicateCheck.Result.LIKELY);
+        this.clearCounter = resultCounter(meterRegistry, DuplicateCheck.Result.CLEAR);
+    }
+
+    /**
+     * 기동 시 기존 고객 키를 모두 올린다.
+     * ApplicationReadyEvent 처리 중에는 readiness가 ACCEPTING_TRAFFIC이 되지 않으므로 끝난 뒤 트래픽을 받는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long start = System.nanoTime();
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(WARM_UP_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            register(DuplicateKeys.of(resultSet.getString(2), resultSet.getString(3), resultSet.getObject(4, LocalDate.class))
+                .forBranch(resultSet.getInt(5)), resultSet.getLong(1));
+            rows[0]++;
+        });
+        log.info("고객 중복 검사 인덱스 로딩 완료: persons = {}, keys = {}, elapsed = {}ms",
+            rows[0], size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 이미 저장된 고객의 키 등록 (먼저 등록된 고객 ID를 유지)
+     */
+    public synchronized void register(DuplicateKeys keys, long personId) {
+        putIfAbsent(fullKeys, keys.full(), personId);
+        putIfAbsent(phoneKeys, keys.phone(), personId);
+        putIfAbsent(nameBirthKeys, keys.nameBirth(), personId);
+    }
+
+    /**
+     * 중복 여부를 확인하고, 명백한 중복이 아니면 키를 선점한다.
+     * 트랜잭션 안에서 호출하면 커밋/롤백 시점에 선점이 확정/해제되며,
+     * 트랜잭션 밖이면 {@link Reservation#bind(long)} 호출 시 바로 확정된다.
+     */
+    public Reservation reserve(DuplicateKeys keys) {
+        long start = System.nanoTime();
+        Reservation reservation;
+        synchronized (this) {
+            long existing = keys.full() == 0 ? MISSING : fullKeys.get(keys.full());
+            if (existing != MISSING) {
+                reservation = new Reservation(keys, new DuplicateCheck(DuplicateCheck.Result.CLEAR, personIdOrNull(existing)), false, false, false);
+            } else {
+                long likely = keys.phone() == 0 ? MISSING : phoneKeys.get(keys.phone());
+                if (likely == MISSING && keys.nameBirth() != 0) {
+                    likely = nameBirthKeys.get(keys.nameBirth());
+                }
+                DuplicateCheck check = likely == MISSING
+                    ? DuplicateCheck.NONE
+                    : new DuplicateCheck(DuplicateCheck.Result.LIKELY, personIdOrNull(likely));
+                reservation = new Reservation(keys, check,
+                    putIfAbsent(fullKeys, keys.full(), RESERVED),
+                    putIfAbsent(phoneKeys, keys.phone(), RESERVED),
+                    putIfAbsent(nameBirthKeys, keys.nameBirth(), RESERVED));
+            }
+        }
+        checkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        (switch (reservation.check().result()) {
+            case NONE -> noneCounter;
+            case LIKELY -> likelyCounter;
+            case CLEAR -> clearCounter;
+        }).increment();
+
+        if (reservation.holdsKeys() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(reservation);
+        }
+        return reservation;
+    }
+
+    public synchronized int size() {
+        return fullKeys.size() + phoneKeys.size() + nameBirthKeys.size();
+    }
+
+    private synchronized void confirm(Reservation reservation, long personId) {
+        DuplicateKeys keys = reservation.keys();
+        if (reservation.ownsFull) {
+            fullKeys.put(keys.full(), personId);
+        }
+        if (reservation.ownsPhone) {
+            phoneKeys.put(keys.phone(), personId);
+        }
+        if (reservation.ownsNameBirth) {
+            nameBirthKeys.put(keys.nameBirth(), personId);
+        }
+    }
+
+    private synchronized void release(Reservation reservation) {
+        DuplicateKeys keys = reservation.keys();
+        if (reservation.ownsFull && !reservation.registeredElsewhere) {
+            fullKeys.remove(keys.full());
+        }
+        if (reservation.ownsPhone) {
+            phoneKeys.remove(keys.phone());
+        }
+        if (reservation.ownsNameBirth) {
+            nameBirthKeys.remove(keys.nameBirth());
+        }
+    }
+
+    private static boolean putIfAbsent(LongLongHashMap map, long key, long personId) {
+        if (key == 0 || map.containsKey(key)) {
+            return false;
+        }
+        map.put(key, personId);
+        return true;
+    }
+
+    private static Long personIdOrNull(long value) {
+        return value == RESERVED ? null : value;
+    }
+
+    private static Counter resultCounter(MeterRegistry meterRegistry, DuplicateCheck.Result result) {
+        return Counter.builder("person.duplicate.check")
+            .description("Person duplicate check results")
+            .tag("result", result.name().toLowerCase())
+            .register(meterRegistry);
+    }
+
+    /**
+     * 선점한 키. 저장 후 bind로 고객 ID를 알려 준다.
+     */
+    public final class Reservation implements TransactionSynchronization {
+
+        private final DuplicateKeys keys;
+        private final DuplicateCheck check;
+        private final boolean ownsFull;
+        private final boolean ownsPhone;
+        private final boolean ownsNameBirth;
+        private Long personId;
+        private boolean registeredElsewhere;
+
+        private Reservation(DuplicateKeys keys, DuplicateCheck check, boolean ownsFull, boolean ownsPhone, boolean ownsNameBirth) {
+            this.keys = keys;
+            this.check = check;
+            this.ownsFull = ownsFull;
+            this.ownsPhone = ownsPhone;
+            this.ownsNameBirth = ownsNameBirth;
+        }
+
+        public DuplicateKeys keys() {
+            return keys;
+        }
+
+        public DuplicateCheck check() {
+            return check;
+        }
+
+        public boolean isRejected() {
+            return check.result() == DuplicateCheck.Result.CLEAR;
+        }
+
+        public void bind(long savedPersonId) {
+            this.personId = savedPersonId;
+            if (holdsKeys() && !TransactionSynchronizationManager.isSynchronizationActive()) {
+                confirm(this, savedPersonId);
+            }
+        }
+
+        /**
+         * 다른 노드가 이미 등록한 고객(DB 고유 인덱스 위반)이면, 롤백되어도 전체 키를 남겨 이후 요청을 바로 거절한다.
+         * (기존 고객 ID는 모르므로 등록 중인 키와 같이 표시된다)
+         */
+        public void markRegisteredElsewhere() {
+            this.registeredElsewhere = true;
+        }
+
+        boolean holdsKeys() {
+            return ownsFull || ownsPhone || ownsNameBirth;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED && personId != null) {
+                confirm(this, personId);
+            } else {
+                release(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.gt.person.application.etag;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 고객 조회 응답의 strong ETag (lastModifiedDate 기반)
+ * 고객 변경은 JPA Auditing으로 lastModifiedDate를 갱신하므로, 같은 값이면 응답 본문도 같다.
+ */
+public final class PersonETags {
+
+    private PersonETags() {
+    }
+
+    /**
+     * 고객 한 명: ID + 수정 시각(마이크로초)
+     */
+    public static String of(long personId, LocalDateTime lastModifiedDate) {
+        return "\"" + Long.toString(personId, 36) + "-" + Long.toString(micros(lastModifiedDate), 36) + "\"";
+    }
+
+    /**
+     * 목록 한 페이지: 페이지 조건과 포함된 모든 고객의 (ID, 수정 시각) 해시
+     * 고객이 추가 / 삭제 / 수정되어 페이지 내용이 바뀌면 값이 달라진다.
+     */
+    public static String ofPage(long afterId, int size, List<Version> versions) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer buffer = ByteBuffer.allocate(16 * (versions.size() + 1));
+            buffer.putLong(afterId).putLong(size);
+            for (Version version : versions) {
+                buffer.putLong(version.personId()).putLong(micros(version.lastModifiedDate()));
+            }
+            byte[] hash = digest.digest(buffer.array());
+            return "\"p-" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * If-None-Match 비교 (목록 / W/ 접두사 / * 허용, RFC 9110 weak comparison)
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long micros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0;
+        }
+        LocalDateTime truncated = dateTime.truncatedTo(ChronoUnit.MICROS);
+        return truncated.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + truncated.getNano() / 1_000;
+    }
+
+    public record Version(long personId, LocalDateTime lastModifiedDate) {
+    }
+}
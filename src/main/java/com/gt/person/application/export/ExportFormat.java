@@ -0,0 +1,29 @@
+package com.gt.person.application.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 고객 export 출력 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public RowWriter newWriter(OutputStream out, String[] columns, JsonFactory jsonFactory) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvRowWriter(out, columns);
+            case NDJSON -> new NdjsonRowWriter(out, columns, jsonFactory);
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.gt.person.application.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+/**
+ * 한 줄에 JSON 객체 하나씩 쓰는 writer, 객체 매핑 없이 JsonGenerator로 바로 쓴다.
+ */
+public class NdjsonRowWriter implements RowWriter {
+
+    private final JsonGenerator generator;
+    private final String[] columns;
+
+    public NdjsonRowWriter(OutputStream out, String[] columns, JsonFactory jsonFactory) throws IOException {
+        this.generator = jsonFactory.createGenerator(out);
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        this.columns = columns;
+    }
+
+    @Override
+    public void write(String[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.length; i++) {
+            generator.writeStringField(columns[i], values[i]);
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // 마지막 줄도 개행으로 끝나도록
+        generator.writeRaw('\n');
+        generator.close();
+    }
+}
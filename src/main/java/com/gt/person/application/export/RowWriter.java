@@ -0,0 +1,22 @@
+package com.gt.person.application.export;
+
+import java.io.IOException;
+
+/**
+ * 행 단위 스트리밍 writer, 행을 보관하지 않고 바로 출력 스트림에 쓴다.
+ */
+public interface RowWriter extends AutoCloseable {
+
+    /**
+     * @param values 컬럼 순서대로의 값 (null 허용)
+     */
+    void write(String[] values) throws IOException;
+
+    /**
+     * 지금까지 쓴 내용을 클라이언트로 내보낸다. (chunk 단위 전송)
+     */
+    void flush() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,17 @@
+package com.gt.person.application.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.person.application.export.ExportFormat;
+
+public interface PersonExportService {
+
+    /**
+     * 범위 안의 고객 전체를 지정한 형식으로 출력 스트림에 쓴다.
+     * StreamingResponseBody 스레드에는 TenantContext가 없으므로 범위는 요청 스레드에서 잡아 넘긴다.
+     * @return 출력한 행 수
+     */
+    long exportAll(ExportFormat format, TenantScope scope, OutputStream out) throws IOException;
+}
@@ -0,0 +1,49 @@
+package com.gt.person.application.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import com.gt.person.api.dto.AgeBandResponse;
+import com.gt.person.api.dto.PersonDetailResponse;
+import com.gt.person.api.dto.PersonPageResponse;
+import com.gt.person.api.dto.PersonSummaryResponse;
+import com.gt.person.domain.entity.Gender;
+
+public interface PersonQueryService {
+
+    /**
+     * asOf 기준 만 나이를 bandYears 단위로 나눈 연령대별 / 성별 고객 수
+     * @param maxAge 이 나이 이상은 마지막 구간에 포함
+     */
+    List<AgeBandResponse> countByAgeBand(LocalDate asOf, int bandYears, int maxAge);
+
+    /**
+     * [bornFrom, bornTo) 출생 고객 (gender가 null이면 전체 성별)
+     */
+    Slice<PersonSummaryResponse> findCohort(LocalDate bornFrom, LocalDate bornTo, Gender gender, Pageable pageable);
+
+    /**
+     * 고객 상세 (ETag 포함)
+     */
+    Optional<PersonDetailResponse> findPerson(long personId);
+
+    /**
+     * 고객 상세의 현재 ETag (수정 시각만 조회)
+     * @return 고객이 없으면 empty
+     */
+    Optional<String> findETag(long personId);
+
+    /**
+     * afterId 다음 고객 size명 (ETag 포함)
+     */
+    PersonPageResponse findPage(long afterId, int size);
+
+    /**
+     * 고객 목록 페이지의 현재 ETag ((ID, 수정 시각)만 조회)
+     */
+    String findPageETag(long afterId, int size);
+}
@@ -0,0 +1,23 @@
+package com.gt.person.application.service;
+
+import java.util.List;
+
+import com.gt.person.api.dto.PersonSearchResponse;
+import com.gt.person.infra.search.PersonSearchIndex;
+
+public interface PersonSearchService {
+
+    /**
+     * 이름(한글/영문 표기) / 부분 전화번호 / 주소로 고객 검색
+     * @return 점수 내림차순
+     */
+    List<PersonSearchResponse> search(String query, int limit);
+
+    /**
+     * DB 전체를 읽어 인덱스를 새로 만든 뒤 교체한다. 재생성 중 들어온 변경은 새 인덱스에 다시 반영한다.
+     * @return 이미 재생성 중이면 false
+     */
+    boolean rebuild();
+
+    PersonSearchIndex.Stats stats();
+}
@@ -1,7 +1,22 @@
 package com.gt.person.application.service;
 
+import java.util.List;
+
+import com.gt.person.api.dto.PersonBulkCreateResult;
 import com.gt.person.api.dto.PersonCreateRequest;
+import com.gt.person.api.dto.PersonCreateResponse;
 
 public interface PersonService {
-    Long createPerson(PersonCreateRequest createRequest);
+
+    /**
+     * 고객 생성
+     * 명백한 중복이면 DuplicatePersonException, 중복 의심이면 duplicateOf를 표시해 저장한다.
+     */
+    PersonCreateResponse createPerson(PersonCreateRequest createRequest);
+
+    /**
+     * 고객 일괄 생성 (요청 목록 안의 중복도 검사)
+     * @return 요청 순서대로의 처리 결과
+     */
+    List<PersonBulkCreateResult> createPersons(List<PersonCreateRequest> createRequests);
 }
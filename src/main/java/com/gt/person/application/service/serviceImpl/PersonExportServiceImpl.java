@@ -0,0 +1,108 @@
+package com.gt.person.application.service.serviceImpl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.person.application.export.ExportFormat;
+import com.gt.person.application.export.RowWriter;
+import com.gt.person.application.service.PersonExportService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고객 전체 export
+ * JPA 엔티티를 거치지 않고 forward-only JDBC 커서로 fetchSize 만큼씩 읽어 바로 출력한다.
+ * 메모리에는 한 번에 fetch window 하나만 올라가며, 영속성 컨텍스트에는 아무것도 담기지 않는다.
+ */
+@Slf4j
+@Service
+public class PersonExportServiceImpl implements PersonExportService {
+
+    private static final String[] COLUMNS = {
+        "person_id", "name", "phone", "birth", "gender", "address1", "address2", "created_date", "last_modified_date"
+    };
+
+    private static final String EXPORT_SQL = """
+        SELECT person_id, name, phone, birth, gender, address1, address2, created_date, last_modified_date
+        FROM person""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonFactory jsonFactory;
+    private final int fetchSize;
+
+    public PersonExportServiceImpl(JdbcTemplate jdbcTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${person.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jsonFactory = objectMapper.getFactory();
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * PostgreSQL 드라이버는 autocommit이 꺼진 상태에서만 fetchSize 단위 커서를 사용하므로 트랜잭션 안에서 실행한다.
+     * readOnly 트랜잭션이므로 replica 라우팅이 활성화되어 있으면 replica에서 읽는다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAll(ExportFormat format, TenantScope scope, OutputStream out) throws IOException {
+        Objects.requireNonNull(scope, "scope");
+        long start = System.nanoTime();
+        long[] rows = {0};
+
+        try (RowWriter writer = format.newWriter(out, COLUMNS, jsonFactory)) {
+            String[] values = new String[COLUMNS.length];
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                    EXPORT_SQL + scope.where("branch_id") + " ORDER BY person_id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                Object[] args = scope.bind();
+                for (int i = 0; i < args.length; i++) {
+                    statement.setObject(i + 1, args[i]);
+                }
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, resultSet -> {
+                values[0] = resultSet.getString(1);
+                for (int i = 2; i <= 7; i++) {
+                    values[i - 1] = resultSet.getString(i);
+                }
+                values[7] = isoTimestamp(resultSet.getTimestamp(8));
+                values[8] = isoTimestamp(resultSet.getTimestamp(9));
+                try {
+                    writer.write(values);
+                    // fetch window 단위로 클라이언트에 내보내 버퍼가 커지지 않도록 한다.
+                    if (++rows[0] % fetchSize == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등
+            log.warn("고객 export 중단: {}건 출력 후 {}", rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        log.info("고객 export 완료: branch = {}, format = {}, rows = {}, elapsed = {}ms",
+            scope, format, rows[0], (System.nanoTime() - start) / 1_000_000);
+        return rows[0];
+    }
+
+    private static String isoTimestamp(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime().toString();
+    }
+}
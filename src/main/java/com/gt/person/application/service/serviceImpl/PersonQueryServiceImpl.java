@@ -0,0 +1,140 @@
+package com.gt.person.application.service.serviceImpl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gt.global.common.tenant.TenantContext;
+import com.gt.person.api.dto.AgeBandResponse;
+import com.gt.person.api.dto.PersonDetailResponse;
+import com.gt.person.api.dto.PersonPageResponse;
+import com.gt.person.api.dto.PersonSummaryResponse;
+import com.gt.person.application.etag.PersonETags;
+import com.gt.person.application.service.PersonQueryService;
+import com.gt.person.domain.entity.Gender;
+import com.gt.person.domain.entity.Person;
+import com.gt.person.domain.repository.PersonRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 고객 상세 / 목록 / 연령대 / 출생 코호트 조회
+ * 나이 조건을 출생일 범위로 바꿔 birth 인덱스 범위 스캔으로 처리한다. (컬럼에 함수를 적용하지 않음)
+ * 상세 / 목록은 lastModifiedDate 기반 ETag를 함께 만들고, 재검증은 수정 시각만 조회해 엔티티 로딩 없이 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PersonQueryServiceImpl implements PersonQueryService {
+
+    /** 마지막 구간의 출생일 하한 */
+    private static final LocalDate EARLIEST_BIRTH = LocalDate.of(1900, 1, 1);
+
+    private final PersonRepository personRepository;
+
+    @Override
+    public List<AgeBandResponse> countByAgeBand(LocalDate asOf, int bandYears, int maxAge) {
+        List<AgeBandResponse> bands = new ArrayList<>();
+        for (int fromAge = 0; fromAge < maxAge; fromAge += bandYears) {
+            int toAge = Math.min(fromAge + bandYears, maxAge);
+            boolean last = toAge >= maxAge;
+            // 만 fromAge세 이상 toAge세 미만 = (asOf - toAge년, asOf - fromAge년] 출생
+            LocalDate bornTo = asOf.minusYears(fromAge).plusDays(1);
+            LocalDate bornFrom = last ? EARLIEST_BIRTH : asOf.minusYears(toAge).plusDays(1);
+
+            AgeBandResponse.AgeBandResponseBuilder band = AgeBandResponse.builder().fromAge(fromAge).toAge(last ? Integer.MAX_VALUE : toAge);
+            long male = 0;
+            long female = 0;
+            long unknown = 0;
+            for (Object[] row : personRepository.countByGenderBornBetween(bornFrom, bornTo)) {
+                long count = ((Number) row[1]).longValue();
+                if (row[0] == Gender.MALE) {
+                    male = count;
+                } else if (row[0] == Gender.FEMALE) {
+                    female = count;
+                } else {
+                    unknown += count;
+                }
+            }
+            bands.add(band.male(male).female(female).unknown(unknown).total(male + female + unknown).build());
+        }
+        return bands;
+    }
+
+    @Override
+    public Slice<PersonSummaryResponse> findCohort(LocalDate bornFrom, LocalDate bornTo, Gender gender, Pageable pageable) {
+        Slice<Person> persons = gender == null
+            ? personRepository.findByBirthGreaterThanEqualAndBirthLessThanOrderByBirthAsc(bornFrom, bornTo, pageable)
+            : personRepository.findByGenderAndBirthGreaterThanEqualAndBirthLessThanOrderByBirthAsc(gender, bornFrom, bornTo, pageable);
+        return persons.map(PersonQueryServiceImpl::toSummary);
+    }
+
+    @Override
+    public Optional<PersonDetailResponse> findPerson(long personId) {
+        // ID 조회(2차 캐시)에는 지점 필터가 적용되지 않으므로 직접 확인한다.
+        return personRepository.findById(personId)
+            .filter(person -> TenantContext.canSee(person.getBranchId()))
+            .map(person -> PersonDetailResponse.builder()
+                .id(person.getId())
+                .name(person.getName())
+                .phone(person.getPhone())
+                .birth(person.getBirth())
+                .gender(person.getGender())
+                .address1(person.getAddress1())
+                .address2(person.getAddress2())
+                .duplicateOf(person.getDuplicateOf())
+                .createdDate(person.getCreatedDate())
+                .lastModifiedDate(person.getLastModifiedDate())
+                .etag(PersonETags.of(person.getId(), person.getLastModifiedDate()))
+                .build());
+    }
+
+    @Override
+    public Optional<String> findETag(long personId) {
+        return personRepository.findLastModifiedDateById(personId)
+            .map(lastModifiedDate -> PersonETags.of(personId, lastModifiedDate));
+    }
+
+    @Override
+    public PersonPageResponse findPage(long afterId, int size) {
+        List<Person> persons = personRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size));
+        List<PersonETags.Version> versions = new ArrayList<>(persons.size());
+        List<PersonSummaryResponse> content = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            versions.add(new PersonETags.Version(person.getId(), person.getLastModifiedDate()));
+            content.add(toSummary(person));
+        }
+        return PersonPageResponse.builder()
+            .content(content)
+            .nextAfterId(persons.size() < size ? null : persons.get(persons.size() - 1).getId())
+            .etag(PersonETags.ofPage(afterId, size, versions))
+            .build();
+    }
+
+    @Override
+    public String findPageETag(long afterId, int size) {
+        List<Object[]> rows = personRepository.findVersionsAfter(afterId, PageRequest.of(0, size));
+        List<PersonETags.Version> versions = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            versions.add(new PersonETags.Version((Long) row[0], (LocalDateTime) row[1]));
+        }
+        return PersonETags.ofPage(afterId, size, versions);
+    }
+
+    private static PersonSummaryResponse toSummary(Person person) {
+        return PersonSummaryResponse.builder()
+            .id(person.getId())
+            .name(person.getName())
+            .birth(person.getBirth())
+            .gender(person.getGender())
+            .build();
+    }
+}
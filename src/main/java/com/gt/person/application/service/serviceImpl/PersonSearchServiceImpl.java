@@ -0,0 +1,193 @@
+package com.gt.person.application.service.serviceImpl;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.gt.global.common.tenant.TenantContext;
+import com.gt.person.api.dto.PersonSearchResponse;
+import com.gt.person.application.service.PersonSearchService;
+import com.gt.person.domain.entity.Person;
+import com.gt.person.domain.event.PersonChangedEvent;
+import com.gt.person.domain.repository.PersonRepository;
+import com.gt.person.infra.search.PersonSearchIndex;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메모리 검색 인덱스 관리
+ * - 고객 생성/변경은 커밋 이후 PersonChangedEvent로 바로 반영
+ * - rebuild는 JDBC 커서로 전체를 읽어 새 인덱스를 만든 뒤 교체 (삭제 표시된 문서 정리 포함)
+ * 검색은 인덱스에서 고객 ID와 점수만 얻고, 화면에 보여줄 값은 DB에서 읽는다.
+ * 인덱스는 전 지점 공용이며, 요청에 지점이 있으면 그 지점 고객만 후보로 고른다.
+ */
+@Slf4j
+@Service
+public class PersonSearchServiceImpl implements PersonSearchService {
+
+    private static final String REBUILD_SQL = "SELECT person_id, branch_id, name, phone, address1 FROM person";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PersonRepository personRepository;
+    private final int fetchSize;
+    private final int maxResults;
+    private final double minSimilarity;
+    private final Timer queryTimer;
+    private final Timer rebuildTimer;
+
+    private final Object changeLock = new Object();
+    private volatile PersonSearchIndex index = new PersonSearchIndex(1024);
+    /** 재생성 중에 들어온 변경 (changeLock으로 보호, 재생성 중이 아니면 null) */
+    private List<PersonChangedEvent> pendingChanges;
+
+    public PersonSearchServiceImpl(JdbcTemplate jdbcTemplate,
+                                   PersonRepository personRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${person.search.fetch-size:5000}") int fetchSize,
+                                   @Value("${person.search.max-results:100}") int maxResults,
+                                   @Value("${person.search.min-similarity:0.4}") double minSimilarity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.personRepository = personRepository;
+        this.fetchSize = fetchSize;
+        this.maxResults = maxResults;
+        this.minSimilarity = minSimilarity;
+        this.queryTimer = Timer.builder("person.search.query")
+            .description("Person search index query time")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.rebuildTimer = Timer.builder("person.search.rebuild")
+            .description("Person search index full rebuild time")
+            .register(meterRegistry);
+        Gauge.builder("person.search.docs", this, service -> service.index.stats().liveDocs())
+            .tag("state", "live")
+            .register(meterRegistry);
+        Gauge.builder("person.search.docs", this, service -> service.index.stats().deletedDocs())
+            .tag("state", "deleted")
+            .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PersonSearchResponse> search(String query, int limit) {
+        long start = System.nanoTime();
+        List<PersonSearchIndex.Hit> hits = index.search(query, Math.min(limit, maxResults), minSimilarity, TenantContext.current());
+        queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = hits.stream().map(PersonSearchIndex.Hit::personId).toList();
+        Map<Long, Person> persons = personRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Person::getId, Function.identity()));
+
+        List<PersonSearchResponse> responses = new ArrayList<>(hits.size());
+        for (PersonSearchIndex.Hit hit : hits) {
+            Person person = persons.get(hit.personId());
+            // 인덱스 반영 전 삭제된 경우
+            if (person == null) {
+                continue;
+            }
+            responses.add(PersonSearchResponse.builder()
+                .id(person.getId())
+                .name(person.getName())
+                .phone(person.getPhone())
+                .address1(person.getAddress1())
+                .score(hit.score())
+                .build());
+        }
+        return responses;
+    }
+
+    /**
+     * 트랜잭션 밖에서 저장된 경우(fallbackExecution)에도 반영한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPersonChanged(PersonChangedEvent event) {
+        if (event.personId() == null) {
+            return;
+        }
+        synchronized (changeLock) {
+            apply(index, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean rebuild() {
+        synchronized (changeLock) {
+            if (pendingChanges != null) {
+                return false;
+            }
+            pendingChanges = new ArrayList<>();
+        }
+
+        long start = System.nanoTime();
+        PersonSearchIndex rebuilt;
+        try {
+            rebuilt = new PersonSearchIndex(Math.max(1024, index.size()));
+            PersonSearchIndex target = rebuilt;
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(REBUILD_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, resultSet -> {
+                target.upsert(resultSet.getLong(1), resultSet.getInt(2), resultSet.getString(3), resultSet.getString(4), resultSet.getString(5));
+            });
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+
+        int replayed;
+        synchronized (changeLock) {
+            // 읽는 동안 커밋된 변경을 다시 적용 (upsert는 같은 값으로 여러 번 적용해도 결과가 같다)
+            replayed = pendingChanges.size();
+            for (PersonChangedEvent event : pendingChanges) {
+                apply(rebuilt, event);
+            }
+            index = rebuilt;
+            pendingChanges = null;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        PersonSearchIndex.Stats stats = rebuilt.stats();
+        log.info("고객 검색 인덱스 재생성 완료: docs = {}, grams = {}, postings = {}KB, replayed = {}, elapsed = {}ms",
+            stats.liveDocs(), stats.distinctGrams(), stats.postingBytes() / 1024, replayed, TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return true;
+    }
+
+    @Override
+    public PersonSearchIndex.Stats stats() {
+        return index.stats();
+    }
+
+    private static void apply(PersonSearchIndex target, PersonChangedEvent event) {
+        if (event.deleted()) {
+            target.remove(event.personId());
+        } else {
+            target.upsert(event.personId(), event.branchId(), event.name(), event.phone(), event.address1());
+        }
+    }
+}
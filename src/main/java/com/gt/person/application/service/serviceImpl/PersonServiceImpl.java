@@ -1,12 +1,25 @@
 package com.gt.person.application.service.serviceImpl;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.gt.global.common.exception.DuplicatePersonException;
 import com.gt.global.common.exception.EntityNotSaveException;
+import com.gt.global.common.tenant.TenantContext;
+import com.gt.outbox.application.publisher.OutboxPublisher;
+import com.gt.person.api.dto.PersonBulkCreateResult;
 import com.gt.person.api.dto.PersonCreateRequest;
+import com.gt.person.api.dto.PersonCreateResponse;
+import com.gt.person.application.duplicate.DuplicateCheck;
+import com.gt.person.application.duplicate.DuplicateKeys;
+import com.gt.person.application.duplicate.PersonDuplicateDetector;
 import com.gt.person.application.service.PersonService;
 import com.gt.person.domain.entity.Person;
+import com.gt.person.domain.event.PersonCreatedEvent;
 import com.gt.person.domain.repository.PersonRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -18,18 +31,102 @@ import lombok.extern.slf4j.Slf4j;
 public class PersonServiceImpl implements PersonService {
     
     private final PersonRepository personRepository;
+    private final PersonDuplicateDetector duplicateDetector;
+    private final OutboxPublisher outboxPublisher;
 
     @Override
     @Transactional
-    public Long createPerson(PersonCreateRequest createRequest) {
+    public PersonCreateResponse createPerson(PersonCreateRequest createRequest) {
+        PersonDuplicateDetector.Reservation reservation = duplicateDetector.reserve(keysOf(createRequest));
+        if (reservation.isRejected()) {
+            log.info("Duplicate person rejected: duplicateOf = {}", reservation.check().duplicateOf());
+            throw new DuplicatePersonException("Person already exists", reservation.check().duplicateOf());
+        }
+
         try {
-            Person savedPerson = personRepository.save(Person.createPerson(createRequest));
+            Person person = Person.createPerson(createRequest);
+            person.setDuplicateOf(reservation.check().duplicateOf());
+            Person savedPerson = save(person, reservation);
+            reservation.bind(savedPerson.getId());
+            publishCreated(savedPerson);
             log.info("Person created successfully with ID: {}", savedPerson.getId());
-            return savedPerson.convertToCreateResponseDto().getId();
+            return savedPerson.convertToCreateResponseDto();
+        } catch (DuplicatePersonException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to create person: {}", e.getMessage());
             throw new EntityNotSaveException("Person creation failed", e);
         }
     }
 
+    @Override
+    @Transactional
+    public List<PersonBulkCreateResult> createPersons(List<PersonCreateRequest> createRequests) {
+        List<PersonBulkCreateResult> results = new ArrayList<>(createRequests.size());
+        int created = 0;
+        for (int i = 0; i < createRequests.size(); i++) {
+            PersonCreateRequest createRequest = createRequests.get(i);
+            // 앞에서 선점한 키와도 비교되므로 목록 안의 중복도 걸러진다.
+            PersonDuplicateDetector.Reservation reservation = duplicateDetector.reserve(keysOf(createRequest));
+            DuplicateCheck check = reservation.check();
+            if (reservation.isRejected()) {
+                results.add(PersonBulkCreateResult.builder()
+                    .index(i)
+                    .status(PersonBulkCreateResult.Status.REJECTED)
+                    .duplicateOf(check.duplicateOf())
+                    .build());
+                continue;
+            }
+
+            Person person = Person.createPerson(createRequest);
+            person.setDuplicateOf(check.duplicateOf());
+            // 다른 노드가 등록한 같은 고객이면 트랜잭션을 더 쓸 수 없으므로 배치 전체를 거절한다.
+            Person savedPerson = save(person, reservation);
+            reservation.bind(savedPerson.getId());
+            publishCreated(savedPerson);
+            created++;
+            results.add(PersonBulkCreateResult.builder()
+                .index(i)
+                .status(check.result() == DuplicateCheck.Result.LIKELY
+                    ? PersonBulkCreateResult.Status.FLAGGED
+                    : PersonBulkCreateResult.Status.CREATED)
+                .id(savedPerson.getId())
+                .duplicateOf(check.duplicateOf())
+                .build());
+        }
+        log.info("Persons bulk created: requested = {}, created = {}", createRequests.size(), created);
+        return results;
+    }
+
+    /**
+     * 메모리 인덱스는 노드별이므로, 다른 노드가 방금 등록한 같은 고객은 duplicate_key 고유 인덱스로 거절된다.
+     * (기존 고객 ID는 알 수 없으므로 duplicateOf는 null)
+     */
+    private Person save(Person person, PersonDuplicateDetector.Reservation reservation) {
+        long duplicateKey = reservation.keys().full();
+        person.setDuplicateKey(duplicateKey == 0 ? null : duplicateKey);
+        try {
+            return personRepository.save(person);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Duplicate person rejected by duplicate_key: {}", e.getMostSpecificCause().getMessage());
+            reservation.markRegisteredElsewhere();
+            throw new DuplicatePersonException("Person already exists", null);
+        }
+    }
+
+    /**
+     * 등록과 같은 트랜잭션에서 outbox에 기록 (검색 인덱스 / 알림 / 감사 로그 등은 outbox에서 받는다)
+     */
+    private void publishCreated(Person person) {
+        outboxPublisher.publish(PersonCreatedEvent.AGGREGATE_TYPE, person.getId(), PersonCreatedEvent.EVENT_TYPE,
+            PersonCreatedEvent.of(person));
+    }
+
+    /**
+     * 등록할 지점 기준 키 (Person.assignBranch와 같은 지점)
+     */
+    private static DuplicateKeys keysOf(PersonCreateRequest createRequest) {
+        return DuplicateKeys.of(createRequest.getName(), createRequest.getPhone(), createRequest.getBirth())
+            .forBranch(TenantContext.currentOrDefault());
+    }
 }
@@ -0,0 +1,63 @@
+package com.gt.person.domain.entity;
+
+import java.util.Locale;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum Gender {
+    // code는 DB(VARCHAR(1))와 API에 그대로 노출되므로 변경하지 않는다.
+    MALE("M", "남성"),
+    FEMALE("F", "여성"),
+    UNKNOWN("U", "미상");
+
+    private final String code;
+    private final String title;
+
+    @JsonValue
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 코드(M/F/U), 영문 이름(Male, female), 한글(남, 여성) 모두 허용
+     * @throws IllegalArgumentException 알 수 없는 값
+     */
+    @JsonCreator
+    public static Gender from(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toUpperCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("Unknown gender: " + value);
+        }
+        for (Gender gender : values()) {
+            if (gender.code.equals(normalized) || gender.name().equals(normalized) || gender.title.startsWith(normalized)) {
+                return gender;
+            }
+        }
+        return switch (normalized) {
+            case "남자" -> MALE;
+            case "여자" -> FEMALE;
+            default -> throw new IllegalArgumentException("Unknown gender: " + value);
+        };
+    }
+
+    public static Gender fromCode(String code) {
+        if (code == null) {
+            return null;
+        }
+        for (Gender gender : values()) {
+            if (gender.code.equals(code)) {
+                return gender;
+            }
+        }
+        throw new IllegalArgumentException("Unknown gender code: " + code);
+    }
+}
@@ -0,0 +1,22 @@
+package com.gt.person.domain.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Gender ↔ 1글자 코드 (M/F/U)
+ * ORDINAL은 순서 변경에 취약하고 STRING은 컬럼이 넓어지므로 코드로 저장한다.
+ */
+@Converter(autoApply = true)
+public class GenderConverter implements AttributeConverter<Gender, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Gender gender) {
+        return gender == null ? null : gender.getCode();
+    }
+
+    @Override
+    public Gender convertToEntityAttribute(String code) {
+        return Gender.fromCode(code);
+    }
+}
@@ -1,23 +1,53 @@
 package com.gt.person.domain.entity;
 
+import java.time.LocalDate;
+
 import com.gt.global.common.entity.BaseTimeEntity;
+import com.gt.global.common.tenant.TenantContext;
+import com.gt.global.common.tenant.TenantFilters;
 import com.gt.person.api.dto.PersonCreateRequest;
 import com.gt.person.api.dto.PersonCreateResponse;
+import com.gt.person.domain.event.PersonEntityListener;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.FilterDef;
+import org.hibernate.annotations.ParamDef;
+import org.hibernate.annotations.PartitionKey;
+
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Getter
 @Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "person")
+@Table(name = "person", indexes = {
+    // 연령대 / 출생 코호트 범위 조회 (gender를 포함해 성별 집계도 인덱스만으로 처리)
+    @Index(name = "idx_person_birth_gender", columnList = "branch_id, birth, gender"),
+    @Index(name = "idx_person_phone", columnList = "branch_id, phone"),
+    // 다른 노드에서 동시에 등록한 같은 고객 방지 (중복 검사 메모리 인덱스는 노드별)
+    @Index(name = "uk_person_duplicate_key", columnList = "branch_id, duplicate_key", unique = true)
+})
+@EntityListeners(PersonEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "person")
+@FilterDef(name = TenantFilters.BRANCH_FILTER, parameters = @ParamDef(name = TenantFilters.BRANCH_PARAM, type = Integer.class))
+@Filter(name = TenantFilters.BRANCH_FILTER, condition = TenantFilters.BRANCH_CONDITION)
 public class Person extends BaseTimeEntity {
 
     @Id
@@ -25,17 +55,25 @@ public class Person extends BaseTimeEntity {
     @Column(name = "person_id")
     private Long id;
 
+    // 지점: PostgreSQL에서는 이 컬럼으로 hash 파티셔닝 (UPDATE/DELETE 조건에도 포함해 파티션을 하나로 좁힌다)
+    @PartitionKey
+    @Setter(AccessLevel.NONE)
+    @Column(name = "branch_id", nullable = false, updatable = false)
+    private Integer branchId;
+
     @Column(name = "name")
     private String name;
 
-    @Column(name = "phone")
+    // 정규형(숫자만)으로 저장: PhoneNumbers.canonical
+    @Column(name = "phone", length = PhoneNumbers.MAX_LENGTH)
     private String phone;
 
     @Column(name = "birth")
-    private String birth;
+    private LocalDate birth;
 
-    @Column(name = "gender")
-    private String gender;
+    // GenderConverter로 1글자 코드 저장
+    @Column(name = "gender", length = 1)
+    private Gender gender;
 
     @Column(name = "address1")
     private String address1;
@@ -43,16 +81,38 @@ public class Person extends BaseTimeEntity {
     @Column(name = "address2")
     private String address2;
 
+    // 등록 시 중복 의심으로 판정된 기존 고객 ID (확인 후 정리)
+    @Column(name = "duplicate_of")
+    private Long duplicateOf;
+
+    // 명백한 중복 판정 키 (DuplicateKeys.full), 만들 수 없으면 null
+    @Column(name = "duplicate_key")
+    private Long duplicateKey;
+
     @Builder
-    public Person(String name, String phone, String birth, String gender, String address1, String address2) {
+    public Person(String name, String phone, LocalDate birth, Gender gender, String address1, String address2) {
         this.name = name;
-        this.phone = phone;
+        this.phone = PhoneNumbers.canonical(phone);
         this.birth = birth;
         this.gender = gender;
         this.address1 = address1;
         this.address2 = address2;
     }
 
+    /**
+     * 등록하는 요청의 지점으로 저장 (지점이 없으면 기본 지점)
+     */
+    @PrePersist
+    void assignBranch() {
+        if (branchId == null) {
+            branchId = TenantContext.currentOrDefault();
+        }
+    }
+
+    public void setPhone(String phone) {
+        this.phone = PhoneNumbers.canonical(phone);
+    }
+
     /**
      * 고객 정보 생성
      * @param request
@@ -72,6 +132,7 @@ public class Person extends BaseTimeEntity {
     public PersonCreateResponse convertToCreateResponseDto(){
         return PersonCreateResponse.builder()
             .id(this.id)
+            .duplicateOf(this.duplicateOf)
             .build();
     }
 }
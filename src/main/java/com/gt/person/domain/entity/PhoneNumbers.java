@@ -0,0 +1,31 @@
+package com.gt.person.domain.entity;
+
+/**
+ * 전화번호 정규형: 숫자만, 국가번호(+82)는 국내 형식(0)으로
+ * "+82 10-1234-5678" = "010.1234.5678" = "01012345678"
+ */
+public final class PhoneNumbers {
+
+    /** 정규형 최대 길이 (국제번호 포함 E.164 15자리) */
+    public static final int MAX_LENGTH = 15;
+
+    private PhoneNumbers() {
+    }
+
+    public static String canonical(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        if (digits.length() >= 11 && digits.charAt(0) == '8' && digits.charAt(1) == '2') {
+            digits.replace(0, 2, "0");
+        }
+        return digits.toString();
+    }
+}
@@ -0,0 +1,16 @@
+package com.gt.person.domain.event;
+
+/**
+ * 고객 정보 생성/변경/삭제 이벤트
+ * 엔티티 리스너가 발행하며, 검색 인덱스 등은 커밋 이후(AFTER_COMMIT)에 반영한다.
+ */
+public record PersonChangedEvent(Long personId, Integer branchId, String name, String phone, String address1, boolean deleted) {
+
+    public static PersonChangedEvent saved(Long personId, Integer branchId, String name, String phone, String address1) {
+        return new PersonChangedEvent(personId, branchId, name, phone, address1, false);
+    }
+
+    public static PersonChangedEvent deleted(Long personId) {
+        return new PersonChangedEvent(personId, null, null, null, null, true);
+    }
+}
@@ -0,0 +1,32 @@
+package com.gt.person.domain.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.gt.person.domain.entity.Gender;
+import com.gt.person.domain.entity.Person;
+
+/**
+ * 고객 등록 outbox 이벤트 (payload)
+ * 등록 트랜잭션 안에서 기록되므로 등록이 롤백되면 전달되지 않는다.
+ */
+public record PersonCreatedEvent(
+    long personId,
+    int branchId,
+    String name,
+    String phone,
+    LocalDate birth,
+    Gender gender,
+    String address1,
+    Long duplicateOf,
+    LocalDateTime createdDate
+) {
+
+    public static final String AGGREGATE_TYPE = "Person";
+    public static final String EVENT_TYPE = "PersonCreated";
+
+    public static PersonCreatedEvent of(Person person) {
+        return new PersonCreatedEvent(person.getId(), person.getBranchId(), person.getName(), person.getPhone(), person.getBirth(),
+            person.getGender(), person.getAddress1(), person.getDuplicateOf(), person.getCreatedDate());
+    }
+}
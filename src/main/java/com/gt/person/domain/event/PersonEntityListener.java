@@ -0,0 +1,32 @@
+package com.gt.person.domain.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.gt.person.domain.entity.Person;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Person 저장/변경/삭제 시 PersonChangedEvent 발행
+ * 서비스 메서드뿐 아니라 dirty checking으로 반영되는 변경도 놓치지 않도록 엔티티 리스너에서 발행한다.
+ * (Spring Boot가 Hibernate에 SpringBeanContainer를 등록하므로 생성자 주입이 가능하다.)
+ */
+@RequiredArgsConstructor
+public class PersonEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Person person) {
+        eventPublisher.publishEvent(PersonChangedEvent.saved(person.getId(), person.getBranchId(), person.getName(), person.getPhone(), person.getAddress1()));
+    }
+
+    @PostRemove
+    public void onRemoved(Person person) {
+        eventPublisher.publishEvent(PersonChangedEvent.deleted(person.getId()));
+    }
+}
@@ -1,12 +1,61 @@
 package com.gt.person.domain.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.gt.person.domain.entity.Gender;
 import com.gt.person.domain.entity.Person;
 
+import jakarta.persistence.QueryHint;
+
 public interface PersonRepository extends JpaRepository<Person, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Person> findByName(String name);
+
+    /**
+     * [bornFrom, bornTo) 출생 고객 수를 성별로 집계 (idx_person_birth_gender 범위 스캔)
+     * @return [Gender, Long] 목록
+     */
+    @Query("""
+        select p.gender, count(p) from Person p
+        where p.birth >= :bornFrom and p.birth < :bornTo
+        group by p.gender
+        """)
+    List<Object[]> countByGenderBornBetween(@Param("bornFrom") LocalDate bornFrom, @Param("bornTo") LocalDate bornTo);
+
+    /**
+     * 출생 코호트 조회 (전체 건수 count 쿼리 없이 다음 페이지 여부만 확인)
+     */
+    Slice<Person> findByBirthGreaterThanEqualAndBirthLessThanOrderByBirthAsc(LocalDate bornFrom, LocalDate bornTo, Pageable pageable);
+
+    Slice<Person> findByGenderAndBirthGreaterThanEqualAndBirthLessThanOrderByBirthAsc(Gender gender, LocalDate bornFrom, LocalDate bornTo, Pageable pageable);
+
+    /**
+     * 수정 시각만 조회 (ETag 재검증용, 엔티티를 읽지 않는 PK 조회)
+     */
+    @Query("select p.lastModifiedDate from Person p where p.id = :id")
+    Optional<LocalDateTime> findLastModifiedDateById(@Param("id") Long id);
+
+    /**
+     * afterId 다음 고객들의 (ID, 수정 시각) (목록 ETag 재검증용)
+     * @return [Long, LocalDateTime] 목록
+     */
+    @Query("select p.id, p.lastModifiedDate from Person p where p.id > :afterId order by p.id")
+    List<Object[]> findVersionsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 고객 목록 (ID 기준 keyset 페이지)
+     */
+    List<Person> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
@@ -0,0 +1,52 @@
+package com.gt.person.infra.search;
+
+/**
+ * 한글 음절을 국어의 로마자 표기법(음절 단위, 음운 변화 미적용)으로 옮긴다.
+ * "홍길동" → "honggildong", "서울시" → "seoulsi"
+ * 직원이 영문 표기("Hong Gildong")로 검색해도 한글 이름과 같은 n-gram을 얻기 위해 사용한다.
+ */
+public final class HangulRomanizer {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+
+    private static final String[] INITIALS = {
+        "g", "kk", "n", "d", "tt", "r", "m", "b", "pp", "s", "ss", "", "j", "jj", "ch", "k", "t", "p", "h"
+    };
+    private static final String[] MEDIALS = {
+        "a", "ae", "ya", "yae", "eo", "e", "yeo", "ye", "o", "wa", "wae", "oe", "yo", "u", "wo", "we", "wi", "yu", "eu", "ui", "i"
+    };
+    private static final String[] FINALS = {
+        "", "k", "k", "k", "n", "n", "n", "t", "l", "k", "m", "l", "l", "l", "p", "l", "m", "p", "p", "t", "t", "ng", "t", "t", "k", "t", "p", "t"
+    };
+
+    private HangulRomanizer() {
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 한글 음절은 로마자로, 영문은 소문자로 바꾸고 숫자는 그대로 둔다. 그 외 문자는 공백으로 바꾼다.
+     */
+    public static String romanize(CharSequence text) {
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                out.append(INITIALS[index / (21 * 28)])
+                    .append(MEDIALS[(index % (21 * 28)) / 28])
+                    .append(FINALS[index % 28]);
+            } else if (c >= 'A' && c <= 'Z') {
+                out.append((char) (c + ('a' - 'A')));
+            } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                out.append(c);
+            } else {
+                out.append(' ');
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,360 @@
+package com.gt.person.infra.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.gt.global.common.collection.LongIntHashMap;
+import com.gt.global.common.tenant.TenantContext;
+
+/**
+ * 고객 검색용 메모리 trigram 인덱스 (이름 / 전화번호 / 주소1)
+ *
+ * 이름과 주소는 로마자로 바꾼 뒤 인덱싱하므로 "길동", "gildong", "Hong Gil-dong" 모두 같은 고객을 찾는다.
+ * 오타가 있어도 겹치는 trigram 비율로 점수를 매겨 순위를 정한다.
+ * 전화번호는 숫자만 남겨 부분 번호("5678", "1234-56")로 찾는다.
+ *
+ * 변경된 고객은 새 문서 번호로 다시 추가하고 기존 문서는 삭제 표시만 한다.
+ * 삭제 표시된 문서는 재생성(rebuild) 시 정리된다.
+ * 문서마다 고객의 지점을 기록해 두고, 지점을 지정한 검색은 후보 집계 단계에서 다른 지점 문서를 제외한다.
+ */
+public class PersonSearchIndex {
+
+    private static final int NO_DOC = -1;
+
+    /** 표기법과 크게 다른 관용 성씨 표기 (단어 단위로 치환) */
+    private static final Map<String, String> SURNAME_SPELLINGS = Map.ofEntries(
+        Map.entry("lee", "i"), Map.entry("yi", "i"), Map.entry("rhee", "i"),
+        Map.entry("park", "bak"), Map.entry("pak", "bak"),
+        Map.entry("choi", "choe"), Map.entry("chung", "jeong"), Map.entry("jung", "jeong"),
+        Map.entry("cho", "jo"), Map.entry("shin", "sin"), Map.entry("oh", "o"),
+        Map.entry("ahn", "an"), Map.entry("lim", "im"), Map.entry("rim", "im"), Map.entry("woo", "u"), Map.entry("yoo", "yu")
+    );
+
+    public enum Field {
+        NAME(1.0),
+        PHONE(0.9),
+        ADDRESS(0.6);
+
+        private final double weight;
+
+        Field(double weight) {
+            this.weight = weight;
+        }
+    }
+
+    public record Hit(long personId, double score) {
+    }
+
+    public record Stats(int liveDocs, int deletedDocs, int distinctGrams, long postingBytes) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TrigramField[] fields = new TrigramField[Field.values().length];
+    private final LongIntHashMap personToDoc;
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+
+    private long[] docToPerson;
+    private int[] docBranch;
+    private boolean[] live;
+    private int maxDoc;
+    private int liveDocs;
+
+    public PersonSearchIndex(int expectedSize) {
+        for (Field field : Field.values()) {
+            fields[field.ordinal()] = new TrigramField();
+        }
+        personToDoc = new LongIntHashMap(expectedSize, NO_DOC);
+        docToPerson = new long[Math.max(16, expectedSize)];
+        docBranch = new int[docToPerson.length];
+        live = new boolean[docToPerson.length];
+    }
+
+    public void upsert(long personId, String name, String phone, String address1) {
+        upsert(personId, TenantContext.DEFAULT_BRANCH_ID, name, phone, address1);
+    }
+
+    /**
+     * 고객을 추가하거나, 이미 있으면 기존 문서를 삭제 표시하고 새로 추가한다.
+     */
+    public void upsert(long personId, int branchId, String name, String phone, String address1) {
+        long[] nameGrams = textGrams(name);
+        long[] phoneGrams = digitGrams(phone);
+        long[] addressGrams = textGrams(address1);
+
+        lock.writeLock().lock();
+        try {
+            markDeleted(personId);
+            int doc = maxDoc++;
+            if (doc >= docToPerson.length) {
+                int capacity = docToPerson.length + (docToPerson.length >> 1);
+                docToPerson = Arrays.copyOf(docToPerson, capacity);
+                docBranch = Arrays.copyOf(docBranch, capacity);
+                live = Arrays.copyOf(live, capacity);
+            }
+            docToPerson[doc] = personId;
+            docBranch[doc] = branchId;
+            live[doc] = true;
+            liveDocs++;
+            personToDoc.put(personId, doc);
+
+            fields[Field.NAME.ordinal()].add(doc, nameGrams);
+            fields[Field.PHONE.ordinal()].add(doc, phoneGrams);
+            fields[Field.ADDRESS.ordinal()].add(doc, addressGrams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long personId) {
+        lock.writeLock().lock();
+        try {
+            markDeleted(personId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit, double minSimilarity) {
+        return search(query, limit, minSimilarity, null);
+    }
+
+    /**
+     * @param minSimilarity 질의 trigram 중 문서에 있어야 하는 최소 비율 (0~1)
+     * @param branchId 이 지점 고객만 (null이면 전체)
+     * @return 점수 내림차순, 최대 limit건
+     */
+    public List<Hit> search(String query, int limit, double minSimilarity, Integer branchId) {
+        if (query == null || limit <= 0) {
+            return List.of();
+        }
+
+        List<List<Hit>> perField = new ArrayList<>(2);
+        lock.readLock().lock();
+        try {
+            if (isPhoneQuery(query)) {
+                perField.add(collect(Field.PHONE, digitGrams(query), limit, minSimilarity, branchId));
+            } else {
+                long[] grams = textGrams(query);
+                perField.add(collect(Field.NAME, grams, limit, minSimilarity, branchId));
+                perField.add(collect(Field.ADDRESS, grams, limit, minSimilarity, branchId));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 같은 고객이 여러 필드에서 걸리면 가장 높은 점수를 사용
+        Map<Long, Hit> best = new HashMap<>();
+        for (List<Hit> hits : perField) {
+            for (Hit hit : hits) {
+                best.merge(hit.personId(), hit, (a, b) -> a.score() >= b.score() ? a : b);
+            }
+        }
+        return best.values().stream()
+            .sorted(Comparator.comparingDouble(Hit::score).reversed().thenComparingLong(Hit::personId))
+            .limit(limit)
+            .toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Stats stats() {
+        lock.readLock().lock();
+        try {
+            int grams = 0;
+            long bytes = 0;
+            for (TrigramField field : fields) {
+                grams += field.distinctGrams();
+                bytes += field.postingBytes();
+            }
+            return new Stats(liveDocs, maxDoc - liveDocs, grams, bytes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markDeleted(long personId) {
+        int previous = personToDoc.remove(personId);
+        if (previous != NO_DOC && live[previous]) {
+            live[previous] = false;
+            liveDocs--;
+        }
+    }
+
+    private List<Hit> collect(Field field, long[] grams, int limit, double minSimilarity, Integer branchId) {
+        if (grams.length == 0) {
+            return List.of();
+        }
+        TrigramField index = fields[field.ordinal()];
+        Scratch work = scratch.get();
+        work.ensureCapacity(maxDoc);
+        int[] counts = work.counts;
+
+        for (long gram : grams) {
+            TrigramField.Postings postings = index.postings(gram);
+            if (postings != null) {
+                postings.forEach(doc -> {
+                    if (counts[doc]++ == 0) {
+                        work.touch(doc);
+                    }
+                });
+            }
+        }
+
+        int queryGrams = grams.length;
+        int minMatched = Math.max(1, (int) Math.ceil(minSimilarity * queryGrams));
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1,
+            Comparator.comparingDouble(Hit::score).thenComparing(Comparator.comparingLong(Hit::personId).reversed()));
+
+        for (int i = 0; i < work.touched; i++) {
+            int doc = work.touchedDocs[i];
+            int matched = counts[doc];
+            counts[doc] = 0;
+            if (matched < minMatched || !live[doc] || (branchId != null && docBranch[doc] != branchId)) {
+                continue;
+            }
+            // 질의가 얼마나 포함되었는지(coverage)를 주로 보고, 길이가 비슷할수록(Dice) 조금 더 높게
+            double coverage = (double) matched / queryGrams;
+            double dice = Math.min(1.0, 2.0 * matched / (queryGrams + index.gramCount(doc)));
+            double score = field.weight * (0.7 * coverage + 0.3 * dice);
+            if (top.size() < limit) {
+                top.add(new Hit(docToPerson[doc], score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new Hit(docToPerson[doc], score));
+            }
+        }
+        work.touched = 0;
+        return new ArrayList<>(top);
+    }
+
+    static boolean isPhoneQuery(String query) {
+        boolean hasDigit = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else if (c != '-' && c != ' ' && c != '+' && c != '(' && c != ')' && c != '.') {
+                return false;
+            }
+        }
+        return hasDigit;
+    }
+
+    /**
+     * 로마자 변환 → 표기 차이 정규화 → 단어별로 앞뒤 공백을 붙여 trigram 생성
+     * 앞뒤 공백 덕분에 단어 시작/끝이 일치하는 문서가 더 높은 점수를 받는다.
+     */
+    static long[] textGrams(String text) {
+        if (text == null || text.isBlank()) {
+            return new long[0];
+        }
+        GramBuffer grams = new GramBuffer();
+        for (String word : HangulRomanizer.romanize(text).split(" +")) {
+            if (!word.isEmpty()) {
+                grams.addTrigrams(" " + fold(SURNAME_SPELLINGS.getOrDefault(word, word)) + " ");
+            }
+        }
+        return grams.distinct();
+    }
+
+    static long[] digitGrams(String text) {
+        if (text == null) {
+            return new long[0];
+        }
+        StringBuilder digits = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+            }
+        }
+        GramBuffer grams = new GramBuffer();
+        grams.addTrigrams(digits);
+        return grams.distinct();
+    }
+
+    /**
+     * 영문 표기 관습 차이를 줄인다. (Kim/Gim, Yoon/Yun, Sung/Seong 등)
+     * 유/무성음 쌍과 r/l을 하나로 모으고 ee → i, oo → u, eo → u로 바꾼다.
+     */
+    static String fold(String romanized) {
+        StringBuilder out = new StringBuilder(romanized.length());
+        for (int i = 0; i < romanized.length(); i++) {
+            char c = romanized.charAt(i);
+            char next = i + 1 < romanized.length() ? romanized.charAt(i + 1) : 0;
+            if ((c == 'e' && next == 'e') || (c == 'o' && next == 'o') || (c == 'e' && next == 'o')) {
+                out.append(c == 'e' && next == 'e' ? 'i' : 'u');
+                i++;
+                continue;
+            }
+            out.append(switch (c) {
+                case 'k' -> 'g';
+                case 't' -> 'd';
+                case 'p' -> 'b';
+                case 'l' -> 'r';
+                default -> c;
+            });
+        }
+        return out.toString();
+    }
+
+    private static final class GramBuffer {
+
+        private long[] grams = new long[32];
+        private int size;
+
+        void addTrigrams(CharSequence text) {
+            for (int i = 0; i + 3 <= text.length(); i++) {
+                if (size == grams.length) {
+                    grams = Arrays.copyOf(grams, size * 2);
+                }
+                grams[size++] = ((long) text.charAt(i) << 42) | ((long) text.charAt(i + 1) << 21) | text.charAt(i + 2);
+            }
+        }
+
+        long[] distinct() {
+            Arrays.sort(grams, 0, size);
+            int unique = 0;
+            for (int i = 0; i < size; i++) {
+                if (unique == 0 || grams[unique - 1] != grams[i]) {
+                    grams[unique++] = grams[i];
+                }
+            }
+            return Arrays.copyOf(grams, unique);
+        }
+    }
+
+    /** 질의마다 문서 수 크기의 배열을 새로 만들지 않도록 스레드별로 재사용 */
+    private static final class Scratch {
+
+        private int[] counts = new int[0];
+        private int[] touchedDocs = new int[1024];
+        private int touched;
+
+        void ensureCapacity(int maxDoc) {
+            if (counts.length < maxDoc) {
+                counts = new int[maxDoc + (maxDoc >> 2)];
+            }
+        }
+
+        void touch(int doc) {
+            if (touched == touchedDocs.length) {
+                touchedDocs = Arrays.copyOf(touchedDocs, touched * 2);
+            }
+            touchedDocs[touched++] = doc;
+        }
+    }
+}
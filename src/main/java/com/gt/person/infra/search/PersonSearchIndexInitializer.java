@@ -0,0 +1,37 @@
+package com.gt.person.infra.search;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.gt.person.application.service.PersonSearchService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 후 검색 인덱스를 백그라운드에서 생성한다.
+ * 생성이 끝나기 전의 검색은 그 사이 등록/변경된 고객만 찾는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "person.search", name = "rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+public class PersonSearchIndexInitializer {
+
+    private final PersonSearchService personSearchService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        Thread thread = new Thread(() -> {
+            try {
+                personSearchService.rebuild();
+            } catch (RuntimeException e) {
+                log.error("고객 검색 인덱스 생성 실패: {}", e.getMessage(), e);
+            }
+        }, "person-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,99 @@
+package com.gt.person.infra.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 필드 하나의 trigram 역색인
+ * posting은 문서 번호 증가 순으로만 추가되므로 delta + varint로 인코딩해 byte[]에 이어 붙인다.
+ * (100만 건 기준 posting 하나가 평균 1~2바이트)
+ * 잠금은 PersonSearchIndex가 관리한다.
+ */
+final class TrigramField {
+
+    private final Map<Long, Postings> postings = new HashMap<>();
+    /** 문서별 trigram 수 (Dice 계수 계산용, 255에서 포화) */
+    private byte[] gramCounts = new byte[1024];
+
+    void add(int doc, long[] grams) {
+        if (doc >= gramCounts.length) {
+            gramCounts = Arrays.copyOf(gramCounts, Math.max(doc + 1, gramCounts.length * 2));
+        }
+        gramCounts[doc] = (byte) Math.min(grams.length, 255);
+        for (long gram : grams) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(doc);
+        }
+    }
+
+    int gramCount(int doc) {
+        return doc < gramCounts.length ? gramCounts[doc] & 0xFF : 0;
+    }
+
+    Postings postings(long gram) {
+        return postings.get(gram);
+    }
+
+    int distinctGrams() {
+        return postings.size();
+    }
+
+    long postingBytes() {
+        long bytes = 0;
+        for (Postings list : postings.values()) {
+            bytes += list.size;
+        }
+        return bytes;
+    }
+
+    static final class Postings {
+
+        private byte[] data = new byte[8];
+        private int size;
+        private int lastDoc = -1;
+        private int count;
+
+        void add(int doc) {
+            int delta = doc - lastDoc;
+            if (size + 5 > data.length) {
+                data = Arrays.copyOf(data, data.length + (data.length >> 1) + 5);
+            }
+            while ((delta & ~0x7F) != 0) {
+                data[size++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            data[size++] = (byte) delta;
+            lastDoc = doc;
+            count++;
+        }
+
+        int count() {
+            return count;
+        }
+
+        /**
+         * 문서 번호를 순서대로 visitor에 전달한다.
+         */
+        void forEach(DocVisitor visitor) {
+            int doc = -1;
+            int position = 0;
+            while (position < size) {
+                int delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[position++];
+                    delta |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                doc += delta;
+                visitor.visit(doc);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface DocVisitor {
+        void visit(int doc);
+    }
+}
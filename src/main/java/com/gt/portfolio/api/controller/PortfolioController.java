@@ -0,0 +1,68 @@
+package com.gt.portfolio.api.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gt.global.common.entity.ApiResponse;
+import com.gt.portfolio.api.dto.PortfolioReconcileResponse;
+import com.gt.portfolio.application.service.PortfolioService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/portfolio")
+@RequiredArgsConstructor
+public class PortfolioController {
+
+    /** 일자별 조회 최대 기간 */
+    private static final int MAX_DAYS = 366;
+
+    private final PortfolioService portfolioService;
+
+    /**
+     * 지점 / 잔액 구간별 대출 수, 잔액 합계
+     * @param branchId 생략 시 전체 지점 (지점이 정해진 토큰은 그 지점만)
+     */
+    @GetMapping("/balances")
+    public ResponseEntity<?> balances(@RequestParam(required = false) Integer branchId) {
+        return ResponseEntity.ok(new ApiResponse<>(true, "Portfolio balances", portfolioService.getBalances(branchId)));
+    }
+
+    /**
+     * 일자 / 지점 / 항목 종류별 원장 항목 수, 금액 합계 (실행액, 상환액 등) [from, to]
+     * @param to 기본 오늘
+     * @param from 기본 to - 30일
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<?> daily(@RequestParam(required = false) Integer branchId,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate begin = from == null ? end.minusDays(30) : from;
+        if (begin.isAfter(end) || begin.plusDays(MAX_DAYS).isBefore(end)) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Invalid date range (max " + MAX_DAYS + " days)", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, "Portfolio daily", portfolioService.getDaily(branchId, begin, end)));
+    }
+
+    /**
+     * 카운터와 원본(대출 / 원장) 정합성 검사 (관리자), repair=true면 차이를 고친다.
+     */
+    @PostMapping("/reconcile")
+    public ResponseEntity<?> reconcile(@RequestParam(defaultValue = "false") boolean repair) {
+        PortfolioReconcileResponse response = portfolioService.reconcile(repair);
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponse<>(false, "Portfolio reconciliation is already in progress", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, "Portfolio reconciled", response));
+    }
+}
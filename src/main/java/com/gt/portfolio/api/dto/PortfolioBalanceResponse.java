@@ -0,0 +1,30 @@
+package com.gt.portfolio.api.dto;
+
+import java.util.List;
+
+import com.gt.portfolio.domain.entity.BalanceCounter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PortfolioBalanceResponse {
+
+    private Integer branchId;               // null: 전체 지점
+    private long activeLoans;               // 잔액이 남은 대출 수
+    private long outstandingBalance;        // 잔액 합계
+    private List<BalanceCounter> buckets;   // 지점 / 잔액 구간별
+
+    public static PortfolioBalanceResponse of(Integer branchId, List<BalanceCounter> buckets) {
+        long activeLoans = 0;
+        long outstandingBalance = 0;
+        for (BalanceCounter counter : buckets) {
+            if (counter.bucket().isActive()) {
+                activeLoans += counter.loans();
+            }
+            outstandingBalance += counter.balance();
+        }
+        return new PortfolioBalanceResponse(branchId, activeLoans, outstandingBalance, buckets);
+    }
+}
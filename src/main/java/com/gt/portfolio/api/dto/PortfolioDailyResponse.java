@@ -0,0 +1,19 @@
+package com.gt.portfolio.api.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.gt.portfolio.domain.entity.DailyCounter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PortfolioDailyResponse {
+
+    private Integer branchId;           // null: 전체 지점
+    private LocalDate from;
+    private LocalDate to;               // 포함
+    private List<DailyCounter> days;    // 일자 / 지점 / 항목 종류별
+}
@@ -0,0 +1,24 @@
+package com.gt.portfolio.api.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.gt.portfolio.domain.entity.BalanceCounter;
+import com.gt.portfolio.domain.entity.DailyCounter;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class PortfolioReconcileResponse {
+
+    private long loans;                         // 원본에서 잔액을 계산한 대출 수
+    private LocalDate dailyFrom;                // 일자 카운터 비교 시작일
+    private int balanceMismatches;              // 원본과 다른 지점 / 잔액 구간 수
+    private int dailyMismatches;                // 원본과 다른 일자 / 지점 / 항목 종류 수
+    private boolean repaired;
+    private List<BalanceCounter> balanceDrift;  // 원본 - 카운터 (일부)
+    private List<DailyCounter> dailyDrift;      // 원본 - 카운터 (일부)
+    private long elapsedMs;
+}
@@ -0,0 +1,96 @@
+package com.gt.portfolio.application.counter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gt.ledger.domain.entity.EntryType;
+import com.gt.ledger.domain.entity.LedgerEntry;
+import com.gt.portfolio.domain.entity.BalanceBucket;
+import com.gt.portfolio.domain.entity.BalanceCounter;
+import com.gt.portfolio.domain.entity.DailyCounter;
+import com.gt.portfolio.domain.repository.PortfolioCounterRepository;
+import com.gt.portfolio.infra.config.PortfolioProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 원장 기록을 포트폴리오 카운터에 반영한다.
+ *
+ * 원장 기록 트랜잭션 안에서 호출하므로 카운터는 커밋된 원장과 항상 함께 바뀐다.
+ * 대출 ID로 stripe를 정해, 서로 다른 대출의 동시 기록은 대부분 다른 행을 갱신한다.
+ * (같은 대출의 기록은 이미 대출 행 잠금으로 직렬화된다.)
+ */
+@Component
+public class PortfolioCounters {
+
+    private final PortfolioCounterRepository counterRepository;
+    private final int stripes;
+    private final Timer updateTime;
+
+    public PortfolioCounters(PortfolioCounterRepository counterRepository,
+                             PortfolioProperties properties,
+                             MeterRegistry meterRegistry) {
+        if (properties.getStripes() < 1 || properties.getStripes() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("portfolio.stripes must be between 1 and 32767: " + properties.getStripes());
+        }
+        this.counterRepository = counterRepository;
+        this.stripes = properties.getStripes();
+        this.updateTime = Timer.builder("portfolio.counter.update")
+            .description("Portfolio counter update time within a ledger posting")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param newLoan 이번 기록 전 항목이 없던 대출 (잔액 구간에 처음 더한다)
+     * @param balanceBefore 기록 전 잔액
+     * @param balanceAfter 기록 후 잔액
+     * @param entries 이번에 추가한 항목
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPosting(int branchId, long loanId, boolean newLoan, long balanceBefore, long balanceAfter,
+                              List<LedgerEntry> entries) {
+        long start = System.nanoTime();
+        List<BalanceCounter> balances = new ArrayList<>(2);
+        BalanceBucket after = BalanceBucket.of(balanceAfter);
+        if (newLoan) {
+            balances.add(new BalanceCounter(branchId, after, 1, balanceAfter));
+        } else {
+            BalanceBucket before = BalanceBucket.of(balanceBefore);
+            if (before == after) {
+                balances.add(new BalanceCounter(branchId, after, 0, balanceAfter - balanceBefore));
+            } else {
+                balances.add(new BalanceCounter(branchId, before, -1, -balanceBefore));
+                balances.add(new BalanceCounter(branchId, after, 1, balanceAfter));
+            }
+        }
+
+        Map<LocalDate, Map<EntryType, long[]>> days = new TreeMap<>();
+        for (LedgerEntry entry : entries) {
+            long[] sum = days.computeIfAbsent(entry.createdAt().toLocalDate(), day -> new EnumMap<>(EntryType.class))
+                .computeIfAbsent(entry.type(), type -> new long[2]);
+            sum[0]++;
+            sum[1] += entry.amount();
+        }
+        List<DailyCounter> daily = new ArrayList<>();
+        days.forEach((day, types) -> types.forEach((type, sum) ->
+            daily.add(new DailyCounter(day, branchId, type, sum[0], sum[1]))));
+
+        counterRepository.add(balances, daily, stripe(loanId));
+        updateTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private int stripe(long loanId) {
+        return (int) Math.floorMod(loanId, (long) stripes);
+    }
+}
@@ -0,0 +1,27 @@
+package com.gt.portfolio.application.service;
+
+import java.time.LocalDate;
+
+import com.gt.portfolio.api.dto.PortfolioBalanceResponse;
+import com.gt.portfolio.api.dto.PortfolioDailyResponse;
+import com.gt.portfolio.api.dto.PortfolioReconcileResponse;
+
+public interface PortfolioService {
+
+    /**
+     * 지점 / 잔액 구간별 대출 수, 잔액 합계
+     * @param branchId null이면 전체 지점 (지점이 정해진 요청은 TenantScope.narrow에 따라 그 지점만)
+     */
+    PortfolioBalanceResponse getBalances(Integer branchId);
+
+    /**
+     * 일자 / 지점 / 항목 종류별 원장 항목 수, 금액 합계 [from, to]
+     */
+    PortfolioDailyResponse getDaily(Integer branchId, LocalDate from, LocalDate to);
+
+    /**
+     * 카운터를 원본(loan / ledger)과 비교한다. repair면 차이를 카운터에 더해 맞춘다.
+     * @return 검사가 이미 실행 중이면(다른 노드 포함) null
+     */
+    PortfolioReconcileResponse reconcile(boolean repair);
+}
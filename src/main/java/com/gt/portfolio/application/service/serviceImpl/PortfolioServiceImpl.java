@@ -0,0 +1,238 @@
+package com.gt.portfolio.application.service.serviceImpl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.ledger.domain.entity.EntryType;
+import com.gt.portfolio.api.dto.PortfolioBalanceResponse;
+import com.gt.portfolio.api.dto.PortfolioDailyResponse;
+import com.gt.portfolio.api.dto.PortfolioReconcileResponse;
+import com.gt.portfolio.application.service.PortfolioService;
+import com.gt.portfolio.domain.entity.BalanceBucket;
+import com.gt.portfolio.domain.entity.BalanceCounter;
+import com.gt.portfolio.domain.entity.DailyCounter;
+import com.gt.portfolio.domain.repository.PortfolioCounterRepository;
+import com.gt.portfolio.infra.config.PortfolioProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 포트폴리오 보고서 / 카운터 정합성 검사
+ *
+ * 보고서는 카운터 행(키 수 × stripe 수)만 합산하므로 대출 / 원장 항목 수와 관계없다.
+ * 정합성 검사는 한 스냅샷(REPEATABLE READ)에서 원본 집계와 카운터 합계를 함께 읽는다.
+ * 카운터는 원장과 같은 트랜잭션에서 바뀌므로 같은 스냅샷이면 일치해야 하고,
+ * 차이(원본 - 카운터)는 이후 기록과 무관하게 유지되므로 잠금 없이 증감분으로 더해 고친다.
+ */
+@Slf4j
+@Service
+public class PortfolioServiceImpl implements PortfolioService {
+
+    private static final int MAX_SAMPLES = 20;
+    /** 정합성 보정분을 더하는 stripe */
+    private static final int REPAIR_STRIPE = 0;
+
+    private final PortfolioCounterRepository counterRepository;
+    private final PortfolioProperties.Reconcile properties;
+    private final TransactionTemplate snapshotTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    private final Timer reportTime;
+    private final Timer reconcileTime;
+    private final Counter mismatches;
+
+    private Thread worker;
+    private volatile boolean running;
+
+    public PortfolioServiceImpl(PortfolioCounterRepository counterRepository,
+                                PlatformTransactionManager transactionManager,
+                                PortfolioProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.counterRepository = counterRepository;
+        this.properties = properties.getReconcile();
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.reportTime = Timer.builder("portfolio.report.read")
+            .description("Portfolio report read time (counter rows only)")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.reconcileTime = Timer.builder("portfolio.reconcile.time")
+            .description("Portfolio counter reconciliation time against loan / ledger")
+            .register(meterRegistry);
+        this.mismatches = Counter.builder("portfolio.reconcile.mismatches")
+            .description("Portfolio counter keys that differed from loan / ledger")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "portfolio-reconcile");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Override
+    public PortfolioBalanceResponse getBalances(Integer branchId) {
+        long start = System.nanoTime();
+        TenantScope scope = TenantScope.current().narrow(branchId);
+        PortfolioBalanceResponse response = PortfolioBalanceResponse.of(scope.branchId(), counterRepository.sumBalances(scope));
+        reportTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return response;
+    }
+
+    @Override
+    public PortfolioDailyResponse getDaily(Integer branchId, LocalDate from, LocalDate to) {
+        long start = System.nanoTime();
+        TenantScope scope = TenantScope.current().narrow(branchId);
+        PortfolioDailyResponse response = new PortfolioDailyResponse(scope.branchId(), from, to,
+            counterRepository.sumDaily(scope, from, to));
+        reportTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return response;
+    }
+
+    @Override
+    public PortfolioReconcileResponse reconcile(boolean repair) {
+        if (!reconciling.compareAndSet(false, true)) {
+            return null;
+        }
+        try {
+            PortfolioReconcileResponse[] result = {null};
+            boolean ran = counterRepository.runExclusively(() -> result[0] = compare(repair));
+            return ran ? result[0] : null;
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    private PortfolioReconcileResponse compare(boolean repair) {
+        long start = System.nanoTime();
+        LocalDate from = LocalDate.now().minusDays(properties.getDays());
+        Drift drift = snapshotTemplate.execute(status -> {
+            Map<Integer, long[][]> sourceBalances = new HashMap<>();
+            long loans = counterRepository.forEachLoanBalance(properties.getFetchSize(), (branchId, balance) -> {
+                long[] sum = sourceBalances.computeIfAbsent(branchId, id -> new long[BalanceBucket.values().length][2])
+                    [BalanceBucket.of(balance).ordinal()];
+                sum[0]++;
+                sum[1] += balance;
+            });
+            List<DailyCounter> sourceDaily = counterRepository.sumDailyFromSource(from);
+            return new Drift(loans,
+                balanceDrift(sourceBalances, counterRepository.sumBalances(TenantScope.all())),
+                dailyDrift(sourceDaily, counterRepository.sumDaily(TenantScope.all(), from, null)));
+        });
+
+        int found = drift.balances().size() + drift.daily().size();
+        boolean repaired = repair && found > 0;
+        if (found > 0) {
+            mismatches.increment(found);
+            log.warn("포트폴리오 카운터 불일치: balance keys = {}, daily keys = {}, repair = {}",
+                drift.balances().size(), drift.daily().size(), repair);
+        }
+        if (repaired) {
+            transactionTemplate.executeWithoutResult(status ->
+                counterRepository.add(drift.balances(), drift.daily(), REPAIR_STRIPE));
+        }
+        reconcileTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return new PortfolioReconcileResponse(drift.loans(), from, drift.balances().size(), drift.daily().size(), repaired,
+            drift.balances().subList(0, Math.min(MAX_SAMPLES, drift.balances().size())),
+            drift.daily().subList(0, Math.min(MAX_SAMPLES, drift.daily().size())),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * 원본 - 카운터 (0이 아닌 키만)
+     */
+    private static List<BalanceCounter> balanceDrift(Map<Integer, long[][]> source, List<BalanceCounter> counters) {
+        Map<BalanceKey, long[]> diff = new HashMap<>();
+        source.forEach((branchId, buckets) -> {
+            for (BalanceBucket bucket : BalanceBucket.values()) {
+                long[] sum = buckets[bucket.ordinal()];
+                diff.put(new BalanceKey(branchId, bucket), new long[] {sum[0], sum[1]});
+            }
+        });
+        for (BalanceCounter counter : counters) {
+            long[] sum = diff.computeIfAbsent(new BalanceKey(counter.branchId(), counter.bucket()), key -> new long[2]);
+            sum[0] -= counter.loans();
+            sum[1] -= counter.balance();
+        }
+        List<BalanceCounter> drift = new ArrayList<>();
+        diff.forEach((key, sum) -> drift.add(new BalanceCounter(key.branchId(), key.bucket(), sum[0], sum[1])));
+        return drift.stream().filter(counter -> !counter.isZero()).sorted(BalanceCounter.KEY_ORDER).toList();
+    }
+
+    private static List<DailyCounter> dailyDrift(List<DailyCounter> source, List<DailyCounter> counters) {
+        Map<DailyKey, long[]> diff = new HashMap<>();
+        for (DailyCounter counter : source) {
+            long[] sum = diff.computeIfAbsent(new DailyKey(counter.day(), counter.branchId(), counter.type()), key -> new long[2]);
+            sum[0] += counter.entries();
+            sum[1] += counter.amount();
+        }
+        for (DailyCounter counter : counters) {
+            long[] sum = diff.computeIfAbsent(new DailyKey(counter.day(), counter.branchId(), counter.type()), key -> new long[2]);
+            sum[0] -= counter.entries();
+            sum[1] -= counter.amount();
+        }
+        List<DailyCounter> drift = new ArrayList<>();
+        diff.forEach((key, sum) -> drift.add(new DailyCounter(key.day(), key.branchId(), key.type(), sum[0], sum[1])));
+        return drift.stream().filter(counter -> !counter.isZero()).sorted(DailyCounter.KEY_ORDER).toList();
+    }
+
+    private void run() {
+        // 기동 직후가 아니라 한 주기 뒤부터 검사한다.
+        while (running) {
+            try {
+                Thread.sleep(properties.getInterval().toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                reconcile(properties.isRepair());
+            } catch (RuntimeException e) {
+                log.warn("포트폴리오 카운터 정합성 검사 실패, {} 후 재시도: {}", properties.getInterval(), e.getMessage());
+            }
+        }
+    }
+
+    private record Drift(long loans, List<BalanceCounter> balances, List<DailyCounter> daily) {
+    }
+
+    private record BalanceKey(int branchId, BalanceBucket bucket) {
+    }
+
+    private record DailyKey(LocalDate day, int branchId, EntryType type) {
+    }
+}
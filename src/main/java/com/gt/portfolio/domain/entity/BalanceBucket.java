@@ -0,0 +1,36 @@
+package com.gt.portfolio.domain.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 대출 잔액 구간 (포트폴리오 집계 단위)
+ * upperBound: 구간 상한(미포함), 마지막 구간은 상한 없음
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BalanceBucket {
+
+    CLOSED(1),                      // 잔액 0 (상환 완료)
+    UNDER_10M(10_000_000),
+    UNDER_50M(50_000_000),
+    UNDER_100M(100_000_000),
+    OVER_100M(Long.MAX_VALUE);
+
+    private final long upperBound;
+
+    private static final BalanceBucket[] VALUES = values();
+
+    public static BalanceBucket of(long balance) {
+        for (BalanceBucket bucket : VALUES) {
+            if (balance < bucket.upperBound) {
+                return bucket;
+            }
+        }
+        return OVER_100M;
+    }
+
+    public boolean isActive() {
+        return this != CLOSED;
+    }
+}
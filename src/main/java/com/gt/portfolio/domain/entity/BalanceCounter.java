@@ -0,0 +1,17 @@
+package com.gt.portfolio.domain.entity;
+
+import java.util.Comparator;
+
+/**
+ * 지점 / 잔액 구간별 대출 수, 잔액 합계 (기록 시에는 증감분)
+ */
+public record BalanceCounter(int branchId, BalanceBucket bucket, long loans, long balance) {
+
+    /** 카운터 행 잠금 순서 (모든 트랜잭션이 같은 순서로 잠근다) */
+    public static final Comparator<BalanceCounter> KEY_ORDER =
+        Comparator.comparingInt(BalanceCounter::branchId).thenComparing(BalanceCounter::bucket);
+
+    public boolean isZero() {
+        return loans == 0 && balance == 0;
+    }
+}
@@ -0,0 +1,21 @@
+package com.gt.portfolio.domain.entity;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+import com.gt.ledger.domain.entity.EntryType;
+
+/**
+ * 일자 / 지점 / 항목 종류별 원장 항목 수, 금액 합계 (기록 시에는 증감분)
+ */
+public record DailyCounter(LocalDate day, int branchId, EntryType type, long entries, long amount) {
+
+    /** 카운터 행 잠금 순서 (모든 트랜잭션이 같은 순서로 잠근다) */
+    public static final Comparator<DailyCounter> KEY_ORDER = Comparator.comparing(DailyCounter::day)
+        .thenComparingInt(DailyCounter::branchId)
+        .thenComparing(DailyCounter::type);
+
+    public boolean isZero() {
+        return entries == 0 && amount == 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.gt.portfolio.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.portfolio.domain.entity.BalanceCounter;
+import com.gt.portfolio.domain.entity.DailyCounter;
+
+/**
+ * 포트폴리오 집계 카운터
+ * 키마다 stripe 개의 행이 있고, 기록은 한 stripe에 더하며 조회는 stripe를 합산한다.
+ */
+public interface PortfolioCounterRepository {
+
+    /**
+     * 증감분을 stripe 행에 더한다. (행이 없으면 만든다)
+     * 잔액 구간 → 일자 카운터 순서로, 각각 KEY_ORDER 순으로 갱신해 트랜잭션 간 교착을 피한다.
+     */
+    void add(List<BalanceCounter> balances, List<DailyCounter> daily, int stripe);
+
+    /**
+     * 지점 / 잔액 구간별 합계
+     */
+    List<BalanceCounter> sumBalances(TenantScope scope);
+
+    /**
+     * 일자 / 지점 / 항목 종류별 합계, to가 null이면 상한 없음
+     */
+    List<DailyCounter> sumDaily(TenantScope scope, LocalDate from, LocalDate to);
+
+    /**
+     * 원본(loan, ledger_snapshot, ledger_entry)에서 계산한 대출별 지점 / 잔액
+     */
+    long forEachLoanBalance(int fetchSize, LoanBalanceHandler handler);
+
+    /**
+     * 원본 ledger_entry에서 계산한 from 이후 일자별 합계
+     */
+    List<DailyCounter> sumDailyFromSource(LocalDate from);
+
+    /**
+     * 다른 노드가 정합성 검사 중이면 실행하지 않고 false 반환 (PostgreSQL advisory lock, 그 외 DB는 바로 실행)
+     */
+    boolean runExclusively(Runnable action);
+
+    @FunctionalInterface
+    interface LoanBalanceHandler {
+        void accept(int branchId, long balance);
+    }
+}
@@ -0,0 +1,9 @@
+package com.gt.portfolio.infra.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PortfolioProperties.class)
+public class PortfolioConfig {
+}
@@ -0,0 +1,42 @@
+package com.gt.portfolio.infra.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 포트폴리오 집계 카운터 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "portfolio")
+public class PortfolioProperties {
+
+    /** 카운터 키 하나를 나누는 행 수 (동시에 같은 행을 기다리는 트랜잭션 수를 줄인다) */
+    private int stripes = 16;
+
+    private Reconcile reconcile = new Reconcile();
+
+    @Getter
+    @Setter
+    public static class Reconcile {
+
+        /** 주기 검사 실행 여부 (관리자 API로는 항상 실행할 수 있다) */
+        private boolean enabled = true;
+
+        /** 주기 검사 간격 */
+        private Duration interval = Duration.ofHours(1);
+
+        /** 주기 검사에서 차이를 바로 고칠지 */
+        private boolean repair = true;
+
+        /** 원본과 비교하는 일자 카운터 기간 (보관되어 원본이 없는 월보다 짧게) */
+        private int days = 7;
+
+        /** 대출 잔액 계산 시 JDBC 커서 fetch 크기 */
+        private int fetchSize = 5000;
+    }
+}
@@ -0,0 +1,192 @@
+package com.gt.portfolio.infra.repository;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.ledger.domain.entity.EntryType;
+import com.gt.portfolio.domain.entity.BalanceBucket;
+import com.gt.portfolio.domain.entity.BalanceCounter;
+import com.gt.portfolio.domain.entity.DailyCounter;
+import com.gt.portfolio.domain.repository.PortfolioCounterRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포트폴리오 집계 카운터 JDBC 구현
+ *
+ * 카운터는 "UPDATE ... SET x = x + ?"로 더하므로 읽고 쓰는 사이에 값이 바뀌어도 증감분이 유실되지 않는다.
+ * 행이 없을 때만 ON CONFLICT DO NOTHING으로 만든 뒤 다시 더한다.
+ * (충돌해도 트랜잭션이 중단되지 않으며, H2 PostgreSQL 모드에서도 동작한다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcPortfolioCounterRepository implements PortfolioCounterRepository {
+
+    private static final String UPDATE_BALANCE = """
+        UPDATE portfolio_balance_counter SET loans = loans + ?, balance = balance + ?
+        WHERE branch_id = ? AND bucket = ? AND stripe = ?
+        """;
+
+    private static final String INSERT_BALANCE = """
+        INSERT INTO portfolio_balance_counter (branch_id, bucket, stripe, loans, balance) VALUES (?, ?, ?, 0, 0)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String UPDATE_DAILY = """
+        UPDATE portfolio_daily_counter SET entries = entries + ?, amount = amount + ?
+        WHERE posted_date = ? AND branch_id = ? AND entry_type = ? AND stripe = ?
+        """;
+
+    private static final String INSERT_DAILY = """
+        INSERT INTO portfolio_daily_counter (posted_date, branch_id, entry_type, stripe, entries, amount) VALUES (?, ?, ?, ?, 0, 0)
+        ON CONFLICT DO NOTHING
+        """;
+
+    /**
+     * 대출별 잔액은 JdbcLedgerRepository의 잔액 조회와 같은 스냅샷 + 이후 항목 합계
+     */
+    private static final String SOURCE_BALANCE_SQL = """
+        SELECT l.branch_id,
+               COALESCE(s.balance, 0) + COALESCE((
+                   SELECT SUM(e.amount) FROM ledger_entry e
+                   WHERE e.loan_id = l.loan_id AND e.entry_seq > l.snapshot_seq AND e.entry_seq <= l.last_seq
+                     AND e.created_at >= COALESCE(s.created_at, l.created_date) - INTERVAL '1' DAY
+               ), 0)
+        FROM loan l
+        LEFT JOIN ledger_snapshot s ON s.loan_id = l.loan_id AND s.entry_seq = l.snapshot_seq
+        WHERE l.last_seq > 0
+        """;
+
+    private static final String SOURCE_DAILY_SQL = """
+        SELECT CAST(e.created_at AS DATE), l.branch_id, e.entry_type, COUNT(*), SUM(e.amount)
+        FROM ledger_entry e
+        JOIN loan l ON l.loan_id = e.loan_id
+        WHERE e.created_at >= ?
+        GROUP BY CAST(e.created_at AS DATE), l.branch_id, e.entry_type
+        """;
+
+    private static final RowMapper<DailyCounter> DAILY_MAPPER = (rs, rowNum) -> new DailyCounter(
+        rs.getObject(1, LocalDate.class), rs.getInt(2), EntryType.valueOf(rs.getString(3)), rs.getLong(4), rs.getLong(5));
+
+    /** 정합성 검사 advisory lock 키 */
+    private static final long LOCK_KEY = 0x504f5254464f4c49L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void add(List<BalanceCounter> balances, List<DailyCounter> daily, int stripe) {
+        for (BalanceCounter counter : balances.stream().filter(counter -> !counter.isZero()).sorted(BalanceCounter.KEY_ORDER).toList()) {
+            Object[] key = {counter.branchId(), counter.bucket().name(), stripe};
+            if (jdbcTemplate.update(UPDATE_BALANCE, withDelta(counter.loans(), counter.balance(), key)) == 0) {
+                jdbcTemplate.update(INSERT_BALANCE, key);
+                jdbcTemplate.update(UPDATE_BALANCE, withDelta(counter.loans(), counter.balance(), key));
+            }
+        }
+        for (DailyCounter counter : daily.stream().filter(counter -> !counter.isZero()).sorted(DailyCounter.KEY_ORDER).toList()) {
+            Object[] key = {Date.valueOf(counter.day()), counter.branchId(), counter.type().name(), stripe};
+            if (jdbcTemplate.update(UPDATE_DAILY, withDelta(counter.entries(), counter.amount(), key)) == 0) {
+                jdbcTemplate.update(INSERT_DAILY, key);
+                jdbcTemplate.update(UPDATE_DAILY, withDelta(counter.entries(), counter.amount(), key));
+            }
+        }
+    }
+
+    @Override
+    public List<BalanceCounter> sumBalances(TenantScope scope) {
+        String sql = "SELECT branch_id, bucket, SUM(loans), SUM(balance) FROM portfolio_balance_counter"
+            + scope.where("branch_id") + " GROUP BY branch_id, bucket";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new BalanceCounter(
+                rs.getInt(1), BalanceBucket.valueOf(rs.getString(2)), rs.getLong(3), rs.getLong(4)), scope.bind()).stream()
+            .filter(counter -> !counter.isZero())
+            .sorted(BalanceCounter.KEY_ORDER)
+            .toList();
+    }
+
+    @Override
+    public List<DailyCounter> sumDaily(TenantScope scope, LocalDate from, LocalDate to) {
+        StringBuilder sql = new StringBuilder("SELECT posted_date, branch_id, entry_type, SUM(entries), SUM(amount) "
+            + "FROM portfolio_daily_counter WHERE posted_date >= ?");
+        List<Object> args = new ArrayList<>();
+        args.add(Date.valueOf(from));
+        if (to != null) {
+            sql.append(" AND posted_date <= ?");
+            args.add(Date.valueOf(to));
+        }
+        sql.append(scope.branchClause("branch_id")).append(" GROUP BY posted_date, branch_id, entry_type");
+        return jdbcTemplate.query(sql.toString(), DAILY_MAPPER, scope.bind(args.toArray())).stream()
+            .filter(counter -> !counter.isZero())
+            .sorted(DailyCounter.KEY_ORDER)
+            .toList();
+    }
+
+    @Override
+    public long forEachLoanBalance(int fetchSize, LoanBalanceHandler handler) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SOURCE_BALANCE_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            handler.accept(resultSet.getInt(1), resultSet.getLong(2));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    @Override
+    public List<DailyCounter> sumDailyFromSource(LocalDate from) {
+        return jdbcTemplate.query(SOURCE_DAILY_SQL, DAILY_MAPPER, Timestamp.valueOf(from.atStartOfDay())).stream()
+            .sorted(DailyCounter.KEY_ORDER)
+            .toList();
+    }
+
+    @Override
+    public boolean runExclusively(Runnable action) {
+        // session lock이므로 같은 커넥션에서 풀어야 한다. (작업 자체는 다른 커넥션으로 실행)
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            if (postgres && !advisoryLock(connection, "SELECT pg_try_advisory_lock(?)")) {
+                return false;
+            }
+            try {
+                action.run();
+                return true;
+            } finally {
+                if (postgres) {
+                    advisoryLock(connection, "SELECT pg_advisory_unlock(?)");
+                }
+            }
+        }));
+    }
+
+    private static Object[] withDelta(long count, long sum, Object[] key) {
+        Object[] args = new Object[key.length + 2];
+        args[0] = count;
+        args[1] = sum;
+        System.arraycopy(key, 0, args, 2, key.length);
+        return args;
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.gt.reconcile.api.controller;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.gt.global.common.entity.ApiResponse;
+import com.gt.global.common.exception.ReconcileInProgressException;
+import com.gt.reconcile.api.dto.BankMatchResponse;
+import com.gt.reconcile.api.dto.ReconcileRequest;
+import com.gt.reconcile.api.dto.StatementFileResponse;
+import com.gt.reconcile.application.match.MatchStatus;
+import com.gt.reconcile.application.service.ReconcileService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/reconcile/files")
+@RequiredArgsConstructor
+public class ReconcileController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final ReconcileService reconcileService;
+
+    /**
+     * 정산 시작 (백그라운드), 진행 상황은 GET /{fileId}로 확인
+     */
+    @PostMapping
+    public ResponseEntity<?> submit(@Valid @RequestBody ReconcileRequest request) {
+        try {
+            StatementFileResponse response = reconcileService.submit(request.getFileName(), request.getFormat(), request.getCharset());
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ApiResponse<>(true, "Reconciliation accepted", response));
+        } catch (NoSuchFileException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ApiResponse<>(false, "File not found in inbox: " + request.getFileName(), null));
+        } catch (ReconcileInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(new ApiResponse<>(false, e.getMessage(), null));
+        } catch (IllegalArgumentException e) {
+            // 지원하지 않는 charset 이름
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, e.getMessage(), null));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body(new ApiResponse<>(false, e.getMessage(), null));
+        }
+    }
+
+    @GetMapping("/{fileId}")
+    public ResponseEntity<?> file(@PathVariable long fileId) {
+        StatementFileResponse response = reconcileService.getFile(fileId);
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiResponse<>(false, "Statement file not found", null));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, "Statement file", response));
+    }
+
+    /**
+     * 상태별 결과 조회 (기본: 미매칭), 다음 페이지는 마지막 recordOffset을 afterOffset으로 전달
+     */
+    @GetMapping("/{fileId}/matches")
+    public ResponseEntity<?> matches(@PathVariable long fileId,
+                                     @RequestParam(defaultValue = "UNMATCHED") MatchStatus status,
+                                     @RequestParam(defaultValue = "-1") long afterOffset,
+                                     @RequestParam(defaultValue = "100") int size) {
+        if (size <= 0) {
+            return ResponseEntity.badRequest().body(new ApiResponse<>(false, "Invalid size", null));
+        }
+        List<BankMatchResponse> matches = reconcileService.getMatches(fileId, status, afterOffset, Math.min(size, MAX_PAGE_SIZE));
+        return ResponseEntity.ok(new ApiResponse<>(true, "Matches", matches));
+    }
+}
@@ -0,0 +1,28 @@
+package com.gt.reconcile.api.dto;
+
+import java.time.LocalDate;
+
+import com.gt.reconcile.application.match.MatchStatus;
+import com.gt.reconcile.domain.entity.BankMatch;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BankMatchResponse {
+
+    private long recordOffset;      // 파일 내 위치 (다음 페이지 afterOffset)
+    private LocalDate txDate;
+    private Long amount;
+    private Long accountRef;
+    private String payerPhone;
+    private String payerName;
+    private MatchStatus status;
+    private Long personId;
+
+    public static BankMatchResponse from(BankMatch match) {
+        return new BankMatchResponse(match.recordOffset(), match.txDate(), match.amount(), match.accountRef(),
+            match.payerPhone(), match.payerName(), match.status(), match.personId());
+    }
+}
@@ -0,0 +1,27 @@
+package com.gt.reconcile.api.dto;
+
+import com.gt.reconcile.application.parser.StatementFormat;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconcileRequest {
+
+    // reconcile.inbox-dir 안의 파일 이름
+    @NotBlank(message = "파일 이름은 필수입니다.")
+    private String fileName;
+
+    @NotNull(message = "파일 형식은 필수입니다.")
+    private StatementFormat format;
+
+    // 생략 시 reconcile.charset (예: EUC-KR)
+    private String charset;
+}
@@ -0,0 +1,31 @@
+package com.gt.reconcile.api.dto;
+
+import java.time.LocalDateTime;
+
+import com.gt.reconcile.application.parser.StatementFormat;
+import com.gt.reconcile.domain.entity.StatementFile;
+import com.gt.reconcile.domain.entity.StatementFileStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class StatementFileResponse {
+
+    private long fileId;
+    private String fileName;
+    private StatementFormat format;
+    private StatementFileStatus status;
+    private long fileSize;
+    private long committedOffset;   // 결과 기록이 끝난 위치
+    private long recordCount;       // 형식 오류 포함
+    private long matchedCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public static StatementFileResponse from(StatementFile file) {
+        return new StatementFileResponse(file.fileId(), file.fileName(), file.format(), file.status(), file.fileSize(),
+            file.committedOffset(), file.recordCount(), file.matchedCount(), file.startedAt(), file.finishedAt());
+    }
+}
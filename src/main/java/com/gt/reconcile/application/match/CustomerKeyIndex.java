@@ -0,0 +1,63 @@
+package com.gt.reconcile.application.match;
+
+import com.gt.global.common.collection.LongLongHashMap;
+import com.gt.reconcile.application.parser.ByteFields;
+
+/**
+ * 매칭용 메모리 인덱스 (대출번호 → 고객 ID, 전화번호 키 → 고객 ID)
+ * 정산 실행마다 DB에서 새로 만들며, 만든 뒤에는 읽기만 한다.
+ */
+public class CustomerKeyIndex {
+
+    static final long MISSING = -1;
+    /** 같은 전화번호를 가진 고객이 둘 이상 */
+    static final long AMBIGUOUS = -2;
+
+    private final LongLongHashMap loans;
+    private final LongLongHashMap phones;
+
+    public CustomerKeyIndex(int expectedPersons, int expectedLoans) {
+        this.loans = new LongLongHashMap(expectedLoans, MISSING);
+        this.phones = new LongLongHashMap(expectedPersons, MISSING);
+    }
+
+    public void addLoan(long loanId, long personId) {
+        loans.put(loanId, personId);
+    }
+
+    /**
+     * @param phone 정규형 전화번호 (PhoneNumbers.canonical)
+     */
+    public void addPerson(long personId, String phone) {
+        long key = ByteFields.phoneKey(phone);
+        if (key == 0) {
+            return;
+        }
+        long previous = phones.put(key, personId);
+        if (previous != MISSING && previous != personId) {
+            phones.put(key, AMBIGUOUS);
+        }
+    }
+
+    /**
+     * @return 고객 ID, 없으면 MISSING
+     */
+    long personOfLoan(long loanId) {
+        return loans.get(loanId);
+    }
+
+    /**
+     * @return 고객 ID, 없으면 MISSING, 여러 명이면 AMBIGUOUS
+     */
+    long personOfPhone(long phoneKey) {
+        return phones.get(phoneKey);
+    }
+
+    public int loanCount() {
+        return loans.size();
+    }
+
+    public int phoneCount() {
+        return phones.size();
+    }
+}
@@ -0,0 +1,146 @@
+package com.gt.reconcile.application.match;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import com.gt.reconcile.application.parser.StatementRecord;
+
+/**
+ * 한 번에 기록할 매칭 결과 묶음 (열 단위 배열, 재사용)
+ * 입금자명은 원본 바이트를 arena에 복사해 두고 기록할 때만 문자열로 변환한다.
+ */
+public class MatchChunk {
+
+    private final int capacity;
+
+    final long[] offsets;
+    final int[] txDates;
+    final long[] amounts;
+    final long[] accountRefs;
+    final long[] phoneKeys;
+    final long[] personIds;
+    final long[] loanIds;
+    final MatchStatus[] statuses;
+    final int[] nameStarts;
+    final int[] nameLengths;
+    private byte[] names;
+    private int namesSize;
+
+    private int size;
+    private long nextOffset;
+
+    public MatchChunk(int capacity) {
+        this.capacity = capacity;
+        this.offsets = new long[capacity];
+        this.txDates = new int[capacity];
+        this.amounts = new long[capacity];
+        this.accountRefs = new long[capacity];
+        this.phoneKeys = new long[capacity];
+        this.personIds = new long[capacity];
+        this.loanIds = new long[capacity];
+        this.statuses = new MatchStatus[capacity];
+        this.nameStarts = new int[capacity];
+        this.nameLengths = new int[capacity];
+        this.names = new byte[capacity * 32];
+    }
+
+    void add(long offset, StatementRecord record, MatchStatus status, long personId, long loanId) {
+        int i = size++;
+        offsets[i] = offset;
+        statuses[i] = status;
+        personIds[i] = personId;
+        loanIds[i] = loanId;
+        if (record == null) {
+            txDates[i] = 0;
+            amounts[i] = 0;
+            accountRefs[i] = 0;
+            phoneKeys[i] = 0;
+            nameStarts[i] = namesSize;
+            nameLengths[i] = 0;
+            return;
+        }
+        txDates[i] = record.txDate();
+        amounts[i] = record.amount();
+        accountRefs[i] = record.accountRef();
+        phoneKeys[i] = record.phoneKey();
+
+        int length = record.nameLength();
+        if (namesSize + length > names.length) {
+            names = Arrays.copyOf(names, Math.max(names.length * 2, namesSize + length));
+        }
+        record.copyName(names, namesSize);
+        nameStarts[i] = namesSize;
+        nameLengths[i] = length;
+        namesSize += length;
+    }
+
+    void clear(long nextOffset) {
+        size = 0;
+        namesSize = 0;
+        this.nextOffset = nextOffset;
+    }
+
+    void setNextOffset(long nextOffset) {
+        this.nextOffset = nextOffset;
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** 이 묶음을 기록하면 재시작 위치가 되는 파일 offset */
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    public long offset(int i) {
+        return offsets[i];
+    }
+
+    /** yyyyMMdd, 형식 오류 레코드는 0 */
+    public int txDate(int i) {
+        return txDates[i];
+    }
+
+    public long amount(int i) {
+        return amounts[i];
+    }
+
+    /** 대출번호, 없으면 0 */
+    public long accountRef(int i) {
+        return accountRefs[i];
+    }
+
+    /** 정규형 전화번호 문자열, 없으면 null */
+    public String phone(int i) {
+        long key = phoneKeys[i];
+        if (key == 0) {
+            return null;
+        }
+        int length = (int) (key >>> 56);
+        String digits = Long.toString(key & ((1L << 56) - 1));
+        return "0".repeat(length - digits.length()) + digits;
+    }
+
+    public MatchStatus status(int i) {
+        return statuses[i];
+    }
+
+    /** 매칭된 고객 ID, 없으면 0 */
+    public long personId(int i) {
+        return personIds[i];
+    }
+
+    /** 대출번호로 매칭된 대출 ID, 없으면 0 */
+    public long loanId(int i) {
+        return loanIds[i];
+    }
+
+    public String name(int i, Charset charset) {
+        return nameLengths[i] == 0 ? null : new String(names, nameStarts[i], nameLengths[i], charset);
+    }
+}
@@ -0,0 +1,11 @@
+package com.gt.reconcile.application.match;
+
+/**
+ * 매칭 결과 기록
+ * write가 끝나면 chunk.nextOffset()까지 처리가 확정된 것으로 본다. (결과와 재시작 위치를 함께 커밋)
+ */
+@FunctionalInterface
+public interface MatchSink {
+
+    void write(MatchChunk chunk);
+}
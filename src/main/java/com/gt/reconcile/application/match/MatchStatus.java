@@ -0,0 +1,20 @@
+package com.gt.reconcile.application.match;
+
+/**
+ * 입금 레코드 매칭 결과
+ */
+public enum MatchStatus {
+    /** 대출번호로 매칭 */
+    MATCHED_ACCOUNT,
+    /** 대출번호가 없거나 일치하지 않아 입금자 전화번호로 매칭 */
+    MATCHED_PHONE,
+    /** 같은 전화번호의 고객이 여러 명 */
+    AMBIGUOUS,
+    UNMATCHED,
+    /** 형식 오류 */
+    INVALID;
+
+    public boolean isMatched() {
+        return this == MATCHED_ACCOUNT || this == MATCHED_PHONE;
+    }
+}
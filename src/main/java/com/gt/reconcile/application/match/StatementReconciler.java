@@ -0,0 +1,108 @@
+package com.gt.reconcile.application.match;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.gt.reconcile.application.parser.MappedStatementReader;
+import com.gt.reconcile.application.parser.StatementParser;
+import com.gt.reconcile.application.parser.StatementRecord;
+
+/**
+ * 입금 내역 파일 → 파싱 → 인덱스 매칭 → chunk 단위 기록
+ *
+ * 레코드마다 객체를 만들지 않고 StatementRecord / MatchChunk를 재사용한다.
+ * chunk가 가득 차면 sink에 넘기고, sink가 결과와 재시작 위치를 함께 기록한다.
+ * 중단되면 마지막으로 기록된 위치부터 다시 실행하면 되고, 이미 기록된 레코드는 다시 읽지 않는다.
+ */
+public class StatementReconciler {
+
+    private final StatementParser parser;
+    private final CustomerKeyIndex index;
+    private final int chunkSize;
+    private final int windowSize;
+
+    private long records;
+    private long matched;
+    private long invalid;
+
+    public StatementReconciler(StatementParser parser, CustomerKeyIndex index, int chunkSize, int windowSize) {
+        this.parser = parser;
+        this.index = index;
+        this.chunkSize = chunkSize;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @param fromOffset 재시작 위치 (처음이면 0)
+     * @return 파일 끝 offset
+     */
+    public long run(Path file, long fromOffset, MatchSink sink) throws IOException {
+        StatementRecord record = new StatementRecord();
+        MatchChunk chunk = new MatchChunk(chunkSize);
+        chunk.clear(fromOffset);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long end = new MappedStatementReader(channel, windowSize).read(fromOffset,
+                (buffer, start, lineEnd, fileOffset, nextOffset) -> {
+                    switch (parser.parse(buffer, start, lineEnd, fileOffset, record)) {
+                        case RECORD -> match(fileOffset, record, chunk);
+                        case INVALID -> {
+                            chunk.add(fileOffset, null, MatchStatus.INVALID, 0, 0);
+                            invalid++;
+                        }
+                        case SKIP -> {
+                        }
+                    }
+                    chunk.setNextOffset(nextOffset);
+                    if (chunk.isFull()) {
+                        sink.write(chunk);
+                        chunk.clear(nextOffset);
+                    }
+                });
+            chunk.setNextOffset(end);
+            // 마지막 묶음은 비어 있어도 기록해 재시작 위치를 파일 끝으로 확정한다.
+            sink.write(chunk);
+            return end;
+        }
+    }
+
+    private void match(long fileOffset, StatementRecord record, MatchChunk chunk) {
+        records++;
+        if (record.accountRef() != 0) {
+            long personId = index.personOfLoan(record.accountRef());
+            if (personId != CustomerKeyIndex.MISSING) {
+                chunk.add(fileOffset, record, MatchStatus.MATCHED_ACCOUNT, personId, record.accountRef());
+                matched++;
+                return;
+            }
+        }
+        if (record.phoneKey() != 0) {
+            long personId = index.personOfPhone(record.phoneKey());
+            if (personId == CustomerKeyIndex.AMBIGUOUS) {
+                chunk.add(fileOffset, record, MatchStatus.AMBIGUOUS, 0, 0);
+                return;
+            }
+            if (personId != CustomerKeyIndex.MISSING) {
+                chunk.add(fileOffset, record, MatchStatus.MATCHED_PHONE, personId, 0);
+                matched++;
+                return;
+            }
+        }
+        chunk.add(fileOffset, record, MatchStatus.UNMATCHED, 0, 0);
+    }
+
+    /** 형식이 올바른 레코드 수 */
+    public long records() {
+        return records;
+    }
+
+    public long matched() {
+        return matched;
+    }
+
+    public long invalid() {
+        return invalid;
+    }
+}
@@ -0,0 +1,161 @@
+package com.gt.reconcile.application.parser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * ByteBuffer 구간을 String 없이 해석하는 유틸리티
+ * 모든 메서드는 절대 위치 접근만 사용하므로 버퍼의 position/limit을 바꾸지 않는다.
+ */
+public final class ByteFields {
+
+    /** 숫자가 아니거나 범위를 넘는 값 */
+    public static final long INVALID = -1;
+
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private ByteFields() {
+    }
+
+    /**
+     * 앞뒤 공백(및 큰따옴표)을 제외한 시작 위치
+     */
+    public static int trimStart(ByteBuffer buffer, int start, int end) {
+        while (start < end && isBlank(buffer.get(start))) {
+            start++;
+        }
+        return start;
+    }
+
+    public static int trimEnd(ByteBuffer buffer, int start, int end) {
+        while (end > start && isBlank(buffer.get(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * 숫자만 모아 long으로 변환, 구분자(',', '-', '.', ' ')는 무시
+     * @return 숫자가 없으면 0, 숫자 외 문자가 있거나 18자리를 넘으면 INVALID
+     */
+    public static long digits(ByteBuffer buffer, int start, int end) {
+        long value = 0;
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if (++count > MAX_LONG_DIGITS) {
+                    return INVALID;
+                }
+                value = value * 10 + (b - '0');
+            } else if (b != ',' && b != '-' && b != '.' && !isBlank(b)) {
+                return INVALID;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 날짜 (yyyyMMdd, yyyy-MM-dd, yyyy.MM.dd)
+     * @return yyyyMMdd 정수, 형식이 틀리면 INVALID
+     */
+    public static int date(ByteBuffer buffer, int start, int end) {
+        int value = 0;
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                count++;
+            } else if (b != '-' && b != '.' && b != '/' && !isBlank(b)) {
+                return (int) INVALID;
+            }
+        }
+        if (count != 8) {
+            return (int) INVALID;
+        }
+        int year = value / 10000;
+        int month = value / 100 % 100;
+        int day = value % 100;
+        return month >= 1 && month <= 12 && day >= 1 && day <= daysInMonth(year, month) ? value : (int) INVALID;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && year % 100 != 0) || year % 400 == 0 ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * 전화번호 키: PhoneNumbers.canonical과 같은 정규화(숫자만, 82 → 0) 후
+     * 자릿수를 상위 비트에 함께 담아 앞자리 0이 있어도 서로 다른 번호가 같은 키가 되지 않게 한다.
+     * @return 숫자가 없으면 0, 숫자 외 문자가 있거나 15자리를 넘으면 INVALID
+     */
+    public static long phoneKey(ByteBuffer buffer, int start, int end) {
+        long value = 0;
+        int count = 0;
+        int first = -1;
+        int second = -1;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if (count == 0) {
+                    first = b - '0';
+                } else if (count == 1) {
+                    second = b - '0';
+                }
+                value = value * 10 + (b - '0');
+                count++;
+                if (count > 17) {
+                    return INVALID;
+                }
+            } else if (b != '-' && b != '+' && b != '(' && b != ')' && b != '.' && !isBlank(b)) {
+                return INVALID;
+            }
+        }
+        if (count >= 11 && first == 8 && second == 2) {
+            // 82XXXXXXXXX → 0XXXXXXXXX : 앞 두 자리를 0 한 자리로 (값은 같고 자릿수만 1 감소)
+            value -= 82 * pow10(count - 2);
+            count--;
+        }
+        if (count == 0) {
+            return 0;
+        }
+        return count > 15 ? INVALID : phoneKey(value, count);
+    }
+
+    /**
+     * 정규형 전화번호 문자열의 키 (인덱스 적재용)
+     */
+    public static long phoneKey(String canonical) {
+        if (canonical == null || canonical.isEmpty() || canonical.length() > 15) {
+            return 0;
+        }
+        long value = 0;
+        for (int i = 0; i < canonical.length(); i++) {
+            char c = canonical.charAt(i);
+            if (c < '0' || c > '9') {
+                return 0;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return phoneKey(value, canonical.length());
+    }
+
+    private static long phoneKey(long value, int length) {
+        return ((long) length << 56) | value;
+    }
+
+    private static long pow10(int exponent) {
+        long value = 1;
+        for (int i = 0; i < exponent; i++) {
+            value *= 10;
+        }
+        return value;
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '"';
+    }
+}
@@ -0,0 +1,66 @@
+package com.gt.reconcile.application.parser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * CSV 입금 내역: 거래일자,금액,대출번호,입금자 전화번호,입금자명
+ * 큰따옴표로 감싼 필드 안의 쉼표는 구분자로 보지 않는다. (필드 안 개행은 지원하지 않음)
+ */
+public class CsvStatementParser implements StatementParser {
+
+    private static final int FIELDS = 5;
+
+    private final int[] starts = new int[FIELDS];
+    private final int[] ends = new int[FIELDS];
+
+    @Override
+    public Result parse(ByteBuffer buffer, int start, int end, long fileOffset, StatementRecord record) {
+        if (ByteFields.trimStart(buffer, start, end) == end) {
+            return Result.SKIP;
+        }
+        // 파일 첫 줄(UTF-8 BOM 3바이트 뒤 포함)이 숫자로 시작하지 않으면 헤더
+        if (fileOffset <= 3) {
+            int first = ByteFields.trimStart(buffer, start, end);
+            byte b = buffer.get(first);
+            if (b < '0' || b > '9') {
+                return Result.SKIP;
+            }
+        }
+
+        int field = 0;
+        boolean quoted = false;
+        starts[0] = start;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == ',' && !quoted) {
+                if (field == FIELDS - 1) {
+                    return Result.INVALID;
+                }
+                ends[field] = i;
+                starts[++field] = i + 1;
+            }
+        }
+        if (field != FIELDS - 1) {
+            return Result.INVALID;
+        }
+        ends[field] = end;
+
+        record.reset(buffer);
+        record.txDate = ByteFields.date(buffer, starts[0], ends[0]);
+        record.amount = ByteFields.digits(buffer, starts[1], ends[1]);
+        record.accountRef = ByteFields.digits(buffer, starts[2], ends[2]);
+        record.phoneKey = ByteFields.phoneKey(buffer, starts[3], ends[3]);
+        record.nameStart = ByteFields.trimStart(buffer, starts[4], ends[4]);
+        record.nameEnd = ByteFields.trimEnd(buffer, record.nameStart, ends[4]);
+        return isValid(record) ? Result.RECORD : Result.INVALID;
+    }
+
+    static boolean isValid(StatementRecord record) {
+        return record.txDate != ByteFields.INVALID
+            && record.amount > 0
+            && record.accountRef != ByteFields.INVALID
+            && record.phoneKey != ByteFields.INVALID;
+    }
+}
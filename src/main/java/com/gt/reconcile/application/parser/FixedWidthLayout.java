@@ -0,0 +1,38 @@
+package com.gt.reconcile.application.parser;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 고정 길이 레코드의 필드 위치 (0부터 시작하는 바이트 offset, 바이트 길이)
+ * 기본값: 거래일자(8) 금액(13) 대출번호(16) 전화번호(15) 입금자명(40) = 92바이트
+ */
+@Getter
+@Setter
+public class FixedWidthLayout {
+
+    private Field txDate = new Field(0, 8);
+    private Field amount = new Field(8, 13);
+    private Field accountRef = new Field(21, 16);
+    private Field phone = new Field(37, 15);
+    private Field name = new Field(52, 40);
+
+    @Getter
+    @Setter
+    public static class Field {
+        private int offset;
+        private int length;
+
+        public Field() {
+        }
+
+        public Field(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        int end() {
+            return offset + length;
+        }
+    }
+}
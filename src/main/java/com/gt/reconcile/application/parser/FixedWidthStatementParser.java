@@ -0,0 +1,42 @@
+package com.gt.reconcile.application.parser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 고정 길이 입금 내역, 필드 위치는 FixedWidthLayout
+ * 마지막 필드(입금자명)는 줄이 짧으면 줄 끝까지 읽는다. (뒤 공백을 잘라 내는 은행 파일 대응)
+ */
+public class FixedWidthStatementParser implements StatementParser {
+
+    private final FixedWidthLayout layout;
+    private final int minLength;
+
+    public FixedWidthStatementParser(FixedWidthLayout layout) {
+        this.layout = layout;
+        this.minLength = Math.max(layout.getTxDate().end(),
+            Math.max(layout.getAmount().end(), Math.max(layout.getAccountRef().end(), layout.getPhone().end())));
+    }
+
+    @Override
+    public Result parse(ByteBuffer buffer, int start, int end, long fileOffset, StatementRecord record) {
+        if (ByteFields.trimStart(buffer, start, end) == end) {
+            return Result.SKIP;
+        }
+        if (end - start < minLength) {
+            return Result.INVALID;
+        }
+
+        record.reset(buffer);
+        record.txDate = ByteFields.date(buffer, start + layout.getTxDate().getOffset(), start + layout.getTxDate().end());
+        record.amount = ByteFields.digits(buffer, start + layout.getAmount().getOffset(), start + layout.getAmount().end());
+        record.accountRef = ByteFields.digits(buffer, start + layout.getAccountRef().getOffset(),
+            start + layout.getAccountRef().end());
+        record.phoneKey = ByteFields.phoneKey(buffer, start + layout.getPhone().getOffset(), start + layout.getPhone().end());
+
+        int nameStart = Math.min(start + layout.getName().getOffset(), end);
+        int nameEnd = Math.min(start + layout.getName().end(), end);
+        record.nameStart = ByteFields.trimStart(buffer, nameStart, nameEnd);
+        record.nameEnd = ByteFields.trimEnd(buffer, record.nameStart, nameEnd);
+        return CsvStatementParser.isValid(record) ? Result.RECORD : Result.INVALID;
+    }
+}
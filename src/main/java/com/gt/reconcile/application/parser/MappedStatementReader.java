@@ -0,0 +1,91 @@
+package com.gt.reconcile.application.parser;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 파일을 window 단위로 memory-map 해 줄 단위로 넘겨 준다.
+ *
+ * 힙으로 복사하지 않고 페이지 캐시를 직접 읽으며, window 끝에 걸친 줄은 다음 window를 그 줄의 시작 위치부터 다시 map 한다.
+ * 줄 위치(fileOffset)는 파일 기준 절대 위치이므로 중단 후 그대로 재시작 위치로 사용할 수 있다.
+ */
+public class MappedStatementReader {
+
+    /** 줄 하나 (buffer[start, end), 개행 제외) */
+    @FunctionalInterface
+    public interface LineHandler {
+        void line(MappedByteBuffer buffer, int start, int end, long fileOffset, long nextOffset) throws IOException;
+    }
+
+    private final FileChannel channel;
+    private final int windowSize;
+
+    public MappedStatementReader(FileChannel channel, int windowSize) {
+        this.channel = channel;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * fromOffset(줄 시작 위치)부터 파일 끝까지 읽는다.
+     * @return 다음에 읽을 위치 (= 파일 크기)
+     */
+    public long read(long fromOffset, LineHandler handler) throws IOException {
+        long size = channel.size();
+        long position = fromOffset;
+        if (position == 0 && hasUtf8Bom()) {
+            position = 3;
+        }
+
+        while (position < size) {
+            int length = (int) Math.min(windowSize, size - position);
+            boolean last = position + length == size;
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+
+            int lineStart = 0;
+            while (lineStart < length) {
+                int newline = indexOfNewline(window, lineStart, length);
+                if (newline < 0) {
+                    if (!last) {
+                        break;
+                    }
+                    // 마지막 줄에 개행이 없는 경우
+                    handler.line(window, lineStart, trimCarriageReturn(window, lineStart, length),
+                        position + lineStart, size);
+                    lineStart = length;
+                    break;
+                }
+                handler.line(window, lineStart, trimCarriageReturn(window, lineStart, newline),
+                    position + lineStart, position + newline + 1);
+                lineStart = newline + 1;
+            }
+
+            if (lineStart == 0) {
+                throw new IOException("window(" + windowSize + " bytes)보다 긴 줄이 있습니다: offset " + position);
+            }
+            position += lineStart;
+        }
+        return position;
+    }
+
+    private boolean hasUtf8Bom() throws IOException {
+        if (channel.size() < 3) {
+            return false;
+        }
+        MappedByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, 3);
+        return (head.get(0) & 0xFF) == 0xEF && (head.get(1) & 0xFF) == 0xBB && (head.get(2) & 0xFF) == 0xBF;
+    }
+
+    private static int indexOfNewline(MappedByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int trimCarriageReturn(MappedByteBuffer buffer, int start, int end) {
+        return end > start && buffer.get(end - 1) == '\r' ? end - 1 : end;
+    }
+}
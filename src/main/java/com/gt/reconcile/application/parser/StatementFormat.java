@@ -0,0 +1,11 @@
+package com.gt.reconcile.application.parser;
+
+/**
+ * 은행 입금 내역 파일 형식
+ * CSV: 거래일자,금액,대출번호,입금자 전화번호,입금자명 (첫 줄이 숫자로 시작하지 않으면 헤더로 보고 건너뜀)
+ * FIXED_WIDTH: reconcile.fixed-width에 정의한 바이트 위치
+ */
+public enum StatementFormat {
+    CSV,
+    FIXED_WIDTH
+}
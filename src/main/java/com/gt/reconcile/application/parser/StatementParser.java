@@ -0,0 +1,27 @@
+package com.gt.reconcile.application.parser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 한 줄(개행 제외 구간)을 StatementRecord로 해석
+ * 구현체는 내부 버퍼를 재사용하므로 스레드 간에 공유하지 않는다.
+ */
+public interface StatementParser {
+
+    enum Result {
+        RECORD,
+        /** 헤더 / 빈 줄 */
+        SKIP,
+        /** 형식 오류 (결과 테이블에 INVALID로 기록) */
+        INVALID
+    }
+
+    Result parse(ByteBuffer buffer, int start, int end, long fileOffset, StatementRecord record);
+
+    static StatementParser of(StatementFormat format, FixedWidthLayout layout) {
+        return switch (format) {
+            case CSV -> new CsvStatementParser();
+            case FIXED_WIDTH -> new FixedWidthStatementParser(layout);
+        };
+    }
+}
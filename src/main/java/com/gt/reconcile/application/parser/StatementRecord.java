@@ -0,0 +1,61 @@
+package com.gt.reconcile.application.parser;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 파싱된 입금 레코드 (재사용 객체)
+ *
+ * 숫자 필드는 바이트에서 바로 long으로 변환하고, 입금자명은 원본 버퍼의 위치만 기록한다.
+ * 레코드마다 새 객체나 필드별 String을 만들지 않으며, 다음 줄을 파싱하면 값이 바뀐다.
+ */
+public final class StatementRecord {
+
+    /** yyyyMMdd */
+    int txDate;
+    long amount;
+    /** 대출번호, 없으면 0 */
+    long accountRef;
+    /** ByteFields.phoneKey, 없으면 0 */
+    long phoneKey;
+
+    ByteBuffer source;
+    int nameStart;
+    int nameEnd;
+
+    void reset(ByteBuffer source) {
+        this.source = source;
+        this.txDate = 0;
+        this.amount = 0;
+        this.accountRef = 0;
+        this.phoneKey = 0;
+        this.nameStart = 0;
+        this.nameEnd = 0;
+    }
+
+    public int txDate() {
+        return txDate;
+    }
+
+    public long amount() {
+        return amount;
+    }
+
+    public long accountRef() {
+        return accountRef;
+    }
+
+    public long phoneKey() {
+        return phoneKey;
+    }
+
+    public int nameLength() {
+        return nameEnd - nameStart;
+    }
+
+    /**
+     * 입금자명 바이트를 dest[offset..]에 복사
+     */
+    public void copyName(byte[] dest, int offset) {
+        source.get(nameStart, dest, offset, nameEnd - nameStart);
+    }
+}
@@ -0,0 +1,29 @@
+package com.gt.reconcile.application.service;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.gt.reconcile.api.dto.BankMatchResponse;
+import com.gt.reconcile.api.dto.StatementFileResponse;
+import com.gt.reconcile.application.match.MatchStatus;
+import com.gt.reconcile.application.parser.StatementFormat;
+
+public interface ReconcileService {
+
+    /**
+     * inbox 디렉터리의 파일 정산을 백그라운드로 시작
+     * 이전에 중단된 같은 파일이면 마지막 기록 위치부터 이어서 처리하고, 완료된 파일이면 그대로 반환한다.
+     */
+    StatementFileResponse submit(String fileName, StatementFormat format, String charset) throws IOException;
+
+    /**
+     * 파일 정산 (호출 스레드에서 끝까지 실행)
+     */
+    StatementFileResponse reconcile(Path file, StatementFormat format, Charset charset) throws IOException;
+
+    StatementFileResponse getFile(long fileId);
+
+    List<BankMatchResponse> getMatches(long fileId, MatchStatus status, long afterOffset, int size);
+}
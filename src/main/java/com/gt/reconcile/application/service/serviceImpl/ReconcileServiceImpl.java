@@ -0,0 +1,252 @@
+package com.gt.reconcile.application.service.serviceImpl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gt.global.common.exception.ReconcileInProgressException;
+import com.gt.reconcile.api.dto.BankMatchResponse;
+import com.gt.reconcile.api.dto.StatementFileResponse;
+import com.gt.reconcile.application.match.CustomerKeyIndex;
+import com.gt.reconcile.application.match.MatchChunk;
+import com.gt.reconcile.application.match.MatchStatus;
+import com.gt.reconcile.application.match.StatementReconciler;
+import com.gt.reconcile.application.parser.StatementFormat;
+import com.gt.reconcile.application.parser.StatementParser;
+import com.gt.reconcile.application.service.ReconcileService;
+import com.gt.reconcile.domain.entity.StatementFile;
+import com.gt.reconcile.domain.entity.StatementFileStatus;
+import com.gt.reconcile.domain.repository.ReconcileRepository;
+import com.gt.reconcile.infra.config.ReconcileProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 은행 입금 내역 파일 정산
+ *
+ * 파일은 memory-map으로 읽고, 고객/대출 키는 실행 시작 시 메모리 인덱스로 만든다.
+ * 결과는 chunk 단위로 JDBC batch INSERT 하며, 같은 트랜잭션에서 재시작 위치(committed_offset)를 옮긴다.
+ * 중간에 프로세스가 죽어도 같은 파일을 다시 제출하면 마지막으로 커밋된 chunk 다음부터 이어서 처리한다.
+ */
+@Slf4j
+@Service
+public class ReconcileServiceImpl implements ReconcileService {
+
+    /** 파일 식별용 checksum 대상 (앞부분) */
+    private static final int FINGERPRINT_BYTES = 64 * 1024;
+
+    private final ReconcileRepository reconcileRepository;
+    private final ReconcileProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    /** 파일 하나씩 순서대로 처리 (디스크 / DB 쓰기 대역폭을 한 작업이 사용) */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reconcile-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+    /** 이 노드에서 처리 중인 파일 키 */
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    private final Timer chunkWriteTime;
+    private final Map<MatchStatus, Counter> recordCounters = new EnumMap<>(MatchStatus.class);
+
+    public ReconcileServiceImpl(ReconcileRepository reconcileRepository,
+                                ReconcileProperties properties,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.reconcileRepository = reconcileRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+
+        this.chunkWriteTime = Timer.builder("reconcile.chunk.write")
+            .description("Reconciliation chunk batch insert + progress commit time")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        for (MatchStatus status : MatchStatus.values()) {
+            recordCounters.put(status, Counter.builder("reconcile.records")
+                .description("Reconciled statement records")
+                .tag("status", status.name())
+                .register(meterRegistry));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Override
+    public StatementFileResponse submit(String fileName, StatementFormat format, String charset) throws IOException {
+        Path inbox = Path.of(properties.getInboxDir()).toAbsolutePath().normalize();
+        Path file = inbox.resolve(fileName).normalize();
+        // inbox 밖의 경로(../ 등)는 허용하지 않는다.
+        if (!file.startsWith(inbox) || !Files.isRegularFile(file)) {
+            throw new NoSuchFileException(fileName);
+        }
+        Charset fileCharset = charset == null ? properties.getCharset() : Charset.forName(charset);
+
+        StatementFile statementFile = prepare(file, format);
+        if (statementFile.status() != StatementFileStatus.COMPLETED) {
+            executor.execute(() -> process(statementFile, file, fileCharset));
+        }
+        return StatementFileResponse.from(statementFile);
+    }
+
+    @Override
+    public StatementFileResponse reconcile(Path file, StatementFormat format, Charset charset) throws IOException {
+        StatementFile statementFile = prepare(file, format);
+        if (statementFile.status() != StatementFileStatus.COMPLETED) {
+            process(statementFile, file, charset);
+        }
+        return getFile(statementFile.fileId());
+    }
+
+    @Override
+    public StatementFileResponse getFile(long fileId) {
+        return reconcileRepository.findFile(fileId).map(StatementFileResponse::from).orElse(null);
+    }
+
+    @Override
+    public List<BankMatchResponse> getMatches(long fileId, MatchStatus status, long afterOffset, int size) {
+        return reconcileRepository.findByStatus(fileId, status, afterOffset, size).stream()
+            .map(BankMatchResponse::from)
+            .toList();
+    }
+
+    /**
+     * 파일을 등록하거나, 중단된 파일이면 RUNNING으로 되돌려 이어서 처리할 수 있게 한다.
+     */
+    private StatementFile prepare(Path file, StatementFormat format) throws IOException {
+        long size = Files.size(file);
+        String fileKey = fileKey(file, size);
+        if (!running.add(fileKey)) {
+            throw new ReconcileInProgressException("이미 처리 중인 파일입니다: " + file.getFileName());
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<StatementFile> existing = reconcileRepository.findFileByKey(fileKey);
+            if (existing.isEmpty()) {
+                return reconcileRepository.insertFile(fileKey, file.getFileName().toString(), format, size, now);
+            }
+            StatementFile statementFile = existing.get();
+            if (statementFile.status() == StatementFileStatus.COMPLETED) {
+                running.remove(fileKey);
+                return statementFile;
+            }
+            reconcileRepository.markRunning(statementFile.fileId(), now);
+            log.info("정산 이어서 처리: file = {}, offset = {}/{}", statementFile.fileName(),
+                statementFile.committedOffset(), statementFile.fileSize());
+            return statementFile;
+        } catch (RuntimeException e) {
+            running.remove(fileKey);
+            throw e;
+        }
+    }
+
+    private void process(StatementFile statementFile, Path file, Charset charset) {
+        long fileId = statementFile.fileId();
+        long start = System.nanoTime();
+        try {
+            CustomerKeyIndex index = readOnlyTransactionTemplate.execute(
+                status -> reconcileRepository.loadCustomerKeys(properties.getFetchSize()));
+            log.info("정산 인덱스 생성: persons(phone) = {}, loans = {}, {}ms",
+                index.phoneCount(), index.loanCount(), (System.nanoTime() - start) / 1_000_000);
+
+            StatementReconciler reconciler = new StatementReconciler(
+                StatementParser.of(statementFile.format(), properties.getFixedWidth()), index,
+                properties.getChunkSize(), (int) Math.min(Integer.MAX_VALUE, properties.getMapWindow().toBytes()));
+
+            long[] committedOffset = {statementFile.committedOffset()};
+            reconciler.run(file, committedOffset[0], chunk -> {
+                write(fileId, chunk, committedOffset[0], charset);
+                committedOffset[0] = chunk.nextOffset();
+            });
+
+            reconcileRepository.finish(fileId, StatementFileStatus.COMPLETED, LocalDateTime.now());
+            long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            log.info("정산 완료: file = {}, records = {}, matched = {}, invalid = {}, {}ms ({} records/s)",
+                statementFile.fileName(), reconciler.records(), reconciler.matched(), reconciler.invalid(),
+                elapsedMs, reconciler.records() * 1000 / elapsedMs);
+        } catch (Exception e) {
+            log.error("정산 실패: file = {} ({})", statementFile.fileName(), e.getMessage(), e);
+            reconcileRepository.finish(fileId, StatementFileStatus.FAILED, LocalDateTime.now());
+        } finally {
+            running.remove(statementFile.fileKey());
+        }
+    }
+
+    /**
+     * chunk 결과와 재시작 위치를 한 트랜잭션으로 기록
+     */
+    private void write(long fileId, MatchChunk chunk, long expectedOffset, Charset charset) {
+        long start = System.nanoTime();
+        int matched = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunk.status(i).isMatched()) {
+                matched++;
+            }
+        }
+        int chunkMatched = matched;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            reconcileRepository.insertMatches(fileId, chunk, charset);
+            if (!reconcileRepository.commitProgress(fileId, expectedOffset, chunk.nextOffset(), chunk.size(), chunkMatched)) {
+                throw new ReconcileInProgressException("다른 실행이 같은 파일의 위치를 변경했습니다: fileId = " + fileId);
+            }
+        });
+
+        for (int i = 0; i < chunk.size(); i++) {
+            recordCounters.get(chunk.status(i)).increment();
+        }
+        chunkWriteTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 파일명 + 크기 + 앞부분 CRC32
+     */
+    private static String fileKey(Path file, long size) throws IOException {
+        CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer head = ByteBuffer.allocate((int) Math.min(size, FINGERPRINT_BYTES));
+            while (head.hasRemaining() && channel.read(head) >= 0) {
+                // 앞부분을 끝까지 읽는다.
+            }
+            head.flip();
+            crc.update(head);
+        }
+        String name = file.getFileName().toString();
+        if (name.length() > 100) {
+            name = name.substring(0, 100);
+        }
+        return name + ":" + size + ":" + Long.toHexString(crc.getValue());
+    }
+}
@@ -0,0 +1,12 @@
+package com.gt.reconcile.domain.entity;
+
+import java.time.LocalDate;
+
+import com.gt.reconcile.application.match.MatchStatus;
+
+/**
+ * 레코드 매칭 결과 (조회용)
+ */
+public record BankMatch(long fileId, long recordOffset, LocalDate txDate, Long amount, Long accountRef,
+                        String payerPhone, String payerName, MatchStatus status, Long personId, Long loanId) {
+}
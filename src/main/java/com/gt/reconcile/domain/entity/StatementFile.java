@@ -0,0 +1,14 @@
+package com.gt.reconcile.domain.entity;
+
+import java.time.LocalDateTime;
+
+import com.gt.reconcile.application.parser.StatementFormat;
+
+/**
+ * 정산 대상 파일과 진행 상태
+ * @param committedOffset 결과 기록이 끝난 위치 (재시작 위치)
+ */
+public record StatementFile(long fileId, String fileKey, String fileName, StatementFormat format, long fileSize,
+                            long committedOffset, long recordCount, long matchedCount,
+                            StatementFileStatus status, LocalDateTime startedAt, LocalDateTime finishedAt) {
+}
@@ -0,0 +1,8 @@
+package com.gt.reconcile.domain.entity;
+
+public enum StatementFileStatus {
+    RUNNING,
+    COMPLETED,
+    /** 중단됨, 같은 파일을 다시 제출하면 committed_offset부터 이어서 처리 */
+    FAILED
+}
@@ -0,0 +1,51 @@
+package com.gt.reconcile.domain.repository;
+
+import java.nio.charset.Charset;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import com.gt.reconcile.application.match.CustomerKeyIndex;
+import com.gt.reconcile.application.match.MatchChunk;
+import com.gt.reconcile.application.match.MatchStatus;
+import com.gt.reconcile.application.parser.StatementFormat;
+import com.gt.reconcile.domain.entity.BankMatch;
+import com.gt.reconcile.domain.entity.StatementFile;
+import com.gt.reconcile.domain.entity.StatementFileStatus;
+
+public interface ReconcileRepository {
+
+    Optional<StatementFile> findFile(long fileId);
+
+    Optional<StatementFile> findFileByKey(String fileKey);
+
+    StatementFile insertFile(String fileKey, String fileName, StatementFormat format, long fileSize, LocalDateTime startedAt);
+
+    /**
+     * 이어서 처리하기 위해 RUNNING으로 변경
+     */
+    void markRunning(long fileId, LocalDateTime startedAt);
+
+    void finish(long fileId, StatementFileStatus status, LocalDateTime finishedAt);
+
+    /**
+     * 고객 전화번호 / 대출 → 고객 인덱스 생성 (JDBC 커서로 스트리밍)
+     */
+    CustomerKeyIndex loadCustomerKeys(int fetchSize);
+
+    /**
+     * chunk 결과를 JDBC batch로 기록
+     */
+    void insertMatches(long fileId, MatchChunk chunk, Charset charset);
+
+    /**
+     * 재시작 위치와 집계를 갱신, 다른 실행이 먼저 위치를 옮겼으면 false (호출 측에서 롤백)
+     * @param expectedOffset 이 chunk를 읽기 시작한 위치
+     */
+    boolean commitProgress(long fileId, long expectedOffset, long nextOffset, int records, int matched);
+
+    /**
+     * 매칭되지 않은 레코드 (afterOffset 이후, keyset 페이지)
+     */
+    List<BankMatch> findByStatus(long fileId, MatchStatus status, long afterOffset, int limit);
+}
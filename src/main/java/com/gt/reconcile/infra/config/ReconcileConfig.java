@@ -0,0 +1,9 @@
+package com.gt.reconcile.infra.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReconcileProperties.class)
+public class ReconcileConfig {
+}
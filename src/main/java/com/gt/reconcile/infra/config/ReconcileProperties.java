@@ -0,0 +1,38 @@
+package com.gt.reconcile.infra.config;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import com.gt.reconcile.application.parser.FixedWidthLayout;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 은행 입금 내역 정산 설정
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "reconcile")
+public class ReconcileProperties {
+
+    /** 정산 파일을 읽는 디렉터리, 요청은 이 디렉터리 안의 파일 이름만 지정할 수 있다. */
+    private String inboxDir = "/data/reconcile/inbox";
+
+    /** 한 트랜잭션에 기록하는 레코드 수 (= 재시작 시 다시 읽을 수 있는 최대 레코드 수) */
+    private int chunkSize = 5000;
+
+    /** memory-map window 크기 (줄 하나는 이보다 짧아야 함) */
+    private DataSize mapWindow = DataSize.ofMegabytes(256);
+
+    /** 인덱스 생성 시 JDBC 커서 fetch 크기 */
+    private int fetchSize = 5000;
+
+    /** 파일 인코딩 기본값 (입금자명 변환에만 사용) */
+    private Charset charset = StandardCharsets.UTF_8;
+
+    private FixedWidthLayout fixedWidth = new FixedWidthLayout();
+}
@@ -0,0 +1,197 @@
+package com.gt.reconcile.infra.repository;
+
+import java.nio.charset.Charset;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.gt.reconcile.application.match.CustomerKeyIndex;
+import com.gt.reconcile.application.match.MatchChunk;
+import com.gt.reconcile.application.match.MatchStatus;
+import com.gt.reconcile.application.parser.StatementFormat;
+import com.gt.reconcile.domain.entity.BankMatch;
+import com.gt.reconcile.domain.entity.StatementFile;
+import com.gt.reconcile.domain.entity.StatementFileStatus;
+import com.gt.reconcile.domain.repository.ReconcileRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JdbcReconcileRepository implements ReconcileRepository {
+
+    private static final String FILE_COLUMNS = "file_id, file_key, file_name, file_format, file_size, committed_offset, "
+        + "record_count, matched_count, status, started_at, finished_at";
+
+    private static final String INSERT_MATCH = """
+        INSERT INTO bank_match (file_id, record_offset, tx_date, amount, account_ref, payer_phone, payer_name,
+                                match_status, person_id, loan_id)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final RowMapper<StatementFile> FILE_MAPPER = (rs, rowNum) -> new StatementFile(
+        rs.getLong(1), rs.getString(2), rs.getString(3), StatementFormat.valueOf(rs.getString(4)), rs.getLong(5),
+        rs.getLong(6), rs.getLong(7), rs.getLong(8), StatementFileStatus.valueOf(rs.getString(9)),
+        rs.getTimestamp(10).toLocalDateTime(), toLocalDateTime(rs.getTimestamp(11)));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<StatementFile> findFile(long fileId) {
+        return jdbcTemplate.query("SELECT " + FILE_COLUMNS + " FROM bank_statement_file WHERE file_id = ?",
+            FILE_MAPPER, fileId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<StatementFile> findFileByKey(String fileKey) {
+        return jdbcTemplate.query("SELECT " + FILE_COLUMNS + " FROM bank_statement_file WHERE file_key = ?",
+            FILE_MAPPER, fileKey).stream().findFirst();
+    }
+
+    @Override
+    public StatementFile insertFile(String fileKey, String fileName, StatementFormat format, long fileSize,
+                                    LocalDateTime startedAt) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO bank_statement_file (file_key, file_name, file_format, file_size, status, started_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)",
+                new String[] {"file_id"});
+            statement.setString(1, fileKey);
+            statement.setString(2, fileName);
+            statement.setString(3, format.name());
+            statement.setLong(4, fileSize);
+            statement.setString(5, StatementFileStatus.RUNNING.name());
+            statement.setTimestamp(6, Timestamp.valueOf(startedAt));
+            return statement;
+        }, keyHolder);
+        long fileId = keyHolder.getKeyAs(Number.class).longValue();
+        return new StatementFile(fileId, fileKey, fileName, format, fileSize, 0, 0, 0,
+            StatementFileStatus.RUNNING, startedAt, null);
+    }
+
+    @Override
+    public void markRunning(long fileId, LocalDateTime startedAt) {
+        jdbcTemplate.update("UPDATE bank_statement_file SET status = ?, started_at = ?, finished_at = NULL WHERE file_id = ?",
+            StatementFileStatus.RUNNING.name(), Timestamp.valueOf(startedAt), fileId);
+    }
+
+    @Override
+    public void finish(long fileId, StatementFileStatus status, LocalDateTime finishedAt) {
+        jdbcTemplate.update("UPDATE bank_statement_file SET status = ?, finished_at = ? WHERE file_id = ?",
+            status.name(), Timestamp.valueOf(finishedAt), fileId);
+    }
+
+    @Override
+    public CustomerKeyIndex loadCustomerKeys(int fetchSize) {
+        int persons = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM person", Integer.class);
+        int loans = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM loan", Integer.class);
+        CustomerKeyIndex index = new CustomerKeyIndex(persons, loans);
+
+        stream("SELECT person_id, phone FROM person WHERE phone IS NOT NULL", fetchSize,
+            rs -> index.addPerson(rs.getLong(1), rs.getString(2)));
+        stream("SELECT loan_id, person_id FROM loan", fetchSize,
+            rs -> index.addLoan(rs.getLong(1), rs.getLong(2)));
+        return index;
+    }
+
+    @Override
+    public void insertMatches(long fileId, MatchChunk chunk, Charset charset) {
+        if (chunk.size() == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_MATCH, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                boolean invalid = chunk.status(i) == MatchStatus.INVALID;
+                statement.setLong(1, fileId);
+                statement.setLong(2, chunk.offset(i));
+                statement.setDate(3, invalid ? null : toDate(chunk.txDate(i)));
+                setLong(statement, 4, invalid ? 0 : chunk.amount(i));
+                setLong(statement, 5, chunk.accountRef(i));
+                statement.setString(6, chunk.phone(i));
+                statement.setString(7, chunk.name(i, charset));
+                statement.setString(8, chunk.status(i).name());
+                setLong(statement, 9, chunk.personId(i));
+                setLong(statement, 10, chunk.loanId(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size();
+            }
+        });
+    }
+
+    @Override
+    public boolean commitProgress(long fileId, long expectedOffset, long nextOffset, int records, int matched) {
+        return jdbcTemplate.update("""
+            UPDATE bank_statement_file
+            SET committed_offset = ?, record_count = record_count + ?, matched_count = matched_count + ?
+            WHERE file_id = ? AND committed_offset = ?
+            """, nextOffset, records, matched, fileId, expectedOffset) == 1;
+    }
+
+    @Override
+    public List<BankMatch> findByStatus(long fileId, MatchStatus status, long afterOffset, int limit) {
+        return jdbcTemplate.query("""
+            SELECT file_id, record_offset, tx_date, amount, account_ref, payer_phone, payer_name, match_status, person_id, loan_id
+            FROM bank_match
+            WHERE file_id = ? AND match_status = ? AND record_offset > ?
+            ORDER BY record_offset
+            LIMIT ?
+            """, (rs, rowNum) -> new BankMatch(
+                rs.getLong(1), rs.getLong(2), toLocalDate(rs.getDate(3)), rs.getObject(4, Long.class),
+                rs.getObject(5, Long.class), rs.getString(6), rs.getString(7), MatchStatus.valueOf(rs.getString(8)),
+                rs.getObject(9, Long.class), rs.getObject(10, Long.class)),
+            fileId, status.name(), afterOffset, limit);
+    }
+
+    /**
+     * forward-only 커서로 fetchSize 만큼씩 읽는다. (PostgreSQL은 트랜잭션 안에서만 커서 사용)
+     */
+    private void stream(String sql, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, handler);
+    }
+
+    /** 0은 값 없음 */
+    private static void setLong(PreparedStatement statement, int index, long value) throws SQLException {
+        if (value == 0) {
+            statement.setNull(index, Types.BIGINT);
+        } else {
+            statement.setLong(index, value);
+        }
+    }
+
+    private static Date toDate(int yyyymmdd) {
+        return Date.valueOf(LocalDate.of(yyyymmdd / 10000, yyyymmdd / 100 % 100, yyyymmdd % 100));
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
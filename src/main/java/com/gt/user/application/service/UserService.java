@@ -1,37 +1,57 @@
 package com.gt.user.application.service;
 
+import com.gt.outbox.application.publisher.OutboxPublisher;
 import com.gt.user.domain.entity.User;
 import com.gt.user.domain.entity.UserRole;
+import com.gt.user.domain.event.UserProfileEvent;
 import com.gt.user.domain.repository.UserRepository;
+import com.gt.user.domain.repository.UserRepositoryCustom.ProfileChange;
+import com.gt.user.domain.repository.UserRepositoryCustom.ProfileUpsert;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final OutboxPublisher outboxPublisher;
 
+    public Optional<User> findByEmail(String email) {
+        return userRepository.findByNaturalEmail(email);
+    }
+
+    /**
+     * Google 로그인 사용자 조회 또는 생성
+     * 프로필이 그대로인 재로그인은 조회(2차 캐시)만으로 끝나고, 생성/변경은 단일 upsert로 처리한다.
+     * 생성/변경 시에는 같은 트랜잭션에서 outbox 이벤트를 기록한다.
+     */
     @Transactional
     public User findOrCreateGoogleUser(String email, String name, String pictureUrl) {
-        return userRepository.findByEmail(email)
-                .map(user -> {
-                    user.updateProfile(name, pictureUrl);
-                    return user;
-                })
-                .orElseGet(() -> createGoogleUser(email, name, pictureUrl));
-    }
+        Optional<User> existing = userRepository.findByNaturalEmail(email);
+        if (existing.isPresent() && existing.get().hasProfile(name, pictureUrl)) {
+            meterRegistry.counter("user.profile.write", "result", "skipped").increment();
+            return existing.get();
+        }
 
-    private User createGoogleUser(String email, String name, String pictureUrl) {
-        User user = User.builder()
-                .email(email)
-                .name(name)
-                .picture(pictureUrl)
-                .role(UserRole.USER)
-                .provider("google")
-                .build();
-        return userRepository.save(user);
+        // 이벤트 종류는 앞선 조회가 아니라 upsert 결과로 정한다. (동시 첫 로그인은 하나만 INSERTED)
+        ProfileUpsert upsert = userRepository.upsertProfile(email, name, pictureUrl, "google", UserRole.USER);
+        meterRegistry.counter("user.profile.write", "result", upsert.change().name().toLowerCase(Locale.ROOT)).increment();
+        // 생성/변경된 경우에만 같은 트랜잭션에서 outbox에 기록
+        if (upsert.change() != ProfileChange.UNCHANGED) {
+            User user = upsert.user();
+            outboxPublisher.publish(UserProfileEvent.AGGREGATE_TYPE, user.getId(),
+                upsert.change() == ProfileChange.INSERTED ? UserProfileEvent.CREATED : UserProfileEvent.PROFILE_UPDATED,
+                UserProfileEvent.of(user));
+        }
+        return upsert.user();
     }
-} 
\ No newline at end of file
+}
@@ -1,16 +1,32 @@
 package com.gt.user.domain.entity;
 
 import jakarta.persistence.*;
+
+import java.util.Objects;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Filter;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import com.gt.global.common.tenant.TenantContext;
+import com.gt.global.common.tenant.TenantFilters;
+
 @Getter
 @NoArgsConstructor
 @Entity
 @ToString
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
+@Filter(name = TenantFilters.BRANCH_FILTER, condition = TenantFilters.BRANCH_CONDITION)
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -19,6 +35,7 @@ public class User {
     @Column(nullable = false)
     private String name;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
 
@@ -33,6 +50,10 @@ public class User {
     @Column(nullable = false)
     private UserRole role;
 
+    // 소속 지점 (액세스 토큰의 지점 claim)
+    @Column(name = "branch_id", nullable = false)
+    private Integer branchId;
+
     @Builder
     public User(String name, String email, String password, String picture, UserRole role, String provider) {
         this.name = name;
@@ -43,6 +64,13 @@ public class User {
         this.provider = provider;
     }
 
+    @PrePersist
+    void assignBranch() {
+        if (branchId == null) {
+            branchId = TenantContext.currentOrDefault();
+        }
+    }
+
     public User update(String name, String picture) {
         this.name = name;
         this.picture = picture;
@@ -53,4 +81,8 @@ public class User {
         this.name = name;
         this.picture = pictureUrl;
     }
+
+    public boolean hasProfile(String name, String pictureUrl) {
+        return Objects.equals(this.name, name) && Objects.equals(this.picture, pictureUrl);
+    }
 }
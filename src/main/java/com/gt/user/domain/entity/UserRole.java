@@ -1,15 +1,51 @@
 package com.gt.user.domain.entity;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
 public enum UserRole {
-    GUEST("ROLE_GUEST", "손님"),
-    USER("ROLE_USER", "일반 사용자"),
-    ADMIN("ROLE_ADMIN", "관리자");
+    // bit 값은 토큰의 권한 claim(r)에 저장되므로 변경하지 말고 새 권한에는 새 bit를 부여한다.
+    GUEST("ROLE_GUEST", "손님", 1),
+    USER("ROLE_USER", "일반 사용자", 1 << 1),
+    ADMIN("ROLE_ADMIN", "관리자", 1 << 2);
 
     private final String key;
     private final String title;
-} 
\ No newline at end of file
+    private final int bit;
+
+    public static int toMask(Collection<UserRole> roles) {
+        int mask = 0;
+        for (UserRole role : roles) {
+            mask |= role.bit;
+        }
+        return mask;
+    }
+
+    public static List<UserRole> fromMask(int mask) {
+        List<UserRole> roles = new ArrayList<>(1);
+        for (UserRole role : values()) {
+            if ((mask & role.bit) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * 권한 키(ROLE_USER 등)에 해당하는 권한, 없으면 null
+     */
+    public static UserRole fromKey(String key) {
+        for (UserRole role : values()) {
+            if (role.key.equals(key)) {
+                return role;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.gt.user.domain.event;
+
+import com.gt.user.domain.entity.User;
+import com.gt.user.domain.entity.UserRole;
+
+/**
+ * 소셜 로그인 사용자 생성 / 프로필 변경 outbox 이벤트 (payload)
+ */
+public record UserProfileEvent(
+    String userId,
+    String email,
+    String name,
+    String picture,
+    String provider,
+    UserRole role
+) {
+
+    public static final String AGGREGATE_TYPE = "User";
+    public static final String CREATED = "UserCreated";
+    public static final String PROFILE_UPDATED = "UserProfileUpdated";
+
+    public static UserProfileEvent of(User user) {
+        return new UserProfileEvent(user.getId(), user.getEmail(), user.getName(), user.getPicture(),
+            user.getProvider(), user.getRole());
+    }
+}
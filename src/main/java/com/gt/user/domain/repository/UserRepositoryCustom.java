@@ -0,0 +1,36 @@
+package com.gt.user.domain.repository;
+
+import java.util.Optional;
+
+import com.gt.user.domain.entity.User;
+import com.gt.user.domain.entity.UserRole;
+
+public interface UserRepositoryCustom {
+
+    /**
+     * 이메일(natural id)로 사용자 조회
+     * 2차 캐시가 활성화되어 있으면 natural id 캐시 → 엔티티 캐시 순으로 조회해 DB 왕복을 생략한다.
+     * @param email 이메일
+     * @return 사용자
+     */
+    Optional<User> findByNaturalEmail(String email);
+
+    /**
+     * 이메일 기준 upsert, 단일 SQL로 처리해 동시 첫 로그인에도 unique 제약 위반이 발생하지 않는다.
+     * 이미 존재하면 이름/사진이 달라진 경우에만 UPDATE 하며, provider/role은 변경하지 않는다.
+     * @return upsert 이후의 사용자와 이 호출이 실제로 한 일 (동시 첫 로그인 중 하나만 INSERTED)
+     */
+    ProfileUpsert upsertProfile(String email, String name, String picture, String provider, UserRole role);
+
+    /**
+     * upsert가 실제로 한 일
+     */
+    enum ProfileChange {
+        INSERTED,
+        UPDATED,
+        UNCHANGED
+    }
+
+    record ProfileUpsert(User user, ProfileChange change) {
+    }
+}
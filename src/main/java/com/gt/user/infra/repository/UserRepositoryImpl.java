@@ -0,0 +1,116 @@
+package com.gt.user.infra.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+
+import com.gt.user.domain.entity.User;
+import com.gt.user.domain.entity.UserRole;
+import com.gt.user.domain.repository.UserRepositoryCustom;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * UserRepository 커스텀 구현 (Spring Data가 UserRepositoryImpl 이름으로 자동 연결)
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+
+    /**
+     * PostgreSQL: 이메일 충돌 시 이름/사진이 실제로 다를 때만 UPDATE
+     */
+    private static final String POSTGRESQL_UPSERT = """
+        INSERT INTO users (id, email, name, picture, provider, role)
+        VALUES (:id, :email, :name, :picture, :provider, :role)
+        ON CONFLICT (email) DO UPDATE
+            SET name = EXCLUDED.name, picture = EXCLUDED.picture
+            WHERE users.name IS DISTINCT FROM EXCLUDED.name
+               OR users.picture IS DISTINCT FROM EXCLUDED.picture
+        """;
+
+    /**
+     * 그 외(H2 PostgreSQL 모드 등): ON CONFLICT DO UPDATE를 지원하지 않으므로
+     * 충돌을 무시하는 INSERT 후, 삽입되지 않았을 때만 조건부 UPDATE
+     */
+    private static final String INSERT_IGNORE = """
+        INSERT INTO users (id, email, name, picture, provider, role)
+        VALUES (:id, :email, :name, :picture, :provider, :role)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private static final String UPDATE_IF_CHANGED = """
+        UPDATE users SET name = :name, picture = :picture
+        WHERE email = :email
+          AND (name IS DISTINCT FROM :name OR picture IS DISTINCT FROM :picture)
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgreSQL;
+
+    @Override
+    public Optional<User> findByNaturalEmail(String email) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(User.class)
+            .loadOptional(email);
+    }
+
+    @Override
+    public ProfileUpsert upsertProfile(String email, String name, String picture, String provider, UserRole role) {
+        Session session = entityManager.unwrap(Session.class);
+
+        // 삽입되었으면 사용자 ID가 이 값이다. (충돌 시에는 기존 ID 유지)
+        String id = UUID.randomUUID().toString();
+        int affected;
+        if (isPostgreSQL(session)) {
+            affected = executeUpdate(POSTGRESQL_UPSERT, id, email, name, picture, provider, role);
+        } else {
+            affected = executeUpdate(INSERT_IGNORE, id, email, name, picture, provider, role);
+            if (affected == 0) {
+                affected = executeUpdate(UPDATE_IF_CHANGED, null, email, name, picture, null, null);
+            }
+        }
+
+        // 이미 영속 상태인 엔티티가 있으면 DB 값으로 갱신
+        User user = session.bySimpleNaturalId(User.class).load(email);
+        session.refresh(user);
+
+        ProfileChange change = affected == 0 ? ProfileChange.UNCHANGED
+            : id.equals(user.getId()) ? ProfileChange.INSERTED : ProfileChange.UPDATED;
+        return new ProfileUpsert(user, change);
+    }
+
+    private int executeUpdate(String sql, String id, String email, String name, String picture, String provider, UserRole role) {
+        NativeQuery<?> query = entityManager.createNativeQuery(sql).unwrap(NativeQuery.class);
+        // 실행 전 flush 및 User 2차 캐시(엔티티 / natural id) 무효화 대상 지정
+        query.addSynchronizedEntityClass(User.class);
+        // null일 수 있는 값은 타입을 명시해 바인딩 (IS DISTINCT FROM 비교에서 타입 추론 불가)
+        query.setParameter("email", email)
+            .setParameter("name", name, StandardBasicTypes.STRING)
+            .setParameter("picture", picture, StandardBasicTypes.STRING);
+        if (provider != null) {
+            query.setParameter("id", id)
+                .setParameter("provider", provider)
+                .setParameter("role", role.name());
+        }
+        return query.executeUpdate();
+    }
+
+    private boolean isPostgreSQL(Session session) {
+        Boolean postgreSQL = this.postgreSQL;
+        if (postgreSQL == null) {
+            Dialect dialect = session.getSessionFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+            postgreSQL = dialect instanceof PostgreSQLDialect;
+            this.postgreSQL = postgreSQL;
+        }
+        return postgreSQL;
+    }
+}
@@ -0,0 +1,20 @@
+-- 포트폴리오 집계 카운터 (H2): postgresql/V10__portfolio_counter.sql과 같은 구조
+
+CREATE TABLE portfolio_balance_counter (
+    branch_id INTEGER NOT NULL,
+    bucket    VARCHAR(16) NOT NULL,
+    stripe    SMALLINT NOT NULL,
+    loans     BIGINT DEFAULT 0 NOT NULL,
+    balance   BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_portfolio_balance_counter PRIMARY KEY (branch_id, bucket, stripe)
+);
+
+CREATE TABLE portfolio_daily_counter (
+    posted_date DATE NOT NULL,
+    branch_id   INTEGER NOT NULL,
+    entry_type  VARCHAR(16) NOT NULL,
+    stripe      SMALLINT NOT NULL,
+    entries     BIGINT DEFAULT 0 NOT NULL,
+    amount      BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_portfolio_daily_counter PRIMARY KEY (posted_date, branch_id, entry_type, stripe)
+);
@@ -0,0 +1,5 @@
+-- 명백한 중복(이름 + 생년월일 + 전화번호) 판정 키 (DuplicateKeys.full, 지점별)
+-- 중복 검사 메모리 인덱스는 노드별이라 다른 노드가 방금 등록한 고객을 모르므로 고유 인덱스로 막는다.
+-- 기존 고객은 NULL로 두고(기동 시 메모리 인덱스로 검사) 이후 등록분부터 채운다.
+ALTER TABLE person ADD COLUMN duplicate_key BIGINT;
+CREATE UNIQUE INDEX uk_person_duplicate_key ON person (branch_id, duplicate_key);
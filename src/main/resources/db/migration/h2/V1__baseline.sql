@@ -0,0 +1,27 @@
+-- 기준 스키마 (H2): postgresql/V1__baseline.sql과 같은 구조
+-- Hibernate가 H2에서 @Enumerated(STRING)을 ENUM 타입으로 매핑하므로 role은 ENUM으로 둔다. (validate 통과)
+
+CREATE TABLE users (
+    id       VARCHAR(255) NOT NULL,
+    name     VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255),
+    picture  VARCHAR(255),
+    provider VARCHAR(255) NOT NULL,
+    role     ENUM('GUEST', 'USER', 'ADMIN') NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE person (
+    person_id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name               VARCHAR(255),
+    phone              VARCHAR(255),
+    birth              VARCHAR(255),
+    gender             VARCHAR(255),
+    address1           VARCHAR(255),
+    address2           VARCHAR(255),
+    created_date       TIMESTAMP(6),
+    last_modified_date TIMESTAMP(6),
+    CONSTRAINT pk_person PRIMARY KEY (person_id)
+);
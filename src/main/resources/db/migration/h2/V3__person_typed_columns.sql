@@ -0,0 +1,8 @@
+-- person 컬럼 타입 변경 (H2, 테스트용 빈 데이터베이스 기준)
+-- 데이터 변환 규칙은 postgresql/V3__person_typed_columns.sql 참고
+ALTER TABLE person ALTER COLUMN birth SET DATA TYPE DATE;
+ALTER TABLE person ALTER COLUMN gender SET DATA TYPE VARCHAR(1);
+ALTER TABLE person ALTER COLUMN phone SET DATA TYPE VARCHAR(15);
+
+CREATE INDEX idx_person_birth_gender ON person (birth, gender);
+CREATE INDEX idx_person_phone ON person (phone);
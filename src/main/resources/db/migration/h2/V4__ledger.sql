@@ -0,0 +1,34 @@
+-- 대출 원장 (H2): postgresql/V4__ledger.sql과 같은 구조, 수정 방지 트리거 제외
+
+CREATE TABLE loan (
+    loan_id      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    person_id    BIGINT NOT NULL,
+    last_seq     BIGINT NOT NULL DEFAULT 0,
+    snapshot_seq BIGINT NOT NULL DEFAULT 0,
+    created_date TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_loan PRIMARY KEY (loan_id),
+    CONSTRAINT fk_loan_person FOREIGN KEY (person_id) REFERENCES person (person_id)
+);
+
+CREATE INDEX idx_loan_person ON loan (person_id);
+
+CREATE TABLE ledger_entry (
+    loan_id      BIGINT NOT NULL,
+    entry_seq    BIGINT NOT NULL,
+    entry_type   VARCHAR(16) NOT NULL,
+    amount       BIGINT NOT NULL,
+    posting_key  VARCHAR(64) NOT NULL,
+    reverses_seq BIGINT,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ledger_entry PRIMARY KEY (loan_id, entry_seq),
+    CONSTRAINT uk_ledger_entry_posting_key UNIQUE (posting_key),
+    CONSTRAINT uk_ledger_entry_reverses UNIQUE (loan_id, reverses_seq)
+);
+
+CREATE TABLE ledger_snapshot (
+    loan_id    BIGINT NOT NULL,
+    entry_seq  BIGINT NOT NULL,
+    balance    BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ledger_snapshot PRIMARY KEY (loan_id, entry_seq)
+);
@@ -0,0 +1,36 @@
+-- 은행 입금 내역 파일 정산 (H2): postgresql/V5__bank_reconcile.sql과 같은 구조
+
+-- 파일별 진행 상태, committed_offset까지의 결과는 bank_match에 기록 완료 (재시작 위치)
+CREATE TABLE bank_statement_file (
+    file_id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    file_key         VARCHAR(128) NOT NULL,     -- 파일명 + 크기 + 앞부분 CRC32 (같은 파일이면 이어서 처리)
+    file_name        VARCHAR(255) NOT NULL,
+    file_format      VARCHAR(16) NOT NULL,
+    file_size        BIGINT NOT NULL,
+    committed_offset BIGINT NOT NULL DEFAULT 0,
+    record_count     BIGINT NOT NULL DEFAULT 0,
+    matched_count    BIGINT NOT NULL DEFAULT 0,
+    status           VARCHAR(16) NOT NULL,      -- RUNNING / COMPLETED / FAILED
+    started_at       TIMESTAMP(6) NOT NULL,
+    finished_at      TIMESTAMP(6),
+    CONSTRAINT pk_bank_statement_file PRIMARY KEY (file_id),
+    CONSTRAINT uk_bank_statement_file_key UNIQUE (file_key)
+);
+
+-- 레코드별 매칭 결과 (미매칭 / 형식 오류 포함), 파일 내 위치가 키이므로 재실행해도 중복되지 않는다.
+CREATE TABLE bank_match (
+    file_id       BIGINT NOT NULL,
+    record_offset BIGINT NOT NULL,
+    tx_date       DATE,
+    amount        BIGINT,
+    account_ref   BIGINT,
+    payer_phone   VARCHAR(15),
+    payer_name    VARCHAR(100),
+    match_status  VARCHAR(16) NOT NULL,
+    person_id     BIGINT,
+    loan_id       BIGINT,
+    CONSTRAINT pk_bank_match PRIMARY KEY (file_id, record_offset)
+);
+
+CREATE INDEX idx_bank_match_status ON bank_match (file_id, match_status, record_offset);
+CREATE INDEX idx_bank_match_person ON bank_match (person_id);
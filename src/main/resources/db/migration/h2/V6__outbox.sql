@@ -0,0 +1,24 @@
+-- 트랜잭션 outbox (H2): postgresql/V6__outbox.sql과 같은 구조, 부분 인덱스 대신 일반 인덱스
+
+CREATE TABLE outbox_partition (
+    partition_no INT NOT NULL,
+    claimed_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_outbox_partition PRIMARY KEY (partition_no)
+);
+
+INSERT INTO outbox_partition (partition_no, claimed_at)
+SELECT X, TIMESTAMP '1970-01-01 00:00:00' FROM SYSTEM_RANGE(0, 15);
+
+CREATE TABLE outbox_event (
+    event_id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    partition_no   INT NOT NULL,
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id   VARCHAR(64) NOT NULL,
+    event_type     VARCHAR(64) NOT NULL,
+    payload        CHARACTER LARGE OBJECT NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL,
+    published_at   TIMESTAMP(6),
+    CONSTRAINT pk_outbox_event PRIMARY KEY (event_id)
+);
+
+CREATE INDEX idx_outbox_event_pending ON outbox_event (published_at, partition_no, event_id);
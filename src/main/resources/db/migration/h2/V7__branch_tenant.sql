@@ -0,0 +1,17 @@
+-- 지점(branch) 단위 데이터 분리 (H2): 파티셔닝 없이 컬럼 / 인덱스 / 제약만 postgresql/V7__branch_tenant.sql과 맞춘다.
+
+ALTER TABLE users ADD COLUMN branch_id INTEGER DEFAULT 1 NOT NULL;
+CREATE INDEX idx_users_branch ON users (branch_id);
+
+ALTER TABLE person ADD COLUMN branch_id INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE person ADD CONSTRAINT uk_person_branch UNIQUE (branch_id, person_id);
+
+DROP INDEX idx_person_birth_gender;
+DROP INDEX idx_person_phone;
+CREATE INDEX idx_person_birth_gender ON person (branch_id, birth, gender);
+CREATE INDEX idx_person_phone ON person (branch_id, phone);
+
+ALTER TABLE loan DROP CONSTRAINT fk_loan_person;
+ALTER TABLE loan ADD COLUMN branch_id INTEGER DEFAULT 1 NOT NULL;
+ALTER TABLE loan ADD CONSTRAINT fk_loan_person
+    FOREIGN KEY (branch_id, person_id) REFERENCES person (branch_id, person_id);
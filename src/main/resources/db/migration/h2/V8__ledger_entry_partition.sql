@@ -0,0 +1,30 @@
+-- 원장 항목 월별 파티션 (H2): 파티셔닝 없이 postgresql/V8__ledger_entry_partition.sql과 테이블 / 제약만 맞춘다.
+
+ALTER TABLE ledger_entry DROP CONSTRAINT uk_ledger_entry_posting_key;
+ALTER TABLE ledger_entry DROP CONSTRAINT uk_ledger_entry_reverses;
+
+CREATE TABLE ledger_posting_key (
+    posting_key VARCHAR(64) NOT NULL,
+    loan_id     BIGINT NOT NULL,
+    entry_seq   BIGINT NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ledger_posting_key PRIMARY KEY (posting_key)
+);
+
+CREATE INDEX idx_ledger_posting_key_created ON ledger_posting_key (created_at);
+
+CREATE TABLE ledger_reversal (
+    loan_id      BIGINT NOT NULL,
+    reverses_seq BIGINT NOT NULL,
+    entry_seq    BIGINT NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ledger_reversal PRIMARY KEY (loan_id, reverses_seq)
+);
+
+CREATE INDEX idx_ledger_reversal_created ON ledger_reversal (created_at);
+
+INSERT INTO ledger_posting_key (posting_key, loan_id, entry_seq, created_at)
+SELECT posting_key, loan_id, entry_seq, created_at FROM ledger_entry;
+
+INSERT INTO ledger_reversal (loan_id, reverses_seq, entry_seq, created_at)
+SELECT loan_id, reverses_seq, entry_seq, created_at FROM ledger_entry WHERE reverses_seq IS NOT NULL;
@@ -0,0 +1,13 @@
+-- 고객 요약 read model (H2): postgresql/V9__customer_overview.sql과 같은 구조
+
+CREATE TABLE customer_overview (
+    person_id           BIGINT NOT NULL,
+    branch_id           INTEGER NOT NULL,
+    active_loans        INTEGER NOT NULL,
+    outstanding_balance BIGINT NOT NULL,
+    document            CHARACTER LARGE OBJECT NOT NULL,
+    updated_at          TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_customer_overview PRIMARY KEY (person_id)
+);
+
+CREATE INDEX idx_customer_overview_branch ON customer_overview (branch_id, outstanding_balance);
@@ -0,0 +1,24 @@
+-- 포트폴리오 집계 카운터: 원장 기록과 같은 트랜잭션에서 증감하므로 보고서는 loan / ledger_entry를 훑지 않는다.
+-- 같은 키를 stripe 개 행으로 나눠 동시 기록이 한 행의 잠금을 기다리지 않게 하고, 조회 시 stripe를 합산한다.
+-- 갱신이 잦은 작은 테이블이므로 HOT update 여유를 둔다.
+
+-- 지점 / 잔액 구간별 대출 수, 잔액 합계
+CREATE TABLE portfolio_balance_counter (
+    branch_id INTEGER NOT NULL,
+    bucket    VARCHAR(16) NOT NULL,          -- BalanceBucket
+    stripe    SMALLINT NOT NULL,
+    loans     BIGINT NOT NULL DEFAULT 0,
+    balance   BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_portfolio_balance_counter PRIMARY KEY (branch_id, bucket, stripe)
+) WITH (fillfactor = 50);
+
+-- 일자 / 지점 / 항목 종류별 원장 항목 수, 금액 합계 (보관된 월도 남는다)
+CREATE TABLE portfolio_daily_counter (
+    posted_date DATE NOT NULL,
+    branch_id   INTEGER NOT NULL,
+    entry_type  VARCHAR(16) NOT NULL,
+    stripe      SMALLINT NOT NULL,
+    entries     BIGINT NOT NULL DEFAULT 0,
+    amount      BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_portfolio_daily_counter PRIMARY KEY (posted_date, branch_id, entry_type, stripe)
+) WITH (fillfactor = 50);
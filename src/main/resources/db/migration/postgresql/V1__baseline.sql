@@ -0,0 +1,27 @@
+-- 기준 스키마: ddl-auto(update)로 만들어진 운영 스키마와 같은 형태
+-- 기존 데이터베이스는 baseline-on-migrate로 이 버전을 적용된 것으로 간주하고 V2부터 실행한다.
+
+CREATE TABLE users (
+    id       VARCHAR(255) NOT NULL,
+    name     VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255),
+    picture  VARCHAR(255),
+    provider VARCHAR(255) NOT NULL,
+    role     VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE person (
+    person_id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name               VARCHAR(255),
+    phone              VARCHAR(255),
+    birth              VARCHAR(255),
+    gender             VARCHAR(255),
+    address1           VARCHAR(255),
+    address2           VARCHAR(255),
+    created_date       TIMESTAMP(6),
+    last_modified_date TIMESTAMP(6),
+    CONSTRAINT pk_person PRIMARY KEY (person_id)
+);
@@ -0,0 +1,2 @@
+-- 등록 시 중복 의심으로 판정된 기존 고객 ID
+ALTER TABLE person ADD COLUMN IF NOT EXISTS duplicate_of BIGINT;
@@ -0,0 +1,51 @@
+-- person 컬럼 타입 변경
+-- birth: VARCHAR → DATE, gender: VARCHAR → VARCHAR(1) 코드(M/F/U), phone: 숫자만 남긴 정규형
+-- 해석할 수 없는 생년월일은 NULL, 알 수 없는 성별은 U로 바꾼다. (변환 전 값은 person_legacy_values에 보관)
+-- 수동 스크립트로 이미 변환한 데이터베이스에서는 타입 변경을 건너뛴다.
+
+CREATE TABLE IF NOT EXISTS person_legacy_values AS
+SELECT person_id, birth AS birth_text, gender AS gender_text, phone AS phone_text
+FROM person;
+
+-- 'YYYY-MM-DD', 'YYYY.MM.DD', 'YYYYMMDD' 등 숫자 8자리로 해석 가능한 값만 변환, 잘못된 날짜는 NULL
+CREATE OR REPLACE FUNCTION try_birth_v3(value TEXT) RETURNS DATE AS $$
+DECLARE
+    digits TEXT := regexp_replace(coalesce(value, ''), '[^0-9]', '', 'g');
+BEGIN
+    IF length(digits) <> 8 THEN
+        RETURN NULL;
+    END IF;
+    RETURN to_date(digits, 'YYYYMMDD');
+EXCEPTION WHEN others THEN
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema() AND table_name = 'person' AND column_name = 'birth') = 'character varying' THEN
+        ALTER TABLE person
+            ALTER COLUMN birth TYPE DATE USING try_birth_v3(birth),
+            ALTER COLUMN gender TYPE VARCHAR(1) USING (
+                CASE
+                    WHEN upper(trim(gender)) IN ('M', 'MALE', '남', '남자', '남성') THEN 'M'
+                    WHEN upper(trim(gender)) IN ('F', 'FEMALE', '여', '여자', '여성') THEN 'F'
+                    WHEN gender IS NULL THEN NULL
+                    ELSE 'U'
+                END),
+            ALTER COLUMN phone TYPE VARCHAR(15) USING (
+                CASE
+                    WHEN regexp_replace(phone, '[^0-9]', '', 'g') ~ '^82[0-9]{9,}$'
+                        THEN '0' || substr(regexp_replace(phone, '[^0-9]', '', 'g'), 3)
+                    ELSE left(regexp_replace(phone, '[^0-9]', '', 'g'), 15)
+                END);
+    END IF;
+END
+$$;
+
+DROP FUNCTION try_birth_v3(TEXT);
+
+DROP INDEX IF EXISTS idx_person_birth_gender;
+CREATE INDEX idx_person_birth_gender ON person (birth, gender);
+CREATE INDEX IF NOT EXISTS idx_person_phone ON person (phone);
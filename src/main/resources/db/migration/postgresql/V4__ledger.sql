@@ -0,0 +1,46 @@
+-- 대출 원장 (append-only)
+-- 잔액 = 최근 스냅샷 잔액 + 스냅샷 이후 항목 합계, 전체 이력을 집계하지 않는다.
+
+CREATE TABLE loan (
+    loan_id      BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    person_id    BIGINT NOT NULL,
+    last_seq     BIGINT NOT NULL DEFAULT 0,   -- 마지막 원장 항목 순번 (항목 기록 시 이 행을 잠가 순번 발급)
+    snapshot_seq BIGINT NOT NULL DEFAULT 0,   -- 최근 스냅샷에 반영된 순번
+    created_date TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_loan PRIMARY KEY (loan_id),
+    CONSTRAINT fk_loan_person FOREIGN KEY (person_id) REFERENCES person (person_id)
+);
+
+CREATE INDEX idx_loan_person ON loan (person_id);
+
+CREATE TABLE ledger_entry (
+    loan_id      BIGINT NOT NULL,
+    entry_seq    BIGINT NOT NULL,             -- 대출별 1부터 증가
+    entry_type   VARCHAR(16) NOT NULL,
+    amount       BIGINT NOT NULL,             -- 잔액 증감(원), 상환/취소는 음수일 수 있음
+    posting_key  VARCHAR(64) NOT NULL,        -- 요청 측 멱등 키
+    reverses_seq BIGINT,                      -- 취소 대상 항목 순번
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ledger_entry PRIMARY KEY (loan_id, entry_seq),
+    CONSTRAINT uk_ledger_entry_posting_key UNIQUE (posting_key),
+    CONSTRAINT uk_ledger_entry_reverses UNIQUE (loan_id, reverses_seq)
+);
+
+CREATE TABLE ledger_snapshot (
+    loan_id    BIGINT NOT NULL,
+    entry_seq  BIGINT NOT NULL,               -- 이 순번까지 반영한 잔액
+    balance    BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ledger_snapshot PRIMARY KEY (loan_id, entry_seq)
+);
+
+-- 원장 항목은 수정/삭제하지 않는다. (정정은 REVERSAL 항목으로)
+CREATE FUNCTION ledger_entry_immutable() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'ledger_entry is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_ledger_entry_immutable
+    BEFORE UPDATE OR DELETE ON ledger_entry
+    FOR EACH ROW EXECUTE FUNCTION ledger_entry_immutable();
@@ -0,0 +1,28 @@
+-- 트랜잭션 outbox: 엔티티 변경과 같은 트랜잭션에서 이벤트를 기록하고, relay가 sink로 전달한다.
+
+-- relay가 나눠 가져가는 단위. 같은 aggregate의 이벤트는 항상 같은 partition에 들어가고,
+-- partition은 한 번에 한 노드만 잡으므로(FOR UPDATE SKIP LOCKED) aggregate별 순서가 유지된다.
+CREATE TABLE outbox_partition (
+    partition_no INT NOT NULL,
+    claimed_at   TIMESTAMP(6) NOT NULL,     -- 마지막으로 처리한 시각 (오래된 partition부터 가져간다)
+    CONSTRAINT pk_outbox_partition PRIMARY KEY (partition_no)
+);
+
+INSERT INTO outbox_partition (partition_no, claimed_at)
+SELECT g, TIMESTAMP '1970-01-01 00:00:00' FROM generate_series(0, 15) g;
+
+CREATE TABLE outbox_event (
+    event_id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    partition_no   INT NOT NULL,
+    aggregate_type VARCHAR(64) NOT NULL,
+    aggregate_id   VARCHAR(64) NOT NULL,
+    event_type     VARCHAR(64) NOT NULL,
+    payload        TEXT NOT NULL,              -- JSON
+    created_at     TIMESTAMP(6) NOT NULL,
+    published_at   TIMESTAMP(6),               -- NULL: 전달 전
+    CONSTRAINT pk_outbox_event PRIMARY KEY (event_id)
+);
+
+-- 전달 대기 이벤트만 담는 부분 인덱스 (전달된 이벤트가 쌓여도 relay 조회 비용이 늘지 않는다)
+CREATE INDEX idx_outbox_event_pending ON outbox_event (partition_no, event_id) WHERE published_at IS NULL;
+CREATE INDEX idx_outbox_event_published ON outbox_event (published_at) WHERE published_at IS NOT NULL;
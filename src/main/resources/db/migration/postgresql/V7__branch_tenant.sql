@@ -0,0 +1,76 @@
+-- 지점(branch) 단위 데이터 분리
+-- users / person / loan에 branch_id 추가, 기존 데이터는 기본 지점(1)
+-- person은 branch_id 기준 hash 파티션 테이블로 바꾼다. (지점 조건 조회는 파티션 하나만 읽는다)
+-- 지점이 늘어도 파티션을 추가할 필요가 없도록 지점별(list)이 아닌 hash(16개)로 나눈다.
+
+ALTER TABLE users ADD COLUMN branch_id INTEGER NOT NULL DEFAULT 1;
+CREATE INDEX idx_users_branch ON users (branch_id);
+
+-- 파티션 테이블의 고유 제약에는 파티션 키가 포함되어야 하므로 loan은 (branch_id, person_id)로 참조한다.
+ALTER TABLE loan DROP CONSTRAINT fk_loan_person;
+ALTER TABLE loan ADD COLUMN branch_id INTEGER NOT NULL DEFAULT 1;
+
+ALTER TABLE person RENAME TO person_unpartitioned;
+-- 새 테이블의 pk_person과 이름이 겹치지 않도록 기존 PK 이름을 바꾼다.
+-- V1으로 만든 DB는 pk_person, ddl-auto로 만들어 baseline한 DB는 person_pkey이므로 카탈로그에서 찾는다.
+DO $$
+DECLARE
+    pk_name TEXT;
+BEGIN
+    SELECT conname INTO STRICT pk_name
+    FROM pg_constraint
+    WHERE conrelid = 'person_unpartitioned'::regclass AND contype = 'p';
+    EXECUTE format('ALTER TABLE person_unpartitioned RENAME CONSTRAINT %I TO pk_person_unpartitioned', pk_name);
+END
+$$;
+
+DROP INDEX IF EXISTS idx_person_birth_gender;
+DROP INDEX IF EXISTS idx_person_phone;
+
+-- PostgreSQL 16 이하는 파티션 테이블에 IDENTITY 컬럼을 둘 수 없으므로 시퀀스 기본값을 사용한다.
+CREATE SEQUENCE person_id_seq;
+SELECT setval('person_id_seq', COALESCE((SELECT max(person_id) FROM person_unpartitioned), 0) + 1, false);
+
+CREATE TABLE person (
+    person_id          BIGINT NOT NULL DEFAULT nextval('person_id_seq'),
+    branch_id          INTEGER NOT NULL DEFAULT 1,
+    name               VARCHAR(255),
+    phone              VARCHAR(15),
+    birth              DATE,
+    gender             VARCHAR(1),
+    address1           VARCHAR(255),
+    address2           VARCHAR(255),
+    created_date       TIMESTAMP(6),
+    last_modified_date TIMESTAMP(6),
+    duplicate_of       BIGINT,
+    CONSTRAINT pk_person PRIMARY KEY (branch_id, person_id)
+) PARTITION BY HASH (branch_id);
+
+ALTER SEQUENCE person_id_seq OWNED BY person.person_id;
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE person_p%s PARTITION OF person FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+            lpad(i::text, 2, '0'), i);
+    END LOOP;
+END
+$$;
+
+INSERT INTO person (person_id, branch_id, name, phone, birth, gender, address1, address2,
+                    created_date, last_modified_date, duplicate_of)
+SELECT person_id, 1, name, phone, birth, gender, address1, address2,
+       created_date, last_modified_date, duplicate_of
+FROM person_unpartitioned;
+
+DROP TABLE person_unpartitioned;
+
+CREATE INDEX idx_person_birth_gender ON person (branch_id, birth, gender);
+CREATE INDEX idx_person_phone ON person (branch_id, phone);
+-- 지점 없이 ID로 읽는 경로 (em.find, 중복 검사 / 검색 인덱스 적재, 대출 개설)
+CREATE INDEX idx_person_id ON person (person_id);
+
+ALTER TABLE loan ADD CONSTRAINT fk_loan_person
+    FOREIGN KEY (branch_id, person_id) REFERENCES person (branch_id, person_id);
+
+ANALYZE person;
@@ -0,0 +1,77 @@
+-- 원장 항목을 created_at 기준 월별 range 파티션으로 바꾼다.
+-- 최근 구간 조회(잔액 tail, 기간 조회)는 해당 월 파티션만 읽고, 오래된 월은 LedgerPartitionManager가
+-- 떼어내(DETACH) 압축 파일로 보관한 뒤 지운다. 이후 월 파티션도 LedgerPartitionManager가 미리 만든다.
+--
+-- 파티션 테이블의 고유 제약에는 파티션 키가 포함되어야 하므로
+-- posting key / 취소 대상의 전역 고유성은 별도의 작은 테이블이 맡는다.
+
+ALTER TABLE ledger_entry RENAME TO ledger_entry_unpartitioned;
+ALTER TABLE ledger_entry_unpartitioned RENAME CONSTRAINT pk_ledger_entry TO pk_ledger_entry_unpartitioned;
+ALTER TABLE ledger_entry_unpartitioned RENAME CONSTRAINT uk_ledger_entry_posting_key TO uk_ledger_entry_unpartitioned_posting_key;
+ALTER TABLE ledger_entry_unpartitioned RENAME CONSTRAINT uk_ledger_entry_reverses TO uk_ledger_entry_unpartitioned_reverses;
+
+-- (loan_id, entry_seq)의 고유성은 대출 행 잠금 아래 순번을 발급하는 것으로 보장된다.
+CREATE TABLE ledger_entry (
+    loan_id      BIGINT NOT NULL,
+    entry_seq    BIGINT NOT NULL,
+    entry_type   VARCHAR(16) NOT NULL,
+    amount       BIGINT NOT NULL,
+    posting_key  VARCHAR(64) NOT NULL,
+    reverses_seq BIGINT,
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ledger_entry PRIMARY KEY (loan_id, entry_seq, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- 기존 항목이 있는 월부터 이번 달 + 3개월까지 (DEFAULT 파티션은 두지 않는다: 새 월 파티션 생성 시 전체 검사가 필요해진다)
+DO $$
+DECLARE
+    part_month DATE := date_trunc('month', COALESCE((SELECT min(created_at) FROM ledger_entry_unpartitioned), now()));
+BEGIN
+    WHILE part_month <= date_trunc('month', now()) + INTERVAL '3 months' LOOP
+        EXECUTE format('CREATE TABLE ledger_entry_p%s PARTITION OF ledger_entry FOR VALUES FROM (%L) TO (%L)',
+            to_char(part_month, 'YYYYMM'), part_month, part_month + INTERVAL '1 month');
+        part_month := part_month + INTERVAL '1 month';
+    END LOOP;
+END
+$$;
+
+-- posting key → 항목 (멱등 재시도 조회). 보관 기간이 지나 항목이 보관 처리되면 함께 지운다.
+CREATE TABLE ledger_posting_key (
+    posting_key VARCHAR(64) NOT NULL,
+    loan_id     BIGINT NOT NULL,
+    entry_seq   BIGINT NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,   -- 항목 created_at (항목 파티션을 바로 찾는다)
+    CONSTRAINT pk_ledger_posting_key PRIMARY KEY (posting_key)
+);
+
+CREATE INDEX idx_ledger_posting_key_created ON ledger_posting_key (created_at);
+
+-- 취소된 항목 (한 항목은 한 번만 취소)
+CREATE TABLE ledger_reversal (
+    loan_id      BIGINT NOT NULL,
+    reverses_seq BIGINT NOT NULL,
+    entry_seq    BIGINT NOT NULL,        -- 취소 항목 순번
+    created_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_ledger_reversal PRIMARY KEY (loan_id, reverses_seq)
+);
+
+CREATE INDEX idx_ledger_reversal_created ON ledger_reversal (created_at);
+
+INSERT INTO ledger_entry (loan_id, entry_seq, entry_type, amount, posting_key, reverses_seq, created_at)
+SELECT loan_id, entry_seq, entry_type, amount, posting_key, reverses_seq, created_at
+FROM ledger_entry_unpartitioned;
+
+INSERT INTO ledger_posting_key (posting_key, loan_id, entry_seq, created_at)
+SELECT posting_key, loan_id, entry_seq, created_at FROM ledger_entry_unpartitioned;
+
+INSERT INTO ledger_reversal (loan_id, reverses_seq, entry_seq, created_at)
+SELECT loan_id, reverses_seq, entry_seq, created_at FROM ledger_entry_unpartitioned WHERE reverses_seq IS NOT NULL;
+
+DROP TABLE ledger_entry_unpartitioned;
+
+-- 수정 방지 트리거는 파티션 테이블에 다시 건다. (DETACH / DROP PARTITION은 행 삭제가 아니므로 막지 않는다)
+CREATE TRIGGER trg_ledger_entry_immutable
+    BEFORE UPDATE OR DELETE ON ledger_entry
+    FOR EACH ROW EXECUTE FUNCTION ledger_entry_immutable();
+
+ANALYZE ledger_entry;
@@ -0,0 +1,14 @@
+-- 고객 요약 read model: 고객당 한 행에 프로필 + 대출별 잔액을 미리 합쳐 둔다.
+-- outbox 이벤트(PersonCreated / LoanPosted)로 갱신하며, 원본(person / loan / ledger)에서 언제든 다시 만들 수 있다.
+CREATE TABLE customer_overview (
+    person_id           BIGINT NOT NULL,
+    branch_id           INTEGER NOT NULL,
+    active_loans        INTEGER NOT NULL,          -- 잔액이 남은 대출 수
+    outstanding_balance BIGINT NOT NULL,           -- 대출 잔액 합계
+    document            TEXT NOT NULL,             -- JSON (CustomerOverview)
+    updated_at          TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_customer_overview PRIMARY KEY (person_id)
+);
+
+-- 지점별 잔액 상위 고객 조회 (대시보드)
+CREATE INDEX idx_customer_overview_branch ON customer_overview (branch_id, outstanding_balance);
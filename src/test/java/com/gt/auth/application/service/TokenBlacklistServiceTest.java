@@ -0,0 +1,108 @@
+package com.gt.auth.application.service;
+
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.gt.auth.domain.policy.BlacklistDegradedMode;
+import com.gt.auth.infra.blacklist.BlacklistWriteBatcher;
+import com.gt.auth.infra.blacklist.LocalRevocationSnapshot;
+import com.gt.global.common.resilience.CircuitBreaker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 장애 주입 테스트
+ * hasKey/파이프라인 쓰기가 커맨드 타임아웃만큼 지연된 뒤 실패하는 상황을 만들고,
+ * 서킷 브레이커가 열린 이후의 조회 지연(p99)이 타임아웃보다 훨씬 작게 유지되는지 확인한다.
+ */
+@Slf4j
+class TokenBlacklistServiceTest {
+
+    private static final long INJECTED_TIMEOUT_MS = 50;
+
+    private StringRedisTemplate redisTemplate;
+    private BlacklistWriteBatcher writeBatcher;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        writeBatcher = mock(BlacklistWriteBatcher.class);
+
+        // Redis 다운: 커맨드 타임아웃까지 대기 후 실패
+        when(redisTemplate.hasKey(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(INJECTED_TIMEOUT_MS);
+            throw new QueryTimeoutException("Redis command timed out");
+        });
+        when(writeBatcher.submit(anyMap()))
+            .thenReturn(CompletableFuture.failedFuture(new QueryTimeoutException("Redis command timed out")));
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private TokenBlacklistService service(BlacklistDegradedMode mode) {
+        return new TokenBlacklistService(redisTemplate, writeBatcher, new LocalRevocationSnapshot(1000), meterRegistry,
+            mode, Duration.ofHours(1), Duration.ofMillis(INJECTED_TIMEOUT_MS), 5, Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중에도 블랙리스트 조회 p99가 타임아웃보다 작게 유지된다")
+    void p99StaysBoundedWhileRedisIsDown() {
+        TokenBlacklistService service = service(BlacklistDegradedMode.SNAPSHOT);
+
+        int requests = 5_000;
+        long[] latencies = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            long start = System.nanoTime();
+            service.isTokenBlacklisted("token-" + i);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        long p50 = TimeUnit.NANOSECONDS.toMicros(latencies[requests / 2]);
+        long p99 = TimeUnit.NANOSECONDS.toMicros(latencies[(int) (requests * 0.99)]);
+        long max = TimeUnit.NANOSECONDS.toMicros(latencies[requests - 1]);
+        log.info("Redis down - p50 = {}us, p99 = {}us, max = {}us", p50, p99, max);
+
+        Assertions.assertThat(service.getCircuitState()).isNotEqualTo(CircuitBreaker.State.CLOSED);
+        Assertions.assertThat(p99).isLessThan(TimeUnit.MILLISECONDS.toMicros(INJECTED_TIMEOUT_MS) / 5);
+        Assertions.assertThat(meterRegistry.get("auth.blacklist.fallback").tag("operation", "read").counter().count())
+            .isEqualTo(requests);
+    }
+
+    @Test
+    @DisplayName("SNAPSHOT 모드는 이 노드에서 폐기한 토큰을 Redis 없이 거부한다")
+    void snapshotModeServesLocalRevocations() {
+        TokenBlacklistService service = service(BlacklistDegradedMode.SNAPSHOT);
+
+        service.blacklistToken("revoked-token", 60);
+
+        Assertions.assertThat(service.isTokenBlacklisted("revoked-token")).isTrue();
+        Assertions.assertThat(service.isTokenBlacklisted("other-token")).isFalse();
+        Assertions.assertThat(meterRegistry.get("auth.blacklist.fallback").tag("operation", "write").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("FAIL_OPEN / FAIL_CLOSED 모드는 설정대로 응답한다")
+    void failOpenAndFailClosed() {
+        Assertions.assertThat(service(BlacklistDegradedMode.FAIL_OPEN).isTokenBlacklisted("token")).isFalse();
+        Assertions.assertThat(service(BlacklistDegradedMode.FAIL_CLOSED).isTokenBlacklisted("token")).isTrue();
+    }
+}
@@ -0,0 +1,121 @@
+package com.gt.auth.infra.blacklist;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시 로그아웃 시 블랙리스트 쓰기가 파이프라인으로 합쳐지는지 확인하고
+ * 로그아웃당 Redis 왕복 횟수와 처리량을 측정한다.
+ */
+@Slf4j
+class BlacklistWriteBatcherTest {
+
+    private static final long REDIS_RTT_MS = 1;
+
+    private final AtomicInteger pipelines = new AtomicInteger();
+    private final AtomicInteger keysWritten = new AtomicInteger();
+    private BlacklistWriteBatcher batcher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(stringCommands.set(any(), any(), any(), any())).thenAnswer(invocation -> {
+            keysWritten.incrementAndGet();
+            return null;
+        });
+        RedisConnection connection = mock(RedisConnection.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+
+        // 파이프라인 한 번 = Redis 왕복 한 번 (RTT 1ms)
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            pipelines.incrementAndGet();
+            ((RedisCallback<Object>) invocation.getArgument(0)).doInRedis(connection);
+            Thread.sleep(REDIS_RTT_MS);
+            return List.of();
+        });
+
+        batcher = new BlacklistWriteBatcher(redisTemplate, new SimpleMeterRegistry(), Duration.ofMillis(2), 256);
+        batcher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        batcher.stop();
+    }
+
+    @Test
+    @DisplayName("동시 로그아웃의 블랙리스트 쓰기는 로그아웃 수보다 적은 왕복으로 처리된다")
+    void coalescesConcurrentLogouts() throws Exception {
+        int logouts = 2_000;
+        int threads = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<CompletableFuture<Void>> results = new ArrayList<>();
+
+        for (int i = 0; i < logouts; i++) {
+            String suffix = String.valueOf(i);
+            results.add(CompletableFuture.runAsync(() -> {
+                awaitQuietly(ready);
+                // 로그아웃 한 번 = access/refresh 토큰 2건
+                batcher.submit(Map.of("blacklist:access-" + suffix, 60L, "blacklist:refresh-" + suffix, 600L)).join();
+            }, executor));
+        }
+
+        long start = System.nanoTime();
+        ready.countDown();
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executor.shutdown();
+
+        double roundTripsPerLogout = (double) pipelines.get() / logouts;
+        log.info("logouts = {}, pipelines = {}, round trips per logout = {}, throughput = {} logouts/s",
+            logouts, pipelines.get(), String.format("%.3f", roundTripsPerLogout), logouts * 1000L / Math.max(1, elapsedMs));
+
+        Assertions.assertThat(keysWritten.get()).isEqualTo(logouts * 2);
+        Assertions.assertThat(roundTripsPerLogout).isLessThan(0.5);
+    }
+
+    @Test
+    @DisplayName("단건 로그아웃도 두 토큰을 한 번의 왕복으로 기록한다")
+    void singleLogoutUsesOneRoundTrip() {
+        batcher.submit(Map.of("blacklist:access", 60L, "blacklist:refresh", 600L)).join();
+
+        Assertions.assertThat(pipelines.get()).isEqualTo(1);
+        Assertions.assertThat(keysWritten.get()).isEqualTo(2);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
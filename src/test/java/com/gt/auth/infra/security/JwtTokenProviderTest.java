@@ -0,0 +1,248 @@
+package com.gt.auth.infra.security;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.gt.auth.application.service.CustomUserDetailsService;
+import com.gt.auth.application.service.TokenBlacklistService;
+import com.gt.global.common.tenant.TenantContext;
+import com.gt.global.common.tenant.TenantDetails;
+import com.gt.user.domain.entity.UserRole;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ES256 서명/검증과 HS256 전환 기간 호환성, v2(compact) claim 처리를 확인하고
+ * 서명 방식 / claim 형식별 비용을 비교한다.
+ */
+@Slf4j
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "growtogether123456789012345678901234567890";
+    private static final List<UserRole> USER = List.of(UserRole.USER);
+    private static final int BRANCH = 7;
+
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService = mock(CustomUserDetailsService.class);
+        when(userDetailsService.loadUserByUsername(anyString())).thenAnswer(invocation ->
+            User.withUsername(invocation.getArgument(0)).password("").authorities("ROLE_USER").build());
+    }
+
+    private JwtTokenProvider provider(SigningKeyRing ring, boolean legacyEnabled) {
+        JwtTokenProvider provider = new JwtTokenProvider(userDetailsService,
+            mock(TokenBlacklistService.class), ring, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "tokenValidityInSeconds", 3600L);
+        ReflectionTestUtils.setField(provider, "refreshTokenValidityInMilliseconds", 604_800_000L);
+        ReflectionTestUtils.setField(provider, "legacyHs256VerifyEnabled", legacyEnabled);
+        provider.init();
+        return provider;
+    }
+
+    private static SigningKeyRing ring() {
+        return new SigningKeyRing(null, Duration.ofDays(7), Duration.ofMinutes(10), Duration.ofDays(7), Clock.systemUTC());
+    }
+
+    /** 변경 전 방식(HMAC 키, roles 문자열 claim)으로 서명된 토큰 */
+    private static String legacyToken(String username) {
+        return Jwts.builder()
+            .subject(username)
+            .claim("roles", "[ROLE_USER]")
+            .expiration(new Date(System.currentTimeMillis() + 60_000))
+            .signWith(legacyKey())
+            .compact();
+    }
+
+    private static SecretKey legacyKey() {
+        String encodedKey = Base64.getEncoder().encodeToString(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Keys.hmacShaKeyFor(encodedKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("ES256으로 서명하고 kid 헤더로 검증 키를 찾는다")
+    void signsWithEs256AndKid() {
+        SigningKeyRing ring = ring();
+        JwtTokenProvider provider = provider(ring, true);
+
+        String token = provider.createToken("user@example.com", USER, BRANCH);
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+
+        Assertions.assertThat(header).contains("\"alg\":\"ES256\"").contains("\"kid\":\"" + ring.current().kid() + "\"");
+        Assertions.assertThat(provider.validateToken(token)).isTrue();
+        Assertions.assertThat(provider.getUsernameFromToken(token)).isEqualTo("user@example.com");
+
+        // 다른 키 묶음으로 서명된 토큰은 거부
+        Assertions.assertThat(provider(ring(), true).validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("전환 기간에는 기존 HMAC 토큰도 검증하고, 비활성화하면 거부한다")
+    void verifiesLegacyHmacTokensDuringRollout() {
+        String legacy = legacyToken("user@example.com");
+
+        Assertions.assertThat(provider(ring(), true).validateToken(legacy)).isTrue();
+        Assertions.assertThat(provider(ring(), false).validateToken(legacy)).isFalse();
+    }
+
+    @Test
+    @DisplayName("v2 토큰은 claim의 권한 bit로 인증 정보를 만들고 DB를 조회하지 않는다")
+    void compactClaimsAuthenticateWithoutLookup() {
+        JwtTokenProvider provider = provider(ring(), true);
+        String token = provider.createToken("admin@example.com", List.of(UserRole.USER, UserRole.ADMIN), BRANCH);
+
+        Authentication authentication = provider.authenticate(token);
+
+        Assertions.assertThat(authentication.getName()).isEqualTo("admin@example.com");
+        Assertions.assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactlyInAnyOrder("ROLE_USER", "ROLE_ADMIN");
+        Assertions.assertThat(authentication.getDetails()).isEqualTo(new TenantDetails(BRANCH));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("v1 토큰은 전환 기간 동안 DB의 권한으로 인증한다")
+    void legacyClaimsFallBackToUserLookup() {
+        JwtTokenProvider provider = provider(ring(), true);
+
+        Authentication authentication = provider.authenticate(legacyToken("user@example.com"));
+
+        Assertions.assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_USER");
+        verify(userDetailsService).loadUserByUsername("user@example.com");
+        // 지점 claim이 없는 토큰은 기본 지점
+        Assertions.assertThat(authentication.getDetails()).isEqualTo(new TenantDetails(TenantContext.DEFAULT_BRANCH_ID));
+        Assertions.assertThat(provider.authenticate("not-a-token")).isNull();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("v1(roles 문자열) / v2(compact) 토큰의 크기와 파싱 비용 비교")
+    void compareClaimEncodings() {
+        JwtTokenProvider provider = provider(ring(), true);
+        int iterations = 20_000;
+
+        String[] v1 = new String[iterations];
+        String[] v2 = new String[iterations];
+        for (int i = 0; i < iterations; i++) {
+            v2[i] = provider.createToken("user" + i + "@example.com", USER, BRANCH);
+        }
+        // 같은 ES256 키 묶음으로 v1 형식 claim을 서명해 서명 방식 차이를 제외한다.
+        SigningKeyRing ring = (SigningKeyRing) ReflectionTestUtils.getField(provider, "signingKeyRing");
+        for (int i = 0; i < iterations; i++) {
+            v1[i] = Jwts.builder()
+                .header().keyId(ring.current().kid()).and()
+                .subject("user" + i + "@example.com")
+                .claim("roles", "[ROLE_USER]")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(ring.current().privateKey(), Jwts.SIG.ES256)
+                .compact();
+        }
+
+        // 워밍업
+        for (int i = 0; i < 5_000; i++) {
+            provider.authenticate(v1[i]);
+            provider.authenticate(v2[i]);
+        }
+
+        long start = System.nanoTime();
+        for (String token : v1) {
+            provider.authenticate(token);
+        }
+        long v1Parse = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (String token : v2) {
+            provider.authenticate(token);
+        }
+        long v2Parse = System.nanoTime() - start;
+
+        String v1Payload = v1[0].split("\\.")[1];
+        String v2Payload = v2[0].split("\\.")[1];
+        log.info("token bytes  - v1: {} (payload {}), v2: {} (payload {})",
+            v1[0].length(), v1Payload.length(), v2[0].length(), v2Payload.length());
+        log.info("authenticate - v1: {}us/op (incl. user lookup), v2: {}us/op",
+            perOp(v1Parse, iterations), perOp(v2Parse, iterations));
+
+        Assertions.assertThat(v2[0].length()).isLessThan(v1[0].length());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("HMAC과 ES256의 서명/검증 비용 비교")
+    void compareSignAndVerifyCost() {
+        JwtTokenProvider provider = provider(ring(), true);
+        int iterations = 20_000;
+
+        // 워밍업
+        for (int i = 0; i < 5_000; i++) {
+            provider.validateToken(provider.createToken("user" + i, USER, BRANCH));
+            provider.validateToken(legacyToken("user" + i));
+        }
+
+        String[] es256 = new String[iterations];
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            es256[i] = provider.createToken("user" + i, USER, BRANCH);
+        }
+        long es256Sign = System.nanoTime() - start;
+
+        String[] hmac = new String[iterations];
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            hmac[i] = legacyToken("user" + i);
+        }
+        long hmacSign = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (String token : es256) {
+            provider.validateToken(token);
+        }
+        long es256Verify = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (String token : hmac) {
+            provider.validateToken(token);
+        }
+        long hmacVerify = System.nanoTime() - start;
+
+        log.info("sign   - HMAC: {}us/op, ES256: {}us/op", perOp(hmacSign, iterations), perOp(es256Sign, iterations));
+        log.info("verify - HMAC: {}us/op, ES256: {}us/op", perOp(hmacVerify, iterations), perOp(es256Verify, iterations));
+        log.info("token length - HMAC: {}, ES256: {}", hmac[0].length(), es256[0].length());
+
+        Assertions.assertThat(es256).allSatisfy(token -> Assertions.assertThat(token).isNotBlank());
+    }
+
+    private static double perOp(long nanos, int iterations) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos * 100 / iterations) / 100.0;
+    }
+}
@@ -0,0 +1,143 @@
+package com.gt.auth.infra.security;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SigningKeyRingTest {
+
+    private static final Duration ROTATION = Duration.ofDays(7);
+    private static final Duration PUBLISH_AHEAD = Duration.ofMinutes(10);
+    private static final Duration TOKEN_LIFETIME = Duration.ofDays(7);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Test
+    @DisplayName("새 키는 publishAhead 동안 공개만 되고, 교체된 키는 토큰이 만료될 때까지 검증에 남는다")
+    void ephemeralRotationOverlapsValidity() {
+        SigningKeyRing ring = new SigningKeyRing(null, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME, clock);
+        String first = ring.current().kid();
+
+        // 교체 직전: 다음 키가 JWKS에 먼저 공개되지만 서명은 기존 키
+        clock.advance(ROTATION.minus(PUBLISH_AHEAD).plusSeconds(1));
+        ring.refresh();
+        Assertions.assertThat(ring.publishedKeys()).hasSize(2);
+        Assertions.assertThat(ring.current().kid()).isEqualTo(first);
+
+        // publishAhead 경과 후 새 키로 서명, 기존 키는 검증 가능
+        clock.advance(PUBLISH_AHEAD);
+        ring.refresh();
+        String second = ring.current().kid();
+        Assertions.assertThat(second).isNotEqualTo(first);
+        Assertions.assertThat(ring.verificationKey(first)).isNotNull();
+
+        // 기존 키로 서명된 마지막 토큰이 만료된 뒤 제거
+        clock.advance(TOKEN_LIFETIME.plus(PUBLISH_AHEAD).plusSeconds(1));
+        ring.refresh();
+        Assertions.assertThat(ring.verificationKey(first)).isNull();
+        Assertions.assertThat(ring.verificationKey(second)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("키 디렉터리에서 서명 키와 검증 전용 키를 읽는다")
+    void loadsKeysFromDirectory(@TempDir Path dir) throws Exception {
+        SigningKeyRing.SigningKey retired = SigningKeyRing.generate(clock.instant());
+        SigningKeyRing.SigningKey active = SigningKeyRing.generate(clock.instant());
+        SigningKeyRing.SigningKey staged = SigningKeyRing.generate(clock.instant());
+
+        write(dir.resolve("2025-12.pem"), pem("PUBLIC KEY", retired.publicKey().getEncoded()), Duration.ofDays(30));
+        write(dir.resolve("2026-01.pem"), pem("PRIVATE KEY", active.privateKey().getEncoded())
+            + pem("PUBLIC KEY", active.publicKey().getEncoded()), Duration.ofDays(1));
+        // 방금 추가된 키는 아직 서명에 사용하지 않는다.
+        write(dir.resolve("2026-02.pem"), pem("PRIVATE KEY", staged.privateKey().getEncoded())
+            + pem("PUBLIC KEY", staged.publicKey().getEncoded()), Duration.ZERO);
+
+        SigningKeyRing ring = new SigningKeyRing(dir, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME, clock);
+
+        Assertions.assertThat(ring.current().kid()).isEqualTo("2026-01");
+        Assertions.assertThat(ring.verificationKey("2025-12")).isEqualTo(retired.publicKey());
+        Assertions.assertThat(ring.verificationKey("2026-02")).isEqualTo(staged.publicKey());
+        Assertions.assertThat(ring.publishedKeys()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("키 디렉터리가 없으면 임시 키가 허용된 경우에만 기동한다")
+    void requiresKeyDirUnlessEphemeralAllowed() {
+        Assertions.assertThatThrownBy(() -> new SigningKeyRing("", false, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME.toMillis()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("jwt.signing.key-dir");
+        Assertions.assertThat(new SigningKeyRing("", true, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME.toMillis()).current())
+            .isNotNull();
+    }
+
+    @Test
+    @DisplayName("JWKS는 P-256 좌표를 32바이트 base64url로 공개한다")
+    @SuppressWarnings("unchecked")
+    void jwksEncodesCoordinates() {
+        SigningKeyRing ring = new SigningKeyRing(null, ROTATION, PUBLISH_AHEAD, TOKEN_LIFETIME, clock);
+        SigningKeyRing.SigningKey key = ring.current();
+
+        List<Map<String, Object>> keys = (List<Map<String, Object>>) ring.jwks().get("keys");
+        Map<String, Object> jwk = keys.get(0);
+
+        Assertions.assertThat(jwk).containsEntry("kid", key.kid()).containsEntry("alg", "ES256").containsEntry("crv", "P-256");
+        byte[] x = Base64.getUrlDecoder().decode((String) jwk.get("x"));
+        byte[] y = Base64.getUrlDecoder().decode((String) jwk.get("y"));
+        Assertions.assertThat(x).hasSize(32);
+        Assertions.assertThat(new BigInteger(1, x)).isEqualTo(key.publicKey().getW().getAffineX());
+        Assertions.assertThat(new BigInteger(1, y)).isEqualTo(key.publicKey().getW().getAffineY());
+    }
+
+    private void write(Path file, String content, Duration age) throws Exception {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(clock.instant().minus(age)));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+            + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+            + "\n-----END " + type + "-----\n";
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
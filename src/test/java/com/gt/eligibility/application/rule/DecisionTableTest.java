@@ -0,0 +1,121 @@
+package com.gt.eligibility.application.rule;
+
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.eligibility.domain.entity.Applicant;
+import com.gt.eligibility.domain.entity.Attribute;
+import com.gt.eligibility.domain.entity.Condition;
+import com.gt.eligibility.domain.entity.Decision;
+import com.gt.eligibility.domain.entity.EligibilityRule;
+import com.gt.eligibility.domain.entity.PricingRule;
+import com.gt.eligibility.domain.entity.ProductDefinition;
+
+class DecisionTableTest {
+
+    private static final long[] AGE_BOUNDS = {19, 25, 30, 35, 40, 50, 60, 65, 71};
+    private static final long[] EXPOSURE_BOUNDS = {1, 10_000_000, 30_000_000, 50_000_000, 100_000_000};
+
+    @Test
+    @DisplayName("결정 테이블은 모든 신청자에 대해 규칙 해석 결과와 같다 (경계값, 생년월일 없음 / 미래, 2월 29일생 포함)")
+    void matchesInterpreter() throws Exception {
+        List<ProductDefinition> products = new ArrayList<>();
+        try (InputStream in = getClass().getResourceAsStream("/eligibility/products/personal-credit.json")) {
+            products.add(new ObjectMapper().readValue(in, ProductDefinition.class));
+        }
+        Random random = new Random(17);
+        for (int i = 0; i < 20; i++) {
+            products.add(randomProduct("RANDOM_" + i, random));
+        }
+
+        LocalDate[] asOfDates = {LocalDate.of(2026, 2, 28), LocalDate.of(2026, 3, 1), LocalDate.of(2028, 2, 29),
+            LocalDate.of(2025, 12, 31)};
+        for (ProductDefinition product : products) {
+            DecisionTable table = DecisionTable.compile(product, 1_000_000);
+            for (int i = 0; i < 20_000; i++) {
+                LocalDate asOf = asOfDates[random.nextInt(asOfDates.length)];
+                Applicant applicant = randomApplicant(i, asOf, random);
+                Decision expected = RuleInterpreter.evaluate(product, applicant, asOf);
+                Assertions.assertThat(table.evaluate(applicant, asOf))
+                    .as("%s, %s, asOf %s", product.code(), applicant, asOf)
+                    .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("만 나이 계산은 Period와 같다")
+    void ageMatchesPeriod() {
+        LocalDate asOf = LocalDate.of(2026, 1, 1);
+        for (int day = 0; day < 4 * 366; day++) {
+            LocalDate date = asOf.plusDays(day);
+            for (LocalDate birth : List.of(LocalDate.of(2000, 2, 29), LocalDate.of(1999, 3, 1), LocalDate.of(1990, 12, 31))) {
+                Assertions.assertThat(Attribute.age(birth, date)).isEqualTo(Period.between(birth, date).getYears());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("셀 수가 상한을 넘는 정의는 컴파일하지 않는다")
+    void rejectsOversizedTable() {
+        ProductDefinition product = randomProduct("LARGE", new Random(1));
+        Assertions.assertThatThrownBy(() -> DecisionTable.compile(product, 4))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("LARGE");
+    }
+
+    private static ProductDefinition randomProduct(String code, Random random) {
+        List<EligibilityRule> eligibility = new ArrayList<>();
+        eligibility.add(new EligibilityRule(Attribute.AGE, pick(AGE_BOUNDS, random, 3), 60 + (long) random.nextInt(15), "AGE"));
+        if (random.nextBoolean()) {
+            eligibility.add(new EligibilityRule(Attribute.ACTIVE_LOANS, null, 1L + random.nextInt(4), "LOANS"));
+        }
+        eligibility.add(new EligibilityRule(Attribute.EXPOSURE, null, pick(EXPOSURE_BOUNDS, random, 2), "EXPOSURE"));
+
+        List<PricingRule> pricing = new ArrayList<>();
+        int rules = 1 + random.nextInt(12);
+        for (int i = 0; i < rules; i++) {
+            List<Condition> when = new ArrayList<>();
+            if (random.nextBoolean()) {
+                long min = pick(AGE_BOUNDS, random, AGE_BOUNDS.length - 1);
+                when.add(new Condition(Attribute.AGE, min, random.nextBoolean() ? null : min + 1 + random.nextInt(20)));
+            }
+            if (random.nextBoolean()) {
+                when.add(new Condition(Attribute.EXPOSURE, null, pick(EXPOSURE_BOUNDS, random, EXPOSURE_BOUNDS.length)));
+            }
+            if (random.nextInt(4) == 0) {
+                when.add(new Condition(Attribute.ACTIVE_LOANS, (long) random.nextInt(2), null));
+            }
+            pricing.add(new PricingRule(when, 500 + random.nextInt(500), 1_000_000L * (1 + random.nextInt(50))));
+        }
+        return new ProductDefinition(code, code, 1, eligibility, pricing);
+    }
+
+    /** 경계값 근처(±1)를 자주 고르도록 만든 신청자 */
+    private static Applicant randomApplicant(long personId, LocalDate asOf, Random random) {
+        LocalDate birth = switch (random.nextInt(10)) {
+            case 0 -> null;
+            case 1 -> asOf.plusDays(1 + random.nextInt(30));
+            case 2 -> LocalDate.of(1960 + 4 * random.nextInt(12), 2, 29);
+            case 3, 4 -> asOf.minusYears(pick(AGE_BOUNDS, random, AGE_BOUNDS.length)).plusDays(random.nextInt(3) - 1);
+            default -> asOf.minusDays(random.nextInt(90 * 366));
+        };
+        long exposure = random.nextInt(3) == 0
+            ? pick(EXPOSURE_BOUNDS, random, EXPOSURE_BOUNDS.length) + random.nextInt(3) - 1
+            : random.nextInt(150_000_000);
+        return new Applicant(personId, 1, birth, Math.max(0, exposure), random.nextInt(6));
+    }
+
+    private static long pick(long[] values, Random random, int bound) {
+        return values[random.nextInt(Math.min(bound, values.length))];
+    }
+}
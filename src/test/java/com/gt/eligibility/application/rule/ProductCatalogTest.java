@@ -0,0 +1,65 @@
+package com.gt.eligibility.application.rule;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.eligibility.infra.config.EligibilityProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductCatalogTest {
+
+    @Test
+    @DisplayName("상품 디렉터리가 바뀌면 다시 컴파일해 교체하고, 잘못된 정의는 거절하고 기존 규칙을 유지한다")
+    void reloadsChangedDefinitions(@TempDir Path dir) throws Exception {
+        EligibilityProperties properties = new EligibilityProperties();
+        properties.setProductsDir(dir.toString());
+        ProductCatalog catalog = new ProductCatalog(new ObjectMapper(), properties, new SimpleMeterRegistry());
+        catalog.reload();
+        Assertions.assertThat(catalog.find("PERSONAL_CREDIT")).isNotNull();
+        Assertions.assertThat(catalog.reloadIfChanged()).isFalse();
+
+        Path file = dir.resolve("youth.json");
+        write(file, product(1, 19, 35), 1);
+        Assertions.assertThat(catalog.reloadIfChanged()).isTrue();
+        Assertions.assertThat(catalog.find("YOUTH").definition().version()).isEqualTo(1);
+
+        write(file, product(2, 19, 40), 2);
+        Assertions.assertThat(catalog.reloadIfChanged()).isTrue();
+        Assertions.assertThat(catalog.find("YOUTH").definition().version()).isEqualTo(2);
+
+        // 빈 범위(min >= max)는 정의 오류
+        write(file, product(3, 40, 19), 3);
+        Assertions.assertThatThrownBy(catalog::reloadIfChanged).isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThat(catalog.find("YOUTH").definition().version()).isEqualTo(2);
+        Assertions.assertThat(catalog.reloadIfChanged()).isFalse();
+
+        // 기본 정의를 같은 코드로 대신한다.
+        write(dir.resolve("override.json"), product(7, 19, 71).replace("YOUTH", "PERSONAL_CREDIT"), 4);
+        write(file, product(4, 19, 40), 5);
+        Assertions.assertThat(catalog.reloadIfChanged()).isTrue();
+        Assertions.assertThat(catalog.find("PERSONAL_CREDIT").definition().version()).isEqualTo(7);
+    }
+
+    private static String product(int version, int minAge, int maxAge) {
+        return """
+            {"code": "YOUTH", "name": "청년 대출", "version": %d,
+             "eligibility": [{"attribute": "AGE", "min": %d, "max": %d, "reason": "AGE_OUT_OF_RANGE"}],
+             "pricing": [{"when": [], "rateBps": 450, "maxAmount": 10000000}]}
+            """.formatted(version, minAge, maxAge);
+    }
+
+    /** 파일 시스템 시각 해상도와 관계없이 변경으로 보이도록 수정 시각을 직접 지정 */
+    private static void write(Path file, String content, int tick) throws Exception {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2026-01-01T00:00:00Z").plusSeconds(tick)));
+    }
+}
@@ -0,0 +1,105 @@
+package com.gt.eligibility.application.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.eligibility.api.dto.EligibilityResponse;
+import com.gt.global.common.exception.EligibilityProductNotFoundException;
+import com.gt.global.common.tenant.TenantScope;
+
+/**
+ * 고객 전체 일괄 심사(NDJSON)가 고객 ID 순으로 한 줄씩, 고객 한 명 심사와 같은 결과를 쓰는지 확인한다.
+ * (chunk를 작게 두어 여러 평가 스레드가 나눠 처리하게 한다.)
+ */
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"eligibility.batch.chunk-size=97", "eligibility.batch.threads=4"})
+class EligibilityServiceTest {
+
+    private static final String PRODUCT = "PERSONAL_CREDIT";
+    private static final LocalDate AS_OF = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private EligibilityService eligibilityService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM customer_overview");
+        jdbcTemplate.update("DELETE FROM person");
+    }
+
+    @Test
+    @DisplayName("일괄 심사 결과는 고객 ID 순이며 고객별 심사 결과와 같다")
+    void evaluatesAllCustomers() throws Exception {
+        int customers = 3_000;
+        Random random = new Random(23);
+        List<Object[]> persons = new ArrayList<>();
+        for (int i = 0; i < customers; i++) {
+            LocalDate birth = random.nextInt(20) == 0 ? null : AS_OF.minusDays(random.nextInt(85 * 365));
+            persons.add(new Object[] {"심사" + i, String.format("0108%07d", i), birth == null ? null : Date.valueOf(birth)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO person (name, phone, birth, gender, address1, created_date, last_modified_date) "
+            + "VALUES (?, ?, ?, 'F', '서울시', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", persons);
+        // 일부 고객은 기존 대출 잔액이 있다.
+        jdbcTemplate.update("INSERT INTO customer_overview (person_id, branch_id, active_loans, outstanding_balance, document, updated_at) "
+            + "SELECT person_id, branch_id, MOD(person_id, 4), MOD(person_id, 7) * 20000000, '{}', CURRENT_TIMESTAMP "
+            + "FROM person WHERE MOD(person_id, 3) = 0");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long evaluated = eligibilityService.evaluateAll(PRODUCT, AS_OF, TenantScope.all(), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertThat(evaluated).isEqualTo(customers);
+        Assertions.assertThat(lines).hasSize(customers);
+        long previous = 0;
+        int eligible = 0;
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            long personId = node.get("personId").asLong();
+            Assertions.assertThat(personId).isGreaterThan(previous);
+            previous = personId;
+
+            EligibilityResponse expected = eligibilityService.evaluate(PRODUCT, personId, AS_OF);
+            Assertions.assertThat(node.get("eligible").asBoolean()).as(line).isEqualTo(expected.isEligible());
+            if (expected.isEligible()) {
+                eligible++;
+                Assertions.assertThat(node.get("rateBps").asInt()).as(line).isEqualTo(expected.getRateBps());
+                Assertions.assertThat(node.get("maxAmount").asLong()).as(line).isEqualTo(expected.getMaxAmount());
+            } else {
+                Assertions.assertThat(node.get("reason").asText()).as(line).isEqualTo(expected.getReason());
+            }
+        }
+        Assertions.assertThat(eligible).isBetween(1, customers - 1);
+    }
+
+    @Test
+    @DisplayName("없는 상품은 거절한다")
+    void rejectsUnknownProduct() {
+        Assertions.assertThat(eligibilityService.hasProduct("UNKNOWN")).isFalse();
+        Assertions.assertThatThrownBy(() -> eligibilityService.evaluateAll("UNKNOWN", AS_OF, TenantScope.all(), new ByteArrayOutputStream()))
+            .isInstanceOf(EligibilityProductNotFoundException.class);
+    }
+}
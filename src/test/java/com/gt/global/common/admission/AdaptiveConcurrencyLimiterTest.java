@@ -0,0 +1,73 @@
+package com.gt.global.common.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long TARGET_MS = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter("test", initialLimit, 2, 50, 0.5, TARGET_MS, clock::get);
+    }
+
+    @Test
+    @DisplayName("목표 지연을 넘거나 커넥션 풀이 혼잡하면 limit이 곱셈적으로 감소한다")
+    void decreasesOnSlowRequestsOrPoolCongestion() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        limiter.tryAcquire(0);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(TARGET_MS * 3), false);
+        Assertions.assertThat(limiter.getLimit()).isEqualTo(10);
+
+        // 같은 주기 안의 추가 감소는 무시된다.
+        limiter.tryAcquire(0);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(TARGET_MS * 3), false);
+        Assertions.assertThat(limiter.getLimit()).isEqualTo(10);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(TARGET_MS));
+        limiter.tryAcquire(0);
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(1), true);
+        Assertions.assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("한도를 충분히 사용하면서 빠르게 처리되면 limit이 덧셈적으로 증가한다")
+    void increasesWhenHealthyAndUtilized() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(4);
+
+        for (int round = 0; round < 40; round++) {
+            for (int i = 0; i < limiter.getLimit(); i++) {
+                limiter.tryAcquire(0);
+            }
+            int acquired = limiter.getInFlight();
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+            }
+        }
+
+        Assertions.assertThat(limiter.getLimit()).isGreaterThan(4).isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("한도가 찼고 대기 시간 안에 처리될 가망이 없으면 즉시 거절한다")
+    void rejectsFastWhenDeadlineCannotBeMet() throws InterruptedException {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+        Assertions.assertThat(limiter.tryAcquire(0)).isTrue();
+        Assertions.assertThat(limiter.tryAcquire(0)).isTrue();
+
+        long start = System.nanoTime();
+        boolean acquired = limiter.tryAcquire(TimeUnit.MILLISECONDS.toNanos(1));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Assertions.assertThat(acquired).isFalse();
+        Assertions.assertThat(elapsedMs).isLessThan(TARGET_MS);
+        Assertions.assertThat(limiter.retryAfterSeconds()).isGreaterThanOrEqualTo(1);
+    }
+}
@@ -0,0 +1,75 @@
+package com.gt.global.common.admission;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+class StreamingPermitsTest {
+
+    private final StreamingPermits permits = new StreamingPermits(1);
+    private final AtomicBoolean written = new AtomicBoolean();
+
+    @Test
+    @DisplayName("본문이 끝나면 허가를 반납하고, 완료 콜백은 다시 반납하지 않는다")
+    void releasesOnceAfterBody() throws Exception {
+        MockHttpServletRequest request = asyncRequest();
+
+        StreamingResponseBody body = permits.tryAcquire(request, out -> written.set(true));
+        Assertions.assertThat(body).isNotNull();
+        Assertions.assertThat(permits.tryAcquire(new MockHttpServletRequest(), out -> { })).isNull();
+
+        stream(request, body, Runnable::run);
+        request.getAsyncContext().complete();
+
+        Assertions.assertThat(written).isTrue();
+        Assertions.assertThat(permits.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("본문이 실행되지 못하고 비동기 요청이 끝나면 완료 콜백에서 허가를 반납한다")
+    void releasesWhenBodyNeverRuns() throws Exception {
+        MockHttpServletRequest request = asyncRequest();
+        List<Runnable> queued = new ArrayList<>();
+
+        StreamingResponseBody body = permits.tryAcquire(request, out -> written.set(true));
+        stream(request, body, queued::add);
+        // 작업이 실행되기 전에 요청이 끝남 (연결 종료, 시간 초과)
+        request.getAsyncContext().complete();
+        Assertions.assertThat(permits.availablePermits()).isEqualTo(1);
+
+        // 늦게 실행된 본문은 아무것도 쓰지 않고 허가를 다시 반납하지도 않는다.
+        queued.forEach(Runnable::run);
+        Assertions.assertThat(written).isFalse();
+        Assertions.assertThat(permits.availablePermits()).isEqualTo(1);
+    }
+
+    private static MockHttpServletRequest asyncRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        WebAsyncUtils.getAsyncManager(request)
+            .setAsyncWebRequest(new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+        return request;
+    }
+
+    private static void stream(MockHttpServletRequest request, StreamingResponseBody body, Executor executor) throws Exception {
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.startCallableProcessing(new WebAsyncTask<>(60_000L, new ConcurrentTaskExecutor(executor), () -> {
+            body.writeTo(new ByteArrayOutputStream());
+            return null;
+        }));
+    }
+}
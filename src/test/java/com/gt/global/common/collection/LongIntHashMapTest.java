@@ -0,0 +1,37 @@
+package com.gt.global.common.collection;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("임의의 put/remove 후에도 HashMap과 같은 결과를 반환한다")
+    void behavesLikeHashMap() {
+        LongIntHashMap map = new LongIntHashMap(4, -1);
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 200_000; i++) {
+            // 좁은 키 범위로 충돌과 삭제 후 재삽입이 자주 일어나게 한다.
+            long key = random.nextInt(5_000) * 31L;
+            if (random.nextInt(3) == 0) {
+                Assertions.assertThat(map.remove(key)).isEqualTo(expected.getOrDefault(key, -1));
+                expected.remove(key);
+            } else {
+                Assertions.assertThat(map.put(key, i)).isEqualTo(expected.getOrDefault(key, -1));
+                expected.put(key, i);
+            }
+        }
+
+        Assertions.assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 0; key < 5_000 * 31L; key += 31) {
+            Assertions.assertThat(map.get(key)).isEqualTo(expected.getOrDefault(key, -1));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.gt.global.common.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 처리 규칙을 확인하고, 재시도 폭주 시 실제로 실행되는 요청 수를 측정한다.
+ */
+@Slf4j
+class IdempotencyFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final IdempotencyFilter filter = new IdempotencyFilter(new InMemoryIdempotencyStore(), properties(),
+        new ObjectMapper(), meterRegistry);
+
+    /** 느린 DB를 흉내 내는 등록 처리: 실행마다 새 ID를 만든다. */
+    private final FilterChain createPerson = (request, response) -> {
+        int id = executions.incrementAndGet();
+        request.getInputStream().readAllBytes();
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ((HttpServletResponse) response).setStatus(201);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"id\":" + id + "}");
+    };
+
+    @Test
+    @DisplayName("같은 키의 재시도는 다시 실행되지 않고 첫 응답을 그대로 받는다")
+    void replaysStoredResponse() throws Exception {
+        MockHttpServletResponse first = post("key-1", "{\"name\":\"홍길동\"}", createPerson);
+        MockHttpServletResponse retry = post("key-1", "{\"name\":\"홍길동\"}", createPerson);
+
+        Assertions.assertThat(executions.get()).isEqualTo(1);
+        Assertions.assertThat(retry.getStatus()).isEqualTo(201);
+        Assertions.assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        Assertions.assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        Assertions.assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+
+        post("key-2", "{\"name\":\"홍길동\"}", createPerson);
+        Assertions.assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 키로 내용이 다른 요청은 422로 거절한다")
+    void rejectsDifferentRequestWithSameKey() throws Exception {
+        post("key-1", "{\"name\":\"홍길동\"}", createPerson);
+        MockHttpServletResponse other = post("key-1", "{\"name\":\"김철수\"}", createPerson);
+
+        Assertions.assertThat(other.getStatus()).isEqualTo(422);
+        Assertions.assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 저장하지 않아 재시도가 다시 실행된다")
+    void doesNotStoreServerErrors() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+        post("key-1", "{}", failing);
+        MockHttpServletResponse retry = post("key-1", "{}", createPerson);
+
+        Assertions.assertThat(executions.get()).isEqualTo(2);
+        Assertions.assertThat(retry.getStatus()).isEqualTo(201);
+    }
+
+    @Test
+    @DisplayName("재시도 폭주: 처리 중에 들어온 중복 요청은 기다렸다가 첫 결과를 받고, 실행은 키당 한 번이다")
+    void retryStorm() throws Exception {
+        int keys = 20;
+        int duplicates = 25;
+        ExecutorService executor = Executors.newFixedThreadPool(keys * duplicates);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int key = 0; key < keys; key++) {
+            for (int i = 0; i < duplicates; i++) {
+                String idempotencyKey = "storm-" + key;
+                results.add(executor.submit(() -> {
+                    ready.await();
+                    MockHttpServletResponse response = post(idempotencyKey, "{\"key\":\"" + idempotencyKey + "\"}", createPerson);
+                    return idempotencyKey + "=" + response.getStatus() + response.getContentAsString();
+                }));
+            }
+        }
+        long start = System.nanoTime();
+        ready.countDown();
+        List<String> responses = new ArrayList<>();
+        for (Future<String> result : results) {
+            responses.add(result.get());
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        executor.shutdown();
+
+        int requests = keys * duplicates;
+        log.info("retry storm: requests = {}, executed = {}, duplicate work avoided = {} ({}%), {}ms, replayed = {}, waited = {}",
+            requests, executions.get(), requests - executions.get(), (requests - executions.get()) * 100 / requests, elapsedMs,
+            count("replayed"), count("waited"));
+
+        Assertions.assertThat(executions.get()).isEqualTo(keys);
+        // 키마다 모든 응답이 같다. (첫 요청이 만든 ID)
+        Assertions.assertThat(responses.stream().distinct().count()).isEqualTo(keys);
+        Assertions.assertThat(responses).allSatisfy(response -> Assertions.assertThat(response).contains("=201"));
+        Assertions.assertThat(count("executed") + count("replayed") + count("waited")).isEqualTo(requests);
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청과 인증 경로는 저장하지 않아 같은 키로 다른 사람의 응답(토큰)을 받을 수 없다")
+    void doesNotStoreAnonymousOrAuthRequests() throws Exception {
+        post(null, "/api/person/create", "key-1", "{}", createPerson);
+        MockHttpServletResponse anonymous = post(null, "/api/person/create", "key-1", "{}", createPerson);
+        Assertions.assertThat(anonymous.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        Assertions.assertThat(executions.get()).isEqualTo(2);
+
+        post("user@example.com", "/api/v1/auth/refresh", "key-2", "{}", createPerson);
+        MockHttpServletResponse refresh = post("user@example.com", "/api/v1/auth/refresh", "key-2", "{}", createPerson);
+        Assertions.assertThat(refresh.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        Assertions.assertThat(executions.get()).isEqualTo(4);
+
+        // 같은 키라도 사용자가 다르면 따로 실행된다.
+        post("user@example.com", "/api/person/create", "key-3", "{}", createPerson);
+        post("other@example.com", "/api/person/create", "key-3", "{}", createPerson);
+        Assertions.assertThat(executions.get()).isEqualTo(6);
+        Assertions.assertThat(count("anonymous")).isEqualTo(2);
+    }
+
+    private MockHttpServletResponse post(String idempotencyKey, String body, FilterChain chain) throws Exception {
+        return post("user@example.com", "/api/person/create", idempotencyKey, body, chain);
+    }
+
+    private MockHttpServletResponse post(String user, String uri, String idempotencyKey, String body, FilterChain chain)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.addHeader(IdempotencyFilter.HEADER, idempotencyKey);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (user != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(user, null, List.of()));
+        }
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    private long count(String result) {
+        return (long) meterRegistry.get("idempotency.requests").tag("result", result).counter().count();
+    }
+
+    private static IdempotencyProperties properties() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        properties.setPollInterval(Duration.ofMillis(5));
+        return properties;
+    }
+}
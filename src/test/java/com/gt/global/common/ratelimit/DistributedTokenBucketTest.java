@@ -0,0 +1,183 @@
+package com.gt.global.common.ratelimit;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 노드가 하나의 전역 저장소를 공유할 때 limit이 지켜지는지 확인하고,
+ * 요청 경로에서 limiter 자체가 더하는 지연을 측정한다.
+ */
+@Slf4j
+class DistributedTokenBucketTest {
+
+    private static final int NODES = 3;
+    private static final long SYNC_INTERVAL_MS = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(clock::get);
+
+    private static RateLimitProperties.Limit limit(long capacity, long refillTokens, Duration refillPeriod) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillTokens(refillTokens);
+        limit.setRefillPeriod(refillPeriod);
+        limit.setLeaseSize(5);
+        limit.setInitialCredit(2);
+        return limit;
+    }
+
+    private List<DistributedTokenBucket> nodes(RateLimitProperties.Limit limit) {
+        List<DistributedTokenBucket> nodes = new ArrayList<>();
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(new DistributedTokenBucket("login:ip", limit, 1_000, clock::get));
+        }
+        return nodes;
+    }
+
+    /** RateLimiter.sync()와 같이 노드마다 수요를 모아 한 번에 저장소와 교환한다. */
+    private void sync(List<DistributedTokenBucket> nodes) {
+        for (DistributedTokenBucket node : nodes) {
+            node.applyGrants(store.acquire(node.drainDemands(60_000)));
+        }
+    }
+
+    @Test
+    @DisplayName("여러 노드에 burst가 몰려도 전체 허용량은 capacity + 노드별 선허용분을 넘지 않는다")
+    void burstAcrossNodesIsBounded() {
+        RateLimitProperties.Limit limit = limit(20, 1, Duration.ofHours(1));
+        List<DistributedTokenBucket> nodes = nodes(limit);
+
+        long allowed = 0;
+        for (int round = 0; round < 50; round++) {
+            for (DistributedTokenBucket node : nodes) {
+                for (int i = 0; i < 10; i++) {
+                    if (node.tryConsume("10.0.0.1") == 0) {
+                        allowed++;
+                    }
+                }
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(SYNC_INTERVAL_MS));
+            sync(nodes);
+        }
+
+        long bound = limit.getCapacity() + NODES * (limit.getInitialCredit() + limit.getLeaseSize());
+        log.info("burst: attempted = {}, allowed = {}, bound = {}", 50 * NODES * 10, allowed, bound);
+        Assertions.assertThat(allowed).isGreaterThanOrEqualTo(limit.getCapacity()).isLessThanOrEqualTo(bound);
+    }
+
+    @Test
+    @DisplayName("지속적인 공격에도 장기 허용량은 전역 refill 속도를 따른다")
+    void sustainedRateFollowsGlobalRefill() {
+        // 초당 1개
+        RateLimitProperties.Limit limit = limit(10, 60, Duration.ofMinutes(1));
+        List<DistributedTokenBucket> nodes = nodes(limit);
+
+        int seconds = 120;
+        long allowed = 0;
+        for (int tick = 0; tick < seconds * 1000 / SYNC_INTERVAL_MS; tick++) {
+            for (DistributedTokenBucket node : nodes) {
+                for (int i = 0; i < 5; i++) {
+                    if (node.tryConsume("10.0.0.1") == 0) {
+                        allowed++;
+                    }
+                }
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(SYNC_INTERVAL_MS));
+            sync(nodes);
+        }
+
+        long expected = limit.getCapacity() + seconds;
+        long bound = expected + NODES * (limit.getInitialCredit() + limit.getLeaseSize());
+        log.info("sustained: allowed = {}, expected = {}, bound = {}", allowed, expected, bound);
+        Assertions.assertThat(allowed).isGreaterThanOrEqualTo(expected - NODES * limit.getLeaseSize())
+            .isLessThanOrEqualTo(bound);
+    }
+
+    @Test
+    @DisplayName("키마다 독립된 버킷을 사용하고 거절 시 재시도 시간을 알려준다")
+    void keysAreIndependent() {
+        RateLimitProperties.Limit limit = limit(3, 1, Duration.ofMinutes(1));
+        List<DistributedTokenBucket> nodes = nodes(limit);
+        DistributedTokenBucket node = nodes.get(0);
+
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 3; i++) {
+                node.tryConsume("attacker@example.com");
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(SYNC_INTERVAL_MS));
+            sync(nodes);
+        }
+
+        Assertions.assertThat(node.tryConsume("attacker@example.com")).isPositive();
+        Assertions.assertThat(node.tryConsume("user@example.com")).isZero();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("요청 경로의 limiter 비용은 로컬 연산 수준이다")
+    void measureLocalOverhead() throws Exception {
+        RateLimitProperties.Limit limit = limit(1_000_000, 1_000_000, Duration.ofSeconds(1));
+        DistributedTokenBucket bucket = new DistributedTokenBucket("login:ip", limit, 100_000);
+        int threads = 8;
+        int opsPerThread = 500_000;
+        Map<String, Long> results = new HashMap<>();
+
+        // 워밍업
+        for (int i = 0; i < 200_000; i++) {
+            bucket.tryConsume("warmup-" + (i & 1023));
+        }
+
+        for (String scenario : List.of("hot-key", "10k-keys")) {
+            String[] keys = new String[10_000];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = scenario.equals("hot-key") ? "10.0.0.1" : "10.0." + (i >> 8) + "." + (i & 255);
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch ready = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t * 997;
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    for (int i = 0; i < opsPerThread; i++) {
+                        bucket.tryConsume(keys[(offset + i) % keys.length]);
+                    }
+                    return null;
+                }));
+            }
+            long start = System.nanoTime();
+            ready.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            long elapsed = System.nanoTime() - start;
+            executor.shutdown();
+
+            long nanosPerOp = elapsed * threads / ((long) threads * opsPerThread);
+            results.put(scenario, nanosPerOp);
+            log.info("{}: threads = {}, ops = {}, {} ns/op (thread time), {} ops/s",
+                scenario, threads, threads * opsPerThread, nanosPerOp,
+                (long) threads * opsPerThread * 1_000_000_000L / elapsed);
+        }
+
+        // Redis 왕복(수백 us)보다 충분히 작아야 한다.
+        Assertions.assertThat(results.values()).allSatisfy(nanos -> Assertions.assertThat(nanos).isLessThan(20_000L));
+    }
+}
@@ -0,0 +1,153 @@
+package com.gt.global.common.tenant;
+
+import java.sql.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지점별 조회: 단일 heap 테이블 vs branch_id hash 파티션 테이블 (PostgreSQL 전용)
+ * H2는 파티셔닝을 지원하지 않으므로 PostgreSQL 주소를 지정했을 때만 실행한다.
+ *
+ * ./gradlew test --tests '*BranchPartitionBenchmarkTest' -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/loan
+ *   -Dbenchmark.postgres.username=... -Dbenchmark.postgres.password=... [-Dbenchmark.rows=10000000]
+ * (별도 branch_bench 스키마를 만들고 끝나면 지운다.)
+ */
+@Slf4j
+@Tag("integration")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark.postgres.url", matches = ".+")
+class BranchPartitionBenchmarkTest {
+
+    private static final int BRANCHES = 50;
+    private static final int PARTITIONS = 16;
+    private static final int QUERIES = 20;
+
+    private static final String PAGE_SQL = """
+        SELECT person_id, name, birth, gender FROM %s
+        WHERE branch_id = ? AND person_id > ? ORDER BY person_id LIMIT 50
+        """;
+
+    private static final String AGE_BAND_SQL = """
+        SELECT gender, count(*) FROM %s
+        WHERE branch_id = ? AND birth >= ? AND birth < ? GROUP BY gender
+        """;
+
+    private JdbcTemplate jdbcTemplate;
+    private long rows;
+
+    @BeforeAll
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getProperty("benchmark.postgres.url"),
+            System.getProperty("benchmark.postgres.username", "postgres"), System.getProperty("benchmark.postgres.password", ""));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        rows = Long.getLong("benchmark.rows", 10_000_000L);
+
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS branch_bench CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA branch_bench");
+
+        // 변경 전: 단일 heap, 지점 도입 전 인덱스 그대로
+        jdbcTemplate.execute("""
+            CREATE TABLE branch_bench.person_heap (
+                person_id BIGINT PRIMARY KEY, branch_id INTEGER NOT NULL, name VARCHAR(255), phone VARCHAR(15),
+                birth DATE, gender VARCHAR(1), address1 VARCHAR(255))
+            """);
+        // 변경 후: V7__branch_tenant.sql과 같은 구조
+        jdbcTemplate.execute("""
+            CREATE TABLE branch_bench.person_part (
+                person_id BIGINT NOT NULL, branch_id INTEGER NOT NULL, name VARCHAR(255), phone VARCHAR(15),
+                birth DATE, gender VARCHAR(1), address1 VARCHAR(255),
+                PRIMARY KEY (branch_id, person_id)) PARTITION BY HASH (branch_id)
+            """);
+        for (int i = 0; i < PARTITIONS; i++) {
+            jdbcTemplate.execute(String.format(
+                "CREATE TABLE branch_bench.person_part_p%02d PARTITION OF branch_bench.person_part FOR VALUES WITH (MODULUS %d, REMAINDER %d)",
+                i, PARTITIONS, i));
+        }
+
+        long start = System.nanoTime();
+        for (String table : List.of("person_heap", "person_part")) {
+            jdbcTemplate.update("INSERT INTO branch_bench." + table + """
+                 SELECT g, (g * 7) % ? + 1, '고객' || g, '010' || lpad(g::text, 8, '0'),
+                        DATE '1935-01-01' + (g * 7919 % 32000)::int, CASE WHEN g % 2 = 0 THEN 'M' ELSE 'F' END, '서울시'
+                 FROM generate_series(1, ?) g
+                """, BRANCHES, rows);
+        }
+        jdbcTemplate.execute("CREATE INDEX ON branch_bench.person_heap (birth, gender)");
+        jdbcTemplate.execute("CREATE INDEX ON branch_bench.person_part (branch_id, birth, gender)");
+        jdbcTemplate.execute("ANALYZE branch_bench.person_heap");
+        jdbcTemplate.execute("ANALYZE branch_bench.person_part");
+        log.info("loaded {} rows x 2 tables in {}s", rows, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS branch_bench CASCADE");
+        }
+    }
+
+    @Test
+    @DisplayName("지점 조건 조회: 파티션 테이블은 파티션 하나만 읽고 heap보다 빠르다")
+    void compareHeapAndPartitions() {
+        for (String sql : List.of(PAGE_SQL, AGE_BAND_SQL)) {
+            String heapPlan = explain(sql, "person_heap");
+            String partitionPlan = explain(sql, "person_part");
+            log.info("heap plan:\n{}", heapPlan);
+            log.info("partitioned plan:\n{}", partitionPlan);
+
+            // 파티션 프루닝: 실행 계획에 파티션 하나만 남는다.
+            long scannedPartitions = partitionPlan.lines().filter(line -> line.contains("person_part_p")).count();
+            Assertions.assertThat(scannedPartitions).isEqualTo(1);
+        }
+
+        long heapPage = time(PAGE_SQL, "person_heap");
+        long partitionPage = time(PAGE_SQL, "person_part");
+        long heapBands = time(AGE_BAND_SQL, "person_heap");
+        long partitionBands = time(AGE_BAND_SQL, "person_part");
+        log.info("rows = {}, branches = {}, partitions = {}", rows, BRANCHES, PARTITIONS);
+        log.info("branch page (50): heap = {}us, partitioned = {}us", heapPage / 1_000, partitionPage / 1_000);
+        log.info("branch age band: heap = {}us, partitioned = {}us", heapBands / 1_000, partitionBands / 1_000);
+
+        Assertions.assertThat(partitionPage).isLessThan(heapPage);
+        Assertions.assertThat(partitionBands).isLessThan(heapBands);
+    }
+
+    private String explain(String sql, String table) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN (ANALYZE, BUFFERS) " + String.format(sql, "branch_bench." + table),
+            String.class, args(sql, 17));
+        return String.join("\n", plan);
+    }
+
+    /** 워밍업 1회 후 지점을 바꿔 가며 QUERIES회 평균 */
+    private long time(String sql, String table) {
+        String query = String.format(sql, "branch_bench." + table);
+        Random random = new Random(3);
+        jdbcTemplate.queryForList(query, args(sql, 1));
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERIES; i++) {
+            jdbcTemplate.queryForList(query, args(sql, random.nextInt(BRANCHES) + 1));
+        }
+        return (System.nanoTime() - start) / QUERIES;
+    }
+
+    private Object[] args(String sql, int branchId) {
+        if (sql.equals(PAGE_SQL)) {
+            return new Object[] {branchId, rows / 2};
+        }
+        return new Object[] {branchId, Date.valueOf("1980-01-01"), Date.valueOf("1990-01-01")};
+    }
+}
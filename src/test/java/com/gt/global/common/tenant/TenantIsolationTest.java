@@ -0,0 +1,136 @@
+package com.gt.global.common.tenant;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gt.person.api.dto.AgeBandResponse;
+import com.gt.person.api.dto.PersonCreateRequest;
+import com.gt.person.api.dto.PersonPageResponse;
+import com.gt.person.api.dto.PersonSummaryResponse;
+import com.gt.person.application.export.ExportFormat;
+import com.gt.person.application.service.PersonExportService;
+import com.gt.person.application.service.PersonQueryService;
+import com.gt.person.application.service.PersonService;
+import com.gt.person.domain.entity.Gender;
+import com.gt.person.domain.repository.PersonRepository;
+
+/**
+ * 요청 지점(TenantContext)에 따라 JPA 조회(Hibernate 필터)와 JDBC 조회가 모두 그 지점 고객으로 제한되는지 확인한다.
+ */
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest
+class TenantIsolationTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2025, 6, 15);
+
+    @Autowired
+    private PersonQueryService personQueryService;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonExportService personExportService;
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long branchOnePerson;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM person");
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            int branchId = i % 3 + 1;
+            rows.add(new Object[] {branchId, "고객" + i, String.format("010%08d", i), Date.valueOf(AS_OF.minusYears(20 + i))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO person (branch_id, name, phone, birth, gender, address1, created_date, last_modified_date) "
+            + "VALUES (?, ?, ?, ?, 'M', '서울시', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+        branchOnePerson = jdbcTemplate.queryForObject("SELECT MIN(person_id) FROM person WHERE branch_id = 1", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        jdbcTemplate.update("DELETE FROM person");
+    }
+
+    @Test
+    @DisplayName("지점이 정해지면 목록 / 집계 / 상세 / export가 그 지점 고객만 보여 준다")
+    void scopesReadsToBranch() throws Exception {
+        TenantContext.set(2);
+
+        PersonPageResponse page = personQueryService.findPage(0, 100);
+        List<Long> ids = page.getContent().stream().map(PersonSummaryResponse::getId).toList();
+        Assertions.assertThat(ids).hasSize(10);
+        Assertions.assertThat(jdbcTemplate.queryForList("SELECT branch_id FROM person WHERE person_id IN ("
+            + String.join(",", ids.stream().map(String::valueOf).toList()) + ")", Integer.class)).containsOnly(2);
+
+        long total = personQueryService.countByAgeBand(AS_OF, 10, 80).stream().mapToLong(AgeBandResponse::getTotal).sum();
+        Assertions.assertThat(total).isEqualTo(10);
+
+        // ID 조회(2차 캐시 포함)와 버전 조회 모두 다른 지점 고객은 없는 것으로 본다.
+        Assertions.assertThat(personQueryService.findPerson(branchOnePerson)).isEmpty();
+        Assertions.assertThat(personQueryService.findETag(branchOnePerson)).isEmpty();
+
+        // export 본문은 TenantContext가 없는 스레드에서 쓰므로 요청 스레드에서 잡은 범위로 제한되어야 한다.
+        TenantScope scope = TenantScope.current();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Assertions.assertThat(CompletableFuture.supplyAsync(() -> {
+            try {
+                return personExportService.exportAll(ExportFormat.CSV, scope, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).get()).isEqualTo(10);
+        Assertions.assertThat(out.toString(StandardCharsets.UTF_8)).doesNotContain("고객0,");
+
+        TenantContext.clear();
+        Assertions.assertThat(personQueryService.findPage(0, 100).getContent()).hasSize(30);
+        Assertions.assertThat(personQueryService.findPerson(branchOnePerson)).isPresent();
+    }
+
+    @Test
+    @DisplayName("등록한 고객은 요청 지점에 저장되고, 중복 검사는 지점별로 한다")
+    void createsPersonInCurrentBranch() {
+        PersonCreateRequest request = new PersonCreateRequest();
+        request.setName("홍길동");
+        request.setPhone("010-1234-5678");
+        request.setBirth(LocalDate.of(1990, 1, 1));
+        request.setGender(Gender.MALE);
+        request.setAddress1("서울시");
+
+        TenantContext.set(5);
+        long first = personService.createPerson(request).getId();
+        // 다른 지점에서는 같은 고객도 새로 등록한다.
+        TenantContext.set(6);
+        long second = personService.createPerson(request).getId();
+
+        TenantContext.clear();
+        Assertions.assertThat(personRepository.findById(first).orElseThrow().getBranchId()).isEqualTo(5);
+        Assertions.assertThat(personRepository.findById(second).orElseThrow().getBranchId()).isEqualTo(6);
+    }
+}
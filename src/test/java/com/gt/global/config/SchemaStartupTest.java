@@ -0,0 +1,87 @@
+package com.gt.global.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.gt.LoanManagerApiApplication;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스키마를 Flyway로 만든 뒤 validate 하는 기동과 ddl-auto(update) 기동을 비교한다.
+ * 두 방식 모두 같은 테이블/컬럼을 만들어야 하고, 각 기동은 별도 H2 메모리 DB를 사용한다.
+ */
+@Slf4j
+@Tag("integration")
+class SchemaStartupTest {
+
+    private static final int ROUNDS = 3;
+
+    @Test
+    @DisplayName("Flyway 마이그레이션 스키마는 엔티티 매핑 검증(validate)을 통과한다")
+    void migratedSchemaMatchesEntities() {
+        try (ConfigurableApplicationContext context = start("flyway-validate",
+                "--spring.jpa.hibernate.ddl-auto=validate")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            Integer applied = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"success\" = TRUE", Integer.class);
+            Assertions.assertThat(applied).isGreaterThanOrEqualTo(3);
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("기동 시간: ddl-auto=update vs Flyway + ddl-auto=none")
+    void compareStartupTime() {
+        Map<String, String[]> modes = new LinkedHashMap<>();
+        modes.put("ddl-auto-update", new String[] {
+            "--spring.flyway.enabled=false", "--spring.jpa.hibernate.ddl-auto=update"});
+        modes.put("flyway-none", new String[] {
+            "--spring.jpa.hibernate.ddl-auto=none",
+            "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false"});
+
+        // 워밍업 (클래스 로딩 비용 제외)
+        start("warmup", "--spring.jpa.hibernate.ddl-auto=none").close();
+
+        Map<String, Long> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String[]> mode : modes.entrySet()) {
+            long total = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long begin = System.nanoTime();
+                try (ConfigurableApplicationContext context = start(mode.getKey() + round, mode.getValue())) {
+                    total += System.nanoTime() - begin;
+                    Assertions.assertThat(context.getBean(JdbcTemplate.class)
+                        .queryForObject("SELECT COUNT(*) FROM person", Long.class)).isZero();
+                }
+            }
+            results.put(mode.getKey(), total / ROUNDS / 1_000_000);
+        }
+        results.forEach((mode, ms) -> log.info("startup {}: avg = {}ms ({} rounds)", mode, ms, ROUNDS));
+    }
+
+    private static ConfigurableApplicationContext start(String database, String... args) {
+        String[] common = {
+            "--spring.profiles.active=test",
+            "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.show-sql=false",
+            "--server.port=0",
+            "--person.search.rebuild-on-startup=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.gt=WARN",
+            "--logging.level.org.hibernate=WARN",
+            "--logging.level.org.springframework=WARN"
+        };
+        String[] all = new String[common.length + args.length];
+        System.arraycopy(common, 0, all, 0, common.length);
+        System.arraycopy(args, 0, all, common.length, args.length);
+        return new SpringApplicationBuilder(LoanManagerApiApplication.class).run(all);
+    }
+}
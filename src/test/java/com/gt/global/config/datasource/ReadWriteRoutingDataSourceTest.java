@@ -0,0 +1,171 @@
+package com.gt.global.config.datasource;
+
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 두 개의 H2 인스턴스를 primary/replica로 사용해 readOnly 트랜잭션 라우팅을 확인한다.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSource replica;
+    private MeterRegistry meterRegistry;
+    private ReadWriteRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("routing_primary");
+        replica = h2("routing_replica");
+
+        // 어느 데이터베이스에서 실행되었는지 구분하기 위한 표식
+        new JdbcTemplate(primary).execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        new JdbcTemplate(primary).execute("MERGE INTO node KEY(name) VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        new JdbcTemplate(replica).execute("MERGE INTO node KEY(name) VALUES ('replica-1')");
+
+        meterRegistry = new SimpleMeterRegistry();
+        routingDataSource = new ReadWriteRoutingDataSource(primary, Map.of("replica-1", replica), meterRegistry);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 replica, 그 외 트랜잭션은 primary로 라우팅된다")
+    void routesByTransactionReadOnlyFlag() {
+        // LazyConnectionDataSourceProxy는 생성 시 기본 연결 속성 확인을 위해 primary 연결을 한 번 얻는다.
+        double primaryBefore = routedCount(ReadWriteRoutingDataSource.PRIMARY);
+
+        String readNode = readOnlyTransaction.execute(status -> currentNode());
+        String writeNode = writeTransaction.execute(status -> currentNode());
+
+        Assertions.assertThat(readNode).isEqualTo("replica-1");
+        Assertions.assertThat(writeNode).isEqualTo("primary");
+        Assertions.assertThat(routedCount("replica-1")).isEqualTo(1);
+        Assertions.assertThat(routedCount(ReadWriteRoutingDataSource.PRIMARY) - primaryBefore).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("정상 상태의 replica가 없으면 readOnly 트랜잭션도 primary로 보낸다")
+    void fallsBackToPrimaryWhenReplicaIsUnhealthy() {
+        routingDataSource.markReplicaHealth("replica-1", false);
+
+        String readNode = readOnlyTransaction.execute(status -> currentNode());
+
+        Assertions.assertThat(readNode).isEqualTo("primary");
+        Assertions.assertThat(meterRegistry.get("datasource.routing.replica.fallback").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 health check가 replica를 제외한다")
+    void lagGuardMarksReplicaDown() {
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+        properties.setMaxReplicaLagSeconds(5);
+        properties.setLagQuery("SELECT 30");
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(routingDataSource, properties, meterRegistry);
+
+        checker.checkReplicas();
+        Assertions.assertThat(routingDataSource.isReplicaHealthy("replica-1")).isFalse();
+
+        properties.setLagQuery("SELECT 0");
+        checker.checkReplicas();
+        Assertions.assertThat(routingDataSource.isReplicaHealthy("replica-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("primary에 쓰기가 없어 마지막 재생이 오래되어도 받은 WAL을 모두 재생한 replica는 제외하지 않는다")
+    void idlePrimaryKeepsReplicaHealthy() {
+        // application.yml의 PostgreSQL 지연 쿼리를 H2에 흉내 낸 함수로 실행한다.
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("CREATE ALIAS IF NOT EXISTS pg_last_wal_receive_lsn FOR '" + ReplicaFunctions.class.getName() + ".receiveLsn'");
+        replicaJdbc.execute("CREATE ALIAS IF NOT EXISTS pg_last_wal_replay_lsn FOR '" + ReplicaFunctions.class.getName() + ".replayLsn'");
+        replicaJdbc.execute("CREATE ALIAS IF NOT EXISTS pg_last_xact_replay_timestamp FOR '" + ReplicaFunctions.class.getName() + ".replayTimestamp'");
+
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+        properties.setMaxReplicaLagSeconds(5);
+        properties.setLagQuery(configuredLagQuery());
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(routingDataSource, properties, meterRegistry);
+
+        // primary가 1분 동안 쓰기 없음, replica는 받은 WAL을 모두 재생함
+        ReplicaFunctions.receiveLsn = "0/3000060";
+        ReplicaFunctions.replayLsn = "0/3000060";
+        ReplicaFunctions.replayTimestamp = OffsetDateTime.now().minusMinutes(1);
+        checker.checkReplicas();
+        Assertions.assertThat(routingDataSource.isReplicaHealthy("replica-1")).isTrue();
+        Assertions.assertThat(meterRegistry.get("datasource.replica.lag.seconds").gauge().value()).isZero();
+
+        // 받은 WAL을 1분째 재생하지 못함
+        ReplicaFunctions.receiveLsn = "0/3000120";
+        checker.checkReplicas();
+        Assertions.assertThat(routingDataSource.isReplicaHealthy("replica-1")).isFalse();
+
+        // 재생이 따라오는 중 (마지막 재생 1초 전)
+        ReplicaFunctions.replayTimestamp = OffsetDateTime.now().minusSeconds(1);
+        checker.checkReplicas();
+        Assertions.assertThat(routingDataSource.isReplicaHealthy("replica-1")).isTrue();
+    }
+
+    private static String configuredLagQuery() {
+        YamlPropertiesFactoryBean yaml = new YamlPropertiesFactoryBean();
+        yaml.setResources(new ClassPathResource("application.yml"));
+        return yaml.getObject().getProperty("datasource.routing.lag-query");
+    }
+
+    /**
+     * H2에서 PostgreSQL 복제 함수를 대신하는 값 (CREATE ALIAS 대상)
+     */
+    public static class ReplicaFunctions {
+
+        static volatile String receiveLsn;
+        static volatile String replayLsn;
+        static volatile OffsetDateTime replayTimestamp;
+
+        public static String receiveLsn() {
+            return receiveLsn;
+        }
+
+        public static String replayLsn() {
+            return replayLsn;
+        }
+
+        public static OffsetDateTime replayTimestamp() {
+            return replayTimestamp;
+        }
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private double routedCount(String target) {
+        return meterRegistry.get("datasource.routing.connections").tag("target", target).counter().count();
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
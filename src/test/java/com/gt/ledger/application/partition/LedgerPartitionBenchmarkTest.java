@@ -0,0 +1,303 @@
+package com.gt.ledger.application.partition;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.ledger.api.dto.PostingRequest;
+import com.gt.ledger.application.service.serviceImpl.LedgerServiceImpl;
+import com.gt.ledger.domain.entity.EntryType;
+import com.gt.ledger.domain.repository.LedgerPartitionRepository;
+import com.gt.ledger.infra.config.LedgerPartitionProperties;
+import com.gt.ledger.infra.repository.JdbcLedgerPartitionRepository;
+import com.gt.ledger.infra.repository.JdbcLedgerRepository;
+import com.gt.outbox.application.publisher.OutboxPublisher;
+import com.gt.outbox.application.relay.OutboxRelay;
+import com.gt.outbox.infra.repository.JdbcOutboxRepository;
+import com.gt.portfolio.application.counter.PortfolioCounters;
+import com.gt.portfolio.infra.config.PortfolioProperties;
+import com.gt.portfolio.infra.repository.JdbcPortfolioCounterRepository;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원장 항목 월별 파티션: 이력이 1개월 → 1년 → 3년으로 늘어도 기록 처리량과 최근 구간 조회 시간이 일정한지,
+ * 보관 처리 후 파일 내용과 잔액이 맞는지 확인한다. (PostgreSQL 전용)
+ *
+ * ./gradlew test --tests '*LedgerPartitionBenchmarkTest' -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/loan
+ *   -Dbenchmark.postgres.username=... -Dbenchmark.postgres.password=... [-Dbenchmark.rows-per-month=500000]
+ * (별도 ledger_bench 스키마에 Flyway 마이그레이션을 적용하고 끝나면 지운다.)
+ */
+@Slf4j
+@Tag("integration")
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "benchmark.postgres.url", matches = ".+")
+class LedgerPartitionBenchmarkTest {
+
+    private static final String SCHEMA = "ledger_bench";
+    private static final int LOANS = 10_000;
+    private static final long PRINCIPAL = 1_000_000_000_000L;
+    private static final int[] HISTORY_MONTHS = {1, 12, 36};
+    private static final int RETENTION_MONTHS = 12;
+    /** 스냅샷 없이 전체 이력에 기대는 대출 수 (보관 전 스냅샷 대상) */
+    private static final int UNSEALED_LOANS = 100;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JdbcLedgerRepository ledgerRepository;
+    private JdbcLedgerPartitionRepository partitionRepository;
+    private LedgerServiceImpl ledgerService;
+    private Path archiveDir;
+    private int rowsPerMonth;
+    private int loadedMonths;
+    private long postingSeq;
+
+    @BeforeAll
+    void setUp() throws IOException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(System.getProperty("benchmark.postgres.url"));
+        dataSource.setUsername(System.getProperty("benchmark.postgres.username", "postgres"));
+        dataSource.setPassword(System.getProperty("benchmark.postgres.password", ""));
+        dataSource.setSchema(SCHEMA);
+        dataSource.setMaximumPoolSize(4);
+        rowsPerMonth = Integer.getInteger("benchmark.rows-per-month", 500_000);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        Flyway.configure().dataSource(dataSource).schemas(SCHEMA).createSchemas(true)
+            .locations("classpath:db/migration/postgresql").load().migrate();
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        ledgerRepository = new JdbcLedgerRepository(jdbcTemplate);
+        partitionRepository = new JdbcLedgerPartitionRepository(jdbcTemplate);
+        OutboxPublisher outboxPublisher = new OutboxPublisher(new JdbcOutboxRepository(jdbcTemplate),
+            new ObjectMapper().findAndRegisterModules(), new StaticListableBeanFactory().getBeanProvider(OutboxRelay.class));
+        PortfolioCounters portfolioCounters = new PortfolioCounters(new JdbcPortfolioCounterRepository(jdbcTemplate),
+            new PortfolioProperties(), new SimpleMeterRegistry());
+        ledgerService = new LedgerServiceImpl(ledgerRepository, outboxPublisher, portfolioCounters, new SimpleMeterRegistry(), 100);
+        archiveDir = Files.createTempDirectory("ledger-archive");
+
+        // 대출은 3년 전에 실행(seq 1)된 것으로 둔다.
+        LocalDateTime opened = YearMonth.now().minusMonths(HISTORY_MONTHS[HISTORY_MONTHS.length - 1]).atDay(1).atStartOfDay();
+        jdbcTemplate.update("INSERT INTO person (person_id, branch_id, name, phone, created_date, last_modified_date) "
+            + "VALUES (1, 1, '원장고객', '01012345678', now(), now())");
+        jdbcTemplate.update("INSERT INTO loan (loan_id, person_id, branch_id, last_seq, snapshot_seq, created_date) "
+            + "SELECT g, 1, 1, 1, 0, ? FROM generate_series(1, ?) g", Timestamp.valueOf(opened), LOANS);
+        for (int i = 0; i <= HISTORY_MONTHS[HISTORY_MONTHS.length - 1]; i++) {
+            partitionRepository.createPartition(YearMonth.from(opened).plusMonths(i));
+        }
+        jdbcTemplate.update("INSERT INTO ledger_entry (loan_id, entry_seq, entry_type, amount, posting_key, created_at) "
+            + "SELECT g, 1, 'DISBURSEMENT', ?, 'open-' || g, ? FROM generate_series(1, ?) g", PRINCIPAL, Timestamp.valueOf(opened), LOANS);
+        jdbcTemplate.update("INSERT INTO ledger_posting_key (posting_key, loan_id, entry_seq, created_at) "
+            + "SELECT 'open-' || g, g, 1, ? FROM generate_series(1, ?) g", Timestamp.valueOf(opened), LOANS);
+    }
+
+    @AfterAll
+    void tearDown() throws IOException {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            dataSource.close();
+        }
+        if (archiveDir != null) {
+            try (Stream<Path> files = Files.list(archiveDir)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(archiveDir);
+        }
+    }
+
+    @Test
+    @DisplayName("이력이 3년으로 늘어도 기록 처리량과 최근 구간 조회 시간이 일정하고, 보관 후에도 잔액이 같다")
+    void historyGrowthAndArchive() throws IOException {
+        Map<Integer, long[]> results = new LinkedHashMap<>();
+        for (int months : HISTORY_MONTHS) {
+            loadHistory(months);
+            long entriesPerSecond = measurePosting(20_000);
+            long[] recent = measureRecentReads(2_000);
+            results.put(months, new long[] {entriesPerSecond, recent[0], recent[1]});
+            log.info("history = {} months ({} rows): post = {} entries/s, recent 7d entries p50 = {}us, balance p50 = {}us",
+                months, (long) months * rowsPerMonth, entriesPerSecond, recent[0] / 1_000, recent[1] / 1_000);
+
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN (ANALYZE) SELECT * FROM ledger_entry "
+                + "WHERE loan_id = 17 AND created_at >= now() - INTERVAL '7 days' AND entry_seq > 0 ORDER BY entry_seq LIMIT 100",
+                String.class));
+            log.info("recent window plan:\n{}", plan);
+            // 최근 7일 조건이면 그 이전 월 파티션은 실행 계획에서 빠진다. (이후 월은 미리 만든 빈 파티션)
+            YearMonth firstNeeded = YearMonth.from(LocalDateTime.now().minusDays(7));
+            for (YearMonth month : partitionRepository.findPartitions()) {
+                if (month.isBefore(firstNeeded)) {
+                    Assertions.assertThat(plan).doesNotContain(LedgerPartitionRepository.partitionName(month));
+                }
+            }
+        }
+
+        long[] first = results.get(HISTORY_MONTHS[0]);
+        long[] last = results.get(HISTORY_MONTHS[HISTORY_MONTHS.length - 1]);
+        Assertions.assertThat(last[0]).isGreaterThan(first[0] / 2);
+        Assertions.assertThat(last[1]).isLessThan(Math.max(first[1] * 2, 1_000_000L));
+        Assertions.assertThat(last[2]).isLessThan(Math.max(first[2] * 2, 1_000_000L));
+
+        archiveAndVerify();
+    }
+
+    /**
+     * 보관 기간(12개월)을 넘은 월을 보관 처리하고, 파일 행 수 / 남은 파티션 / 잔액을 확인한다.
+     */
+    private void archiveAndVerify() throws IOException {
+        // 일부 대출은 스냅샷을 지워 전체 이력에 기대게 만든다.
+        jdbcTemplate.update("DELETE FROM ledger_snapshot WHERE loan_id <= ?", UNSEALED_LOANS);
+        jdbcTemplate.update("UPDATE loan SET snapshot_seq = 0 WHERE loan_id <= ?", UNSEALED_LOANS);
+        Map<Long, Long> before = new LinkedHashMap<>();
+        for (long loanId = 1; loanId <= UNSEALED_LOANS * 2; loanId++) {
+            before.put(loanId, ledgerService.getBalance(loanId).getBalance());
+        }
+        YearMonth oldestKept = YearMonth.now().minusMonths(RETENTION_MONTHS);
+        Map<YearMonth, Long> expectedRows = new LinkedHashMap<>();
+        for (YearMonth month : partitionRepository.findPartitions()) {
+            if (month.isBefore(oldestKept)) {
+                expectedRows.put(month, jdbcTemplate.queryForObject(
+                    "SELECT count(*) FROM " + LedgerPartitionRepository.partitionName(month), Long.class));
+            }
+        }
+
+        LedgerPartitionProperties properties = new LedgerPartitionProperties();
+        properties.setRetentionMonths(RETENTION_MONTHS);
+        properties.setArchiveDir(archiveDir.toString());
+        LedgerPartitionManager manager = new LedgerPartitionManager(partitionRepository, ledgerRepository,
+            new DataSourceTransactionManager(dataSource), properties, new SimpleMeterRegistry(), Clock.systemDefaultZone());
+        long start = System.nanoTime();
+        List<YearMonth> archived = manager.maintainOnce();
+        log.info("archived {} partitions in {}ms", archived.size(), (System.nanoTime() - start) / 1_000_000);
+
+        Assertions.assertThat(archived).containsExactlyElementsOf(expectedRows.keySet());
+        Assertions.assertThat(partitionRepository.findPartitions()).allMatch(month -> !month.isBefore(oldestKept));
+        Assertions.assertThat(partitionRepository.findPartitions()).contains(YearMonth.now().plusMonths(properties.getPremakeMonths()));
+        for (Map.Entry<YearMonth, Long> entry : expectedRows.entrySet()) {
+            Path file = archiveDir.resolve(LedgerPartitionRepository.partitionName(entry.getKey()) + ".tsv.gz");
+            Assertions.assertThat(lines(file)).as(file.toString()).isEqualTo(entry.getValue());
+        }
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM ledger_posting_key WHERE created_at < ?",
+            Long.class, Timestamp.valueOf(oldestKept.atDay(1).atStartOfDay()))).isZero();
+        for (Map.Entry<Long, Long> entry : before.entrySet()) {
+            Assertions.assertThat(ledgerService.getBalance(entry.getKey()).getBalance()).as("loan %d", entry.getKey())
+                .isEqualTo(entry.getValue());
+        }
+    }
+
+    /**
+     * 과거 월 이력을 months개월이 될 때까지 채운다. (대출마다 같은 수, 금액 -1)
+     * 정상 운영처럼 최근 스냅샷이 있는 상태로 맞춘다.
+     */
+    private void loadHistory(int months) {
+        long start = System.nanoTime();
+        int perLoan = rowsPerMonth / LOANS;
+        for (; loadedMonths < months; loadedMonths++) {
+            Timestamp monthStart = Timestamp.valueOf(YearMonth.now().minusMonths(loadedMonths + 1).atDay(1).atStartOfDay());
+            jdbcTemplate.update("""
+                INSERT INTO ledger_entry (loan_id, entry_seq, entry_type, amount, posting_key, created_at)
+                SELECT l.loan_id, l.last_seq + k, 'REPAYMENT', -1, 'h-' || l.loan_id || '-' || (l.last_seq + k),
+                       ? + k * INTERVAL '1 minute'
+                FROM loan l, generate_series(1, ?) k
+                """, monthStart, perLoan);
+            jdbcTemplate.update("""
+                INSERT INTO ledger_posting_key (posting_key, loan_id, entry_seq, created_at)
+                SELECT 'h-' || l.loan_id || '-' || (l.last_seq + k), l.loan_id, l.last_seq + k, ? + k * INTERVAL '1 minute'
+                FROM loan l, generate_series(1, ?) k
+                """, monthStart, perLoan);
+            jdbcTemplate.update("UPDATE loan SET last_seq = last_seq + ?", perLoan);
+        }
+        jdbcTemplate.update("DELETE FROM ledger_snapshot");
+        jdbcTemplate.update("""
+            INSERT INTO ledger_snapshot (loan_id, entry_seq, balance, created_at)
+            SELECT l.loan_id, l.last_seq, (SELECT sum(e.amount) FROM ledger_entry e WHERE e.loan_id = l.loan_id), now()
+            FROM loan l
+            """);
+        jdbcTemplate.update("UPDATE loan SET snapshot_seq = last_seq");
+        jdbcTemplate.execute("ANALYZE ledger_entry");
+        jdbcTemplate.execute("ANALYZE ledger_posting_key");
+        log.info("history loaded to {} months in {}s", months, (System.nanoTime() - start) / 1_000_000_000);
+    }
+
+    /** 임의의 대출에 10건씩 기록, 초당 항목 수 */
+    private long measurePosting(int entries) {
+        Random random = new Random(entries);
+        post(random, 1_000);   // 워밍업
+        long start = System.nanoTime();
+        post(random, entries);
+        return entries * 1_000_000_000L / (System.nanoTime() - start);
+    }
+
+    private void post(Random random, int entries) {
+        for (int done = 0; done < entries; done += 10) {
+            long loanId = random.nextInt(LOANS) + 1;
+            List<PostingRequest> postings = new ArrayList<>(10);
+            for (int i = 0; i < 10; i++) {
+                postings.add(PostingRequest.builder().type(EntryType.FEE).amount(1L).postingKey("p-" + postingSeq++).build());
+            }
+            transactionTemplate.executeWithoutResult(status -> ledgerService.post(loanId, postings));
+        }
+    }
+
+    /** 최근 7일 항목 조회 / 잔액 조회 p50 (ns) */
+    private long[] measureRecentReads(int reads) {
+        Random random = new Random(reads);
+        long[] entries = new long[reads];
+        long[] balances = new long[reads];
+        for (int i = 0; i < reads; i++) {
+            long loanId = random.nextInt(LOANS) + 1;
+            LocalDateTime from = LocalDateTime.now().minusDays(7);
+            long start = System.nanoTime();
+            ledgerService.getEntries(loanId, 0, from, 100);
+            entries[i] = System.nanoTime() - start;
+            start = System.nanoTime();
+            ledgerService.getBalance(loanId);
+            balances[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(entries);
+        Arrays.sort(balances);
+        return new long[] {entries[reads / 2], balances[reads / 2]};
+    }
+
+    private static long lines(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().count();
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.gt.ledger.application.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gt.global.common.exception.LedgerNotFoundException;
+import com.gt.global.common.exception.LedgerPostingException;
+import com.gt.global.common.tenant.TenantContext;
+import com.gt.ledger.api.dto.BalanceResponse;
+import com.gt.ledger.api.dto.LedgerEntryResponse;
+import com.gt.ledger.api.dto.LoanOpenRequest;
+import com.gt.ledger.api.dto.PostingBatchResponse;
+import com.gt.ledger.api.dto.PostingRequest;
+import com.gt.ledger.api.dto.PostingResult;
+import com.gt.ledger.domain.entity.EntryType;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원장 기록 규칙(멱등 키, 취소, 잔액 초과)과 스냅샷 기반 잔액 계산을 확인하고,
+ * 대출별 항목 수가 늘어도 잔액 조회 시간이 일정한지 측정한다.
+ */
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "ledger.snapshot-interval=100")
+class LedgerServiceTest {
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long personId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO person (name, phone, created_date, last_modified_date) "
+            + "VALUES ('원장고객', '01012345678', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        personId = jdbcTemplate.queryForObject("SELECT MAX(person_id) FROM person", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        jdbcTemplate.update("DELETE FROM portfolio_balance_counter");
+        jdbcTemplate.update("DELETE FROM portfolio_daily_counter");
+        jdbcTemplate.update("DELETE FROM ledger_snapshot");
+        jdbcTemplate.update("DELETE FROM ledger_reversal");
+        jdbcTemplate.update("DELETE FROM ledger_posting_key");
+        jdbcTemplate.update("DELETE FROM ledger_entry");
+        jdbcTemplate.update("DELETE FROM loan");
+        jdbcTemplate.update("DELETE FROM person");
+    }
+
+    private long open(long principal, String key) {
+        return ledgerService.openLoan(new LoanOpenRequest(personId, principal, key)).getLoanId();
+    }
+
+    private static PostingRequest posting(EntryType type, Long amount, String key) {
+        return PostingRequest.builder().type(type).amount(amount).postingKey(key).build();
+    }
+
+    @Test
+    @DisplayName("같은 posting key는 한 번만 기록되고 재시도는 기존 순번을 돌려준다")
+    void postingKeysAreIdempotent() {
+        long loanId = open(1_000_000, "open-1");
+        Assertions.assertThat(open(1_000_000, "open-1")).isEqualTo(loanId);
+
+        List<PostingRequest> batch = List.of(
+            posting(EntryType.REPAYMENT, 100_000L, "pay-1"),
+            posting(EntryType.FEE, 5_000L, "fee-1"),
+            posting(EntryType.REPAYMENT, 100_000L, "pay-1"));
+        PostingBatchResponse first = ledgerService.post(loanId, batch);
+        PostingBatchResponse retry = ledgerService.post(loanId, batch);
+
+        Assertions.assertThat(first.getResults()).extracting(PostingResult::getStatus)
+            .containsExactly(PostingResult.Status.CREATED, PostingResult.Status.CREATED, PostingResult.Status.DUPLICATE);
+        Assertions.assertThat(retry.getResults()).extracting(PostingResult::getStatus)
+            .containsOnly(PostingResult.Status.DUPLICATE);
+        Assertions.assertThat(retry.getResults()).extracting(PostingResult::getSeq).containsExactly(2L, 3L, 2L);
+        Assertions.assertThat(ledgerService.getBalance(loanId).getBalance()).isEqualTo(905_000);
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ledger_entry", Long.class)).isEqualTo(3);
+
+        long otherLoan = open(500_000, "open-2");
+        Assertions.assertThatThrownBy(() -> ledgerService.post(otherLoan, List.of(posting(EntryType.FEE, 1L, "pay-1"))))
+            .isInstanceOf(LedgerPostingException.class);
+    }
+
+    @Test
+    @DisplayName("취소는 대상 금액의 반대 부호로 기록되고 한 번만 가능하며, 잔액을 넘는 상환은 배치 전체를 거절한다")
+    void reversalsAndOverpayment() {
+        long loanId = open(300_000, "open-r");
+        ledgerService.post(loanId, List.of(posting(EntryType.REPAYMENT, 100_000L, "pay-r1")));
+
+        PostingRequest reversal = PostingRequest.builder().type(EntryType.REVERSAL).postingKey("rev-1").reversesSeq(2L).build();
+        Assertions.assertThat(ledgerService.post(loanId, List.of(reversal)).getBalance()).isEqualTo(300_000);
+
+        PostingRequest again = PostingRequest.builder().type(EntryType.REVERSAL).postingKey("rev-2").reversesSeq(2L).build();
+        Assertions.assertThatThrownBy(() -> ledgerService.post(loanId, List.of(again)))
+            .isInstanceOf(LedgerPostingException.class);
+        PostingRequest reverseReversal = PostingRequest.builder().type(EntryType.REVERSAL).postingKey("rev-3").reversesSeq(3L).build();
+        Assertions.assertThatThrownBy(() -> ledgerService.post(loanId, List.of(reverseReversal)))
+            .isInstanceOf(LedgerPostingException.class);
+
+        Assertions.assertThatThrownBy(() -> ledgerService.post(loanId, List.of(
+                posting(EntryType.REPAYMENT, 200_000L, "pay-r2"),
+                posting(EntryType.REPAYMENT, 200_000L, "pay-r3"))))
+            .isInstanceOf(LedgerPostingException.class);
+
+        BalanceResponse balance = ledgerService.getBalance(loanId);
+        Assertions.assertThat(balance.getBalance()).isEqualTo(300_000);
+        Assertions.assertThat(balance.getAsOfSeq()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("스냅샷 + 이후 항목으로 계산한 잔액은 전체 이력 합계와 같고, 합산 항목 수는 스냅샷 주기 미만이다")
+    void balanceFromSnapshotMatchesFullSum() {
+        long loanId = open(100_000_000, "open-s");
+        for (int batch = 0; batch < 7; batch++) {
+            List<PostingRequest> postings = new ArrayList<>();
+            for (int i = 0; i < 37; i++) {
+                EntryType type = i % 5 == 0 ? EntryType.FEE : EntryType.REPAYMENT;
+                postings.add(posting(type, 1_000L + i, "s-" + batch + "-" + i));
+            }
+            ledgerService.post(loanId, postings);
+        }
+
+        BalanceResponse balance = ledgerService.getBalance(loanId);
+        long fullSum = jdbcTemplate.queryForObject("SELECT SUM(amount) FROM ledger_entry WHERE loan_id = ?", Long.class, loanId);
+        long snapshots = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ledger_snapshot WHERE loan_id = ?", Long.class, loanId);
+
+        log.info("balance = {}, asOfSeq = {}, snapshotSeq = {}, snapshots = {}",
+            balance.getBalance(), balance.getAsOfSeq(), balance.getSnapshotSeq(), snapshots);
+        Assertions.assertThat(balance.getBalance()).isEqualTo(fullSum);
+        Assertions.assertThat(balance.getAsOfSeq()).isEqualTo(1 + 7 * 37);
+        Assertions.assertThat(balance.getAsOfSeq() - balance.getSnapshotSeq()).isLessThan(100);
+        Assertions.assertThat(snapshots).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("from을 주면 그 시각 이후 기록된 항목만 순번 순으로 조회한다")
+    void findsEntriesSince() {
+        long loanId = open(1_000_000, "open-f");
+        ledgerService.post(loanId, List.of(
+            posting(EntryType.REPAYMENT, 1_000L, "f-1"),
+            posting(EntryType.REPAYMENT, 1_000L, "f-2"),
+            posting(EntryType.FEE, 500L, "f-3")));
+        // 대출 생성과 앞의 두 항목을 지난달 기록으로 옮긴다. (H2에는 수정 방지 트리거가 없다)
+        Timestamp lastMonth = Timestamp.valueOf(LocalDateTime.now().minusMonths(1));
+        jdbcTemplate.update("UPDATE loan SET created_date = ? WHERE loan_id = ?", lastMonth, loanId);
+        jdbcTemplate.update("UPDATE ledger_entry SET created_at = ? WHERE loan_id = ? AND entry_seq <= 2", lastMonth, loanId);
+
+        LocalDateTime from = LocalDateTime.now().minusDays(7);
+        Assertions.assertThat(ledgerService.getEntries(loanId, 0, from, 100))
+            .extracting(LedgerEntryResponse::getSeq).containsExactly(3L, 4L);
+        Assertions.assertThat(ledgerService.getEntries(loanId, 0, null, 100)).hasSize(4);
+        Assertions.assertThat(ledgerService.getBalance(loanId).getBalance()).isEqualTo(998_500);
+    }
+
+    @Test
+    @DisplayName("다른 지점의 대출은 기록 / 잔액 / 항목 조회 모두 찾을 수 없다")
+    void hidesLoansOfOtherBranches() {
+        long loanId = open(1_000_000, "open-t");
+        try {
+            TenantContext.set(2);
+            Assertions.assertThatThrownBy(() -> ledgerService.post(loanId, List.of(posting(EntryType.FEE, 500L, "t-1"))))
+                .isInstanceOf(LedgerNotFoundException.class);
+            Assertions.assertThatThrownBy(() -> ledgerService.getBalance(loanId)).isInstanceOf(LedgerNotFoundException.class);
+            Assertions.assertThatThrownBy(() -> ledgerService.getEntries(loanId, 0, null, 100))
+                .isInstanceOf(LedgerNotFoundException.class);
+
+            TenantContext.set(TenantContext.DEFAULT_BRANCH_ID);
+            Assertions.assertThat(ledgerService.getBalance(loanId).getBalance()).isEqualTo(1_000_000);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("잔액 조회 시간은 대출별 항목 수(10 ~ 10,000)와 관계없이 일정하다")
+    void balanceReadLatencyIsFlat() {
+        int[] sizes = {10, 100, 1_000, 10_000};
+        int reads = 2_000;
+        Map<Integer, long[]> latencies = new TreeMap<>();
+
+        for (int size : sizes) {
+            long loanId = open(Long.MAX_VALUE / 4, "bench-open-" + size);
+            long appendStart = System.nanoTime();
+            for (int from = 1; from < size; from += 1_000) {
+                List<PostingRequest> postings = new ArrayList<>();
+                for (int i = from; i < Math.min(size, from + 1_000); i++) {
+                    postings.add(posting(i % 10 == 0 ? EntryType.FEE : EntryType.REPAYMENT, 10L, "bench-" + size + "-" + i));
+                }
+                ledgerService.post(loanId, postings);
+            }
+            long appendMs = (System.nanoTime() - appendStart) / 1_000_000;
+
+            // 워밍업
+            for (int i = 0; i < 200; i++) {
+                ledgerService.getBalance(loanId);
+            }
+            long[] nanos = new long[reads];
+            for (int i = 0; i < reads; i++) {
+                long start = System.nanoTime();
+                ledgerService.getBalance(loanId);
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            latencies.put(size, nanos);
+
+            BalanceResponse balance = ledgerService.getBalance(loanId);
+            log.info("entries = {}: append = {}ms ({} entries/s), balance p50 = {}us, p99 = {}us, tail = {}",
+                size, appendMs, appendMs == 0 ? "-" : size * 1000L / appendMs,
+                nanos[reads / 2] / 1_000, nanos[reads * 99 / 100] / 1_000,
+                balance.getAsOfSeq() - balance.getSnapshotSeq());
+            Assertions.assertThat(balance.getAsOfSeq()).isEqualTo(size);
+        }
+
+        long p50Small = latencies.get(10)[reads / 2];
+        long p50Large = latencies.get(10_000)[reads / 2];
+        // 합산 항목 수는 스냅샷 주기로 제한되므로 이력이 1000배 늘어도 조회 시간은 크게 변하지 않아야 한다.
+        Assertions.assertThat(p50Large).isLessThan(Math.max(p50Small * 3, 1_000_000L));
+    }
+}
@@ -0,0 +1,229 @@
+package com.gt.outbox.application.relay;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gt.outbox.application.publisher.OutboxPublisher;
+import com.gt.outbox.application.sink.OutboxSink;
+import com.gt.outbox.domain.entity.OutboxEvent;
+import com.gt.outbox.domain.repository.OutboxRepository;
+import com.gt.outbox.infra.config.OutboxProperties;
+import com.gt.person.api.dto.PersonCreateRequest;
+import com.gt.person.api.dto.PersonCreateResponse;
+import com.gt.person.application.service.PersonService;
+import com.gt.person.domain.entity.Gender;
+import com.gt.person.domain.event.PersonCreatedEvent;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * outbox 기록이 엔티티 변경과 같은 트랜잭션에 묶이는지, 여러 relay가 일을 나눠도
+ * 이벤트가 한 번씩 aggregate 순서대로 전달되는지 확인하고 relay 처리량을 측정한다.
+ * (relay는 테스트에서 직접 만들어 실행한다.)
+ */
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"outbox.sink=memory", "outbox.relay.enabled=false"})
+class OutboxRelayTest {
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        jdbcTemplate.update("DELETE FROM person");
+    }
+
+    @Test
+    @DisplayName("고객 등록 이벤트는 등록 트랜잭션과 함께 커밋 / 롤백되고, 트랜잭션 밖에서는 기록할 수 없다")
+    void eventsFollowEntityTransaction() {
+        PersonCreateResponse created = personService.createPerson(request("아웃박스", "010-5555-0001"));
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT aggregate_type, aggregate_id, event_type, payload FROM outbox_event");
+        Assertions.assertThat(row.get("aggregate_type")).isEqualTo(PersonCreatedEvent.AGGREGATE_TYPE);
+        Assertions.assertThat(row.get("aggregate_id")).isEqualTo(String.valueOf(created.getId()));
+        Assertions.assertThat(row.get("event_type")).isEqualTo(PersonCreatedEvent.EVENT_TYPE);
+        Assertions.assertThat((String) row.get("payload")).contains("\"phone\":\"01055550001\"");
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            personService.createPerson(request("롤백", "010-5555-0002"));
+            status.setRollbackOnly();
+        });
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Long.class)).isEqualTo(1);
+
+        Assertions.assertThatThrownBy(() -> outboxPublisher.publish("Test", 1, "Orphan", Map.of()))
+            .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    @DisplayName("sink가 실패하면 배치가 롤백되고 다음 실행에서 같은 순서로 다시 전달된다")
+    void redeliversAfterSinkFailure() {
+        publish(200, 10);
+        AtomicBoolean fail = new AtomicBoolean(true);
+        List<OutboxEvent> delivered = new ArrayList<>();
+        OutboxRelay relay = relay(events -> {
+            if (fail.getAndSet(false)) {
+                throw new IllegalStateException("sink down");
+            }
+            delivered.addAll(events);
+        }, 500);
+
+        Assertions.assertThatThrownBy(relay::drainOnce).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(delivered).isEmpty();
+
+        drainAll(relay);
+        Assertions.assertThat(delivered).hasSize(200);
+        Assertions.assertThat(pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 relay가 동시에 실행되어도 이벤트는 한 번씩, aggregate별 기록 순서대로 전달된다")
+    void concurrentRelaysShareWork() throws Exception {
+        int events = 3_000;
+        publish(events, 60);
+        List<OutboxEvent> delivered = Collections.synchronizedList(new ArrayList<>());
+        List<OutboxRelay> relays = new ArrayList<>();
+        List<AtomicInteger> perRelay = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            AtomicInteger count = new AtomicInteger();
+            perRelay.add(count);
+            relays.add(relay(batch -> {
+                delivered.addAll(batch);
+                count.addAndGet(batch.size());
+            }, 50));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(relays.size());
+        List<Future<?>> futures = new ArrayList<>();
+        for (OutboxRelay relay : relays) {
+            futures.add(executor.submit(() -> drainAll(relay)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Assertions.assertThat(delivered).hasSize(events);
+        Set<Long> ids = delivered.stream().map(OutboxEvent::eventId).collect(Collectors.toSet());
+        Assertions.assertThat(ids).hasSize(events);
+        Map<String, Long> lastIdByAggregate = new HashMap<>();
+        for (OutboxEvent event : delivered) {
+            Long previous = lastIdByAggregate.put(event.aggregateId(), event.eventId());
+            Assertions.assertThat(previous == null || previous < event.eventId())
+                .as("aggregate %s order", event.aggregateId()).isTrue();
+        }
+        log.info("events per relay: {}", perRelay);
+        Assertions.assertThat(perRelay.stream().filter(count -> count.get() > 0).count()).isGreaterThan(1);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("relay 처리량과 기록 → 전달 지연")
+    void relayThroughput() {
+        int events = 20_000;
+        publish(events, 1_000);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboxRelay relay = new OutboxRelay(outboxRepository, List.of(batch -> { }), transactionManager,
+            relayProperties(500), meterRegistry);
+
+        long start = System.nanoTime();
+        drainAll(relay);
+        long nanos = System.nanoTime() - start;
+
+        Timer lag = meterRegistry.get("outbox.lag").timer();
+        log.info("outbox relay: {} events, {}ms, {} events/s, lag mean = {}ms, max = {}ms", events, nanos / 1_000_000,
+            events * 1_000_000_000L / nanos, (long) lag.mean(TimeUnit.MILLISECONDS),
+            (long) lag.max(TimeUnit.MILLISECONDS));
+        Assertions.assertThat(meterRegistry.get("outbox.relay.events").counter().count()).isEqualTo(events);
+        Assertions.assertThat(pending()).isZero();
+    }
+
+    /** aggregate마다 seq를 증가시키며 이벤트 기록 (트랜잭션당 100건) */
+    private void publish(int events, int aggregates) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int from = 0; from < events; from += 100) {
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < Math.min(start + 100, events); i++) {
+                    outboxPublisher.publish("Test", "aggregate-" + (i % aggregates), "Tested", Map.of("seq", i));
+                }
+            });
+        }
+    }
+
+    private OutboxRelay relay(OutboxSink sink, int batchSize) {
+        return new OutboxRelay(outboxRepository, List.of(sink), transactionManager, relayProperties(batchSize),
+            new SimpleMeterRegistry());
+    }
+
+    private static OutboxProperties.Relay relayProperties(int batchSize) {
+        OutboxProperties.Relay properties = new OutboxProperties.Relay();
+        properties.setBatchSize(batchSize);
+        return properties;
+    }
+
+    /**
+     * 잠글 partition이 없어 0이 나올 수 있으므로 대기 이벤트가 남아 있는 동안 반복
+     */
+    private void drainAll(OutboxRelay relay) {
+        while (relay.drainOnce() > 0 || pending() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private long pending() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE published_at IS NULL", Long.class);
+    }
+
+    private static PersonCreateRequest request(String name, String phone) {
+        PersonCreateRequest request = new PersonCreateRequest();
+        request.setName(name);
+        request.setPhone(phone);
+        request.setBirth(LocalDate.of(1990, 1, 1));
+        request.setGender(Gender.MALE);
+        request.setAddress1("서울시");
+        return request;
+    }
+}
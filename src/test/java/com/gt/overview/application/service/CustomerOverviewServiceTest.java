@@ -0,0 +1,305 @@
+package com.gt.overview.application.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.gt.ledger.api.dto.LoanOpenRequest;
+import com.gt.ledger.api.dto.PostingRequest;
+import com.gt.ledger.application.service.LedgerService;
+import com.gt.ledger.domain.entity.EntryType;
+import com.gt.ledger.domain.event.LoanPostedEvent;
+import com.gt.outbox.application.relay.OutboxRelay;
+import com.gt.outbox.domain.entity.OutboxEvent;
+import com.gt.outbox.domain.repository.OutboxRepository;
+import com.gt.outbox.infra.config.OutboxProperties;
+import com.gt.overview.api.dto.CustomerOverviewResponse;
+import com.gt.overview.api.dto.OverviewCheckResponse;
+import com.gt.overview.application.projector.CustomerOverviewProjector;
+import com.gt.overview.domain.entity.CustomerOverview;
+import com.gt.overview.domain.repository.CustomerOverviewRepository;
+import com.gt.person.api.dto.PersonCreateRequest;
+import com.gt.person.application.service.PersonService;
+import com.gt.person.domain.entity.Gender;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 고객 요약이 outbox 이벤트로 원본과 같게 유지되는지, 재생성 / 정합성 검사가 누락과 불일치를 고치는지 확인하고,
+ * 원장 기록이 계속되는 동안 요약 조회 시간을 원본 조합 조회와 비교한다.
+ * (relay는 테스트에서 projector만 sink로 두고 직접 실행한다.)
+ */
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"outbox.sink=memory", "outbox.relay.enabled=false", "overview.batch-size=50"})
+class CustomerOverviewServiceTest {
+
+    /** 중복 검사 인덱스는 테스트 사이에 비워지지 않으므로 전화번호를 겹치지 않게 만든다. */
+    private static final AtomicLong PHONE = new AtomicLong(70_000_000L + new Random().nextInt(1_000_000));
+
+    @Autowired
+    private CustomerOverviewService customerOverviewService;
+
+    @Autowired
+    private CustomerOverviewRepository overviewRepository;
+
+    @Autowired
+    private CustomerOverviewProjector projector;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        tearDown();
+        OutboxProperties.Relay properties = new OutboxProperties.Relay();
+        properties.setBatchSize(500);
+        relay = new OutboxRelay(outboxRepository, List.of(projector), transactionManager, properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM customer_overview");
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        jdbcTemplate.update("DELETE FROM portfolio_balance_counter");
+        jdbcTemplate.update("DELETE FROM portfolio_daily_counter");
+        jdbcTemplate.update("DELETE FROM ledger_snapshot");
+        jdbcTemplate.update("DELETE FROM ledger_reversal");
+        jdbcTemplate.update("DELETE FROM ledger_posting_key");
+        jdbcTemplate.update("DELETE FROM ledger_entry");
+        jdbcTemplate.update("DELETE FROM loan");
+        jdbcTemplate.update("DELETE FROM person");
+    }
+
+    @Test
+    @DisplayName("고객 등록 / 대출 실행 / 상환 / 취소 이벤트를 반영한 요약은 원본에서 만든 요약과 같다")
+    void projectsEventsIncrementally() {
+        long personId = createPerson("요약고객");
+        long first = openLoan(personId, 1_000_000, "open-1");
+        long second = openLoan(personId, 500_000, "open-2");
+        ledgerService.post(first, List.of(posting(EntryType.REPAYMENT, 300_000L, "repay-1"), posting(EntryType.FEE, 5_000L, "fee-1")));
+        ledgerService.post(second, List.of(posting(EntryType.REPAYMENT, 500_000L, "repay-2")));
+        ledgerService.post(first, List.of(PostingRequest.builder().type(EntryType.REVERSAL).reversesSeq(3L).postingKey("reverse-1").build()));
+        drainAll();
+
+        CustomerOverviewResponse overview = customerOverviewService.getOverview(personId);
+        Assertions.assertThat(overview.getName()).isEqualTo("요약고객");
+        Assertions.assertThat(overview.getLoans()).hasSize(2);
+        Assertions.assertThat(overview.getActiveLoans()).isEqualTo(1);
+        Assertions.assertThat(overview.getOutstandingBalance()).isEqualTo(700_000);
+        Assertions.assertThat(overview.getLastPostedAt()).isNotNull();
+        Assertions.assertThat(overviewRepository.find(personId).orElseThrow()
+            .sameContent(overviewRepository.loadFromSource(List.of(personId)).get(personId))).isTrue();
+
+        OverviewCheckResponse check = customerOverviewService.check(false);
+        Assertions.assertThat(check.getChecked()).isEqualTo(1);
+        Assertions.assertThat(check.getMissing() + check.getMismatched()).isZero();
+    }
+
+    @Test
+    @DisplayName("재전달되거나 늦게 도착한 이벤트는 더 최근 잔액을 덮어쓰지 않는다")
+    void ignoresStaleEvents() {
+        long personId = createPerson("재전달");
+        long loanId = openLoan(personId, 1_000_000, "open-1");
+        ledgerService.post(loanId, List.of(posting(EntryType.REPAYMENT, 100_000L, "repay-1")));
+        drainAll();
+
+        String stale = "{\"loanId\":" + loanId + ",\"personId\":" + personId + ",\"balance\":1000000,\"lastSeq\":1,"
+            + "\"postedAt\":\"2025-01-01T00:00:00\"}";
+        projector.deliver(List.of(new OutboxEvent(Long.MAX_VALUE, 0, LoanPostedEvent.AGGREGATE_TYPE, String.valueOf(loanId),
+            LoanPostedEvent.EVENT_TYPE, stale, LocalDateTime.now())));
+
+        Assertions.assertThat(customerOverviewService.getOverview(personId).getOutstandingBalance()).isEqualTo(900_000);
+    }
+
+    @Test
+    @DisplayName("이벤트 반영 전에 조회하면 원본에서 만들고, 이후 이벤트는 그 행에 반영된다")
+    void buildsMissingRowOnRead() {
+        long personId = createPerson("조회생성");
+        openLoan(personId, 200_000, "open-1");
+
+        Assertions.assertThat(customerOverviewService.getOverview(personId).getOutstandingBalance()).isEqualTo(200_000);
+        Assertions.assertThat(customerOverviewService.getOverview(Long.MAX_VALUE)).isNull();
+
+        drainAll();
+        Assertions.assertThat(customerOverviewService.check(false).getMismatched()).isZero();
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 누락 / 불일치 행을 찾아 repair로 고치고, 재생성은 전체를 원본으로 맞춘다")
+    void checksAndRepairs() {
+        List<Long> personIds = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            long personId = createPerson("검사" + i);
+            openLoan(personId, 100_000 + i, "open-" + i);
+            personIds.add(personId);
+        }
+        drainAll();
+
+        // 누락 1건, 잔액이 틀린 행 1건
+        jdbcTemplate.update("DELETE FROM customer_overview WHERE person_id = ?", personIds.get(10));
+        CustomerOverview wrong = overviewRepository.find(personIds.get(70)).orElseThrow();
+        overviewRepository.save(new CustomerOverview(wrong.personId(), wrong.branchId(), wrong.name(), wrong.phone(), wrong.birth(),
+            wrong.gender(), wrong.address1(), List.of(), wrong.updatedAt()));
+
+        OverviewCheckResponse found = customerOverviewService.check(false);
+        Assertions.assertThat(found.getChecked()).isEqualTo(120);
+        Assertions.assertThat(found.getMissing()).isEqualTo(1);
+        Assertions.assertThat(found.getMismatched()).isEqualTo(1);
+        Assertions.assertThat(found.getSamples()).containsExactly(personIds.get(10), personIds.get(70));
+        Assertions.assertThat(found.getRepaired()).isZero();
+
+        Assertions.assertThat(customerOverviewService.check(true).getRepaired()).isEqualTo(2);
+        OverviewCheckResponse repaired = customerOverviewService.check(false);
+        Assertions.assertThat(repaired.getMissing() + repaired.getMismatched()).isZero();
+
+        jdbcTemplate.update("DELETE FROM customer_overview");
+        Assertions.assertThat(customerOverviewService.rebuild().getRebuilt()).isEqualTo(120);
+        Assertions.assertThat(customerOverviewService.check(false).getMissing()).isZero();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("원장 기록 중 고객 요약 조회 시간 (요약 행 vs 원본 조합)")
+    void readsUnderWriteLoad() throws Exception {
+        int customers = 2_000;
+        int loansPerCustomer = 3;
+        jdbcTemplate.batchUpdate("INSERT INTO person (name, phone, birth, gender, address1, created_date, last_modified_date) "
+                + "VALUES (?, ?, DATE '1990-01-01', 'M', '서울시', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+            IntStream.range(0, customers)
+                .mapToObj(i -> new Object[] {"부하" + i, String.format("0109%07d", i)}).toList());
+        long[] personIds = jdbcTemplate.queryForList("SELECT person_id FROM person ORDER BY person_id", Long.class)
+            .stream().mapToLong(Long::longValue).toArray();
+        List<Long> loanIds = new ArrayList<>();
+        for (long personId : personIds) {
+            for (int j = 0; j < loansPerCustomer; j++) {
+                loanIds.add(openLoan(personId, 10_000_000, "open-" + personId + "-" + j));
+            }
+        }
+        customerOverviewService.rebuild();
+        drainAll();
+
+        // 기록 스레드 + relay 스레드가 도는 동안 조회
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong posted = new AtomicLong();
+        Thread writer = new Thread(() -> {
+            Random random = new Random(3);
+            while (running.get()) {
+                long loanId = loanIds.get(random.nextInt(loanIds.size()));
+                ledgerService.post(loanId, List.of(posting(EntryType.REPAYMENT, 1L, "load-" + posted.incrementAndGet())));
+            }
+        }, "overview-writer");
+        Thread relayer = new Thread(() -> {
+            while (running.get()) {
+                if (relay.drainOnce() == 0) {
+                    Thread.onSpinWait();
+                }
+            }
+        }, "overview-relay");
+        writer.start();
+        relayer.start();
+
+        int reads = 5_000;
+        long[] overviewNanos = new long[reads];
+        long[] sourceNanos = new long[reads];
+        Random random = new Random(7);
+        try {
+            for (int i = 0; i < 500; i++) {
+                long personId = personIds[random.nextInt(personIds.length)];
+                customerOverviewService.getOverview(personId);
+                overviewRepository.loadFromSource(List.of(personId));
+            }
+            for (int i = 0; i < reads; i++) {
+                long personId = personIds[random.nextInt(personIds.length)];
+                long start = System.nanoTime();
+                customerOverviewService.getOverview(personId);
+                overviewNanos[i] = System.nanoTime() - start;
+                start = System.nanoTime();
+                overviewRepository.loadFromSource(List.of(personId));
+                sourceNanos[i] = System.nanoTime() - start;
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+            relayer.join();
+        }
+        drainAll();
+
+        Arrays.sort(overviewNanos);
+        Arrays.sort(sourceNanos);
+        log.info("overview read under load ({} customers x {} loans, {} postings): overview p50 = {}us, p99 = {}us / "
+                + "source p50 = {}us, p99 = {}us", customers, loansPerCustomer, posted.get(),
+            TimeUnit.NANOSECONDS.toMicros(overviewNanos[reads / 2]), TimeUnit.NANOSECONDS.toMicros(overviewNanos[reads * 99 / 100]),
+            TimeUnit.NANOSECONDS.toMicros(sourceNanos[reads / 2]), TimeUnit.NANOSECONDS.toMicros(sourceNanos[reads * 99 / 100]));
+
+        Assertions.assertThat(overviewNanos[reads * 99 / 100]).isLessThan(TimeUnit.MILLISECONDS.toNanos(10));
+        OverviewCheckResponse check = customerOverviewService.check(false);
+        Assertions.assertThat(check.getMissing() + check.getMismatched()).isZero();
+    }
+
+    private long createPerson(String name) {
+        PersonCreateRequest request = new PersonCreateRequest();
+        request.setName(name);
+        request.setPhone("010" + PHONE.incrementAndGet());
+        request.setBirth(LocalDate.of(1990, 1, 1));
+        request.setGender(Gender.FEMALE);
+        request.setAddress1("서울시");
+        return personService.createPerson(request).getId();
+    }
+
+    private long openLoan(long personId, long principal, String key) {
+        return ledgerService.openLoan(new LoanOpenRequest(personId, principal, key)).getLoanId();
+    }
+
+    private static PostingRequest posting(EntryType type, Long amount, String key) {
+        return PostingRequest.builder().type(type).amount(amount).postingKey(key).build();
+    }
+
+    /**
+     * 잠글 partition이 없어 0이 나올 수 있으므로 대기 이벤트가 남아 있는 동안 반복
+     */
+    private void drainAll() {
+        while (relay.drainOnce() > 0 || pending() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private long pending() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event WHERE published_at IS NULL", Long.class);
+    }
+}
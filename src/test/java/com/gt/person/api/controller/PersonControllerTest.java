@@ -4,6 +4,8 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.LocalDate;
+
 import org.assertj.core.api.Assertions;
 
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
@@ -15,7 +17,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 
 import com.gt.config.RestDocsTestSupport;
+import com.gt.global.common.tenant.TenantContext;
 import com.gt.person.api.dto.PersonCreateRequest;
+import com.gt.person.application.duplicate.DuplicateKeys;
+import com.gt.person.domain.entity.Gender;
 import com.gt.person.domain.entity.Person;
 import com.gt.person.domain.repository.PersonRepository;
 
@@ -33,9 +38,9 @@ public class PersonControllerTest extends RestDocsTestSupport {
         // given
         PersonCreateRequest request = new PersonCreateRequest();
         request.setName("John Doe");
-        request.setGender("Male");
+        request.setGender(Gender.MALE);
         request.setPhone("1234567890");
-        request.setBirth("1990-01-01");
+        request.setBirth(LocalDate.of(1990, 1, 1));
         request.setAddress1("123 Main St");
         request.setAddress2("Apt 4B");
         // when & then
@@ -55,9 +60,9 @@ public class PersonControllerTest extends RestDocsTestSupport {
         // given
         PersonCreateRequest request = new PersonCreateRequest();
         request.setName("");
-        request.setGender("Male");
+        request.setGender(Gender.MALE);
         request.setPhone("1234567890");
-        request.setBirth("1990-01-01");
+        request.setBirth(LocalDate.of(1990, 1, 1));
         request.setAddress1("123 Main St");
         request.setAddress2("Apt 4B");
 
@@ -67,6 +72,14 @@ public class PersonControllerTest extends RestDocsTestSupport {
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isBadRequest()) // 400 에러 예상
             .andDo(print());
+
+        // 정규형(숫자만)이 전화번호 컬럼 길이(15자리)를 넘는 경우
+        request.setName("홍길동");
+        request.setPhone("+1 (234) 567-8901-2345");
+        this.mockMvc.perform(post("/api/person/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isBadRequest());
     }
      
     @Test
@@ -75,9 +88,9 @@ public class PersonControllerTest extends RestDocsTestSupport {
         // given
         PersonCreateRequest request = new PersonCreateRequest();
         request.setName("John Doe");
-        request.setGender("Male");
+        request.setGender(Gender.MALE);
         request.setPhone("1234567890");
-        request.setBirth("1990-01-01");
+        request.setBirth(LocalDate.of(1990, 1, 1));
         request.setAddress1("123 Main St");
         request.setAddress2("Apt 4B");
 
@@ -94,22 +107,82 @@ public class PersonControllerTest extends RestDocsTestSupport {
         Assertions.assertThat(person.getLastModifiedDate()).isNotNull();
 
         // 더티체킹
-        person.setGender("Female");
+        person.setGender(Gender.FEMALE);
         Person findPerson = personRepository.findByName(request.getName()).get();
 
         Assertions.assertThat(person.getLastModifiedDate()).isAfter(findPerson.getCreatedDate());
     }   
 
 
+    @Test
+    @Tag("integration")
+    void duplicatePersonTest() throws Exception {
+        // given
+        PersonCreateRequest request = new PersonCreateRequest();
+        request.setName("Jane Roe");
+        request.setGender(Gender.FEMALE);
+        request.setPhone("010-7777-8888");
+        request.setBirth(LocalDate.of(1985, 5, 5));
+        request.setAddress1("456 Side St");
+
+        this.mockMvc.perform(post("/api/person/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated());
+
+        // when & then: 형식만 다른 같은 고객은 거절
+        request.setName("JANE  ROE");
+        request.setPhone("+82 10 7777 8888");
+        this.mockMvc.perform(post("/api/person/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.success").value(false))
+            .andExpect(jsonPath("$.data").exists());
+
+        // 전화번호만 같으면 등록하되 중복 의심 표시
+        request.setName("Jane Doe");
+        request.setBirth(LocalDate.of(1999, 9, 9));
+        this.mockMvc.perform(post("/api/person/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andExpect(header().exists(PersonController.DUPLICATE_OF_HEADER));
+    }
+
+    @Test
+    @Tag("integration")
+    void duplicatePersonFromOtherNodeTest() throws Exception {
+        // given: 다른 노드에서 등록되어 이 노드의 중복 검사 인덱스에는 없는 고객
+        LocalDate birth = LocalDate.of(1977, 7, 7);
+        Person other = Person.builder().name("Other Node").phone("010-3333-4444").birth(birth).gender(Gender.MALE).build();
+        other.setDuplicateKey(DuplicateKeys.of("Other Node", "010-3333-4444", birth).forBranch(TenantContext.DEFAULT_BRANCH_ID).full());
+        personRepository.saveAndFlush(other);
+
+        PersonCreateRequest request = new PersonCreateRequest();
+        request.setName("Other Node");
+        request.setGender(Gender.MALE);
+        request.setPhone("010-3333-4444");
+        request.setBirth(birth);
+        request.setAddress1("789 Far St");
+
+        // when & then: duplicate_key 고유 인덱스로 거절
+        this.mockMvc.perform(post("/api/person/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     @Tag("restdocs")
     void createPerson() throws Exception {
         // given
         PersonCreateRequest request = new PersonCreateRequest();
         request.setName("John Doe");
-        request.setGender("Male");
+        request.setGender(Gender.MALE);
         request.setPhone("1234567890");
-        request.setBirth("1990-01-01");
+        request.setBirth(LocalDate.of(1990, 1, 1));
         request.setAddress1("123 Main St");
         request.setAddress2("Apt 4B");
 
@@ -124,9 +197,9 @@ public class PersonControllerTest extends RestDocsTestSupport {
             .andDo(document("{class-name}/{method-name}",
                 requestFields(
                     fieldWithPath("name").description("이름"),
-                    fieldWithPath("gender").description("성별"),
-                    fieldWithPath("phone").description("전화번호"),
-                    fieldWithPath("birth").description("생년월일"),
+                    fieldWithPath("gender").description("성별 (M: 남성, F: 여성, U: 미상)"),
+                    fieldWithPath("phone").description("전화번호 (숫자만 남겨 저장)"),
+                    fieldWithPath("birth").description("생년월일 (yyyy-MM-dd)"),
                     fieldWithPath("address1").description("주소1"),
                     fieldWithPath("address2").description("주소2")
                 ),
@@ -0,0 +1,288 @@
+package com.gt.person.api.controller;
+
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
+import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.gt.config.RestDocsTestSupport;
+import com.gt.person.domain.entity.Gender;
+import com.gt.person.domain.entity.Person;
+import com.gt.person.domain.repository.PersonRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PersonQueryControllerTest extends RestDocsTestSupport {
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @Tag("restdocs")
+    void getPerson() throws Exception {
+        Person person = save("John Doe", "01012345678");
+
+        this.mockMvc.perform(get("/api/person/{personId}", person.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(jsonPath("$.data.id").value(person.getId()))
+            .andDo(document("{class-name}/{method-name}",
+                pathParameters(
+                    parameterWithName("personId").description("고객 ID")
+                ),
+                responseHeaders(
+                    headerWithName(HttpHeaders.ETAG).description("고객 버전 (다음 요청의 If-None-Match로 보낸다)"),
+                    headerWithName(HttpHeaders.CACHE_CONTROL).description("no-cache, private (매번 재검증, 공유 캐시 저장 금지)")
+                ),
+                responseFields(
+                    fieldWithPath("success").description("성공 여부"),
+                    fieldWithPath("message").description("응답 메시지"),
+                    fieldWithPath("data.id").description("고객 ID"),
+                    fieldWithPath("data.name").description("이름"),
+                    fieldWithPath("data.phone").description("전화번호"),
+                    fieldWithPath("data.birth").description("생년월일"),
+                    fieldWithPath("data.gender").description("성별 (M / F / U)"),
+                    fieldWithPath("data.address1").description("주소1"),
+                    fieldWithPath("data.address2").type(JsonFieldType.STRING).optional().description("주소2"),
+                    fieldWithPath("data.duplicateOf").type(JsonFieldType.NUMBER).optional().description("중복 의심 고객 ID"),
+                    fieldWithPath("data.createdDate").description("등록 시각"),
+                    fieldWithPath("data.lastModifiedDate").description("수정 시각")
+                )
+            ));
+    }
+
+    @Test
+    @Tag("restdocs")
+    void getPersonNotModified() throws Exception {
+        Person person = save("John Doe", "01012345678");
+        String etag = this.mockMvc.perform(get("/api/person/{personId}", person.getId()))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        this.mockMvc.perform(get("/api/person/{personId}", person.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().bytes(new byte[0]))
+            .andDo(document("{class-name}/{method-name}",
+                requestHeaders(
+                    headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답의 ETag")
+                )
+            ));
+    }
+
+    @Test
+    @Tag("restdocs")
+    void getPersons() throws Exception {
+        Person first = save("John Doe", "01012345678");
+        save("Jane Roe", "01087654321");
+
+        this.mockMvc.perform(get("/api/person").param("afterId", String.valueOf(first.getId() - 1)).param("size", "50"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.data.content.length()").value(2))
+            .andDo(document("{class-name}/{method-name}",
+                queryParameters(
+                    parameterWithName("afterId").description("이전 페이지의 nextAfterId (첫 페이지는 0)"),
+                    parameterWithName("size").description("페이지 크기 (최대 500)")
+                ),
+                responseFields(
+                    fieldWithPath("success").description("성공 여부"),
+                    fieldWithPath("message").description("응답 메시지"),
+                    fieldWithPath("data.content[].id").description("고객 ID"),
+                    fieldWithPath("data.content[].name").description("이름"),
+                    fieldWithPath("data.content[].birth").description("생년월일"),
+                    fieldWithPath("data.content[].gender").description("성별 (M / F / U)"),
+                    fieldWithPath("data.nextAfterId").type(JsonFieldType.NUMBER).optional().description("다음 페이지 afterId (마지막 페이지면 null)")
+                )
+            ));
+    }
+
+    @Test
+    @Tag("restdocs")
+    @DisplayName("영속성 컨텍스트와 2차 캐시에 없는 고객도 DB에서 읽어 상세 / 목록으로 응답한다")
+    void readsPersonFromDatabase() throws Exception {
+        Person first = save("John Doe", "01012345678");
+        save("Jane Roe", "01087654321");
+        detach();
+
+        this.mockMvc.perform(get("/api/person/{personId}", first.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.name").value("John Doe"));
+        // 두 번째 조회는 2차 캐시에서 읽는다.
+        entityManager.clear();
+        this.mockMvc.perform(get("/api/person/{personId}", first.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.name").value("John Doe"));
+
+        detach();
+        this.mockMvc.perform(get("/api/person").param("afterId", String.valueOf(first.getId() - 1)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content.length()").value(2))
+            .andExpect(jsonPath("$.data.content[1].name").value("Jane Roe"));
+    }
+
+    @Test
+    @Tag("restdocs")
+    @DisplayName("출생 코호트 페이지는 DB에서 읽은 고객으로 응답한다")
+    void readsCohortFromDatabase() throws Exception {
+        save("John Doe", "01012345678");
+        save("Jane Roe", "01087654321");
+        detach();
+
+        this.mockMvc.perform(get("/api/person/cohort")
+                .param("bornFrom", "1990-01-01")
+                .param("bornTo", "1990-01-02")
+                .param("gender", "M")
+                .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content.length()").value(1))
+            .andExpect(jsonPath("$.data.content[0].birth").value("1990-01-01"))
+            .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
+    @Test
+    @Tag("integration")
+    @DisplayName("고객이 수정되면 이전 ETag로는 304가 아니라 새 본문과 새 ETag를 받는다")
+    void changesETagWhenModified() throws Exception {
+        Person person = save("John Doe", "01012345678");
+        String personETag = etag(get("/api/person/{personId}", person.getId()));
+        String afterId = String.valueOf(person.getId() - 1);
+        String pageETag = etag(get("/api/person").param("afterId", afterId));
+
+        person.setAddress1("부산시");
+        personRepository.flush();
+
+        MvcResult changed = this.mockMvc.perform(get("/api/person/{personId}", person.getId()).header(HttpHeaders.IF_NONE_MATCH, personETag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.address1").value("부산시"))
+            .andReturn();
+        Assertions.assertThat(changed.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(personETag);
+        this.mockMvc.perform(get("/api/person").param("afterId", afterId).header(HttpHeaders.IF_NONE_MATCH, pageETag))
+            .andExpect(status().isOk());
+
+        // 새 고객이 페이지에 들어와도 목록 ETag가 바뀐다.
+        String currentPageETag = etag(get("/api/person").param("afterId", afterId));
+        this.mockMvc.perform(get("/api/person").param("afterId", afterId).header(HttpHeaders.IF_NONE_MATCH, currentPageETag))
+            .andExpect(status().isNotModified());
+        save("Jane Roe", "01087654321");
+        this.mockMvc.perform(get("/api/person").param("afterId", afterId).header(HttpHeaders.IF_NONE_MATCH, currentPageETag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content.length()").value(2));
+
+        this.mockMvc.perform(get("/api/person/{personId}", Long.MAX_VALUE).header(HttpHeaders.IF_NONE_MATCH, personETag))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Tag("integration")
+    @DisplayName("연령대 구간은 1년 이상, 최대 나이는 150세 이하, 구간 수는 30개 이하만 허용한다")
+    void rejectsUnboundedAgeBands() throws Exception {
+        this.mockMvc.perform(get("/api/person/age-bands").param("band", "0"))
+            .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/person/age-bands").param("maxAge", "100000"))
+            .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/person/age-bands").param("band", "1").param("maxAge", "100"))
+            .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/api/person/age-bands").param("band", "5").param("maxAge", "150"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.length()").value(30));
+    }
+
+    @Test
+    @Tag("integration")
+    @Tag("benchmark")
+    @DisplayName("반복 조회 시 조건부 요청의 응답 크기와 지연 시간")
+    void compareRepeatReads() throws Exception {
+        // 문서 조각을 남기지 않도록 restDocs 없이 구성
+        MockMvc plain = MockMvcBuilders.webAppContextSetup(context).build();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(save("고객" + i, String.format("010%08d", i)));
+        }
+        Person person = persons.get(0);
+        String afterId = String.valueOf(person.getId() - 1);
+        String personETag = plain.perform(get("/api/person/{personId}", person.getId())).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String pageETag = plain.perform(get("/api/person").param("afterId", afterId).param("size", "200")).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        int repeats = 500;
+        long[] fullPerson = repeat(plain, get("/api/person/{personId}", person.getId()), repeats, 200);
+        long[] cachedPerson = repeat(plain, get("/api/person/{personId}", person.getId()).header(HttpHeaders.IF_NONE_MATCH, personETag), repeats, 304);
+        long[] fullPage = repeat(plain, get("/api/person").param("afterId", afterId).param("size", "200"), repeats, 200);
+        long[] cachedPage = repeat(plain, get("/api/person").param("afterId", afterId).param("size", "200").header(HttpHeaders.IF_NONE_MATCH, pageETag), repeats, 304);
+
+        log.info("person detail x{}: full = {} bytes / {}us, If-None-Match = {} bytes / {}us",
+            repeats, fullPerson[0], fullPerson[1] / repeats / 1_000, cachedPerson[0], cachedPerson[1] / repeats / 1_000);
+        log.info("person page(200) x{}: full = {} bytes / {}us, If-None-Match = {} bytes / {}us",
+            repeats, fullPage[0], fullPage[1] / repeats / 1_000, cachedPage[0], cachedPage[1] / repeats / 1_000);
+
+        Assertions.assertThat(cachedPerson[0]).isZero();
+        Assertions.assertThat(cachedPage[0]).isZero();
+        Assertions.assertThat(cachedPage[1]).isLessThan(fullPage[1]);
+    }
+
+    /**
+     * 워밍업 후 repeats회 호출
+     * @return [본문 바이트 합계, 경과 나노초]
+     */
+    private static long[] repeat(MockMvc mockMvc, MockHttpServletRequestBuilder request, int repeats, int expectedStatus) throws Exception {
+        for (int i = 0; i < 50; i++) {
+            mockMvc.perform(request);
+        }
+        long bytes = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < repeats; i++) {
+            MvcResult result = mockMvc.perform(request).andExpect(status().is(expectedStatus)).andReturn();
+            bytes += result.getResponse().getContentAsByteArray().length;
+        }
+        return new long[] {bytes, System.nanoTime() - start};
+    }
+
+    private String etag(MockHttpServletRequestBuilder request) throws Exception {
+        return this.mockMvc.perform(request).andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    /**
+     * 저장한 고객을 영속성 컨텍스트와 2차 캐시에서 내려 다음 조회가 DB에서 엔티티를 만들게 한다.
+     */
+    private void detach() {
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    private Person save(String name, String phone) {
+        return personRepository.saveAndFlush(Person.builder()
+            .name(name)
+            .phone(phone)
+            .birth(LocalDate.of(1990, 1, 1))
+            .gender(Gender.MALE)
+            .address1("서울시")
+            .build());
+    }
+}
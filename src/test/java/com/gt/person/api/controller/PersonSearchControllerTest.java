@@ -0,0 +1,61 @@
+package com.gt.person.api.controller;
+
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+import com.gt.config.RestDocsTestSupport;
+import com.gt.person.application.service.PersonSearchService;
+import com.gt.person.domain.entity.Gender;
+import com.gt.person.domain.entity.Person;
+import com.gt.person.domain.repository.PersonRepository;
+
+import jakarta.persistence.EntityManager;
+
+public class PersonSearchControllerTest extends RestDocsTestSupport {
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PersonSearchService personSearchService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterTransaction
+    void tearDown() {
+        // 롤백된 고객이 인덱스에 남지 않도록 커밋된 데이터로 다시 만든다.
+        personSearchService.rebuild();
+    }
+
+    @Test
+    @Tag("restdocs")
+    @DisplayName("검색 결과는 인덱스의 고객 ID로 DB에서 읽은 고객 정보로 응답한다")
+    void searchReadsPersonsFromDatabase() throws Exception {
+        Person person = personRepository.saveAndFlush(Person.builder()
+            .name("을지문덕")
+            .phone("010-7777-1234")
+            .birth(LocalDate.of(1990, 1, 1))
+            .gender(Gender.MALE)
+            .address1("평양시")
+            .build());
+        // 커밋 후 반영 이벤트는 테스트 트랜잭션에서 오지 않으므로 같은 트랜잭션에서 인덱스를 다시 만든다.
+        personSearchService.rebuild();
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+
+        this.mockMvc.perform(get("/api/person/search").param("q", "지문덕"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].id").value(person.getId()))
+            .andExpect(jsonPath("$.data[0].name").value("을지문덕"))
+            .andExpect(jsonPath("$.data[0].phone").value("01077771234"));
+    }
+}
@@ -0,0 +1,146 @@
+package com.gt.person.application.duplicate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+class PersonDuplicateDetectorTest {
+
+    private PersonDuplicateDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new PersonDuplicateDetector(null, new SimpleMeterRegistry(), 16, 1000);
+        detector.register(DuplicateKeys.of("홍길동", "010-1234-5678", LocalDate.of(1990, 1, 1)), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("전화번호 형식과 이름 공백/대소문자가 달라도 같은 키가 된다")
+    void normalizesPhoneAndName() {
+        DuplicateKeys expected = DuplicateKeys.of("홍길동", "01012345678", LocalDate.of(1990, 1, 1));
+
+        Assertions.assertThat(DuplicateKeys.of("홍 길동", "+82 10-1234-5678", LocalDate.of(1990, 1, 1))).isEqualTo(expected);
+        Assertions.assertThat(DuplicateKeys.of(" 홍길동 ", "010 1234 5678", LocalDate.of(1990, 1, 1))).isEqualTo(expected);
+        Assertions.assertThat(DuplicateKeys.of("John Doe", "1", LocalDate.of(2000, 1, 1)).full())
+            .isEqualTo(DuplicateKeys.of("JOHN-DOE", "1", LocalDate.of(2000, 1, 1)).full());
+    }
+
+    @Test
+    @DisplayName("이름+생년월일+전화번호가 같으면 거절, 일부만 같으면 중복 의심")
+    void classifiesMatches() {
+        Assertions.assertThat(check("홍 길동", "010.1234.5678", LocalDate.of(1990, 1, 1)))
+            .isEqualTo(new DuplicateCheck(DuplicateCheck.Result.CLEAR, 1L));
+        Assertions.assertThat(check("홍길순", "010-1234-5678", LocalDate.of(1992, 3, 4)))
+            .isEqualTo(new DuplicateCheck(DuplicateCheck.Result.LIKELY, 1L));
+        Assertions.assertThat(check("홍길동", "010-9999-0000", LocalDate.of(1990, 1, 1)))
+            .isEqualTo(new DuplicateCheck(DuplicateCheck.Result.LIKELY, 1L));
+        Assertions.assertThat(check("이순신", "010-5555-6666", LocalDate.of(1545, 4, 28))).isEqualTo(DuplicateCheck.NONE);
+    }
+
+    @Test
+    @DisplayName("등록 중인 고객과 같은 요청은 거절되고, 롤백되면 다시 등록할 수 있다")
+    void reservationIsBoundToTransaction() {
+        DuplicateKeys keys = DuplicateKeys.of("이순신", "010-5555-6666", LocalDate.of(1545, 4, 28));
+
+        TransactionSynchronizationManager.initSynchronization();
+        PersonDuplicateDetector.Reservation first = detector.reserve(keys);
+        Assertions.assertThat(first.isRejected()).isFalse();
+        first.bind(2);
+
+        // 커밋 전: 같은 고객의 동시 등록은 거절 (기존 ID는 아직 없음)
+        Assertions.assertThat(detector.reserve(keys).check())
+            .isEqualTo(new DuplicateCheck(DuplicateCheck.Result.CLEAR, null));
+
+        // 롤백
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+        Assertions.assertThat(check("이순신", "010-5555-6666", LocalDate.of(1545, 4, 28))).isEqualTo(DuplicateCheck.NONE);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 등록한 고객으로 저장이 거절되면 롤백 후에도 이후 요청을 거절한다")
+    void keepsKeyRegisteredElsewhere() {
+        DuplicateKeys keys = DuplicateKeys.of("이순신", "010-5555-6666", LocalDate.of(1545, 4, 28));
+
+        TransactionSynchronizationManager.initSynchronization();
+        PersonDuplicateDetector.Reservation reservation = detector.reserve(keys);
+        Assertions.assertThat(reservation.check()).isEqualTo(DuplicateCheck.NONE);
+        reservation.markRegisteredElsewhere();
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        Assertions.assertThat(check("이순신", "010-5555-6666", LocalDate.of(1545, 4, 28)))
+            .isEqualTo(new DuplicateCheck(DuplicateCheck.Result.CLEAR, null));
+    }
+
+    private DuplicateCheck check(String name, String phone, LocalDate birth) {
+        // 트랜잭션 밖에서는 bind하지 않으면 선점만 남으므로 바로 해제
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            return detector.reserve(DuplicateKeys.of(name, phone, birth)).check();
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("100만 건 로딩 후 검사 지연")
+    void measureCheckLatency() {
+        int customers = 1_000_000;
+        PersonDuplicateDetector large = new PersonDuplicateDetector(null, new SimpleMeterRegistry(), customers, 1000);
+
+        long start = System.nanoTime();
+        for (int id = 1; id <= customers; id++) {
+            large.register(DuplicateKeys.of("고객" + id, String.format("010%08d", id), LocalDate.of(1980, 1, 1)), id);
+        }
+        long loadMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        int checks = 100_000;
+        long[] latencies = new long[checks];
+        int clear = 0;
+        for (int i = 0; i < checks; i++) {
+            int id = (i * 7919) % customers + 1;
+            // 절반은 기존 고객과 같은 요청(전화번호 형식만 다름), 절반은 신규
+            String phone = i % 2 == 0 ? String.format("010-%04d-%04d", id / 10_000, id % 10_000) : String.format("011%08d", id);
+            long checkStart = System.nanoTime();
+            PersonDuplicateDetector.Reservation reservation = large.reserve(DuplicateKeys.of("고객" + id, phone, LocalDate.of(1980, 1, 1)));
+            latencies[i] = System.nanoTime() - checkStart;
+            if (reservation.isRejected()) {
+                clear++;
+            }
+        }
+        Arrays.sort(latencies);
+        long p50 = TimeUnit.NANOSECONDS.toMicros(latencies[checks / 2]);
+        long p99 = TimeUnit.NANOSECONDS.toMicros(latencies[checks * 99 / 100]);
+        log.info("customers = {}, load = {}ms, checks = {}, rejected = {}, p50 = {}us, p99 = {}us",
+            customers, loadMillis, checks, clear, p50, p99);
+
+        Assertions.assertThat(clear).isEqualTo(checks / 2);
+        Assertions.assertThat(p99).isLessThan(1_000L);
+    }
+}
@@ -0,0 +1,94 @@
+package com.gt.person.application.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.person.application.export.ExportFormat;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest
+class PersonExportServiceTest {
+
+    private static final int ROWS = 20_000;
+
+    @Autowired
+    private PersonExportService personExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        rows.add(new Object[] {"Doe, \"JJ\"", "010-0000-0000", "주소\n2줄"});
+        for (int i = 1; i < ROWS; i++) {
+            rows.add(new Object[] {"고객" + i, "010-1234-" + String.format("%04d", i % 10_000), "서울시 " + i});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO person (name, phone, address1, created_date, last_modified_date) "
+                + "VALUES (?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM person");
+    }
+
+    @Test
+    @DisplayName("CSV export는 모든 행을 쓰고 구분자/따옴표/개행을 escape 한다")
+    void exportsCsv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long start = System.nanoTime();
+        long rows = personExportService.exportAll(ExportFormat.CSV, TenantScope.all(), out);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        log.info("csv: rows = {}, bytes = {}, elapsed = {}ms", rows, out.size(), elapsedMs);
+
+        Assertions.assertThat(rows).isEqualTo(ROWS);
+        Assertions.assertThat(csv).startsWith("\uFEFFperson_id,name,phone,birth,gender");
+        Assertions.assertThat(csv).contains(",\"Doe, \"\"JJ\"\"\",010-0000-0000,,,\"주소\n2줄\",");
+        // 헤더 + 데이터 행, 각 행은 CRLF로 끝난다.
+        Assertions.assertThat(csv.split("\r\n", -1)).hasSize(ROWS + 2);
+    }
+
+    @Test
+    @DisplayName("NDJSON export는 한 줄에 고객 한 명씩 쓴다")
+    void exportsNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = personExportService.exportAll(ExportFormat.NDJSON, TenantScope.all(), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        Assertions.assertThat(rows).isEqualTo(ROWS);
+        Assertions.assertThat(lines).hasSize(ROWS);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        Assertions.assertThat(first.get("name").asText()).isEqualTo("Doe, \"JJ\"");
+        Assertions.assertThat(first.get("birth").isNull()).isTrue();
+        Assertions.assertThat(first.get("created_date").asText()).isNotBlank();
+    }
+}
@@ -0,0 +1,168 @@
+package com.gt.person.application.service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gt.person.api.dto.AgeBandResponse;
+import com.gt.person.api.dto.PersonSummaryResponse;
+import com.gt.person.domain.entity.Gender;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 연령대 / 코호트 조회 결과를 확인하고, 문자열 컬럼(변경 전)과 타입 컬럼(변경 후)의 저장 크기와 조회 시간을 비교한다.
+ */
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest
+class PersonQueryServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2025, 6, 15);
+
+    @Autowired
+    private PersonQueryService personQueryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Object[]> rows = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM person");
+        rows.clear();
+        Random random = new Random(11);
+        for (int i = 0; i < 5_000; i++) {
+            LocalDate birth = AS_OF.minusDays(random.nextInt(90 * 365));
+            String gender = random.nextInt(20) == 0 ? "U" : random.nextBoolean() ? "M" : "F";
+            rows.add(new Object[] {"고객" + i, String.format("010%08d", i), Date.valueOf(birth), gender});
+        }
+        insertTyped(rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM person");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS person_legacy");
+    }
+
+    @Test
+    @DisplayName("연령대별 성별 집계는 만 나이 기준으로 나눈 결과와 같다")
+    void countsByAgeBand() {
+        List<AgeBandResponse> bands = personQueryService.countByAgeBand(AS_OF, 10, 80);
+
+        Assertions.assertThat(bands).hasSize(8);
+        for (AgeBandResponse band : bands) {
+            long male = 0;
+            long total = 0;
+            for (Object[] row : rows) {
+                int age = Period.between(((Date) row[2]).toLocalDate(), AS_OF).getYears();
+                if (age >= band.getFromAge() && age < band.getToAge()) {
+                    total++;
+                    male += "M".equals(row[3]) ? 1 : 0;
+                }
+            }
+            Assertions.assertThat(band.getTotal()).as("%d-%d", band.getFromAge(), band.getToAge()).isEqualTo(total);
+            Assertions.assertThat(band.getMale()).isEqualTo(male);
+        }
+        Assertions.assertThat(bands.stream().mapToLong(AgeBandResponse::getTotal).sum()).isEqualTo(rows.size());
+    }
+
+    @Test
+    @DisplayName("코호트 조회는 출생일 범위와 성별로 거르고 출생일 순으로 반환한다")
+    void findsCohort() {
+        LocalDate from = LocalDate.of(1990, 1, 1);
+        LocalDate to = LocalDate.of(2000, 1, 1);
+        long expected = rows.stream()
+            .filter(row -> "F".equals(row[3]))
+            .map(row -> ((Date) row[2]).toLocalDate())
+            .filter(birth -> !birth.isBefore(from) && birth.isBefore(to))
+            .count();
+
+        Slice<PersonSummaryResponse> all = personQueryService.findCohort(from, to, Gender.FEMALE, PageRequest.of(0, 10_000));
+
+        Assertions.assertThat(all.getContent()).hasSize((int) expected);
+        Assertions.assertThat(all.getContent()).allSatisfy(person -> Assertions.assertThat(person.getGender()).isEqualTo(Gender.FEMALE));
+        Assertions.assertThat(all.getContent()).isSortedAccordingTo((a, b) -> a.getBirth().compareTo(b.getBirth()));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("문자열 컬럼 대비 타입 컬럼의 저장 크기와 연령대 조회 시간")
+    void compareLegacyAndTypedColumns() {
+        int customers = 200_000;
+        jdbcTemplate.update("DELETE FROM person");
+        List<Object[]> large = new ArrayList<>(customers);
+        List<Object[]> legacy = new ArrayList<>(customers);
+        Random random = new Random(5);
+        for (int i = 0; i < customers; i++) {
+            LocalDate birth = AS_OF.minusDays(random.nextInt(90 * 365));
+            boolean male = random.nextBoolean();
+            large.add(new Object[] {"고객" + i, String.format("010%08d", i), Date.valueOf(birth), male ? "M" : "F"});
+            // 변경 전 데이터 형태: 형식이 섞인 전화번호, 문자열 생년월일/성별
+            legacy.add(new Object[] {"고객" + i, String.format("010-%04d-%04d", i / 10_000, i % 10_000), birth.toString(), male ? "Male" : "Female"});
+        }
+        insertTyped(large);
+        jdbcTemplate.execute("""
+            CREATE TABLE person_legacy (person_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                name VARCHAR(255), phone VARCHAR(255), birth VARCHAR(255), gender VARCHAR(255))
+            """);
+        jdbcTemplate.execute("CREATE INDEX idx_person_legacy_birth ON person_legacy (birth)");
+        jdbcTemplate.batchUpdate("INSERT INTO person_legacy (name, phone, birth, gender) VALUES (?, ?, ?, ?)", legacy);
+
+        Double legacyBytes = jdbcTemplate.queryForObject(
+            "SELECT AVG(OCTET_LENGTH(phone) + OCTET_LENGTH(birth) + OCTET_LENGTH(gender)) FROM person_legacy", Double.class);
+        // DATE 4바이트 + 성별 코드 1바이트 + 정규형 전화번호
+        Double typedBytes = jdbcTemplate.queryForObject("SELECT AVG(OCTET_LENGTH(phone) + 4 + 1) FROM person", Double.class);
+
+        // 변경 전: 문자열을 날짜로 바꿔 비교해야 하므로 birth 인덱스를 쓰지 못한다.
+        String legacySql = "SELECT gender, COUNT(*) FROM person_legacy "
+            + "WHERE CAST(birth AS DATE) >= ? AND CAST(birth AS DATE) < ? GROUP BY gender";
+        long legacyNanos = time(() -> {
+            for (int fromAge = 0; fromAge < 80; fromAge += 10) {
+                jdbcTemplate.queryForList(legacySql, Date.valueOf(AS_OF.minusYears(fromAge + 10).plusDays(1)),
+                    Date.valueOf(AS_OF.minusYears(fromAge).plusDays(1)));
+            }
+        });
+        long typedNanos = time(() -> personQueryService.countByAgeBand(AS_OF, 10, 80));
+
+        log.info("customers = {}, column bytes/row: legacy = {}, typed = {}", customers, legacyBytes, typedBytes);
+        log.info("age bands (8 ranges): legacy = {}ms, typed = {}ms", legacyNanos / 1_000_000, typedNanos / 1_000_000);
+
+        Assertions.assertThat(typedBytes).isLessThan(legacyBytes);
+        Assertions.assertThat(typedNanos).isLessThan(legacyNanos);
+    }
+
+    /** 워밍업 1회 후 3회 평균 */
+    private static long time(Runnable action) {
+        action.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            action.run();
+        }
+        return (System.nanoTime() - start) / 3;
+    }
+
+    private void insertTyped(List<Object[]> values) {
+        jdbcTemplate.batchUpdate("INSERT INTO person (name, phone, birth, gender, address1, created_date, last_modified_date) "
+            + "VALUES (?, ?, ?, ?, '서울시', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", values);
+    }
+}
@@ -0,0 +1,162 @@
+package com.gt.person.infra.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 부분 이름 / 영문 표기 / 부분 전화번호 / 오타 검색 결과 순위와 증분 반영을 확인하고,
+ * 100만 건 기준 인덱싱 처리량과 검색 지연을 측정한다.
+ */
+@Slf4j
+class PersonSearchIndexTest {
+
+    private static final double MIN_SIMILARITY = 0.4;
+
+    private PersonSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PersonSearchIndex(16);
+        index.upsert(1, "홍길동", "010-1234-5678", "서울시 강남구 테헤란로 1");
+        index.upsert(2, "홍길순", "010-2222-3333", "부산시 해운대구 우동 2");
+        index.upsert(3, "이순신", "010-9876-5432", "서울시 종로구 세종대로 3");
+        index.upsert(4, "박지성", "010-5555-5678", "경기도 수원시 팔달구 4");
+    }
+
+    @Test
+    @DisplayName("한글 이름은 음절 단위 로마자로 변환된다")
+    void romanizesHangul() {
+        Assertions.assertThat(HangulRomanizer.romanize("홍길동")).isEqualTo("honggildong");
+        Assertions.assertThat(HangulRomanizer.romanize("서울시 강남구")).isEqualTo("seoulsi gangnamgu");
+        Assertions.assertThat(HangulRomanizer.romanize("Hong Gil-dong")).isEqualTo("hong gil dong");
+    }
+
+    @Test
+    @DisplayName("부분 이름으로 검색하면 해당 고객이 가장 먼저 나온다")
+    void findsByPartialName() {
+        Assertions.assertThat(personIds("길동")).first().isEqualTo(1L);
+        Assertions.assertThat(personIds("순신")).first().isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("영문 표기 이름으로도 검색된다")
+    void findsByTransliteratedName() {
+        Assertions.assertThat(personIds("Hong Gildong")).first().isEqualTo(1L);
+        Assertions.assertThat(personIds("Park Jisung")).first().isEqualTo(4L);
+        Assertions.assertThat(personIds("Lee Sunsin")).first().isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("부분 전화번호로 검색하면 번호가 포함된 고객만 나온다")
+    void findsByPartialPhone() {
+        Assertions.assertThat(personIds("5678")).containsExactlyInAnyOrder(1L, 4L);
+        Assertions.assertThat(personIds("1234-56")).first().isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 가장 비슷한 고객이 먼저 나온다")
+    void ranksFuzzyMatches() {
+        Assertions.assertThat(personIds("홍길둥")).first().isEqualTo(1L);
+        Assertions.assertThat(personIds("hong gildnog")).first().isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("변경된 고객은 새 값으로만 검색되고 삭제된 고객은 검색되지 않는다")
+    void appliesUpdatesAndRemovals() {
+        index.upsert(1, "김철수", "010-1234-5678", "서울시 강남구 테헤란로 1");
+        Assertions.assertThat(personIds("길동")).doesNotContain(1L);
+        Assertions.assertThat(personIds("철수")).first().isEqualTo(1L);
+
+        index.remove(4);
+        Assertions.assertThat(personIds("5678")).containsExactly(1L);
+        Assertions.assertThat(index.stats().liveDocs()).isEqualTo(3);
+        Assertions.assertThat(index.stats().deletedDocs()).isEqualTo(2);
+    }
+
+    private List<Long> personIds(String query) {
+        return index.search(query, 10, MIN_SIMILARITY).stream().map(PersonSearchIndex.Hit::personId).toList();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("100만 건 인덱싱 처리량과 검색 지연")
+    void measureIndexingAndQueryLatency() {
+        int customers = Integer.getInteger("search.benchmark.customers", 1_000_000);
+        int queries = 2_000;
+        int verified = 200;
+        Random random = new Random(42);
+        PersonSearchIndex large = new PersonSearchIndex(customers);
+
+        // 검색 대상으로 쓸 고객만 보관 (나머지는 생성 후 바로 버림)
+        String[][] samples = new String[queries][];
+        long start = System.nanoTime();
+        for (int id = 1; id <= customers; id++) {
+            String name = randomName(random);
+            String phone = String.format("010-%04d-%04d", random.nextInt(10_000), random.nextInt(10_000));
+            String address = CITIES[random.nextInt(CITIES.length)] + " " + DISTRICTS[random.nextInt(DISTRICTS.length)]
+                + " " + (random.nextInt(500) + 1) + "번길";
+            large.upsert(id, name, phone, address);
+            if (id % (customers / queries) == 0 && id / (customers / queries) <= queries) {
+                samples[id / (customers / queries) - 1] = new String[] {String.valueOf(id), name, phone};
+            }
+        }
+        long indexingNanos = System.nanoTime() - start;
+        PersonSearchIndex.Stats stats = large.stats();
+        log.info("indexing: customers = {}, {} docs/s, grams = {}, postings = {}MB",
+            customers, customers * 1_000_000_000L / indexingNanos, stats.distinctGrams(), stats.postingBytes() >> 20);
+
+        String[] kinds = {"given-name", "romanized", "phone-suffix"};
+        for (String kind : kinds) {
+            long[] latencies = new long[queries];
+            int found = 0;
+            for (int i = 0; i < queries; i++) {
+                String[] sample = samples[i];
+                String query = switch (kind) {
+                    case "given-name" -> sample[1].substring(1);
+                    case "romanized" -> HangulRomanizer.romanize(sample[1]);
+                    default -> sample[2].substring(sample[2].length() - 4);
+                };
+                long queryStart = System.nanoTime();
+                large.search(query, 20, MIN_SIMILARITY);
+                latencies[i] = System.nanoTime() - queryStart;
+                // 합성 데이터는 같은 이름/번호 끝자리가 많아 상위 20건은 동점 고객으로 채워지므로, 전체 결과에서 대상 고객을 찾는지 본다.
+                long target = Long.parseLong(sample[0]);
+                if (i < verified && large.search(query, customers, MIN_SIMILARITY).stream()
+                        .anyMatch(hit -> hit.personId() == target)) {
+                    found++;
+                }
+            }
+            Arrays.sort(latencies);
+            long p50 = TimeUnit.NANOSECONDS.toMicros(latencies[queries / 2]);
+            long p99 = TimeUnit.NANOSECONDS.toMicros(latencies[queries * 99 / 100]);
+            log.info("{}: queries = {}, p50 = {}us, p99 = {}us, recall = {}%", kind, queries, p50, p99, found * 100 / verified);
+
+            Assertions.assertThat(p99).isLessThan(TimeUnit.MILLISECONDS.toMicros(100));
+            Assertions.assertThat(found).isEqualTo(verified);
+        }
+    }
+
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+    private static final String[] SYLLABLES = {
+        "민", "서", "지", "현", "준", "우", "영", "수", "하", "은", "도", "연", "진", "성", "호", "경", "재", "유", "주", "훈",
+        "혜", "정", "석", "태", "윤", "아", "빈", "희", "동", "철", "소", "미", "예", "원", "규", "승", "가", "나", "다", "라"
+    };
+    private static final String[] CITIES = {"서울시", "부산시", "대구시", "인천시", "광주시", "대전시", "울산시", "경기도 수원시", "경기도 성남시"};
+    private static final String[] DISTRICTS = {"강남구", "서초구", "종로구", "중구", "해운대구", "수성구", "남동구", "북구", "유성구", "분당구", "팔달구"};
+
+    private static String randomName(Random random) {
+        return SURNAMES[random.nextInt(SURNAMES.length)]
+            + SYLLABLES[random.nextInt(SYLLABLES.length)]
+            + SYLLABLES[random.nextInt(SYLLABLES.length)];
+    }
+}
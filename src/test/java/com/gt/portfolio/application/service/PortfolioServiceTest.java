@@ -0,0 +1,290 @@
+package com.gt.portfolio.application.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gt.global.common.exception.LedgerPostingException;
+import com.gt.global.common.tenant.TenantScope;
+import com.gt.ledger.api.dto.LoanOpenRequest;
+import com.gt.ledger.api.dto.PostingRequest;
+import com.gt.ledger.application.service.LedgerService;
+import com.gt.ledger.domain.entity.EntryType;
+import com.gt.ledger.domain.entity.LedgerEntry;
+import com.gt.portfolio.api.dto.PortfolioBalanceResponse;
+import com.gt.portfolio.api.dto.PortfolioDailyResponse;
+import com.gt.portfolio.api.dto.PortfolioReconcileResponse;
+import com.gt.portfolio.application.counter.PortfolioCounters;
+import com.gt.portfolio.domain.entity.BalanceBucket;
+import com.gt.portfolio.domain.entity.BalanceCounter;
+import com.gt.portfolio.domain.entity.DailyCounter;
+import com.gt.portfolio.domain.repository.PortfolioCounterRepository;
+import com.gt.portfolio.infra.config.PortfolioProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원장 기록과 함께 갱신한 포트폴리오 카운터가 원본(대출 잔액 / 원장 항목) 집계와 같은지,
+ * 정합성 검사가 어긋난 카운터를 찾아 고치는지 확인하고, stripe 수에 따른 동시 갱신 처리량을 측정한다.
+ */
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest(properties = "portfolio.reconcile.enabled=false")
+class PortfolioServiceTest {
+
+    @Autowired
+    private PortfolioService portfolioService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private PortfolioCounterRepository counterRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long firstBranchPerson;
+    private long secondBranchPerson;
+
+    @BeforeEach
+    void setUp() {
+        firstBranchPerson = createPerson(1, "01011112222");
+        secondBranchPerson = createPerson(2, "01033334444");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM portfolio_balance_counter");
+        jdbcTemplate.update("DELETE FROM portfolio_daily_counter");
+        jdbcTemplate.update("DELETE FROM outbox_event");
+        jdbcTemplate.update("DELETE FROM ledger_snapshot");
+        jdbcTemplate.update("DELETE FROM ledger_reversal");
+        jdbcTemplate.update("DELETE FROM ledger_posting_key");
+        jdbcTemplate.update("DELETE FROM ledger_entry");
+        jdbcTemplate.update("DELETE FROM loan");
+        jdbcTemplate.update("DELETE FROM person");
+    }
+
+    @Test
+    @DisplayName("동시 기록 후 지점 / 잔액 구간 / 일자별 카운터는 원본 집계와 같다")
+    void countersFollowConcurrentPostings() throws Exception {
+        long[] principals = {5_000_000, 30_000_000, 80_000_000, 150_000_000};
+        List<Long> loanIds = new ArrayList<>();
+        long disbursed = 0;
+        for (int i = 0; i < 40; i++) {
+            long principal = principals[i % principals.length];
+            loanIds.add(open(i % 2 == 0 ? firstBranchPerson : secondBranchPerson, principal, "open-" + i));
+            disbursed += principal;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicLong keys = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 100; i++) {
+                    long loanId = loanIds.get(random.nextInt(loanIds.size()));
+                    // 잔액 구간을 넘나들도록 큰 상환도 섞고, 잔액 초과 상환은 거절된다.
+                    long amount = random.nextInt(4) == 0 ? 40_000_000 : 1_000 + random.nextInt(5_000_000);
+                    EntryType type = random.nextInt(5) == 0 ? EntryType.FEE : EntryType.REPAYMENT;
+                    try {
+                        ledgerService.post(loanId, List.of(posting(type, amount, "post-" + keys.incrementAndGet())));
+                    } catch (LedgerPostingException e) {
+                        // 잔액 초과
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        Map<List<Object>, long[]> expected = new HashMap<>();
+        long outstanding = 0;
+        for (long loanId : loanIds) {
+            long balance = ledgerService.getBalance(loanId).getBalance();
+            int branchId = jdbcTemplate.queryForObject("SELECT branch_id FROM loan WHERE loan_id = ?", Integer.class, loanId);
+            long[] sum = expected.computeIfAbsent(List.of(branchId, BalanceBucket.of(balance)), key -> new long[2]);
+            sum[0]++;
+            sum[1] += balance;
+            outstanding += balance;
+        }
+        PortfolioBalanceResponse balances = portfolioService.getBalances(null);
+        Map<List<Object>, long[]> actual = new HashMap<>();
+        for (BalanceCounter counter : balances.getBuckets()) {
+            actual.put(List.of(counter.branchId(), counter.bucket()), new long[] {counter.loans(), counter.balance()});
+        }
+        Assertions.assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        expected.forEach((key, sum) -> Assertions.assertThat(actual.get(key)).as(key.toString()).containsExactly(sum));
+        Assertions.assertThat(balances.getOutstandingBalance()).isEqualTo(outstanding);
+        Assertions.assertThat(portfolioService.getBalances(2).getBuckets()).allMatch(counter -> counter.branchId() == 2);
+
+        PortfolioDailyResponse daily = portfolioService.getDaily(null, LocalDate.now().minusDays(1), LocalDate.now());
+        List<DailyCounter> disbursements = daily.getDays().stream()
+            .filter(counter -> counter.type() == EntryType.DISBURSEMENT).toList();
+        Assertions.assertThat(disbursements.stream().mapToLong(DailyCounter::entries).sum()).isEqualTo(loanIds.size());
+        Assertions.assertThat(disbursements.stream().mapToLong(DailyCounter::amount).sum()).isEqualTo(disbursed);
+        Assertions.assertThat(daily.getDays().stream().mapToLong(DailyCounter::entries).sum())
+            .isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ledger_entry", Long.class));
+
+        PortfolioReconcileResponse check = portfolioService.reconcile(false);
+        Assertions.assertThat(check.getLoans()).isEqualTo(loanIds.size());
+        Assertions.assertThat(check.getBalanceMismatches()).isZero();
+        Assertions.assertThat(check.getDailyMismatches()).isZero();
+    }
+
+    @Test
+    @DisplayName("정합성 검사는 어긋난 카운터를 찾고, repair면 원본에 맞춘다")
+    void reconcileRepairsDrift() {
+        long first = open(firstBranchPerson, 3_000_000, "open-1");
+        open(secondBranchPerson, 60_000_000, "open-2");
+        ledgerService.post(first, List.of(posting(EntryType.REPAYMENT, 1_000_000L, "repay-1"), posting(EntryType.FEE, 5_000L, "fee-1")));
+        PortfolioBalanceResponse before = portfolioService.getBalances(null);
+
+        // 카운터만 어긋나게 한다. (원장 밖에서 고친 경우 등)
+        jdbcTemplate.update("UPDATE portfolio_balance_counter SET balance = balance + 777 WHERE branch_id = 2");
+        jdbcTemplate.update("DELETE FROM portfolio_daily_counter WHERE entry_type = 'FEE'");
+        jdbcTemplate.update("INSERT INTO portfolio_balance_counter (branch_id, bucket, stripe, loans, balance) "
+            + "VALUES (3, 'UNDER_10M', 5, 1, 100)");
+
+        PortfolioReconcileResponse check = portfolioService.reconcile(false);
+        Assertions.assertThat(check.getBalanceMismatches()).isEqualTo(2);
+        Assertions.assertThat(check.getDailyMismatches()).isEqualTo(1);
+        Assertions.assertThat(check.isRepaired()).isFalse();
+        Assertions.assertThat(check.getDailyDrift()).singleElement()
+            .satisfies(drift -> {
+                Assertions.assertThat(drift.type()).isEqualTo(EntryType.FEE);
+                Assertions.assertThat(drift.entries()).isEqualTo(1);
+                Assertions.assertThat(drift.amount()).isEqualTo(5_000);
+            });
+        Assertions.assertThat(portfolioService.getBalances(null).getOutstandingBalance())
+            .isEqualTo(before.getOutstandingBalance() + 877);
+
+        Assertions.assertThat(portfolioService.reconcile(true).isRepaired()).isTrue();
+        PortfolioReconcileResponse after = portfolioService.reconcile(false);
+        Assertions.assertThat(after.getBalanceMismatches()).isZero();
+        Assertions.assertThat(after.getDailyMismatches()).isZero();
+        Assertions.assertThat(portfolioService.getBalances(null)).isEqualTo(before);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("같은 지점 카운터를 동시에 갱신할 때 stripe 1 vs 16 처리량")
+    void stripedCountersReduceContention() throws Exception {
+        int threads = 8;
+        int transactions = 300;
+        // 원장 기록에서 카운터 갱신 뒤 커밋까지 남은 작업 시간 (이 동안 카운터 행 잠금을 잡고 있다)
+        long holdMicros = 500;
+        Map<Integer, long[]> results = new HashMap<>();
+
+        for (int stripes : new int[] {1, 16}) {
+            PortfolioProperties properties = new PortfolioProperties();
+            properties.setStripes(stripes);
+            PortfolioCounters counters = new PortfolioCounters(counterRepository, properties, new SimpleMeterRegistry());
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            LocalDateTime now = LocalDateTime.now();
+            AtomicLong loanIds = new AtomicLong(stripes * 1_000_000L);
+
+            // 카운터 행을 미리 만들어 두고 잠금 경합만 잰다.
+            for (int s = 0; s < stripes; s++) {
+                record(transactionTemplate, counters, loanIds.incrementAndGet(), now, 0);
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<long[]>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    long[] nanos = new long[transactions];
+                    for (int i = 0; i < transactions; i++) {
+                        long begin = System.nanoTime();
+                        record(transactionTemplate, counters, loanIds.incrementAndGet(), now, holdMicros);
+                        nanos[i] = System.nanoTime() - begin;
+                    }
+                    return nanos;
+                }));
+            }
+            long[] all = new long[threads * transactions];
+            for (int t = 0; t < threads; t++) {
+                System.arraycopy(futures.get(t).get(5, TimeUnit.MINUTES), 0, all, t * transactions, transactions);
+            }
+            long elapsed = System.nanoTime() - start;
+            executor.shutdown();
+
+            Arrays.sort(all);
+            long perSecond = all.length * 1_000_000_000L / elapsed;
+            results.put(stripes, new long[] {perSecond, all[all.length / 2], all[all.length * 99 / 100]});
+            log.info("stripes = {}: {} tx/s, p50 = {}us, p99 = {}us", stripes, perSecond,
+                all[all.length / 2] / 1_000, all[all.length * 99 / 100] / 1_000);
+
+            List<BalanceCounter> sums = counterRepository.sumBalances(TenantScope.of(1));
+            Assertions.assertThat(sums).singleElement()
+                .satisfies(counter -> Assertions.assertThat(counter.balance()).isEqualTo(-100L * (threads * transactions + stripes)));
+            jdbcTemplate.update("DELETE FROM portfolio_balance_counter");
+            jdbcTemplate.update("DELETE FROM portfolio_daily_counter");
+        }
+
+        // 한 행에 몰리면 잠금을 잡은 시간만큼 직렬화되므로, 나눈 행에서는 처리량이 크게 늘어야 한다.
+        Assertions.assertThat(results.get(16)[0]).isGreaterThan(results.get(1)[0] * 2);
+    }
+
+    private static void record(TransactionTemplate transactionTemplate, PortfolioCounters counters, long loanId,
+                               LocalDateTime now, long holdMicros) {
+        transactionTemplate.executeWithoutResult(status -> {
+            counters.recordPosting(1, loanId, false, 1_000, 900,
+                List.of(new LedgerEntry(loanId, 2, EntryType.REPAYMENT, -100, "bench-" + loanId, null, now)));
+            if (holdMicros > 0) {
+                long until = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(holdMicros);
+                while (System.nanoTime() < until) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+    }
+
+    private long createPerson(int branchId, String phone) {
+        jdbcTemplate.update("INSERT INTO person (name, phone, branch_id, created_date, last_modified_date) "
+            + "VALUES ('집계고객', ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", phone, branchId);
+        return jdbcTemplate.queryForObject("SELECT MAX(person_id) FROM person", Long.class);
+    }
+
+    private long open(long personId, long principal, String key) {
+        return ledgerService.openLoan(new LoanOpenRequest(personId, principal, key)).getLoanId();
+    }
+
+    private static PostingRequest posting(EntryType type, Long amount, String key) {
+        return PostingRequest.builder().type(type).amount(amount).postingKey(key).build();
+    }
+}
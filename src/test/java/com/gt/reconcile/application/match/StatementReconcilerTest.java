@@ -0,0 +1,217 @@
+package com.gt.reconcile.application.match;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.gt.reconcile.application.parser.CsvStatementParser;
+import com.gt.reconcile.application.parser.FixedWidthLayout;
+import com.gt.reconcile.application.parser.StatementFormat;
+import com.gt.reconcile.application.parser.StatementParser;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 입금 내역 파싱 / 매칭 결과를 확인하고, 대용량 파일의 처리 속도를 측정한다.
+ */
+@Slf4j
+class StatementReconcilerTest {
+
+    private static final Charset EUC_KR = Charset.forName("EUC-KR");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("CSV는 대출번호, 전화번호 순으로 매칭하고 형식이 잘못된 줄은 INVALID로 남긴다")
+    void matchesCsvRecords() throws IOException {
+        Path file = write("statement.csv", StandardCharsets.UTF_8,
+            "﻿거래일자,금액,대출번호,전화번호,입금자명\r\n"
+                + "20250101,\"1,000,000\",7,,홍길동\r\n"
+                + "20250102,50000,,+82 10-0000-0002,\"김, 철수\"\r\n"
+                + "20250103,50000,,010-9999-9999,이영희\r\n"
+                + "20250104,50000,,010-0000-0005,박민수\r\n"
+                + "20250230,50000,7,,잘못된날짜\r\n"
+                + "\r\n"
+                + "20250105,abc,7,,잘못된금액\n");
+
+        List<Row> rows = run(file, StatementParser.of(StatementFormat.CSV, null), 2, 64 * 1024, StandardCharsets.UTF_8);
+
+        Assertions.assertThat(rows).extracting(Row::status).containsExactly(
+            MatchStatus.MATCHED_ACCOUNT, MatchStatus.MATCHED_PHONE, MatchStatus.UNMATCHED,
+            MatchStatus.AMBIGUOUS, MatchStatus.INVALID, MatchStatus.INVALID);
+        Row account = rows.get(0);
+        Assertions.assertThat(account.amount()).isEqualTo(1_000_000);
+        Assertions.assertThat(account.txDate()).isEqualTo(20250101);
+        Assertions.assertThat(account.personId()).isEqualTo(3);
+        Assertions.assertThat(account.loanId()).isEqualTo(7);
+        Assertions.assertThat(account.name()).isEqualTo("홍길동");
+        Row phone = rows.get(1);
+        Assertions.assertThat(phone.personId()).isEqualTo(2);
+        Assertions.assertThat(phone.phone()).isEqualTo("01000000002");
+        Assertions.assertThat(phone.name()).isEqualTo("김, 철수");
+        Assertions.assertThat(rows.get(2).name()).isEqualTo("이영희");
+    }
+
+    @Test
+    @DisplayName("고정 길이 형식은 설정한 바이트 위치로 읽고, 입금자명은 파일 인코딩으로 변환한다")
+    void matchesFixedWidthRecords() throws IOException {
+        FixedWidthLayout layout = new FixedWidthLayout();
+        String lines = fixed("20250301", "0000000012000", "7", "", "홍길동")
+            + fixed("20250302", "0000000003000", "", "01000000002", "김철수")
+            + fixed("2025030X", "0000000003000", "", "01000000002", "오류");
+        Path file = write("statement.dat", EUC_KR, lines);
+
+        List<Row> rows = run(file, StatementParser.of(StatementFormat.FIXED_WIDTH, layout), 10, 64 * 1024, EUC_KR);
+
+        Assertions.assertThat(rows).extracting(Row::status)
+            .containsExactly(MatchStatus.MATCHED_ACCOUNT, MatchStatus.MATCHED_PHONE, MatchStatus.INVALID);
+        Assertions.assertThat(rows.get(0).amount()).isEqualTo(12_000);
+        Assertions.assertThat(rows.get(0).name()).isEqualTo("홍길동");
+        Assertions.assertThat(rows.get(1).name()).isEqualTo("김철수");
+    }
+
+    @Test
+    @DisplayName("map window 경계에 걸친 줄도 빠짐없이 한 번씩 읽는다")
+    void readsAcrossWindowBoundaries() throws IOException {
+        Path file = dir.resolve("large.csv");
+        int lines = 20_000;
+        generate(file, lines);
+
+        List<Row> small = run(file, new CsvStatementParser(), 777, 4096, StandardCharsets.UTF_8);
+        List<Row> large = run(file, new CsvStatementParser(), 777, 64 * 1024 * 1024, StandardCharsets.UTF_8);
+
+        Assertions.assertThat(small).hasSize(lines).isEqualTo(large);
+        Assertions.assertThat(small).extracting(Row::offset).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("기록에 실패하면 마지막으로 기록된 위치부터 다시 실행해 같은 결과를 중복 없이 얻는다")
+    void resumesFromCommittedOffset() throws IOException {
+        Path file = dir.resolve("resume.csv");
+        generate(file, 10_000);
+        List<Row> expected = run(file, new CsvStatementParser(), 1000, 4096, StandardCharsets.UTF_8);
+
+        List<Row> written = new ArrayList<>();
+        long[] committed = {0};
+        int[] chunks = {0};
+        Assertions.assertThatThrownBy(() -> new StatementReconciler(new CsvStatementParser(), index(), 1000, 4096)
+                .run(file, 0, chunk -> {
+                    if (++chunks[0] == 4) {
+                        throw new IllegalStateException("DB 장애");
+                    }
+                    collect(chunk, StandardCharsets.UTF_8, written);
+                    committed[0] = chunk.nextOffset();
+                }))
+            .isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(written).hasSize(3000);
+
+        new StatementReconciler(new CsvStatementParser(), index(), 1000, 4096)
+            .run(file, committed[0], chunk -> collect(chunk, StandardCharsets.UTF_8, written));
+
+        Assertions.assertThat(written).isEqualTo(expected);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("대용량 파일(기본 1GB) 파싱 + 매칭 처리 속도")
+    void throughput() throws IOException {
+        long targetBytes = Long.getLong("reconcile.benchmark.bytes", 1L << 30);
+        Path file = dir.resolve("benchmark.csv");
+        generate(file, Long.MAX_VALUE, targetBytes);
+        CustomerKeyIndex index = new CustomerKeyIndex(200_000, 100_000);
+        for (int personId = 1; personId <= 200_000; personId++) {
+            index.addPerson(personId, String.format("010%08d", personId));
+        }
+        for (int loanId = 1; loanId <= 100_000; loanId++) {
+            index.addLoan(loanId, loanId);
+        }
+
+        long[] statuses = new long[MatchStatus.values().length];
+        StatementReconciler reconciler = new StatementReconciler(new CsvStatementParser(), index, 5000, 256 << 20);
+        long start = System.nanoTime();
+        reconciler.run(file, 0, chunk -> {
+            for (int i = 0; i < chunk.size(); i++) {
+                statuses[chunk.status(i).ordinal()]++;
+            }
+        });
+        long nanos = System.nanoTime() - start;
+
+        long size = Files.size(file);
+        log.info("file = {}MB, records = {}, matched = {}, invalid = {}, {}ms, {} records/s, {} MB/s",
+            size >> 20, reconciler.records(), reconciler.matched(), reconciler.invalid(), nanos / 1_000_000,
+            reconciler.records() * 1_000_000_000L / nanos, (size >> 20) * 1_000_000_000L / nanos);
+        Assertions.assertThat(reconciler.invalid()).isZero();
+        Assertions.assertThat(reconciler.matched()).isPositive();
+    }
+
+    /** 고객 1~4 (2: 010-0000-0002, 5와 6은 같은 전화번호), 대출 7 → 고객 3 */
+    private static CustomerKeyIndex index() {
+        CustomerKeyIndex index = new CustomerKeyIndex(8, 8);
+        for (int personId = 1; personId <= 4; personId++) {
+            index.addPerson(personId, String.format("010%08d", personId));
+        }
+        index.addPerson(5, "01000000005");
+        index.addPerson(6, "01000000005");
+        index.addLoan(7, 3);
+        return index;
+    }
+
+    private List<Row> run(Path file, StatementParser parser, int chunkSize, int windowSize, Charset charset) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        new StatementReconciler(parser, index(), chunkSize, windowSize).run(file, 0, chunk -> collect(chunk, charset, rows));
+        return rows;
+    }
+
+    private static void collect(MatchChunk chunk, Charset charset, List<Row> rows) {
+        for (int i = 0; i < chunk.size(); i++) {
+            rows.add(new Row(chunk.offset(i), chunk.txDate(i), chunk.amount(i), chunk.phone(i), chunk.name(i, charset),
+                chunk.status(i), chunk.personId(i), chunk.loanId(i)));
+        }
+    }
+
+    private Path write(String name, Charset charset, String content) throws IOException {
+        Path file = dir.resolve(name);
+        Files.write(file, content.getBytes(charset));
+        return file;
+    }
+
+    /** 고정 길이 한 줄 (이름은 EUC-KR 기준 바이트 수로 채움) */
+    private static String fixed(String date, String amount, String account, String phone, String name) {
+        int namePadding = 40 - name.getBytes(EUC_KR).length;
+        return date + amount + String.format("%-16s%-15s", account, phone) + name + " ".repeat(namePadding) + "\r\n";
+    }
+
+    private static void generate(Path file, long lines) throws IOException {
+        generate(file, lines, Long.MAX_VALUE);
+    }
+
+    private static void generate(Path file, long lines, long maxBytes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("﻿거래일자,금액,대출번호,전화번호,입금자명\r\n");
+            long bytes = 0;
+            for (long i = 0; i < lines && bytes < maxBytes; i++) {
+                String line = String.format("2025%02d%02d,%d,%s,010-%04d-%04d,\"입금자%d\"\r\n",
+                    1 + i % 12, 1 + i % 28, 10_000 + i % 90_000, i % 3 == 0 ? "" : String.valueOf(i % 200_000),
+                    (i % 400_000) / 10_000, (i % 400_000) % 10_000, i);
+                writer.write(line);
+                bytes += line.getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+    }
+
+    private record Row(long offset, int txDate, long amount, String phone, String name, MatchStatus status,
+                       long personId, long loanId) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.gt.reconcile.application.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gt.reconcile.api.dto.BankMatchResponse;
+import com.gt.reconcile.api.dto.StatementFileResponse;
+import com.gt.reconcile.application.match.MatchStatus;
+import com.gt.reconcile.application.parser.StatementFormat;
+import com.gt.reconcile.domain.entity.StatementFileStatus;
+
+/**
+ * 정산 결과 기록(JDBC batch)과 중단된 파일의 이어서 처리를 확인한다.
+ */
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"reconcile.chunk-size=500", "reconcile.map-window=64KB"})
+class ReconcileServiceTest {
+
+    private static final int RECORDS = 5_000;
+
+    @Autowired
+    private ReconcileService reconcileService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path dir;
+
+    private final List<Long> personIds = new ArrayList<>();
+    private long loanId;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new Object[] {"입금고객" + i, String.format("010%08d", i)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO person (name, phone, created_date, last_modified_date) "
+            + "VALUES (?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", persons);
+        personIds.addAll(jdbcTemplate.queryForList("SELECT person_id FROM person ORDER BY phone", Long.class));
+        jdbcTemplate.update("INSERT INTO loan (person_id, created_date) VALUES (?, CURRENT_TIMESTAMP)", personIds.get(0));
+        loanId = jdbcTemplate.queryForObject("SELECT MAX(loan_id) FROM loan", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM bank_match");
+        jdbcTemplate.update("DELETE FROM bank_statement_file");
+        jdbcTemplate.update("DELETE FROM loan");
+        jdbcTemplate.update("DELETE FROM person");
+    }
+
+    @Test
+    @DisplayName("모든 레코드의 매칭 결과를 기록하고 미매칭 레코드를 offset 순으로 조회한다")
+    void recordsMatches() throws IOException {
+        Path file = generate("statement.csv");
+
+        StatementFileResponse result = reconcileService.reconcile(file, StatementFormat.CSV, StandardCharsets.UTF_8);
+
+        Assertions.assertThat(result.getStatus()).isEqualTo(StatementFileStatus.COMPLETED);
+        Assertions.assertThat(result.getCommittedOffset()).isEqualTo(Files.size(file));
+        Assertions.assertThat(result.getRecordCount()).isEqualTo(RECORDS);
+        assertCounts(result.getFileId());
+
+        BankMatchResponse account = reconcileService.getMatches(result.getFileId(), MatchStatus.MATCHED_ACCOUNT, -1, 1).get(0);
+        Assertions.assertThat(account.getLoanId()).isEqualTo(loanId);
+        Assertions.assertThat(account.getPersonId()).isEqualTo(personIds.get(0));
+        Assertions.assertThat(account.getPayerName()).startsWith("입금자");
+
+        List<BankMatchResponse> unmatched = reconcileService.getMatches(result.getFileId(), MatchStatus.UNMATCHED, -1, 100);
+        Assertions.assertThat(unmatched).hasSize(100).extracting(BankMatchResponse::getRecordOffset).isSorted();
+        List<BankMatchResponse> next = reconcileService.getMatches(result.getFileId(), MatchStatus.UNMATCHED,
+            unmatched.get(99).getRecordOffset(), 100);
+        Assertions.assertThat(next.get(0).getRecordOffset()).isGreaterThan(unmatched.get(99).getRecordOffset());
+    }
+
+    @Test
+    @DisplayName("중단된 파일을 다시 실행하면 기록된 위치 다음부터 이어서 처리하고, 완료된 파일은 다시 처리하지 않는다")
+    void resumesInterruptedFile() throws IOException {
+        Path file = generate("resume.csv");
+        StatementFileResponse first = reconcileService.reconcile(file, StatementFormat.CSV, StandardCharsets.UTF_8);
+        long fileId = first.getFileId();
+
+        // 2,000번째 레코드까지 기록한 뒤 프로세스가 종료된 상태로 되돌린다.
+        long crashOffset = jdbcTemplate.queryForObject(
+            "SELECT record_offset FROM bank_match WHERE file_id = ? ORDER BY record_offset LIMIT 1 OFFSET 2000", Long.class, fileId);
+        jdbcTemplate.update("DELETE FROM bank_match WHERE file_id = ? AND record_offset >= ?", fileId, crashOffset);
+        jdbcTemplate.update("""
+            UPDATE bank_statement_file
+            SET status = 'RUNNING', finished_at = NULL, committed_offset = ?,
+                record_count = (SELECT COUNT(*) FROM bank_match WHERE file_id = ?),
+                matched_count = (SELECT COUNT(*) FROM bank_match WHERE file_id = ? AND match_status IN ('MATCHED_ACCOUNT', 'MATCHED_PHONE'))
+            WHERE file_id = ?
+            """, crashOffset, fileId, fileId, fileId);
+
+        StatementFileResponse resumed = reconcileService.reconcile(file, StatementFormat.CSV, StandardCharsets.UTF_8);
+
+        Assertions.assertThat(resumed.getFileId()).isEqualTo(fileId);
+        Assertions.assertThat(resumed.getStatus()).isEqualTo(StatementFileStatus.COMPLETED);
+        Assertions.assertThat(resumed.getRecordCount()).isEqualTo(first.getRecordCount());
+        Assertions.assertThat(resumed.getMatchedCount()).isEqualTo(first.getMatchedCount());
+        assertCounts(fileId);
+
+        StatementFileResponse again = reconcileService.reconcile(file, StatementFormat.CSV, StandardCharsets.UTF_8);
+        Assertions.assertThat(again.getFinishedAt()).isEqualTo(resumed.getFinishedAt());
+        Assertions.assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bank_statement_file", Long.class)).isEqualTo(1);
+    }
+
+    private void assertCounts(long fileId) {
+        Assertions.assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM bank_match WHERE file_id = ?", Long.class, fileId)).isEqualTo(RECORDS);
+        Assertions.assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(DISTINCT record_offset) FROM bank_match WHERE file_id = ?", Long.class, fileId)).isEqualTo(RECORDS);
+        Assertions.assertThat(jdbcTemplate.queryForObject(
+            "SELECT matched_count FROM bank_statement_file WHERE file_id = ?", Long.class, fileId))
+            .isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bank_match WHERE file_id = ? "
+                + "AND match_status IN ('MATCHED_ACCOUNT', 'MATCHED_PHONE')", Long.class, fileId));
+    }
+
+    /**
+     * 레코드 i: 10건마다 대출번호로 입금, 짝수는 등록된 전화번호, 홀수는 미등록 전화번호
+     */
+    private Path generate(String name) throws IOException {
+        Path file = dir.resolve(name);
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("거래일자,금액,대출번호,전화번호,입금자명\n");
+            for (int i = 0; i < RECORDS; i++) {
+                String account = i % 10 == 0 ? String.valueOf(loanId) : "";
+                String phone = i % 2 == 0 ? String.format("010-0000-%04d", i % 100) : String.format("010-9999-%04d", i % 10_000);
+                writer.write(String.format("202506%02d,%d,%s,%s,입금자%d\n", 1 + i % 30, 10_000 + i, account, phone, i));
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,120 @@
+package com.gt.user.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gt.user.domain.entity.User;
+import com.gt.user.domain.event.UserProfileEvent;
+import com.gt.user.domain.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Google 로그인 사용자 upsert의 동시성 / 쓰기 횟수 확인
+ */
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest
+class UserServiceTest {
+
+    private static final String EMAIL = "upsert-test@example.com";
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete);
+    }
+
+    @Test
+    @DisplayName("같은 이메일의 동시 첫 로그인은 모두 성공하고 사용자와 생성 이벤트는 하나만 남는다")
+    void concurrentFirstLoginsCreateOneUser() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch ready = new CountDownLatch(1);
+        List<Future<User>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                ready.await();
+                return userService.findOrCreateGoogleUser(EMAIL, "name", "picture");
+            }));
+        }
+        ready.countDown();
+
+        List<User> users = new ArrayList<>();
+        for (Future<User> result : results) {
+            users.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        Set<String> ids = users.stream().map(User::getId).collect(Collectors.toSet());
+        Assertions.assertThat(ids).hasSize(1);
+        Assertions.assertThat(userRepository.findAll()).filteredOn(user -> EMAIL.equals(user.getEmail())).hasSize(1);
+        // 삽입하지 못한(변경 없음) upsert는 이벤트를 기록하지 않는다.
+        List<String> events = jdbcTemplate.queryForList(
+            "SELECT event_type FROM outbox_event WHERE aggregate_type = ? AND aggregate_id = ?",
+            String.class, UserProfileEvent.AGGREGATE_TYPE, ids.iterator().next());
+        Assertions.assertThat(events).containsExactly(UserProfileEvent.CREATED);
+    }
+
+    @Test
+    @DisplayName("프로필이 그대로인 재로그인은 쓰기를 하지 않고, 변경된 경우에만 쓴다")
+    void repeatedLoginsWriteOnlyOnChange() {
+        userService.findOrCreateGoogleUser(EMAIL, "name", "picture");
+        double writesBefore = writes();
+
+        int logins = 500;
+        for (int i = 0; i < logins; i++) {
+            userService.findOrCreateGoogleUser(EMAIL, "name", "picture");
+        }
+        double unchangedWrites = writes() - writesBefore;
+
+        int changes = 10;
+        for (int i = 0; i < changes; i++) {
+            userService.findOrCreateGoogleUser(EMAIL, "name-" + i, "picture");
+        }
+        double changedWrites = writes() - writesBefore - unchangedWrites;
+
+        log.info("repeated logins = {}, writes = {} / profile changes = {}, writes = {}",
+            logins, unchangedWrites, changes, changedWrites);
+        Assertions.assertThat(unchangedWrites).isZero();
+        Assertions.assertThat(changedWrites).isEqualTo(changes);
+        Assertions.assertThat(userService.findByEmail(EMAIL)).get().extracting(User::getName).isEqualTo("name-9");
+    }
+
+    private double writes() {
+        return meterRegistry.find("user.profile.write").tag("result", "inserted").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum()
+            + meterRegistry.find("user.profile.write").tag("result", "updated").counters().stream()
+                .mapToDouble(counter -> counter.count()).sum();
+    }
+}
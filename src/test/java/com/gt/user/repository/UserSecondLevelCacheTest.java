@@ -0,0 +1,113 @@
+package com.gt.user.repository;
+
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gt.user.application.service.UserService;
+import com.gt.user.domain.entity.User;
+import com.gt.user.domain.entity.UserRole;
+import com.gt.user.domain.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 2차 캐시를 켠 상태에서 이메일(natural id) 조회가 DB를 거치지 않는지,
+ * 프로필 변경 후에는 갱신된 값이 조회되는지 확인한다.
+ */
+@Slf4j
+@Tag("integration")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class UserSecondLevelCacheTest {
+
+    private static final String EMAIL = "cache-test@example.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private TransactionTemplate readOnlyTransaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> userRepository.save(User.builder()
+            .email(EMAIL)
+            .name("before")
+            .role(UserRole.USER)
+            .provider("google")
+            .build()));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            userRepository.findByEmail(EMAIL).ifPresent(userRepository::delete));
+    }
+
+    @Test
+    @DisplayName("반복되는 이메일 조회는 캐시에서 처리되어 SQL이 실행되지 않는다")
+    void repeatedNaturalIdLookupsHitCache() {
+        int lookups = 1_000;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            readOnlyTransaction.executeWithoutResult(status ->
+                Assertions.assertThat(userRepository.findByNaturalEmail(EMAIL)).isPresent());
+        }
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+        log.info("lookups = {}, statements = {}, natural id cache hits = {}, entity cache hits = {}, avg = {}us",
+            lookups, statistics.getPrepareStatementCount(), statistics.getNaturalIdCacheHitCount(),
+            statistics.getSecondLevelCacheHitCount(), elapsedMicros / lookups);
+
+        // 처음 한 번 정도만 DB에서 읽고 나머지는 캐시 적중
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        Assertions.assertThat(statistics.getNaturalIdCacheHitCount()).isGreaterThanOrEqualTo(lookups - 1);
+    }
+
+    @Test
+    @DisplayName("프로필을 변경하면 이후 조회에서 변경된 값이 보인다")
+    void updateInvalidatesCachedEntity() {
+        readOnlyTransaction.executeWithoutResult(status -> userRepository.findByNaturalEmail(EMAIL));
+
+        userService.findOrCreateGoogleUser(EMAIL, "after", "picture-url");
+
+        User natural = readOnlyTransaction.execute(status -> userRepository.findByNaturalEmail(EMAIL).orElseThrow());
+        User queried = readOnlyTransaction.execute(status -> userRepository.findByEmail(EMAIL).orElseThrow());
+        Assertions.assertThat(natural.getName()).isEqualTo("after");
+        Assertions.assertThat(queried.getName()).isEqualTo("after");
+        Assertions.assertThat(queried.getPicture()).isEqualTo("picture-url");
+    }
+}